@@ -0,0 +1,61 @@
+package de.uol.swp.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import de.uol.swp.common.message.RequestMessage;
+import de.uol.swp.common.message.ResponseMessage;
+
+/**
+ * Event to send a request whose response is awaited by the sender
+ * <p>
+ * Posted on the EventBus instead of the request itself. The ClientConnection
+ * sends the request with a correlation id and completes the future with the
+ * response, which is not posted on the EventBus. The future fails with a
+ * TimeoutException if no response arrives in time and with a
+ * RequestFailedException if the server answered with an ExceptionMessage.
+ * <p>
+ * The future is completed on a netty thread, so callers changing the UI have
+ * to switch to the JavaFX thread.
+ *
+ * @see de.uol.swp.client.ClientConnection#request(RequestMessage, long, TimeUnit)
+ * @since 2026-10-18
+ */
+public class AwaitedRequest {
+
+    private final RequestMessage request;
+    private final CompletableFuture<ResponseMessage> response;
+
+    /**
+     * Constructor
+     *
+     * @param request the request to send
+     * @param timeout the time to wait for the response
+     * @param unit    the unit of the timeout
+     * @since 2026-10-18
+     */
+    public AwaitedRequest(RequestMessage request, long timeout, TimeUnit unit) {
+        this.request = request;
+        this.response = new CompletableFuture<ResponseMessage>().orTimeout(timeout, unit);
+    }
+
+    /**
+     * Getter for the request to send
+     *
+     * @return the RequestMessage
+     * @since 2026-10-18
+     */
+    public RequestMessage getRequest() {
+        return request;
+    }
+
+    /**
+     * Getter for the future of the response
+     *
+     * @return the future completed with the response of the server
+     * @since 2026-10-18
+     */
+    public CompletableFuture<ResponseMessage> getResponse() {
+        return response;
+    }
+}
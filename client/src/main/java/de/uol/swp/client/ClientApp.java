@@ -1,8 +1,6 @@
 package de.uol.swp.client;
 
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -36,7 +34,6 @@ import de.uol.swp.common.user.exception.UpdateUserExceptionMessage;
 import de.uol.swp.common.user.request.LogoutRequest;
 import de.uol.swp.common.user.response.DropUserSuccessfulResponse;
 import de.uol.swp.common.user.response.LoginSuccessfulResponse;
-import de.uol.swp.common.user.response.PingResponse;
 import de.uol.swp.common.user.response.RegistrationSuccessfulResponse;
 import de.uol.swp.common.user.response.RetrieveUserInformationResponse;
 import de.uol.swp.common.user.response.UpdateUserSuccessfulResponse;
@@ -66,8 +63,6 @@ public class ClientApp extends Application implements ConnectionListener {
     private ClientConnection clientConnection;
     private EventBus eventBus;
     private SceneManager sceneManager;
-    private long lastPingResponse;
-    private Timer timer;
 
     // -----------------------------------------------------
     // Java FX Methods
@@ -173,7 +168,9 @@ public class ClientApp extends Application implements ConnectionListener {
      * this clients user to the user found in the object. If the log level is set
      * to DEBUG or higher "user logged in successfully " and the username of the
      * logged in user are written to the log.
-     * It also starts a timer for the ping message and a separate timer for the client to check if he has a timeout.
+     * <p>
+     * enhanced by the HeartbeatHandler, 2026-10-18: the connection is kept alive by
+     * the heartbeat of its channel, no ping timers are started anymore
      *
      * @param message The LoginSuccessfulResponse object detected on the EventBus
      * @author Marco Grawunder, Philip Nitsche
@@ -185,9 +182,6 @@ public class ClientApp extends Application implements ConnectionListener {
         LOG.debug("user logged in successfully " + message.getUser().getUsername());
         this.user = message.getUser();
         sceneManager.showMainScreen();
-        userService.startTimerForPing(message.getUser());
-        lastPingResponse = System.currentTimeMillis();
-        checkForTimeout();
     }
 
     /**
@@ -212,7 +206,6 @@ public class ClientApp extends Application implements ConnectionListener {
      * <p>
      * If an LogoutSuccessfulResponse object is detected on the EventBus this
      * method is called. It tells the SceneManager to show the LoginScree.
-     * It also ends the timer for the ping message and the separate timer for the client to check if he has a timeout.
      *
      * @param message The LogoutSuccessfulResponse object detected on the EventBus
      * @author Philip Nitsche
@@ -223,8 +216,6 @@ public class ClientApp extends Application implements ConnectionListener {
     public void userLoggedOut(LogoutRequest message) {
         LOG.debug("user logged out ");
         sceneManager.showLoginScreen();
-        userService.endTimerForPing();
-        timer.cancel();
     }
 
     /**
@@ -535,55 +526,6 @@ public class ClientApp extends Application implements ConnectionListener {
     // JavFX Help method
     // -----------------------------------------------------
 
-    /**
-     * Handles the Ping Response Messages
-     * <p>
-     * Gets the latest Time form the Ping Response
-     *
-     * @author Philip Nitsche, Marc Hermes
-     * @since 2021-01-22
-     */
-    @Subscribe
-    private void onPingResponse(PingResponse message) {
-        lastPingResponse = message.getTime();
-    }
-
-    /**
-     * Shows the login screen
-     * <p>
-     * If a user had a timeout this method is called to show the login screen.
-     *
-     * @author Philip Nitsche, Marc Hermes
-     * @since 2021-01-22
-     */
-
-    private void checkoutTimeout() {
-        sceneManager.showLoginScreen();
-        userService.endTimerForPing();
-        timer.cancel();
-    }
-
-    /**
-     * Handles a Timer to check for a Timeout
-     * <p>
-     * Checks if the user has received a ping response in the last 120 seconds.
-     * If not checkoutTimeout will be called.
-     *
-     * @author Philip Nitsche, Marc Hermes
-     * @since 2021-01-22
-     */
-    private void checkForTimeout() {
-        timer = new Timer();
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if ((System.currentTimeMillis() - lastPingResponse) >= 120000) {
-                    checkoutTimeout();
-                }
-            }
-        }, 60000, 60000);
-    }
-
     /**
      * Removes the trade tab, when the trade ended
      *
@@ -2,7 +2,12 @@ package de.uol.swp.client;
 
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.eventbus.DeadEvent;
 import com.google.common.eventbus.EventBus;
@@ -18,24 +23,37 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectEncoder;
+import io.netty.handler.codec.serialization.ClassResolver;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import de.uol.swp.common.MyObjectDecoder;
+import de.uol.swp.common.codec.HeartbeatHandler;
+import de.uol.swp.common.codec.MessageClassResolver;
+import de.uol.swp.common.codec.WireFormat;
 import de.uol.swp.common.message.ExceptionMessage;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.message.RequestMessage;
 import de.uol.swp.common.message.ResponseMessage;
 import de.uol.swp.common.message.ServerMessage;
+import de.uol.swp.common.user.request.LogoutRequest;
+import de.uol.swp.common.user.request.ResumeSessionRequest;
+import de.uol.swp.common.user.response.LoginSuccessfulResponse;
+import de.uol.swp.common.user.response.ResumeSessionResponse;
 
 /**
  * The ClientConnection Connection class
  * <p>
  * This Class manages connecting to a server, disconnecting  from the server and
  * handling of incoming and outgoing messages.
+ * <p>
+ * enhanced by the session resume, 2026-10-18: if the connection is lost while
+ * logged in, the client connects again within the grace period of the server and
+ * resumes its session instead of logging in again
+ * <p>
+ * enhanced by the correlation ids, 2026-10-18: a request can be sent with a
+ * correlation id, its response then completes a future instead of being posted
+ * on the EventBus
  *
  * @author Marco Grawunder
  * @since 2017-03-17
@@ -43,14 +61,38 @@ import de.uol.swp.common.message.ServerMessage;
 @SuppressWarnings("UnstableApiUsage")
 public class ClientConnection {
 
+    /**
+     * System property with the milliseconds the client tries to resume its session after losing the connection
+     */
+    public static final String RESUME_GRACE_PROPERTY = "swp.resume.graceMillis";
+
+    /**
+     * System property with the milliseconds to wait for the response of an awaited request
+     */
+    public static final String REQUEST_TIMEOUT_PROPERTY = "swp.request.timeoutMillis";
+
     private static final Logger LOG = LogManager.getLogger(ClientConnection.class);
 
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
     private final String host;
     private final int port;
     private final List<ConnectionListener> connectionListener = new CopyOnWriteArrayList<>();
     private EventLoopGroup group;
     private EventBus eventBus;
     private Channel channel;
+    private final long resumeGraceMillis = Long.getLong(RESUME_GRACE_PROPERTY, 30_000);
+    // the session to resume and the number of ServerMessages received in it
+    private volatile String resumeToken;
+    private volatile long lastSeenSequence;
+    private volatile boolean counting;
+    private volatile boolean closed;
+    private volatile boolean sharedGroup;
+    private final long requestTimeoutMillis = Long.getLong(REQUEST_TIMEOUT_PROPERTY, 10_000);
+    // futures of the requests waiting for their response, by correlation id
+    private final Map<Integer, CompletableFuture<ResponseMessage>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger lastCorrelationId = new AtomicInteger();
+    private final RequestStatistics requestStatistics = new RequestStatistics();
 
     /**
      * Creates a new connection to a specific port on the given host
@@ -96,38 +138,149 @@ public class ClientConnection {
      * @since 2017-03-17
      */
     public void start() throws Exception {
+        start(WireFormat.fromSystemProperty());
+    }
+
+    /**
+     * The netty init method using the given wire format
+     * <p>
+     * Works like {@link #start()}, but encodes and decodes the messages using the
+     * given wire format. The server has to use the same format.
+     * <p>
+     * enhanced by the HeartbeatHandler, 2026-10-18: the connection is kept alive by
+     * heartbeat frames and closed if the server went silent
+     * <p>
+     * enhanced by the session resume, 2026-10-18: connects again as long as the
+     * session can be resumed
+     *
+     * @param wireFormat The format used to encode and decode messages
+     * @throws Exception Connection failed
+     * @see de.uol.swp.common.codec.WireFormat
+     * @see de.uol.swp.common.codec.HeartbeatHandler
+     * @since 2026-10-18
+     */
+    public void start(WireFormat wireFormat) throws Exception {
+        LOG.debug("Using wire format " + wireFormat);
         group = new NioEventLoopGroup();
         try {
-            Bootstrap b = new Bootstrap();
-            b.group(group).channel(NioSocketChannel.class).remoteAddress(new InetSocketAddress(host, port))
-                    .handler(new ChannelInitializer<SocketChannel>() {
-
-                        @Override
-                        protected void initChannel(SocketChannel ch) {
-                            // Add both Encoder and Decoder to send and receive serializable objects
-                            ch.pipeline().addLast(new ObjectEncoder());
-                            ch.pipeline().addLast(new MyObjectDecoder(ClassResolvers.cacheDisabled(null)));
-                            // Add a client handler
-                            ch.pipeline().addLast(new ClientHandler(ClientConnection.this));
-                        }
-                    });
+            Bootstrap b = createBootstrap(group, wireFormat);
             ChannelFuture f = b.connect().sync();
             f.channel().closeFuture().sync();
+            while (reconnect(b)) {
+                LOG.debug("Connection to the server lost again");
+            }
         } finally {
             group.shutdownGracefully().sync();
         }
     }
 
+    /**
+     * Connects to the server using an event loop shared with other connections
+     * <p>
+     * Unlike {@link #start(WireFormat)}, this method does not block and does not
+     * own the event loop, so many connections can be opened from one thread, e.g.
+     * by a load test. The connection is not established again when it is lost, and
+     * {@link #close()} only closes its channel.
+     *
+     * @param group      the EventLoopGroup the connection is run on
+     * @param wireFormat The format used to encode and decode messages
+     * @return the ChannelFuture completed when connected
+     * @since 2026-10-18
+     */
+    public ChannelFuture connect(EventLoopGroup group, WireFormat wireFormat) {
+        this.group = group;
+        sharedGroup = true;
+        return createBootstrap(group, wireFormat).connect();
+    }
+
+    /**
+     * Creates the Bootstrap of the connections to the server
+     *
+     * @param group      the EventLoopGroup the connections are run on
+     * @param wireFormat The format used to encode and decode messages
+     * @return the Bootstrap to connect with
+     * @since 2026-10-18
+     */
+    private Bootstrap createBootstrap(EventLoopGroup group, WireFormat wireFormat) {
+        ClassResolver classResolver = MessageClassResolver.fromSystemProperty();
+        Bootstrap b = new Bootstrap();
+        b.group(group).channel(NioSocketChannel.class).remoteAddress(new InetSocketAddress(host, port))
+                .handler(new ChannelInitializer<SocketChannel>() {
+
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        // first, so every byte read counts as a sign of life
+                        ch.pipeline().addLast(HeartbeatHandler.fromSystemProperties());
+                        // Add both Encoder and Decoder to send and receive serializable objects
+                        ch.pipeline().addLast(wireFormat.createEncoder());
+                        ch.pipeline().addLast(wireFormat.createDecoder(classResolver));
+                        // Add a client handler
+                        ch.pipeline().addLast(new ClientHandler(ClientConnection.this));
+                    }
+                });
+        return b;
+    }
+
+    /**
+     * Connects again to resume the session after the connection was lost
+     * <p>
+     * Tries once a second until the grace period of {@value #RESUME_GRACE_PROPERTY}
+     * milliseconds is over, then waits until the new connection is closed.
+     *
+     * @param b the Bootstrap of the lost connection
+     * @return true if connected again, false if there is no session to resume or the grace period is over
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    private boolean reconnect(Bootstrap b) throws InterruptedException {
+        counting = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(resumeGraceMillis);
+        while (isResumable() && System.nanoTime() < deadline) {
+            ChannelFuture f = b.connect().await();
+            if (f.isSuccess()) {
+                LOG.info("Connected again to resume the session");
+                f.channel().closeFuture().sync();
+                return true;
+            }
+            LOG.debug("Could not connect again: " + f.cause());
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        }
+        return false;
+    }
+
+    /**
+     * Returns if the session would be resumed after losing the connection
+     *
+     * @return true if logged in with a resume token, not closed and started with its own event loop
+     * @since 2026-10-18
+     */
+    boolean isResumable() {
+        return resumeToken != null && !closed && !sharedGroup;
+    }
+
     /**
      * Disconnects the client from the server
      * <p>
      * Disconnects the client from the server and prints the stack trace if an
      * InterruptedException is thrown.
+     * <p>
+     * enhanced by the session resume, 2026-10-18: the session is not resumed anymore
+     * <p>
+     * enhanced by {@link #connect(EventLoopGroup, WireFormat)}, 2026-10-18: a shared
+     * event loop is not shut down
      *
      * @author Marco Grawunder
      * @since 2017-03-17
      */
     public void close() {
+        closed = true;
+        resumeToken = null;
+        if (sharedGroup) {
+            if (channel != null) {
+                channel.close();
+            }
+            return;
+        }
         try {
             group.shutdownGracefully().sync();
         } catch (InterruptedException e) {
@@ -138,6 +291,9 @@ public class ClientConnection {
     /**
      * Calls the ConnectionEstablished method of every ConnectionListener added
      * to this.
+     * <p>
+     * enhanced by the session resume, 2026-10-18: if there is a session to resume,
+     * a ResumeSessionRequest is sent instead
      *
      * @param channel The netty channel the new Connection is established on
      * @author Marco Grawunder
@@ -145,6 +301,12 @@ public class ClientConnection {
      * @since 2017-03-17
      */
     void fireConnectionEstablished(Channel channel) {
+        String token = resumeToken;
+        if (token != null) {
+            this.channel = channel;
+            channel.writeAndFlush(new ResumeSessionRequest(token, lastSeenSequence));
+            return;
+        }
         for (ConnectionListener listener : connectionListener) {
             listener.connectionEstablished(channel);
         }
@@ -172,6 +334,12 @@ public class ClientConnection {
      * If it is a different kind of Message, it gets discarded and with LOG-Level
      * set to WARN or higher "Can only process ServerMessage and ResponseMessage.
      * Received " and the message are written to the LOG.
+     * <p>
+     * enhanced by the session resume, 2026-10-18: the ServerMessages received since
+     * the login are counted, the response to a ResumeSessionRequest is handled here
+     * <p>
+     * enhanced by the correlation ids, 2026-10-18: a response to an awaited request
+     * completes its future instead of being posted
      *
      * @param in The incoming messages read by the ClientHandler
      * @author Marco Grawunder
@@ -179,6 +347,19 @@ public class ClientConnection {
      * @since 2017-03-17
      */
     public void receivedMessage(Message in) {
+        if (in instanceof ServerMessage && counting) {
+            lastSeenSequence++;
+        } else if (in instanceof LoginSuccessfulResponse) {
+            resumeToken = ((LoginSuccessfulResponse) in).getResumeToken();
+            lastSeenSequence = 0;
+            counting = resumeToken != null;
+        } else if (in instanceof ResumeSessionResponse) {
+            resumedSession((ResumeSessionResponse) in);
+            return;
+        }
+        if (in instanceof ResponseMessage && in.getCorrelationId() != 0 && completeRequest((ResponseMessage) in)) {
+            return;
+        }
         if (in instanceof ServerMessage || in instanceof ResponseMessage) {
             LOG.debug("Received message. Post on event bus " + in);
             eventBus.post(in);
@@ -187,6 +368,138 @@ public class ClientConnection {
         }
     }
 
+    /**
+     * Completes the future of the request a response answers
+     *
+     * @param response the response with a correlation id
+     * @return false if no request waits for the response anymore, e.g. because it timed out
+     * @since 2026-10-18
+     */
+    private boolean completeRequest(ResponseMessage response) {
+        CompletableFuture<ResponseMessage> future = pendingRequests.remove(response.getCorrelationId());
+        if (future == null) {
+            LOG.debug("No request waits for " + response);
+            return false;
+        }
+        if (response instanceof ExceptionMessage) {
+            future.completeExceptionally(new RequestFailedException(((ExceptionMessage) response).getException()));
+        } else {
+            future.complete(response);
+        }
+        return true;
+    }
+
+    /**
+     * Sends a request and waits for its response
+     * <p>
+     * Waits for {@value #REQUEST_TIMEOUT_PROPERTY} milliseconds, 10 seconds if the
+     * system property is not set.
+     *
+     * @param request the request to send
+     * @return the future of the response
+     * @see #request(RequestMessage, long, TimeUnit)
+     * @since 2026-10-18
+     */
+    public CompletableFuture<ResponseMessage> request(RequestMessage request) {
+        return request(request, requestTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends a request and waits for its response
+     * <p>
+     * Any number of requests can wait at the same time. The response completes the
+     * future and is not posted on the EventBus. The future fails with a
+     * TimeoutException if no response arrives in time, with a RequestFailedException
+     * if the server answered with an ExceptionMessage and with an
+     * IllegalStateException if there is no connection. It is completed on a netty
+     * thread.
+     *
+     * @param request the request to send
+     * @param timeout the time to wait for the response
+     * @param unit    the unit of the timeout
+     * @return the future of the response
+     * @see de.uol.swp.client.AwaitedRequest
+     * @since 2026-10-18
+     */
+    public CompletableFuture<ResponseMessage> request(RequestMessage request, long timeout, TimeUnit unit) {
+        CompletableFuture<ResponseMessage> response = new CompletableFuture<ResponseMessage>().orTimeout(timeout, unit);
+        send(request, response);
+        return response;
+    }
+
+    /**
+     * Handles AwaitedRequests detected on the EventBus
+     *
+     * @param awaitedRequest the AwaitedRequest with the request to send
+     * @see #request(RequestMessage, long, TimeUnit)
+     * @since 2026-10-18
+     */
+    @Subscribe
+    public void onAwaitedRequest(AwaitedRequest awaitedRequest) {
+        send(awaitedRequest.getRequest(), awaitedRequest.getResponse());
+    }
+
+    /**
+     * Sends a request with a new correlation id
+     *
+     * @param request  the request to send
+     * @param response the future completed with the response
+     * @since 2026-10-18
+     */
+    private void send(RequestMessage request, CompletableFuture<ResponseMessage> response) {
+        Channel ch = channel;
+        if (ch == null) {
+            response.completeExceptionally(new IllegalStateException("Not connected to the server"));
+            return;
+        }
+        int correlationId = lastCorrelationId.updateAndGet(id -> id == Integer.MAX_VALUE ? 1 : id + 1);
+        request.setCorrelationId(correlationId);
+        long start = System.nanoTime();
+        pendingRequests.put(correlationId, response);
+        response.whenComplete((r, e) -> {
+            pendingRequests.remove(correlationId, response);
+            requestStatistics.record(request.getClass(), System.nanoTime() - start, e);
+        });
+        ch.writeAndFlush(request).addListener(f -> {
+            if (!f.isSuccess()) {
+                response.completeExceptionally(f.cause());
+            }
+        });
+    }
+
+    /**
+     * Getter for the response times of the awaited requests
+     *
+     * @return the RequestStatistics of this connection
+     * @since 2026-10-18
+     */
+    public RequestStatistics getRequestStatistics() {
+        return requestStatistics;
+    }
+
+    /**
+     * Handles the response of the server to a ResumeSessionRequest
+     * <p>
+     * If the session was resumed, the missed ServerMessages follow and are counted
+     * on. Otherwise the ConnectionListeners are told about the new connection, so
+     * the user can log in again.
+     *
+     * @param response the ResumeSessionResponse of the server
+     * @since 2026-10-18
+     */
+    private void resumedSession(ResumeSessionResponse response) {
+        if (response.isResumed()) {
+            LOG.info("Resumed the session after " + lastSeenSequence + " messages");
+            counting = true;
+            return;
+        }
+        LOG.info("The session could not be resumed");
+        resumeToken = null;
+        for (ConnectionListener listener : connectionListener) {
+            listener.connectionEstablished(channel);
+        }
+    }
+
     /**
      * Handles RequestMessages detected on the EventBus
      * <p>
@@ -194,6 +507,8 @@ public class ClientConnection {
      * is set the RequestMessage given to this method is send to the server.
      * Otherwise "Some tries to send a message, but server is not connected" is
      * written to the LOG if the LOG-Level is set to WARN or higher.
+     * <p>
+     * enhanced by the session resume, 2026-10-18: a LogoutRequest ends the session to resume
      *
      * @param message The RequestMessage object to  send to the server
      * @author Marco Grawunder
@@ -201,6 +516,10 @@ public class ClientConnection {
      */
     @Subscribe
     public void onRequestMessage(RequestMessage message) {
+        if (message instanceof LogoutRequest) {
+            resumeToken = null;
+            counting = false;
+        }
         if (channel != null) {
             channel.writeAndFlush(message);
         } else {
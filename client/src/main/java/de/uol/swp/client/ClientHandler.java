@@ -1,7 +1,11 @@
 package de.uol.swp.client;
 
+import java.util.concurrent.TimeoutException;
+
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -40,10 +44,36 @@ class ClientHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
+    /**
+     * Tells the ClientConnection when the heartbeat of the server timed out
+     * <p>
+     * The HeartbeatHandler already closed the channel. If the session can be
+     * resumed, the ClientConnection connects again without showing an error.
+     *
+     * @param ctx the ChannelHandlerContext of the channel
+     * @param evt the event fired by a handler before this one
+     * @see de.uol.swp.common.codec.HeartbeatHandler
+     * @since 2026-10-18
+     */
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+        if (evt instanceof IdleStateEvent && ((IdleStateEvent) evt).state() == IdleState.READER_IDLE) {
+            if (clientConnection.isResumable()) {
+                LOG.info("Lost connection to the server, trying to resume the session");
+            } else {
+                clientConnection.process(new TimeoutException("Lost connection to the server"));
+            }
+        } else {
+            ctx.fireUserEventTriggered(evt);
+        }
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         LOG.error(cause);
-        clientConnection.process(cause);
+        if (!clientConnection.isResumable()) {
+            clientConnection.process(cause);
+        }
         ctx.close();
     }
 }
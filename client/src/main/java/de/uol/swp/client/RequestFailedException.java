@@ -0,0 +1,21 @@
+package de.uol.swp.client;
+
+/**
+ * Exception completing the future of a request the server answered with an ExceptionMessage
+ *
+ * @see de.uol.swp.client.ClientConnection#request(de.uol.swp.common.message.RequestMessage)
+ * @see de.uol.swp.common.message.ExceptionMessage
+ * @since 2026-10-18
+ */
+public class RequestFailedException extends RuntimeException {
+
+    /**
+     * Constructor
+     *
+     * @param message the exception text sent by the server
+     * @since 2026-10-18
+     */
+    RequestFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,136 @@
+package de.uol.swp.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the time between sending a request and receiving its response
+ * <p>
+ * Only requests sent with a correlation id are measured. For every request type
+ * the number of answered, failed and timed out requests and the time until the
+ * response arrived are summed up.
+ *
+ * @see de.uol.swp.client.ClientConnection#request(de.uol.swp.common.message.RequestMessage)
+ * @since 2026-10-18
+ */
+public class RequestStatistics {
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Records one completed request
+     *
+     * @param type    the class of the request
+     * @param nanos   the time from sending the request until it was completed
+     * @param failure the reason the request failed, null if it was answered
+     * @since 2026-10-18
+     */
+    void record(Class<?> type, long nanos, Throwable failure) {
+        Counter counter = counters.computeIfAbsent(type, k -> new Counter());
+        if (failure instanceof TimeoutException) {
+            counter.timeouts.increment();
+            return;
+        }
+        if (failure != null) {
+            counter.failures.increment();
+        }
+        if (failure != null && !(failure instanceof RequestFailedException)) {
+            return;
+        }
+        counter.responses.increment();
+        counter.nanos.add(nanos);
+        counter.maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Getter for the number of requests answered by the server, including ExceptionMessages
+     *
+     * @param type the class of the request
+     * @return the number of answered requests
+     * @since 2026-10-18
+     */
+    public long getResponses(Class<?> type) {
+        Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.responses.sum();
+    }
+
+    /**
+     * Getter for the number of requests the server answered with an ExceptionMessage
+     * or that could not be sent
+     *
+     * @param type the class of the request
+     * @return the number of failed requests
+     * @since 2026-10-18
+     */
+    public long getFailures(Class<?> type) {
+        Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.failures.sum();
+    }
+
+    /**
+     * Getter for the number of requests not answered in time
+     *
+     * @param type the class of the request
+     * @return the number of timed out requests
+     * @since 2026-10-18
+     */
+    public long getTimeouts(Class<?> type) {
+        Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.timeouts.sum();
+    }
+
+    /**
+     * Getter for the average time until a response arrived
+     *
+     * @param type the class of the request
+     * @return the average time in nanoseconds, 0 if no request was answered
+     * @since 2026-10-18
+     */
+    public long getAverageNanos(Class<?> type) {
+        Counter counter = counters.get(type);
+        long responses = counter == null ? 0 : counter.responses.sum();
+        return responses == 0 ? 0 : counter.nanos.sum() / responses;
+    }
+
+    /**
+     * Getter for the longest time until a response arrived
+     *
+     * @param type the class of the request
+     * @return the maximum time in nanoseconds, 0 if no request was answered
+     * @since 2026-10-18
+     */
+    public long getMaxNanos(Class<?> type) {
+        Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.maxNanos.get();
+    }
+
+    /**
+     * Returns the average response time of all request types
+     *
+     * @return map from the simple name of the request type to the average time in nanoseconds
+     * @since 2026-10-18
+     */
+    public Map<String, Long> getAverageNanos() {
+        Map<String, Long> result = new TreeMap<>();
+        counters.keySet().forEach(type -> result.put(type.getSimpleName(), getAverageNanos(type)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public String toString() {
+        return "RequestStatistics" + getAverageNanos();
+    }
+
+    private static class Counter {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -257,6 +257,9 @@ public class GamePresenter extends AbstractPresenter {
     private int pIWool = 0;
     private int pIOre = 0;
     private int pIBrick = 0;
+    // the compact inventory views the inventory messages are applied to, null until the first complete one
+    private int[] privateInventoryVector;
+    private int[][] publicInventoryVectors;
     private String userIsOnTurn;
     private Alert kickAlert;
 
@@ -2721,6 +2724,9 @@ public class GamePresenter extends AbstractPresenter {
      * If lobby is not null and if current lobby is equal to lobby from received message,
      * updates privateInventory.
      * enhanced by Anton Nikiforov, Alexander Losse, Iskander Yusupov
+     * <p>
+     * enhanced by applying the changed fields of the message to the known private view and asking for the complete
+     * inventories if it is unknown, 2026-10-18
      *
      * @param privateInventoryChangeMessage the PrivateInventoryChangeMessage received from the server
      * @author Marc Hermes
@@ -2730,12 +2736,19 @@ public class GamePresenter extends AbstractPresenter {
      */
     @Subscribe
     public void onPrivateInventoryChangeMessage(PrivateInventoryChangeMessage privateInventoryChangeMessage) {
-        if (this.currentGame != null) {
-            int tempLumber = privateInventoryChangeMessage.getPrivateInventory().get("Lumber");
-            int tempGrain = privateInventoryChangeMessage.getPrivateInventory().get("Grain");
-            int tempWool = privateInventoryChangeMessage.getPrivateInventory().get("Wool");
-            int tempBrick = privateInventoryChangeMessage.getPrivateInventory().get("Brick");
-            int tempOre = privateInventoryChangeMessage.getPrivateInventory().get("Ore");
+        if (this.currentGame != null && this.currentGame.equals(privateInventoryChangeMessage.getName())) {
+            int[] view = privateInventoryChangeMessage.applyTo(privateInventoryVector);
+            if (view == null) {
+                gameService.resyncInventory(this.currentGame, (UserDTO) this.joinedLobbyUser);
+                return;
+            }
+            privateInventoryVector = view;
+            HashMap<String, Integer> privateInventory = Inventory.toPrivateView(view);
+            int tempLumber = privateInventory.get("Lumber");
+            int tempGrain = privateInventory.get("Grain");
+            int tempWool = privateInventory.get("Wool");
+            int tempBrick = privateInventory.get("Brick");
+            int tempOre = privateInventory.get("Ore");
 
             if (tempLumber != pILumber || tempGrain != pIGrain || tempBrick != pIBrick || tempWool != pIWool
                     || tempOre != pIOre) {
@@ -2749,28 +2762,26 @@ public class GamePresenter extends AbstractPresenter {
                 pIWool = tempWool;
                 pIOre = tempOre;
             }
-            if (this.currentGame.equals(privateInventoryChangeMessage.getName())) {
-                if (tooMuchAlert != null) {
-                    Platform.runLater(() -> {
-                        lumberLabelRobberMenu.setText(String.valueOf(tempLumber));
-                        brickLabelRobberMenu.setText(String.valueOf(tempBrick));
-                        grainLabelRobberMenu.setText(String.valueOf(tempGrain));
-                        woolLabelRobberMenu.setText(String.valueOf(tempWool));
-                        oreLabelRobberMenu.setText(String.valueOf(tempOre));
-                        int toDiscard = Integer.parseInt(lumberLabelRobberMenu.getText()) +
-                                Integer.parseInt(grainLabelRobberMenu.getText()) +
-                                Integer.parseInt(woolLabelRobberMenu.getText()) +
-                                Integer.parseInt(brickLabelRobberMenu.getText()) +
-                                Integer.parseInt(oreLabelRobberMenu.getText());
-                        if (toDiscard % 2 == 0) {
-                            toDiscardLabel.setText(String.valueOf(toDiscard / 2));
-                        } else {
-                            toDiscardLabel.setText(String.valueOf((toDiscard - 1) / 2));
-                        }
-                    });
-                }
-                updatePrivateInventory(privateInventoryChangeMessage.getPrivateInventory());
+            if (tooMuchAlert != null) {
+                Platform.runLater(() -> {
+                    lumberLabelRobberMenu.setText(String.valueOf(tempLumber));
+                    brickLabelRobberMenu.setText(String.valueOf(tempBrick));
+                    grainLabelRobberMenu.setText(String.valueOf(tempGrain));
+                    woolLabelRobberMenu.setText(String.valueOf(tempWool));
+                    oreLabelRobberMenu.setText(String.valueOf(tempOre));
+                    int toDiscard = Integer.parseInt(lumberLabelRobberMenu.getText()) +
+                            Integer.parseInt(grainLabelRobberMenu.getText()) +
+                            Integer.parseInt(woolLabelRobberMenu.getText()) +
+                            Integer.parseInt(brickLabelRobberMenu.getText()) +
+                            Integer.parseInt(oreLabelRobberMenu.getText());
+                    if (toDiscard % 2 == 0) {
+                        toDiscardLabel.setText(String.valueOf(toDiscard / 2));
+                    } else {
+                        toDiscardLabel.setText(String.valueOf((toDiscard - 1) / 2));
+                    }
+                });
             }
+            updatePrivateInventory(privateInventory);
         }
     }
 
@@ -2851,6 +2862,9 @@ public class GamePresenter extends AbstractPresenter {
      * If the currentLobby is not null, meaning this is not an empty GamePresenter and the game name stored in this
      * GamePresenter equals the one in the received Message, the method updatePublicInventory is invoked to update the
      * public inventories in the currentLobby(current game) in regards to the arrayLists given by the message.
+     * <p>
+     * enhanced by applying the changed players and fields of the message to the known public views and asking for
+     * the complete inventories if they are unknown, 2026-10-18
      *
      * @param puicm the PublicInventoryChangeMessage given by the original subscriber method.
      * @author Iskander Yusupov
@@ -2860,7 +2874,17 @@ public class GamePresenter extends AbstractPresenter {
     private void onPublicInventoryChangeMessageLogic(PublicInventoryChangeMessage puicm) {
         if (this.currentGame != null) {
             if (this.currentGame.equals(puicm.getName())) {
-                updatePublicInventory(puicm.getPublicInventories());
+                int[][] views = puicm.applyTo(publicInventoryVectors);
+                if (views == null) {
+                    gameService.resyncInventory(this.currentGame, (UserDTO) this.joinedLobbyUser);
+                    return;
+                }
+                publicInventoryVectors = views;
+                ArrayList<HashMap<String, Integer>> publicInventories = new ArrayList<>(views.length);
+                for (int[] view : views) {
+                    publicInventories.add(Inventory.toPublicView(view));
+                }
+                updatePublicInventory(publicInventories);
             }
         }
     }
@@ -18,6 +18,7 @@ import de.uol.swp.common.game.request.ConstructionRequest;
 import de.uol.swp.common.game.request.DrawRandomResourceFromPlayerRequest;
 import de.uol.swp.common.game.request.EndTurnRequest;
 import de.uol.swp.common.game.request.GameLeaveUserRequest;
+import de.uol.swp.common.game.request.InventoryResyncRequest;
 import de.uol.swp.common.game.request.KickPlayerRequest;
 import de.uol.swp.common.game.request.PlayDevelopmentCardRequest;
 import de.uol.swp.common.game.request.ResolveDevelopmentCardKnightRequest;
@@ -380,4 +381,15 @@ public class GameService {
     public void endTurn(UserDTO joinedLobbyUser, String currentLobby) {
         eventBus.post(new EndTurnRequest(currentLobby, joinedLobbyUser));
     }
+
+    /**
+     * Asks the server for the complete inventories of a game
+     *
+     * @param gameName the name of the game
+     * @param user     the user who needs the inventories
+     * @since 2026-10-18
+     */
+    public void resyncInventory(String gameName, UserDTO user) {
+        eventBus.post(new InventoryResyncRequest(gameName, user));
+    }
 }
@@ -113,21 +113,4 @@ public interface ClientUserService {
      * @since 2017-03-17
      */
     void retrieveAllUsers();
-
-    /**
-     * Method used to start the timer for sending pings
-     *
-     * @param user the user of this client who is currently logged in
-     * @author Philip Nitsche
-     * @since 2021-01-21
-     */
-    void startTimerForPing(User user);
-
-    /**
-     * Method used to end the timer for sending pings
-     *
-     * @author Philip Nitsche
-     * @since 2021-01-21
-     */
-    void endTimerForPing();
 }
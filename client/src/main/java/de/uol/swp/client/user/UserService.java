@@ -5,8 +5,6 @@ import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
-import java.util.Timer;
-import java.util.TimerTask;
 
 import com.google.common.eventbus.EventBus;
 import com.google.inject.Inject;
@@ -19,7 +17,6 @@ import de.uol.swp.common.user.UserDTO;
 import de.uol.swp.common.user.request.DropUserRequest;
 import de.uol.swp.common.user.request.LoginRequest;
 import de.uol.swp.common.user.request.LogoutRequest;
-import de.uol.swp.common.user.request.PingRequest;
 import de.uol.swp.common.user.request.RegisterUserRequest;
 import de.uol.swp.common.user.request.RetrieveAllOnlineUsersRequest;
 import de.uol.swp.common.user.request.UpdateUserMailRequest;
@@ -38,7 +35,6 @@ import de.uol.swp.common.user.request.UpdateUserProfilePictureRequest;
 public class UserService implements ClientUserService {
 
     private final EventBus bus;
-    private Timer timer;
 
     /**
      * Constructor
@@ -176,39 +172,6 @@ public class UserService implements ClientUserService {
         bus.post(cmd);
     }
 
-    /**
-     * Method to send a Ping
-     * <p>
-     * This method starts a Timer for a Ping Message.
-     *
-     * @param user from which the ping message is released
-     * @author Philip Nitsche
-     * @since 2021-01-22
-     */
-    @Override
-    public void startTimerForPing(User user) {
-        timer = new Timer();
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                sendPing(user);
-            }
-        }, 30000, 30000);
-    }
-
-    /**
-     * Method to send a Ping
-     * <p>
-     * This method stops the Timer for a Ping Message.
-     *
-     * @author Philip Nitsche
-     * @since 2021-01-22
-     */
-    @Override
-    public void endTimerForPing() {
-        timer.cancel();
-    }
-
     /**
      * Method to return a hashed password.
      * <p>
@@ -245,18 +208,4 @@ public class UserService implements ClientUserService {
 
         return key.getEncoded();
     }
-
-    /**
-     * Method to send a Ping
-     * <p>
-     * This method sends a request for a Ping Message.
-     *
-     * @param user from which the ping message is released
-     * @author Philip Nitsche
-     * @since 2021-01-22
-     */
-    public void sendPing(User user) {
-        PingRequest pr = new PingRequest(user, System.currentTimeMillis());
-        bus.post(pr);
-    }
 }
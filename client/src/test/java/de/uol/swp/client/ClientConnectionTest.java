@@ -0,0 +1,132 @@
+package de.uol.swp.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.message.ExceptionMessage;
+import de.uol.swp.common.message.ResponseMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.PingRequest;
+import de.uol.swp.common.user.response.PingResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the requests awaited with a correlation id
+ *
+ * @see de.uol.swp.client.ClientConnection#request(de.uol.swp.common.message.RequestMessage, long, TimeUnit)
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+class ClientConnectionTest {
+
+    private final UserDTO user = new UserDTO("Marco", "test", "marco@test.de");
+    private final EventBus bus = new EventBus();
+    private final List<ResponseMessage> posted = new ArrayList<>();
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private ClientConnection clientConnection;
+
+    @Subscribe
+    void onResponseMessage(ResponseMessage message) {
+        posted.add(message);
+    }
+
+    @BeforeEach
+    void setup() {
+        bus.register(this);
+        clientConnection = new ClientConnection("localhost", 0, bus);
+        clientConnection.fireConnectionEstablished(channel);
+    }
+
+    private PingResponse answer(PingRequest request) {
+        PingResponse response = new PingResponse(user.getUsername(), request.getTime());
+        response.setCorrelationId(request.getCorrelationId());
+        return response;
+    }
+
+    /**
+     * Test for two requests answered in the opposite order
+     * <p>
+     * Each future has to be completed with its own response, which must not be
+     * posted on the EventBus, unlike a response without a correlation id.
+     *
+     * @throws Exception if a future failed
+     * @since 2026-10-18
+     */
+    @Test
+    void responsesCompleteTheirRequestTest() throws Exception {
+        CompletableFuture<ResponseMessage> first = clientConnection.request(new PingRequest(user, 1L));
+        AwaitedRequest awaited = new AwaitedRequest(new PingRequest(user, 2L), 10, TimeUnit.SECONDS);
+        bus.post(awaited);
+        PingRequest firstRequest = channel.readOutbound();
+        PingRequest secondRequest = channel.readOutbound();
+        assertNotEquals(0, firstRequest.getCorrelationId());
+        assertNotEquals(firstRequest.getCorrelationId(), secondRequest.getCorrelationId());
+
+        clientConnection.receivedMessage(answer(secondRequest));
+        clientConnection.receivedMessage(answer(firstRequest));
+        assertEquals(1L, ((PingResponse) first.get(1, TimeUnit.SECONDS)).getTime());
+        assertEquals(2L, ((PingResponse) awaited.getResponse().get(1, TimeUnit.SECONDS)).getTime());
+        assertTrue(posted.isEmpty());
+
+        clientConnection.receivedMessage(new PingResponse(user.getUsername(), 3L));
+        assertEquals(1, posted.size());
+        assertEquals(2, clientConnection.getRequestStatistics().getResponses(PingRequest.class));
+    }
+
+    /**
+     * Test for a request answered with an ExceptionMessage
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void exceptionMessageFailsRequestTest() {
+        CompletableFuture<ResponseMessage> future = clientConnection.request(new PingRequest(user, 1L));
+        PingRequest request = channel.readOutbound();
+        ExceptionMessage exception = new ExceptionMessage("Not logged in");
+        exception.setCorrelationId(request.getCorrelationId());
+        clientConnection.receivedMessage(exception);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RequestFailedException);
+        assertEquals("Not logged in", e.getCause().getMessage());
+        assertEquals(1, clientConnection.getRequestStatistics().getFailures(PingRequest.class));
+    }
+
+    /**
+     * Test for a request without a response in time
+     * <p>
+     * A late response has to be posted on the EventBus like any other.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void timeoutTest() throws InterruptedException {
+        CompletableFuture<ResponseMessage> future = clientConnection.request(new PingRequest(user, 1L), 20,
+                TimeUnit.MILLISECONDS);
+        PingRequest request = channel.readOutbound();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+        // the request is forgotten and counted right after the future failed, on the timer thread
+        for (int i = 0; i < 100 && clientConnection.getRequestStatistics().getTimeouts(PingRequest.class) == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, clientConnection.getRequestStatistics().getTimeouts(PingRequest.class));
+        clientConnection.receivedMessage(answer(request));
+        assertEquals(1, posted.size());
+    }
+}
@@ -8,11 +8,15 @@ import io.netty.handler.codec.serialization.ObjectDecoder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import de.uol.swp.common.codec.HeartbeatHandler;
+
 /**
  * Class used to decode incoming Byte buffer into objects.
  * <p>
  * An Object of this class is used in the start methods of de.uol.swp.client.ClientConnection
  * and de.uol.swp.server.communication.Server
+ * <p>
+ * enhanced by the HeartbeatHandler, 2026-10-18: heartbeat frames are skipped
  *
  * @author Marco Grawunder
  * @since 2019-08-13
@@ -40,6 +44,10 @@ public class MyObjectDecoder extends ObjectDecoder {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Trying to decode " + in);
             }
+            // heartbeats are skipped, the decoder is called again for the rest
+            if (HeartbeatHandler.skipFrame(in)) {
+                return null;
+            }
             decoded = super.decode(ctx, in);
             if (LOG.isTraceEnabled()) {
                 LOG.trace(in + " " + decoded);
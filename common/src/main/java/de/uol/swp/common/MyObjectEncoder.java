@@ -37,4 +37,19 @@ public class MyObjectEncoder extends ObjectEncoder {
             LOG.trace(msg + " " + out);
         }
     }
+
+    /**
+     * Writes the frame for a message without a channel
+     * <p>
+     * The frame is the same the encoder writes into a channel, so it can be
+     * written to many channels as a ready ByteBuf.
+     *
+     * @param msg The message to encode
+     * @param out The ByteBuf to write the frame to
+     * @throws Exception if the message could not be encoded
+     * @since 2026-10-18
+     */
+    public void encodeFrame(Serializable msg, ByteBuf out) throws Exception {
+        encode(null, msg, out);
+    }
 }
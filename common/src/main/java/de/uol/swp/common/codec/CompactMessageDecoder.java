@@ -0,0 +1,106 @@
+package de.uol.swp.common.codec;
+
+import java.io.ObjectInputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.serialization.ClassResolver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.message.Message;
+
+/**
+ * Decoder of the compact binary wire format
+ * <p>
+ * Splits the incoming bytes into frames and creates the messages using the
+ * codecs of the MessageCodecRegistry. Frames with the fallback id are read
+ * with Java serialization, resolving classes with the given ClassResolver.
+ * Heartbeat frames are skipped.
+ * <p>
+ * enhanced by the correlation id, 2026-10-18: bytes left after the fields of a
+ * codec are the correlation id of the message
+ *
+ * @see de.uol.swp.common.codec.CompactMessageEncoder
+ * @see de.uol.swp.common.codec.WireFormat
+ * @since 2026-10-18
+ */
+public class CompactMessageDecoder extends LengthFieldBasedFrameDecoder {
+
+    private static final Logger LOG = LogManager.getLogger(CompactMessageDecoder.class);
+
+    /**
+     * Same frame limit as the ObjectDecoder used by the Java serialization format
+     */
+    private static final int MAX_FRAME_LENGTH = 1048576;
+
+    private final MessageCodecRegistry registry;
+    private final ClassResolver classResolver;
+
+    /**
+     * Constructor
+     *
+     * @param registry      The registry holding the codecs of the messages
+     * @param classResolver The ClassResolver used for messages without a codec
+     * @since 2026-10-18
+     */
+    public CompactMessageDecoder(MessageCodecRegistry registry, ClassResolver classResolver) {
+        super(MAX_FRAME_LENGTH, 0, 4, 0, 4);
+        this.registry = registry;
+        this.classResolver = classResolver;
+    }
+
+    @Override
+    protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+        if (HeartbeatHandler.skipFrame(in)) {
+            return null;
+        }
+        ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+        if (frame == null) {
+            return null;
+        }
+        try {
+            Object decoded = decodeFrame(frame);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace(in + " " + decoded);
+            }
+            return decoded;
+        } catch (Exception e) {
+            LOG.error(e);
+            throw e;
+        } finally {
+            frame.release();
+        }
+    }
+
+    /**
+     * Creates the message from a frame without its length prefix
+     *
+     * @param frame The frame to read
+     * @return The decoded message
+     * @throws Exception if the frame could not be decoded
+     * @since 2026-10-18
+     */
+    Object decodeFrame(ByteBuf frame) throws Exception {
+        int id = WireBuffers.readVarInt(frame);
+        if (id == MessageCodecRegistry.FALLBACK_ID) {
+            try (ObjectInputStream ois = new CompactObjectStreams.Input(new ByteBufInputStream(frame),
+                    classResolver)) {
+                return ois.readObject();
+            }
+        }
+        MessageCodec<?> codec = registry.getCodec(id);
+        if (codec == null) {
+            throw new CorruptedFrameException("Unknown message type id " + id);
+        }
+        Object decoded = codec.decode(frame);
+        if (frame.isReadable() && decoded instanceof Message) {
+            ((Message) decoded).setCorrelationId(WireBuffers.readVarInt(frame));
+        }
+        return decoded;
+    }
+}
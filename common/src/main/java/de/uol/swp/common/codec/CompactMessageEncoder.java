@@ -0,0 +1,91 @@
+package de.uol.swp.common.codec;
+
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.message.Message;
+
+/**
+ * Encoder of the compact binary wire format
+ * <p>
+ * Every frame starts with its length, followed by the type id from the
+ * MessageCodecRegistry and the fields written by the registered codec. Messages
+ * without a codec are written with Java serialization, so every Serializable
+ * can still be sent.
+ * <p>
+ * enhanced by the correlation id, 2026-10-18: a message with a correlation id
+ * and a codec has the id appended after its fields
+ *
+ * @see de.uol.swp.common.codec.CompactMessageDecoder
+ * @see de.uol.swp.common.codec.WireFormat
+ * @since 2026-10-18
+ */
+@Sharable
+public class CompactMessageEncoder extends MessageToByteEncoder<Serializable> {
+
+    private static final Logger LOG = LogManager.getLogger(CompactMessageEncoder.class);
+
+    private final MessageCodecRegistry registry;
+
+    /**
+     * Constructor
+     *
+     * @param registry The registry holding the codecs of the messages
+     * @since 2026-10-18
+     */
+    public CompactMessageEncoder(MessageCodecRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Serializable msg, ByteBuf out) throws Exception {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Trying to encode " + msg);
+        }
+        try {
+            encode(registry, msg, out);
+        } catch (Exception e) {
+            LOG.error(e);
+            throw e;
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace(msg + " " + out);
+        }
+    }
+
+    /**
+     * Writes a complete frame for the message
+     *
+     * @param registry The registry holding the codecs of the messages
+     * @param msg      The message to encode
+     * @param out      The ByteBuf to write the frame to
+     * @throws Exception if the message could not be encoded
+     * @since 2026-10-18
+     */
+    static void encode(MessageCodecRegistry registry, Serializable msg, ByteBuf out) throws Exception {
+        int startIndex = out.writerIndex();
+        out.writeInt(0);
+        int id = registry.getId(msg.getClass());
+        WireBuffers.writeVarInt(out, id);
+        if (id == MessageCodecRegistry.FALLBACK_ID) {
+            try (ObjectOutputStream oos = new CompactObjectStreams.Output(new ByteBufOutputStream(out))) {
+                oos.writeObject(msg);
+            }
+        } else {
+            registry.<Serializable>getCodec(id).encode(msg, out);
+            if (msg instanceof Message && ((Message) msg).getCorrelationId() != 0) {
+                WireBuffers.writeVarInt(out, ((Message) msg).getCorrelationId());
+            }
+        }
+        out.setInt(startIndex, out.writerIndex() - startIndex - 4);
+    }
+}
@@ -0,0 +1,107 @@
+package de.uol.swp.common.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+
+import io.netty.handler.codec.serialization.ClassResolver;
+
+/**
+ * Object streams used for messages without a registered codec
+ * <p>
+ * Like the streams of netty's ObjectEncoder they only write the class name
+ * instead of the full class descriptor for serializable classes. The
+ * descriptor is looked up locally, as client and server share the common module.
+ *
+ * @see de.uol.swp.common.codec.CompactMessageEncoder
+ * @see de.uol.swp.common.codec.CompactMessageDecoder
+ * @since 2026-10-18
+ */
+final class CompactObjectStreams {
+
+    private static final int STREAM_VERSION = 5;
+    private static final int TYPE_FAT_DESCRIPTOR = 0;
+    private static final int TYPE_THIN_DESCRIPTOR = 1;
+
+    private CompactObjectStreams() {
+    }
+
+    /**
+     * ObjectOutputStream writing thin class descriptors
+     *
+     * @since 2026-10-18
+     */
+    static class Output extends ObjectOutputStream {
+
+        Output(OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() throws IOException {
+            writeByte(STREAM_VERSION);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            Class<?> clazz = desc.forClass();
+            if (clazz.isPrimitive() || clazz.isArray() || clazz.isInterface() || desc.getSerialVersionUID() == 0) {
+                write(TYPE_FAT_DESCRIPTOR);
+                super.writeClassDescriptor(desc);
+            } else {
+                write(TYPE_THIN_DESCRIPTOR);
+                writeUTF(desc.getName());
+            }
+        }
+    }
+
+    /**
+     * ObjectInputStream reading the streams of {@link Output}, resolving all
+     * classes through a netty ClassResolver
+     *
+     * @since 2026-10-18
+     */
+    static class Input extends ObjectInputStream {
+
+        private final ClassResolver classResolver;
+
+        Input(InputStream in, ClassResolver classResolver) throws IOException {
+            super(in);
+            this.classResolver = classResolver;
+        }
+
+        @Override
+        protected void readStreamHeader() throws IOException {
+            int version = readByte() & 0xFF;
+            if (version != STREAM_VERSION) {
+                throw new StreamCorruptedException("Unsupported version: " + version);
+            }
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            int type = read();
+            switch (type) {
+                case TYPE_FAT_DESCRIPTOR:
+                    return super.readClassDescriptor();
+                case TYPE_THIN_DESCRIPTOR:
+                    return ObjectStreamClass.lookupAny(classResolver.resolve(readUTF()));
+                default:
+                    throw new StreamCorruptedException("Unexpected class descriptor type: " + type);
+            }
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return classResolver.resolve(desc.getName());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
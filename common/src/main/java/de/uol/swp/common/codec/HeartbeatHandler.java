@@ -0,0 +1,146 @@
+package de.uol.swp.common.codec;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps a connection alive and closes it when the other side went silent
+ * <p>
+ * Has to be the first handler of the pipeline, so every byte read counts as a
+ * sign of life, not only complete messages. If nothing was written for the
+ * interval, a heartbeat frame is sent. A heartbeat frame is a frame of length 0,
+ * which no message is encoded to, and is skipped by the decoders of both wire
+ * formats, so heartbeats never create a message object or reach the EventBus.
+ * If nothing was read for the timeout, the channel is closed.
+ * <p>
+ * Interval and timeout are read from the system properties
+ * {@value #INTERVAL_PROPERTY} and {@value #TIMEOUT_PROPERTY} in milliseconds.
+ *
+ * @see de.uol.swp.common.codec.WireFormat
+ * @since 2026-10-18
+ */
+public class HeartbeatHandler extends IdleStateHandler {
+
+    /**
+     * System property with the milliseconds without writes after which a heartbeat is sent
+     */
+    public static final String INTERVAL_PROPERTY = "swp.heartbeat.intervalMillis";
+
+    /**
+     * System property with the milliseconds without reads after which the connection is closed
+     */
+    public static final String TIMEOUT_PROPERTY = "swp.heartbeat.timeoutMillis";
+
+    /**
+     * Length of a heartbeat frame, only its length field of 0
+     */
+    public static final int FRAME_LENGTH = 4;
+
+    private static final Logger LOG = LogManager.getLogger(HeartbeatHandler.class);
+
+    private static final ByteBuf FRAME = Unpooled.unreleasableBuffer(
+            Unpooled.directBuffer(FRAME_LENGTH, FRAME_LENGTH).writeInt(0).asReadOnly());
+
+    private final long intervalMillis;
+    private final long timeoutMillis;
+
+    /**
+     * Constructor
+     *
+     * @param intervalMillis the milliseconds without writes after which a heartbeat is sent
+     * @param timeoutMillis  the milliseconds without reads after which the connection is closed
+     * @throws IllegalArgumentException if a value is not positive or the timeout is not longer than the interval
+     * @since 2026-10-18
+     */
+    public HeartbeatHandler(long intervalMillis, long timeoutMillis) {
+        super(timeoutMillis, intervalMillis, 0, TimeUnit.MILLISECONDS);
+        if (intervalMillis <= 0 || timeoutMillis <= intervalMillis) {
+            throw new IllegalArgumentException("invalid heartbeat: interval " + intervalMillis + " ms, timeout "
+                    + timeoutMillis + " ms");
+        }
+        this.intervalMillis = intervalMillis;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Returns a handler configured by the system properties
+     * <p>
+     * Without them a heartbeat is sent every 15 seconds and a connection is
+     * closed after 45 seconds without reads.
+     *
+     * @return a new HeartbeatHandler, one is needed per channel
+     * @since 2026-10-18
+     */
+    public static HeartbeatHandler fromSystemProperties() {
+        return new HeartbeatHandler(Long.getLong(INTERVAL_PROPERTY, 15_000), Long.getLong(TIMEOUT_PROPERTY, 45_000));
+    }
+
+    /**
+     * Returns a heartbeat frame to write
+     * <p>
+     * The frame is a view of one shared buffer, so no memory is allocated for it.
+     *
+     * @return the heartbeat frame
+     * @since 2026-10-18
+     */
+    public static ByteBuf frame() {
+        return FRAME.duplicate();
+    }
+
+    /**
+     * Skips a heartbeat frame at the start of the incoming bytes
+     * <p>
+     * Called by the decoders before they read a frame.
+     *
+     * @param in the incoming bytes, starting at a frame
+     * @return true if a heartbeat frame was skipped
+     * @since 2026-10-18
+     */
+    public static boolean skipFrame(ByteBuf in) {
+        if (in.readableBytes() >= FRAME_LENGTH && in.getInt(in.readerIndex()) == 0) {
+            in.skipBytes(FRAME_LENGTH);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) throws Exception {
+        if (evt.state() == IdleState.WRITER_IDLE) {
+            ctx.writeAndFlush(frame(), ctx.voidPromise());
+        } else if (evt.state() == IdleState.READER_IDLE) {
+            LOG.info("Nothing read from " + ctx.channel() + " for " + timeoutMillis + " ms, closing the connection");
+            ctx.close();
+        }
+        super.channelIdle(ctx, evt);
+    }
+
+    /**
+     * Getter for the milliseconds without writes after which a heartbeat is sent
+     *
+     * @return the interval in milliseconds
+     * @since 2026-10-18
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Getter for the milliseconds without reads after which the connection is closed
+     *
+     * @return the timeout in milliseconds
+     * @since 2026-10-18
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+}
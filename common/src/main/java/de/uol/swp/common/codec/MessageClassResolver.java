@@ -0,0 +1,161 @@
+package de.uol.swp.common.codec;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.reflect.ClassPath;
+
+import io.netty.handler.codec.serialization.ClassResolver;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ClassResolver only resolving the classes allowed in Java serialized messages
+ * <p>
+ * The serializable classes of the common module are looked up once, when the
+ * resolver is created, and kept in a map, so a class name of an incoming frame
+ * is resolved without asking the class loader. Besides those, the classes of
+ * the packages {@code java.lang} and {@code java.util} and arrays of allowed
+ * classes are resolved and cached on first use. Any other class is rejected
+ * with a SecurityException before an object of it is created.
+ * <p>
+ * The exception is unchecked on purpose: the object streams of netty and
+ * CompactObjectStreams ask the class loader themselves if the resolver throws a
+ * ClassNotFoundException.
+ *
+ * @see de.uol.swp.common.codec.WireFormat#createDecoder(ClassResolver)
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class MessageClassResolver implements ClassResolver {
+
+    /**
+     * Name of the system property that turns the allowlist off, if set to false
+     */
+    public static final String PROPERTY = "swp.classAllowlist";
+
+    private static final Logger LOG = LogManager.getLogger(MessageClassResolver.class);
+
+    private static final String COMMON_PACKAGE = "de.uol.swp.common";
+
+    private static final Set<String> JDK_PACKAGES = Set.of("java.lang", "java.util");
+
+    private static final MessageClassResolver DEFAULT = new MessageClassResolver(
+            MessageClassResolver.class.getClassLoader());
+
+    private final ClassLoader classLoader;
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * <p>
+     * Scans the class path of the class loader for the serializable classes of the
+     * common module.
+     *
+     * @param classLoader the ClassLoader the classes are loaded with
+     * @since 2026-10-18
+     */
+    public MessageClassResolver(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        try {
+            for (ClassPath.ClassInfo info : ClassPath.from(classLoader).getAllClasses()) {
+                if (info.getPackageName().startsWith(COMMON_PACKAGE)) {
+                    addIfSerializable(info);
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Could not scan the class path for messages", e);
+        }
+        LOG.debug("Allowed " + classes.size() + " message classes");
+    }
+
+    private void addIfSerializable(ClassPath.ClassInfo info) {
+        try {
+            Class<?> cls = info.load();
+            if (Serializable.class.isAssignableFrom(cls)) {
+                classes.put(cls.getName(), cls);
+            }
+        } catch (LinkageError e) {
+            LOG.debug("Skipped " + info.getName() + ": " + e);
+        }
+    }
+
+    /**
+     * Gets the resolver shared by all decoders
+     *
+     * @return the resolver of the class loader of the common module
+     * @since 2026-10-18
+     */
+    public static MessageClassResolver getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the ClassResolver configured by the system property {@value #PROPERTY}
+     * <p>
+     * Without the property the allowlist is used. If it is set to false, every
+     * class is resolved by the class loader, like before the allowlist.
+     *
+     * @return the ClassResolver for the decoders
+     * @since 2026-10-18
+     */
+    public static ClassResolver fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value != null && !value.isBlank() && !Boolean.parseBoolean(value.trim())) {
+            LOG.warn("The class allowlist is turned off, any serializable class can be received");
+            return ClassResolvers.cacheDisabled(null);
+        }
+        return DEFAULT;
+    }
+
+    /**
+     * Resolves an allowed class
+     *
+     * @param className the name of the class, as written by Java serialization
+     * @return the class
+     * @throws ClassNotFoundException if an allowed class cannot be loaded
+     * @throws SecurityException      if the class is not allowed
+     * @since 2026-10-18
+     */
+    @Override
+    public Class<?> resolve(String className) throws ClassNotFoundException {
+        Class<?> cls = classes.get(className);
+        if (cls != null) {
+            return cls;
+        }
+        if (!isAllowed(className)) {
+            throw new SecurityException("Class " + className + " is not allowed in a message");
+        }
+        cls = Class.forName(className, false, classLoader);
+        classes.put(className, cls);
+        return cls;
+    }
+
+    /**
+     * Checks if a class not resolved yet may be resolved
+     *
+     * @param className the name of the class
+     * @return true for classes of the JDK packages and arrays of allowed classes
+     */
+    private boolean isAllowed(String className) {
+        if (className.startsWith("[")) {
+            String element = className.substring(className.lastIndexOf('[') + 1);
+            if (element.length() == 1) {
+                // array of a primitive type
+                return true;
+            }
+            if (element.startsWith("L") && element.endsWith(";")) {
+                String elementName = element.substring(1, element.length() - 1);
+                return classes.containsKey(elementName) || isAllowed(elementName);
+            }
+            return false;
+        }
+        int lastDot = className.lastIndexOf('.');
+        return lastDot > 0 && JDK_PACKAGES.contains(className.substring(0, lastDot));
+    }
+}
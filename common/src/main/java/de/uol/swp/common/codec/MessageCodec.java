@@ -0,0 +1,40 @@
+package de.uol.swp.common.codec;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Field level encoding of a single message type
+ * <p>
+ * Implementations write only the fields of the message, the type itself is
+ * identified by the id it was registered with in the MessageCodecRegistry.
+ *
+ * @param <T> The message type handled by this codec
+ * @see de.uol.swp.common.codec.MessageCodecRegistry
+ * @see de.uol.swp.common.codec.WireBuffers
+ * @since 2026-10-18
+ */
+public interface MessageCodec<T extends Serializable> {
+
+    /**
+     * Writes the fields of the message
+     *
+     * @param msg The message to encode
+     * @param out The ByteBuf to write to
+     * @throws IOException if a field could not be written
+     * @since 2026-10-18
+     */
+    void encode(T msg, ByteBuf out) throws IOException;
+
+    /**
+     * Creates a message from the fields written by encode
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded message
+     * @throws IOException if a field could not be read
+     * @since 2026-10-18
+     */
+    T decode(ByteBuf in) throws IOException;
+}
@@ -0,0 +1,340 @@
+package de.uol.swp.common.codec;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+
+import de.uol.swp.common.chat.RequestChatMessage;
+import de.uol.swp.common.chat.ResponseChatMessage;
+import de.uol.swp.common.game.message.MoveRobberMessage;
+import de.uol.swp.common.game.message.NextTurnMessage;
+import de.uol.swp.common.game.message.PrivateInventoryChangeMessage;
+import de.uol.swp.common.game.message.PublicInventoryChangeMessage;
+import de.uol.swp.common.game.message.RollDiceResultMessage;
+import de.uol.swp.common.game.message.SuccessfulConstructionMessage;
+import de.uol.swp.common.game.request.ConstructionRequest;
+import de.uol.swp.common.game.request.EndTurnRequest;
+import de.uol.swp.common.game.request.RollDiceRequest;
+import de.uol.swp.common.lobby.message.LobbyDroppedMessage;
+import de.uol.swp.common.lobby.message.LobbySizeChangedMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.PingRequest;
+import de.uol.swp.common.user.response.PingResponse;
+
+import static de.uol.swp.common.codec.WireBuffers.*;
+
+/**
+ * Registry mapping message classes to the ids and codecs of the compact wire format
+ * <p>
+ * The ids are part of the protocol, so client and server have to use the same
+ * registry. Id 0 is reserved for messages without a registered codec, these
+ * are written using Java serialization inside the compact frame.
+ *
+ * @see de.uol.swp.common.codec.CompactMessageEncoder
+ * @see de.uol.swp.common.codec.CompactMessageDecoder
+ * @since 2026-10-18
+ */
+public class MessageCodecRegistry {
+
+    /**
+     * Type id used for messages that fall back to Java serialization
+     */
+    public static final int FALLBACK_ID = 0;
+
+    private static final MessageCodecRegistry DEFAULT = createDefault();
+
+    private final Map<Class<?>, Integer> idsByClass = new HashMap<>();
+    private final Map<Integer, MessageCodec<?>> codecsById = new HashMap<>();
+
+    /**
+     * Returns the registry shared by client and server
+     * <p>
+     * It contains codecs for the small messages sent most often during a game.
+     *
+     * @return The default registry
+     * @since 2026-10-18
+     */
+    public static MessageCodecRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Registers a codec for a message class
+     *
+     * @param id    The id written to the wire, must be positive and unique
+     * @param type  The exact class of the message
+     * @param codec The codec used for the message
+     * @param <T>   The message type
+     * @return This registry, to allow chaining
+     * @throws IllegalArgumentException if the id or the class is already registered
+     * @since 2026-10-18
+     */
+    public <T extends Serializable> MessageCodecRegistry register(int id, Class<T> type, MessageCodec<T> codec) {
+        if (id <= FALLBACK_ID || codecsById.containsKey(id) || idsByClass.containsKey(type)) {
+            throw new IllegalArgumentException("Codec id " + id + " or type " + type.getName() + " already in use");
+        }
+        idsByClass.put(type, id);
+        codecsById.put(id, codec);
+        return this;
+    }
+
+    /**
+     * Returns the id of a message class
+     *
+     * @param type The exact class of the message
+     * @return The registered id or {@link #FALLBACK_ID}
+     * @since 2026-10-18
+     */
+    public int getId(Class<?> type) {
+        return idsByClass.getOrDefault(type, FALLBACK_ID);
+    }
+
+    /**
+     * Returns the codec registered for an id
+     *
+     * @param id The id read from the wire
+     * @param <T> The message type
+     * @return The codec or null if the id is unknown
+     * @since 2026-10-18
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Serializable> MessageCodec<T> getCodec(int id) {
+        return (MessageCodec<T>) codecsById.get(id);
+    }
+
+    /**
+     * Creates the default registry
+     * <p>
+     * New ids have to be appended, never reuse or reorder existing ones.
+     *
+     * @return The registry with all built in codecs
+     * @since 2026-10-18
+     */
+    private static MessageCodecRegistry createDefault() {
+        MessageCodecRegistry registry = new MessageCodecRegistry();
+        registry.register(1, PingRequest.class, new MessageCodec<>() {
+            @Override
+            public void encode(PingRequest msg, ByteBuf out) throws IOException {
+                writeUser(out, msg.getUser());
+                out.writeBoolean(msg.getTime() != null);
+                if (msg.getTime() != null) {
+                    out.writeLong(msg.getTime());
+                }
+            }
+
+            @Override
+            public PingRequest decode(ByteBuf in) throws IOException {
+                return new PingRequest(readUser(in), in.readBoolean() ? in.readLong() : null);
+            }
+        });
+        registry.register(2, PingResponse.class, new MessageCodec<>() {
+            @Override
+            public void encode(PingResponse msg, ByteBuf out) {
+                writeString(out, msg.getUsername());
+                out.writeLong(msg.getTime());
+            }
+
+            @Override
+            public PingResponse decode(ByteBuf in) {
+                return new PingResponse(readString(in), in.readLong());
+            }
+        });
+        registry.register(3, RollDiceRequest.class, new MessageCodec<>() {
+            @Override
+            public void encode(RollDiceRequest msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+                writeInt(out, msg.getCheatEyes());
+            }
+
+            @Override
+            public RollDiceRequest decode(ByteBuf in) throws IOException {
+                return new RollDiceRequest(readString(in), readUser(in), readInt(in));
+            }
+        });
+        registry.register(4, RollDiceResultMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(RollDiceResultMessage msg, ByteBuf out) throws IOException {
+                writeInt(out, msg.getDiceEyes1());
+                writeInt(out, msg.getDiceEyes2());
+                writeInt(out, msg.getTurn());
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+            }
+
+            @Override
+            public RollDiceResultMessage decode(ByteBuf in) throws IOException {
+                RollDiceResultMessage msg = new RollDiceResultMessage(readInt(in), readInt(in), readInt(in),
+                        readString(in));
+                msg.setUser(readUserDTO(in));
+                return msg;
+            }
+        });
+        registry.register(5, EndTurnRequest.class, new MessageCodec<>() {
+            @Override
+            public void encode(EndTurnRequest msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+            }
+
+            @Override
+            public EndTurnRequest decode(ByteBuf in) throws IOException {
+                return new EndTurnRequest(readString(in), readUserDTO(in));
+            }
+        });
+        registry.register(6, NextTurnMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(NextTurnMessage msg, ByteBuf out) {
+                writeString(out, msg.getGameName());
+                writeString(out, msg.getPlayerWithCurrentTurn());
+                writeInt(out, msg.getTurn());
+                out.writeBoolean(msg.isInStartingTurn());
+            }
+
+            @Override
+            public NextTurnMessage decode(ByteBuf in) {
+                return new NextTurnMessage(readString(in), readString(in), readInt(in), in.readBoolean());
+            }
+        });
+        registry.register(7, RequestChatMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(RequestChatMessage msg, ByteBuf out) {
+                writeString(out, msg.getMessage());
+                writeString(out, msg.getChat());
+                writeString(out, msg.getUsername());
+                out.writeDouble(msg.getTime());
+            }
+
+            @Override
+            public RequestChatMessage decode(ByteBuf in) {
+                return new RequestChatMessage(readString(in), readString(in), readString(in), in.readDouble());
+            }
+        });
+        registry.register(8, ResponseChatMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(ResponseChatMessage msg, ByteBuf out) {
+                writeString(out, msg.getMessage());
+                writeString(out, msg.getChat());
+                writeString(out, msg.getUsername());
+                out.writeDouble(msg.getTime());
+            }
+
+            @Override
+            public ResponseChatMessage decode(ByteBuf in) {
+                return new ResponseChatMessage(readString(in), readString(in), readString(in), in.readDouble());
+            }
+        });
+        registry.register(9, LobbySizeChangedMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(LobbySizeChangedMessage msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+            }
+
+            @Override
+            public LobbySizeChangedMessage decode(ByteBuf in) throws IOException {
+                LobbySizeChangedMessage msg = new LobbySizeChangedMessage(readString(in));
+                msg.setUser(readUserDTO(in));
+                return msg;
+            }
+        });
+        registry.register(10, LobbyDroppedMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(LobbyDroppedMessage msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+            }
+
+            @Override
+            public LobbyDroppedMessage decode(ByteBuf in) throws IOException {
+                LobbyDroppedMessage msg = new LobbyDroppedMessage(readString(in));
+                msg.setUser(readUserDTO(in));
+                return msg;
+            }
+        });
+        registry.register(11, ConstructionRequest.class, new MessageCodec<>() {
+            @Override
+            public void encode(ConstructionRequest msg, ByteBuf out) throws IOException {
+                writeUser(out, msg.getUser());
+                writeString(out, msg.getName());
+                writeUUID(out, msg.getUuid());
+                writeString(out, msg.getTypeOfNode());
+            }
+
+            @Override
+            public ConstructionRequest decode(ByteBuf in) throws IOException {
+                return new ConstructionRequest(readUserDTO(in), readString(in), readUUID(in), readString(in));
+            }
+        });
+        registry.register(12, SuccessfulConstructionMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(SuccessfulConstructionMessage msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+                writeInt(out, msg.getPlayerIndex());
+                writeUUID(out, msg.getUuid());
+                writeString(out, msg.getTypeOfNode());
+            }
+
+            @Override
+            public SuccessfulConstructionMessage decode(ByteBuf in) throws IOException {
+                return new SuccessfulConstructionMessage(readString(in), readUserDTO(in), readInt(in), readUUID(in),
+                        readString(in));
+            }
+        });
+        registry.register(13, MoveRobberMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(MoveRobberMessage msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+            }
+
+            @Override
+            public MoveRobberMessage decode(ByteBuf in) throws IOException {
+                return new MoveRobberMessage(readString(in), readUserDTO(in));
+            }
+        });
+        registry.register(14, PrivateInventoryChangeMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(PrivateInventoryChangeMessage msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+                writeIntArray(out, msg.getPrivateInventoryDelta());
+            }
+
+            @Override
+            public PrivateInventoryChangeMessage decode(ByteBuf in) throws IOException {
+                return new PrivateInventoryChangeMessage(readString(in), readUserDTO(in), readIntArray(in));
+            }
+        });
+        registry.register(15, PublicInventoryChangeMessage.class, new MessageCodec<>() {
+            @Override
+            public void encode(PublicInventoryChangeMessage msg, ByteBuf out) throws IOException {
+                writeString(out, msg.getName());
+                writeUser(out, msg.getUser());
+                int[][] publicInventories = msg.getPublicInventoryDeltas();
+                writeVarInt(out, publicInventories.length);
+                for (int[] publicInventory : publicInventories) {
+                    writeIntArray(out, publicInventory);
+                }
+            }
+
+            @Override
+            public PublicInventoryChangeMessage decode(ByteBuf in) throws IOException {
+                String name = readString(in);
+                UserDTO user = readUserDTO(in);
+                int[][] publicInventories = new int[Math.min(readVarInt(in), in.readableBytes())][];
+                for (int i = 0; i < publicInventories.length; i++) {
+                    publicInventories[i] = readIntArray(in);
+                }
+                PublicInventoryChangeMessage msg = new PublicInventoryChangeMessage(name, publicInventories);
+                msg.setUser(user);
+                return msg;
+            }
+        });
+        return registry;
+    }
+}
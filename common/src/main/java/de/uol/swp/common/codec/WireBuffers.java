@@ -0,0 +1,334 @@
+package de.uol.swp.common.codec;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.handler.codec.CorruptedFrameException;
+
+import de.uol.swp.common.user.User;
+import de.uol.swp.common.user.UserDTO;
+
+/**
+ * Field level helpers for the compact binary wire format
+ * <p>
+ * Every method writes or reads exactly one field. Integers are written as
+ * variable length integers, strings are UTF-8 encoded with a length prefix and
+ * null values are encoded inside that prefix, so small messages only need a
+ * few bytes per field.
+ *
+ * @see de.uol.swp.common.codec.MessageCodec
+ * @since 2026-10-18
+ */
+public final class WireBuffers {
+
+    private static final int USER_NULL = 0;
+    private static final int USER_DTO = 1;
+    private static final int USER_SERIALIZED = 2;
+
+    private WireBuffers() {
+    }
+
+    /**
+     * Writes a non negative integer using 7 bit groups
+     *
+     * @param out   The ByteBuf to write to
+     * @param value The value to write, must not be negative
+     * @since 2026-10-18
+     */
+    public static void writeVarInt(ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a integer written by {@link #writeVarInt(ByteBuf, int)}
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded value
+     * @throws CorruptedFrameException if the value is longer than five bytes
+     * @since 2026-10-18
+     */
+    public static int readVarInt(ByteBuf in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CorruptedFrameException("VarInt too long");
+    }
+
+    /**
+     * Writes a signed integer using zig-zag encoding, so small negative values
+     * (e.g. the 666 sentinel or -1) stay short as well
+     *
+     * @param out   The ByteBuf to write to
+     * @param value The value to write
+     * @since 2026-10-18
+     */
+    public static void writeInt(ByteBuf out, int value) {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Reads a integer written by {@link #writeInt(ByteBuf, int)}
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded value
+     * @since 2026-10-18
+     */
+    public static int readInt(ByteBuf in) {
+        int raw = readVarInt(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Writes an int array that may be null, every value using {@link #writeInt(ByteBuf, int)}
+     *
+     * @param out    The ByteBuf to write to
+     * @param values The array to write
+     * @since 2026-10-18
+     */
+    public static void writeIntArray(ByteBuf out, int[] values) {
+        if (values == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, values.length + 1);
+        for (int value : values) {
+            writeInt(out, value);
+        }
+    }
+
+    /**
+     * Calculates the number of bytes {@link #writeIntArray(ByteBuf, int[])} writes for an array
+     *
+     * @param values The array
+     * @return The number of bytes
+     * @since 2026-10-18
+     */
+    public static int intArraySize(int[] values) {
+        if (values == null) {
+            return 1;
+        }
+        int size = varIntSize(values.length + 1);
+        for (int value : values) {
+            size += varIntSize((value << 1) ^ (value >> 31));
+        }
+        return size;
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Reads an int array written by {@link #writeIntArray(ByteBuf, int[])}
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded array or null
+     * @since 2026-10-18
+     */
+    public static int[] readIntArray(ByteBuf in) {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.readableBytes()) {
+            throw new CorruptedFrameException("Array longer than the frame");
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readInt(in);
+        }
+        return values;
+    }
+
+    /**
+     * Writes a String that may be null
+     *
+     * @param out   The ByteBuf to write to
+     * @param value The String to write
+     * @since 2026-10-18
+     */
+    public static void writeString(ByteBuf out, String value) {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.writeBytes(bytes);
+    }
+
+    /**
+     * Reads a String written by {@link #writeString(ByteBuf, String)}
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded String or null
+     * @since 2026-10-18
+     */
+    public static String readString(ByteBuf in) {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        return in.readCharSequence(length - 1, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Writes a UUID that may be null
+     *
+     * @param out   The ByteBuf to write to
+     * @param value The UUID to write
+     * @since 2026-10-18
+     */
+    public static void writeUUID(ByteBuf out, UUID value) {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * Reads a UUID written by {@link #writeUUID(ByteBuf, UUID)}
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded UUID or null
+     * @since 2026-10-18
+     */
+    public static UUID readUUID(ByteBuf in) {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    /**
+     * Writes a User that may be null
+     * <p>
+     * UserDTOs are written field by field. Any other implementation of the
+     * User interface falls back to Java serialization.
+     *
+     * @param out  The ByteBuf to write to
+     * @param user The User to write
+     * @throws IOException if the fallback serialization fails
+     * @since 2026-10-18
+     */
+    public static void writeUser(ByteBuf out, User user) throws IOException {
+        if (user == null) {
+            out.writeByte(USER_NULL);
+        } else if (user.getClass() == UserDTO.class) {
+            UserDTO dto = (UserDTO) user;
+            out.writeByte(USER_DTO);
+            writeString(out, dto.getUsername());
+            writeString(out, dto.getPassword());
+            writeString(out, dto.getEMail());
+            writeInt(out, dto.getProfilePictureID());
+        } else {
+            out.writeByte(USER_SERIALIZED);
+            writeSerializable(out, user);
+        }
+    }
+
+    /**
+     * Reads a User written by {@link #writeUser(ByteBuf, User)}
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded User or null
+     * @throws IOException if the fallback deserialization fails
+     * @since 2026-10-18
+     */
+    public static User readUser(ByteBuf in) throws IOException {
+        int kind = in.readByte();
+        switch (kind) {
+            case USER_NULL:
+                return null;
+            case USER_DTO:
+                String username = readString(in);
+                String password = readString(in);
+                String eMail = readString(in);
+                return new UserDTO(username, password, eMail, readInt(in));
+            case USER_SERIALIZED:
+                return (User) readSerializable(in);
+            default:
+                throw new CorruptedFrameException("Unknown user encoding " + kind);
+        }
+    }
+
+    /**
+     * Reads a User and returns it as UserDTO, as most messages store UserDTOs
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded UserDTO or null
+     * @throws IOException if the fallback deserialization fails
+     * @since 2026-10-18
+     */
+    public static UserDTO readUserDTO(ByteBuf in) throws IOException {
+        User user = readUser(in);
+        return user == null || user instanceof UserDTO ? (UserDTO) user : UserDTO.create(user);
+    }
+
+    /**
+     * Writes a object using Java serialization with a length prefix
+     *
+     * @param out   The ByteBuf to write to
+     * @param value The object to write
+     * @throws IOException if the serialization fails
+     * @since 2026-10-18
+     */
+    public static void writeSerializable(ByteBuf out, Serializable value) throws IOException {
+        int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        try (ObjectOutputStream oos = new ObjectOutputStream(new ByteBufOutputStream(out))) {
+            oos.writeObject(value);
+        }
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex - 4);
+    }
+
+    /**
+     * Reads a object written by {@link #writeSerializable(ByteBuf, Serializable)}
+     * <p>
+     * enhanced by the MessageClassResolver, 2026-10-18: only the allowed classes
+     * are resolved
+     *
+     * @param in The ByteBuf to read from
+     * @return The decoded object
+     * @throws IOException if the deserialization fails
+     * @throws SecurityException if the object contains a class that is not allowed
+     * @see de.uol.swp.common.codec.MessageClassResolver
+     * @since 2026-10-18
+     */
+    public static Object readSerializable(ByteBuf in) throws IOException {
+        int length = in.readInt();
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteBufInputStream(in.readSlice(length))) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws ClassNotFoundException {
+                return MessageClassResolver.getDefault().resolve(desc.getName());
+            }
+        }) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+}
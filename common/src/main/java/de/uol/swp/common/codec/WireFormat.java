@@ -0,0 +1,134 @@
+package de.uol.swp.common.codec;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.serialization.ClassResolver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.MyObjectDecoder;
+import de.uol.swp.common.MyObjectEncoder;
+
+/**
+ * The wire formats client and server can talk
+ * <p>
+ * The format is chosen at startup, either by passing it to the start methods of
+ * the server and the ClientConnection or with the system property
+ * {@value #PROPERTY}. Both sides have to use the same format.
+ * <p>
+ * Both formats start every frame with its length, a frame of length 0 is a
+ * heartbeat and skipped by the decoders.
+ *
+ * @see de.uol.swp.common.codec.CompactMessageEncoder
+ * @see de.uol.swp.common.MyObjectEncoder
+ * @see de.uol.swp.common.codec.HeartbeatHandler
+ * @since 2026-10-18
+ */
+public enum WireFormat {
+
+    /**
+     * Java serialization of every message, using MyObjectEncoder and MyObjectDecoder
+     */
+    JAVA_SERIALIZATION {
+        @Override
+        public ChannelHandler createEncoder() {
+            return new MyObjectEncoder();
+        }
+
+        @Override
+        public ChannelHandler createDecoder(ClassResolver classResolver) {
+            return new MyObjectDecoder(classResolver);
+        }
+
+        @Override
+        public void encodeFrame(Serializable msg, ByteBuf out) throws Exception {
+            FRAME_ENCODER.encodeFrame(msg, out);
+        }
+    },
+
+    /**
+     * Field level encoding of the registered messages with Java serialization
+     * as fallback for all others
+     */
+    COMPACT_BINARY {
+        @Override
+        public ChannelHandler createEncoder() {
+            return new CompactMessageEncoder(MessageCodecRegistry.getDefault());
+        }
+
+        @Override
+        public ChannelHandler createDecoder(ClassResolver classResolver) {
+            return new CompactMessageDecoder(MessageCodecRegistry.getDefault(), classResolver);
+        }
+
+        @Override
+        public void encodeFrame(Serializable msg, ByteBuf out) throws Exception {
+            CompactMessageEncoder.encode(MessageCodecRegistry.getDefault(), msg, out);
+        }
+    };
+
+    /**
+     * Name of the system property used to select the wire format
+     */
+    public static final String PROPERTY = "swp.wireFormat";
+
+    private static final Logger LOG = LogManager.getLogger(WireFormat.class);
+
+    private static final MyObjectEncoder FRAME_ENCODER = new MyObjectEncoder();
+
+    /**
+     * Creates the encoder to add to the channel pipeline
+     *
+     * @return A new encoder
+     * @since 2026-10-18
+     */
+    public abstract ChannelHandler createEncoder();
+
+    /**
+     * Creates the decoder to add to the channel pipeline
+     *
+     * @param classResolver The ClassResolver used for Java serialized messages
+     * @return A new decoder
+     * @since 2026-10-18
+     */
+    public abstract ChannelHandler createDecoder(ClassResolver classResolver);
+
+    /**
+     * Writes the complete frame of a message, exactly as the encoder would
+     * <p>
+     * The encoders pass ByteBufs through unchanged, so a frame written by this
+     * method can be sent to any channel using this wire format.
+     *
+     * @param msg The message to encode
+     * @param out The ByteBuf to write the frame to
+     * @throws Exception if the message could not be encoded
+     * @since 2026-10-18
+     */
+    public abstract void encodeFrame(Serializable msg, ByteBuf out) throws Exception;
+
+    /**
+     * Returns the wire format configured by the system property {@value #PROPERTY}
+     * <p>
+     * Accepts the names of the constants, case insensitive. If the property is
+     * missing or unknown the compact binary format is used.
+     *
+     * @return The configured wire format
+     * @since 2026-10-18
+     */
+    public static WireFormat fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isBlank()) {
+            return COMPACT_BINARY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown wire format " + value + ", using " + COMPACT_BINARY);
+            return COMPACT_BINARY;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package de.uol.swp.common.game;
+
+import java.io.Serializable;
+
+/**
+ * Changes of a play field since a BoardDescriptor was created
+ * <p>
+ * Holds the occupancy of all nodes that changed, the current position of the robber and the counters of the
+ * MapGraph. Nodes are referenced by their index in the BoardDescriptor the delta was created for, so it can only be
+ * applied together with that descriptor.
+ *
+ * @see de.uol.swp.common.game.MapGraph#createBoardDelta(BoardDescriptor)
+ * @see de.uol.swp.common.game.MapGraph#MapGraph(BoardDescriptor, BoardDelta)
+ * @since 2026-10-18
+ */
+public class BoardDelta implements Serializable {
+
+    final int[] buildingIndices;
+    final int[] buildingOccupants;
+    final int[] settlementSizes;
+    final int[] streetIndices;
+    final int[] streetOccupants;
+    final int[] robberIndices;
+    final int[] numOfRoads;
+    final int[] numOfBuildings;
+    final int[] builtBuildings;
+
+    /**
+     * Constructor
+     * <p>
+     * Only used by MapGraph, the indices refer to the order of the nodes in the BoardDescriptor.
+     *
+     * @since 2026-10-18
+     */
+    BoardDelta(int[] buildingIndices, int[] buildingOccupants, int[] settlementSizes, int[] streetIndices,
+               int[] streetOccupants, int[] robberIndices, int[] numOfRoads, int[] numOfBuildings,
+               int[] builtBuildings) {
+        this.buildingIndices = buildingIndices;
+        this.buildingOccupants = buildingOccupants;
+        this.settlementSizes = settlementSizes;
+        this.streetIndices = streetIndices;
+        this.streetOccupants = streetOccupants;
+        this.robberIndices = robberIndices;
+        this.numOfRoads = numOfRoads;
+        this.numOfBuildings = numOfBuildings;
+        this.builtBuildings = builtBuildings;
+    }
+
+    /**
+     * Getter for the number of changed nodes
+     *
+     * @return number of building and street nodes that changed
+     * @since 2026-10-18
+     */
+    public int getNumberOfChangedNodes() {
+        return buildingIndices.length + streetIndices.length;
+    }
+}
@@ -0,0 +1,50 @@
+package de.uol.swp.common.game;
+
+import java.io.Serializable;
+
+/**
+ * Compact description of a play field
+ * <p>
+ * Instead of the object graph of a MapGraph with all its back references and the LongestStreetPathCalculator, this
+ * class holds a binary encoding of the hexagons with terrain, dice token and robber, the building nodes with harbor
+ * and occupancy, the street nodes with occupancy and the connections between them. The encoding is created once per
+ * game by {@link MapGraph#createBoardDescriptor()} and the same bytes are sent to every player. The receiver
+ * recreates the MapGraph with {@link MapGraph#MapGraph(BoardDescriptor)}.
+ *
+ * @see de.uol.swp.common.game.BoardDelta
+ * @since 2026-10-18
+ */
+public class BoardDescriptor implements Serializable {
+
+    private final byte[] data;
+
+    /**
+     * Constructor
+     *
+     * @param data the encoding created by MapGraph
+     * @since 2026-10-18
+     */
+    BoardDescriptor(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Getter for the encoded play field
+     *
+     * @return the encoding created by MapGraph
+     * @since 2026-10-18
+     */
+    byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Getter for the size of the encoded play field
+     *
+     * @return the number of bytes of the encoding
+     * @since 2026-10-18
+     */
+    public int getSize() {
+        return data.length;
+    }
+}
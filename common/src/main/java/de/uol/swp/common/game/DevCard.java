@@ -0,0 +1,60 @@
+package de.uol.swp.common.game;
+
+/**
+ * The development cards of the game
+ * <p>
+ * The ordinal of a card is its index in the development card vector of the Inventory, the name is the one used by
+ * the messages, the DevelopmentCardDeck and the string keyed methods of the Inventory.
+ *
+ * @see Inventory
+ * @since 2026-10-18
+ */
+public enum DevCard {
+
+    KNIGHT("Knight"),
+    MONOPOLY("Monopoly"),
+    ROAD_BUILDING("Road Building"),
+    YEAR_OF_PLENTY("Year of Plenty"),
+    VICTORY_POINT("Victory Point Card");
+
+    /**
+     * Number of development cards, the length of the development card vector
+     */
+    public static final int COUNT = 5;
+
+    private static final DevCard[] VALUES = values();
+
+    private final String name;
+
+    DevCard(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the name of the card
+     *
+     * @return the name, e.g. "Knight"
+     * @since 2026-10-18
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the card with the name
+     *
+     * @param name the name of the card, e.g. "Knight"
+     * @return the card or null if there is none with the name
+     * @since 2026-10-18
+     */
+    public static DevCard fromName(String name) {
+        if (name != null) {
+            for (DevCard card : VALUES) {
+                if (card.name.equals(name)) {
+                    return card;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -36,6 +36,29 @@ public class DevelopmentCardDeck implements Serializable {
         Collections.shuffle(deck);
     }
 
+    /**
+     * Copies the remaining cards of another deck in the same order
+     *
+     * @param that the deck to copy
+     * @see #copy()
+     * @since 2026-10-18
+     */
+    private DevelopmentCardDeck(DevelopmentCardDeck that) {
+        deck.addAll(that.deck);
+    }
+
+    /**
+     * Creates a copy of this deck
+     * <p>
+     * Drawing from the copy draws the same cards as drawing from this deck would, without removing them here.
+     *
+     * @return the copy of this deck
+     * @since 2026-10-18
+     */
+    public DevelopmentCardDeck copy() {
+        return new DevelopmentCardDeck(this);
+    }
+
     /**
      * Draw the development card from the deck
      *
@@ -223,6 +223,18 @@ public interface Game extends Serializable {
      */
     MapGraph getMapGraph();
 
+    /**
+     * Returns the BoardDescriptor of the MapGraph
+     * <p>
+     * The descriptor is created on the first call and then reused, so every player of the game gets the same
+     * instance. Changes made later are available through {@link MapGraph#createBoardDelta(BoardDescriptor)}.
+     *
+     * @return The descriptor of the game field
+     * @see BoardDescriptor
+     * @since 2026-10-18
+     */
+    BoardDescriptor getBoardDescriptor();
+
     /**
      * Returns a boolean, whether the opening phase is active.
      *
@@ -7,12 +7,36 @@ import de.uol.swp.common.user.User;
 
 /**
  * Creates and manages the Inventory
+ * <p>
+ * The resource and development cards are stored in int vectors indexed by the ordinals of {@link Resource} and
+ * {@link DevCard}. The CardStacks and the string keyed methods are views on these vectors.
+ * <p>
+ * Every change marks the inventory as changed, so the GameService only sends the views of changed inventories and
+ * only the fields that changed since the last flush, see {@link #flushPrivateViewDelta()}.
+ * <p>
+ * enhanced by the card vectors, 2026-10-18
  *
  * @author Anton Nikiforov
  * @since 2021-02-01
  */
 public class Inventory implements Serializable {
 
+    // costs in the order of the Resource ordinals, must not be changed
+    public static final int[] ROAD_COST = {1, 1, 0, 0, 0};
+    public static final int[] SETTLEMENT_COST = {1, 1, 1, 1, 0};
+    public static final int[] CITY_COST = {0, 0, 2, 0, 3};
+    public static final int[] DEVELOPMENT_CARD_COST = {0, 0, 1, 1, 1};
+
+    // keys of the views, the resources and development cards come first in the order of their ordinals
+    private static final String[] PRIVATE_VIEW_KEYS = {"Lumber", "Brick", "Grain", "Wool", "Ore", "Knight",
+            "Monopoly", "Road Building", "Year of Plenty", "Victory Point Card", "Cities", "Roads", "Settlements",
+            "Victory Points"};
+    private static final String[] PUBLIC_VIEW_KEYS = {"Public Victory Points", "Resource", "Development Cards",
+            "Played Knights", "Continuous Road", "Largest Army", "Longest Road"};
+
+    public static final int PRIVATE_VIEW_SIZE = PRIVATE_VIEW_KEYS.length;
+    public static final int PUBLIC_VIEW_SIZE = PUBLIC_VIEW_KEYS.length;
+
     private final User user;
 
     /**
@@ -37,17 +61,42 @@ public class Inventory implements Serializable {
         return user;
     }
 
+    /**
+     * Creates a copy of this inventory for the same user
+     * <p>
+     * The stacks and achievements of the copy can be changed without changing this inventory.
+     *
+     * @return the copy of this inventory
+     * @since 2026-10-18
+     */
+    public Inventory copy() {
+        Inventory copy = new Inventory(user);
+        System.arraycopy(resources, 0, copy.resources, 0, resources.length);
+        System.arraycopy(developmentCards, 0, copy.developmentCards, 0, developmentCards.length);
+        copy.city.setNumber(city.getNumber());
+        copy.road.setNumber(road.getNumber());
+        copy.settlement.setNumber(settlement.getNumber());
+        copy.victoryPoints = victoryPoints;
+        copy.playedKnights = playedKnights;
+        copy.continuousRoad = continuousRoad;
+        copy.largestArmy = largestArmy;
+        copy.longestRoad = longestRoad;
+        return copy;
+    }
+
     // Resource Cards
-    public CardStack lumber = new CardStack();
-    public CardStack brick = new CardStack();
-    public CardStack grain = new CardStack();
-    public CardStack wool = new CardStack();
-    public CardStack ore = new CardStack();
-    // Development Cards
-    public CardStack cardKnight = new CardStack();
-    public CardStack cardMonopoly = new CardStack();
-    public CardStack cardRoadBuilding = new CardStack();
-    public CardStack cardYearOfPlenty = new CardStack();
+    private final int[] resources = new int[Resource.COUNT];
+    public CardStack lumber = new CardStack(resources, Resource.LUMBER.ordinal());
+    public CardStack brick = new CardStack(resources, Resource.BRICK.ordinal());
+    public CardStack grain = new CardStack(resources, Resource.GRAIN.ordinal());
+    public CardStack wool = new CardStack(resources, Resource.WOOL.ordinal());
+    public CardStack ore = new CardStack(resources, Resource.ORE.ordinal());
+    // Development Cards, including the victory point cards
+    private final int[] developmentCards = new int[DevCard.COUNT];
+    public CardStack cardKnight = new CardStack(developmentCards, DevCard.KNIGHT.ordinal());
+    public CardStack cardMonopoly = new CardStack(developmentCards, DevCard.MONOPOLY.ordinal());
+    public CardStack cardRoadBuilding = new CardStack(developmentCards, DevCard.ROAD_BUILDING.ordinal());
+    public CardStack cardYearOfPlenty = new CardStack(developmentCards, DevCard.YEAR_OF_PLENTY.ordinal());
     // Building Units
     public UnitStack city = new UnitStack(4);
     public UnitStack road = new UnitStack(15);
@@ -56,9 +105,14 @@ public class Inventory implements Serializable {
     private int victoryPoints = 0;
     private int playedKnights = 0;
     private int continuousRoad = 0;
-    private int cardVictoryPoint = 0;
     private boolean largestArmy = false;
     private boolean longestRoad = false;
+    // the views sent with the last flush, null before the first one
+    private transient int[] flushedPrivateView;
+    private transient int[] flushedPublicView;
+    // true while nothing changed since the last flush of the view
+    private transient boolean privateViewFlushed;
+    private transient boolean publicViewFlushed;
 
 
     //Getter and Setter for Achievements
@@ -83,6 +137,7 @@ public class Inventory implements Serializable {
      */
     public void setVictoryPoints(int victoryPoints) {
         this.victoryPoints = Math.max(victoryPoints, 0);
+        markChanged();
     }
 
     /**
@@ -105,6 +160,7 @@ public class Inventory implements Serializable {
      */
     public void setPlayedKnights(int playedKnights) {
         this.playedKnights = Math.max(playedKnights, 0);
+        markChanged();
     }
 
     /**
@@ -127,6 +183,7 @@ public class Inventory implements Serializable {
      */
     public void setContinuousRoad(int continuousRoad) {
         this.continuousRoad = Math.max(continuousRoad, 0);
+        markChanged();
     }
 
     /**
@@ -149,6 +206,7 @@ public class Inventory implements Serializable {
      */
     public void setLargestArmy(boolean largestArmy) {
         this.largestArmy = largestArmy;
+        markChanged();
     }
 
     /**
@@ -171,6 +229,7 @@ public class Inventory implements Serializable {
      */
     public void setLongestRoad(boolean longestRoad) {
         this.longestRoad = longestRoad;
+        markChanged();
     }
 
     /**
@@ -181,7 +240,7 @@ public class Inventory implements Serializable {
      * @since 2021-02-01
      */
     public int getCardVictoryPoint() {
-        return this.cardVictoryPoint;
+        return developmentCards[DevCard.VICTORY_POINT.ordinal()];
     }
 
     /**
@@ -191,8 +250,7 @@ public class Inventory implements Serializable {
      * @since 2021-02-01
      */
     public void incCardVictoryPoint() {
-        this.cardVictoryPoint++;
-        this.victoryPoints++;
+        incCardVictoryPoint(1);
     }
 
     /**
@@ -202,8 +260,9 @@ public class Inventory implements Serializable {
      * @since 2021-02-01
      */
     public void incCardVictoryPoint(int amount) {
-        this.cardVictoryPoint += amount;
+        developmentCards[DevCard.VICTORY_POINT.ordinal()] += amount;
         this.victoryPoints += amount;
+        markChanged();
     }
 
     /**
@@ -216,11 +275,7 @@ public class Inventory implements Serializable {
      * @since 2021-02-01
      */
     public int sumResource() {
-        return lumber.getNumber() +
-                brick.getNumber() +
-                grain.getNumber() +
-                wool.getNumber() +
-                ore.getNumber();
+        return sum(resources);
     }
 
     /**
@@ -233,11 +288,97 @@ public class Inventory implements Serializable {
      * @since 2021-02-01
      */
     public int sumDevelopmentCards() {
-        return cardVictoryPoint +
-                cardKnight.getNumber() +
-                cardMonopoly.getNumber() +
-                cardRoadBuilding.getNumber() +
-                cardYearOfPlenty.getNumber();
+        return sum(developmentCards);
+    }
+
+    /**
+     * Getter for the number of cards of a resource
+     *
+     * @param resource the resource
+     * @return the number of cards
+     * @since 2026-10-18
+     */
+    public int getResource(Resource resource) {
+        return resources[resource.ordinal()];
+    }
+
+    /**
+     * Increases the number of cards of a resource
+     *
+     * @param resource the resource
+     * @param amount   the number of cards to add
+     * @since 2026-10-18
+     */
+    public void incResource(Resource resource, int amount) {
+        resources[resource.ordinal()] += amount;
+        markChanged();
+    }
+
+    /**
+     * Decreases the number of cards of a resource
+     *
+     * @param resource the resource
+     * @param amount   the number of cards to remove
+     * @since 2026-10-18
+     */
+    public void decResource(Resource resource, int amount) {
+        resources[resource.ordinal()] -= amount;
+        markChanged();
+    }
+
+    /**
+     * Getter for the number of development cards of a type
+     *
+     * @param card the type of the development card
+     * @return the number of cards
+     * @since 2026-10-18
+     */
+    public int getDevelopmentCard(DevCard card) {
+        return developmentCards[card.ordinal()];
+    }
+
+    /**
+     * Checks if the resources cover a cost vector
+     *
+     * @param cost the number of cards of every resource, indexed by the Resource ordinals, e.g. {@link #ROAD_COST}
+     * @return true if there are at least as many cards of every resource as the cost
+     * @since 2026-10-18
+     */
+    public boolean canAfford(int[] cost) {
+        for (int i = 0; i < resources.length; i++) {
+            if (resources[i] < cost[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a vector of resources
+     *
+     * @param amounts the number of cards of every resource, indexed by the Resource ordinals
+     * @since 2026-10-18
+     */
+    public void addResources(int[] amounts) {
+        for (int i = 0; i < resources.length; i++) {
+            resources[i] += amounts[i];
+        }
+        markChanged();
+    }
+
+    /**
+     * Subtracts a vector of resources
+     * <p>
+     * Like {@link #decCardStack(String, int)} this does not check the amounts, use {@link #canAfford(int[])} first.
+     *
+     * @param amounts the number of cards of every resource, indexed by the Resource ordinals
+     * @since 2026-10-18
+     */
+    public void subtractResources(int[] amounts) {
+        for (int i = 0; i < resources.length; i++) {
+            resources[i] -= amounts[i];
+        }
+        markChanged();
     }
 
     /**
@@ -245,38 +386,15 @@ public class Inventory implements Serializable {
      * <p>
      * This method creates a HashMap with all the information about the Inventory
      * for the private view to send to client
+     * <p>
+     * enhanced by creating the HashMap from {@link #getPrivateViewVector()}, 2026-10-18
      *
      * @return privateInventory
      * @author Anton Nikiforov
      * @since 2021-02-01
      */
     public HashMap<String, Integer> getPrivateView() {
-
-        HashMap<String, Integer> privateInventory = new HashMap<>();
-
-        // Resource Cards
-        privateInventory.put("Lumber", lumber.getNumber());
-        privateInventory.put("Brick", brick.getNumber());
-        privateInventory.put("Grain", grain.getNumber());
-        privateInventory.put("Wool", wool.getNumber());
-        privateInventory.put("Ore", ore.getNumber());
-
-        // Development Cards
-        privateInventory.put("Knight", cardKnight.getNumber());
-        privateInventory.put("Monopoly", cardMonopoly.getNumber());
-        privateInventory.put("Road Building", cardRoadBuilding.getNumber());
-        privateInventory.put("Year of Plenty", cardYearOfPlenty.getNumber());
-        privateInventory.put("Victory Point Card", cardVictoryPoint);
-
-        // Building Units
-        privateInventory.put("Cities", city.getNumber());
-        privateInventory.put("Roads", road.getNumber());
-        privateInventory.put("Settlements", settlement.getNumber());
-
-        // Achievement
-        privateInventory.put("Victory Points", victoryPoints);
-
-        return privateInventory;
+        return toPrivateView(getPrivateViewVector());
     }
 
     /**
@@ -285,30 +403,278 @@ public class Inventory implements Serializable {
      * This method creates a HashMap with necessary information about the Inventory
      * for the public view to send to all clients.
      * "Public Victory Points" are without the Victory Point Cards
+     * <p>
+     * enhanced by creating the HashMap from {@link #getPublicViewVector()}, 2026-10-18
      *
      * @return publicInventory
      * @author Anton Nikiforov
      * @since 2021-02-01
      */
     public HashMap<String, Integer> getPublicView() {
+        return toPublicView(getPublicViewVector());
+    }
+
+    /**
+     * Creates the compact private view sent to the owner of the inventory
+     * <p>
+     * The values are in the order of the keys of {@link #getPrivateView()}: the resources and the development cards
+     * in the order of their ordinals, then cities, roads, settlements and victory points.
+     *
+     * @return the private view
+     * @see #toPrivateView(int[])
+     * @since 2026-10-18
+     */
+    public int[] getPrivateViewVector() {
+        int[] view = new int[PRIVATE_VIEW_KEYS.length];
+        System.arraycopy(resources, 0, view, 0, resources.length);
+        System.arraycopy(developmentCards, 0, view, resources.length, developmentCards.length);
+        int i = resources.length + developmentCards.length;
+        view[i++] = city.getNumber();
+        view[i++] = road.getNumber();
+        view[i++] = settlement.getNumber();
+        view[i] = victoryPoints;
+        return view;
+    }
+
+    /**
+     * Creates the compact public view sent to all players
+     * <p>
+     * The values are public victory points, resources, development cards, played knights, continuous road, largest
+     * army and longest road, the last two being 1 or 0.
+     *
+     * @return the public view
+     * @see #toPublicView(int[])
+     * @since 2026-10-18
+     */
+    public int[] getPublicViewVector() {
+        int cardVictoryPoint = getCardVictoryPoint();
+        return new int[]{victoryPoints < cardVictoryPoint ? 0 : victoryPoints - cardVictoryPoint, sumResource(),
+                sumDevelopmentCards(), playedKnights, continuousRoad, largestArmy ? 1 : 0, longestRoad ? 1 : 0};
+    }
+
+    /**
+     * Creates the HashMap of a private view from its compact form
+     *
+     * @param view the view created by {@link #getPrivateViewVector()}
+     * @return the HashMap as returned by {@link #getPrivateView()}
+     * @since 2026-10-18
+     */
+    public static HashMap<String, Integer> toPrivateView(int[] view) {
+        return toView(PRIVATE_VIEW_KEYS, view);
+    }
+
+    /**
+     * Creates the HashMap of a public view from its compact form
+     *
+     * @param view the view created by {@link #getPublicViewVector()}
+     * @return the HashMap as returned by {@link #getPublicView()}
+     * @since 2026-10-18
+     */
+    public static HashMap<String, Integer> toPublicView(int[] view) {
+        return toView(PUBLIC_VIEW_KEYS, view);
+    }
+
+    private static HashMap<String, Integer> toView(String[] keys, int[] view) {
+        HashMap<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], view[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Creates the HashMap of the fields contained in a delta of a private view
+     *
+     * @param delta the delta created by {@link #flushPrivateViewDelta()} or {@link #viewDelta(int[], int[])}
+     * @return the HashMap with the keys of {@link #getPrivateView()} of the contained fields only
+     * @since 2026-10-18
+     */
+    public static HashMap<String, Integer> privateViewOfDelta(int[] delta) {
+        return toDeltaView(PRIVATE_VIEW_KEYS, delta);
+    }
+
+    /**
+     * Creates the HashMap of the fields contained in a delta of a public view
+     *
+     * @param delta the delta created by {@link #flushPublicViewDelta()} or {@link #viewDelta(int[], int[])}
+     * @return the HashMap with the keys of {@link #getPublicView()} of the contained fields only
+     * @since 2026-10-18
+     */
+    public static HashMap<String, Integer> publicViewOfDelta(int[] delta) {
+        return toDeltaView(PUBLIC_VIEW_KEYS, delta);
+    }
+
+    private static HashMap<String, Integer> toDeltaView(String[] keys, int[] delta) {
+        HashMap<String, Integer> map = new HashMap<>();
+        if (delta != null) {
+            int value = 1;
+            for (int i = 0; i < keys.length; i++) {
+                if ((delta[0] & (1 << i)) != 0) {
+                    map.put(keys[i], delta[value++]);
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Creates the delta between two versions of a view
+     * <p>
+     * The first value of the delta is a bit mask of the fields that differ, bit i standing for field i of the view.
+     * It is followed by the new values of these fields in the order of the view. Every field is contained if there is
+     * no previous version, so such a delta is complete.
+     *
+     * @param previous the view the receiver knows, or null
+     * @param view     the current view
+     * @return the delta, just the mask 0 if nothing changed
+     * @since 2026-10-18
+     */
+    public static int[] viewDelta(int[] previous, int[] view) {
+        int mask = 0;
+        int changed = 0;
+        for (int i = 0; i < view.length; i++) {
+            if (previous == null || previous[i] != view[i]) {
+                mask |= 1 << i;
+                changed++;
+            }
+        }
+        int[] delta = new int[changed + 1];
+        delta[0] = mask;
+        int value = 1;
+        for (int i = 0; i < view.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                delta[value++] = view[i];
+            }
+        }
+        return delta;
+    }
 
-        HashMap<String, Integer> publicInventory = new HashMap<>();
+    /**
+     * Checks if a delta contains every field of a view
+     *
+     * @param delta  the delta created by {@link #viewDelta(int[], int[])}
+     * @param length the number of fields of the view, {@link #PRIVATE_VIEW_SIZE} or {@link #PUBLIC_VIEW_SIZE}
+     * @return true if the delta can be applied without knowing the previous view
+     * @since 2026-10-18
+     */
+    public static boolean isCompleteDelta(int[] delta, int length) {
+        return delta != null && delta[0] == (1 << length) - 1;
+    }
 
-        if (victoryPoints < cardVictoryPoint) { publicInventory.put("Public Victory Points", 0); } else {
-            publicInventory.put("Public Victory Points", victoryPoints - cardVictoryPoint);
+    /**
+     * Applies a delta to a view
+     *
+     * @param view   the previous view, may be null if the delta is complete
+     * @param delta  the delta created by {@link #viewDelta(int[], int[])}
+     * @param length the number of fields of the view, {@link #PRIVATE_VIEW_SIZE} or {@link #PUBLIC_VIEW_SIZE}
+     * @return the new view, or null if there is no previous view and the delta is not complete
+     * @since 2026-10-18
+     */
+    public static int[] applyViewDelta(int[] view, int[] delta, int length) {
+        if (view == null && !isCompleteDelta(delta, length)) {
+            return null;
+        }
+        int[] result = view == null ? new int[length] : view.clone();
+        if (delta != null) {
+            int value = 1;
+            for (int i = 0; i < length; i++) {
+                if ((delta[0] & (1 << i)) != 0) {
+                    result[i] = delta[value++];
+                }
+            }
         }
+        return result;
+    }
 
-        publicInventory.put("Resource", sumResource());
-        publicInventory.put("Development Cards", sumDevelopmentCards());
+    /**
+     * Combines two consecutive deltas of a view into one
+     * <p>
+     * The result contains every field of both deltas, with the value of the newer one if both contain the field, so
+     * applying it has the same effect as applying the older and then the newer delta.
+     *
+     * @param older the delta sent first, may be null
+     * @param newer the delta sent after it, may be null
+     * @return the combined delta, null if both are null
+     * @since 2026-10-18
+     */
+    public static int[] mergeViewDeltas(int[] older, int[] newer) {
+        if (older == null) {
+            return newer;
+        }
+        if (newer == null) {
+            return older;
+        }
+        int mask = older[0] | newer[0];
+        int[] merged = new int[Integer.bitCount(mask) + 1];
+        merged[0] = mask;
+        int olderValue = 1;
+        int newerValue = 1;
+        int value = 1;
+        for (int i = 0; i < Integer.SIZE && (mask >>> i) != 0; i++) {
+            boolean inOlder = (older[0] & (1 << i)) != 0;
+            boolean inNewer = (newer[0] & (1 << i)) != 0;
+            if (inNewer) {
+                merged[value++] = newer[newerValue++];
+                if (inOlder) {
+                    olderValue++;
+                }
+            } else if (inOlder) {
+                merged[value++] = older[olderValue++];
+            }
+        }
+        return merged;
+    }
 
-        publicInventory.put("Played Knights", playedKnights);
-        publicInventory.put("Continuous Road", continuousRoad);
+    /**
+     * Returns the changes of the private view since its last flush
+     * <p>
+     * The current private view is remembered as the flushed one, so the next call only returns the fields that
+     * changed after this one. The first delta of an inventory is complete.
+     *
+     * @return the delta as created by {@link #viewDelta(int[], int[])}, null if nothing changed
+     * @since 2026-10-18
+     */
+    public int[] flushPrivateViewDelta() {
+        if (privateViewFlushed) {
+            return null;
+        }
+        int[] view = getPrivateViewVector();
+        int[] delta = viewDelta(flushedPrivateView, view);
+        flushedPrivateView = view;
+        privateViewFlushed = true;
+        return delta[0] == 0 ? null : delta;
+    }
 
-        if (largestArmy) { publicInventory.put("Largest Army", 1); } else { publicInventory.put("Largest Army", 0); }
+    /**
+     * Returns the changes of the public view since its last flush
+     * <p>
+     * Works like {@link #flushPrivateViewDelta()} for the public view.
+     *
+     * @return the delta as created by {@link #viewDelta(int[], int[])}, null if nothing changed
+     * @since 2026-10-18
+     */
+    public int[] flushPublicViewDelta() {
+        if (publicViewFlushed) {
+            return null;
+        }
+        int[] view = getPublicViewVector();
+        int[] delta = viewDelta(flushedPublicView, view);
+        flushedPublicView = view;
+        publicViewFlushed = true;
+        return delta[0] == 0 ? null : delta;
+    }
 
-        if (longestRoad) { publicInventory.put("Longest Road", 1); } else { publicInventory.put("Longest Road", 0); }
+    private void markChanged() {
+        privateViewFlushed = false;
+        publicViewFlushed = false;
+    }
 
-        return publicInventory;
+    private static int sum(int[] vector) {
+        int sum = 0;
+        for (int number : vector) {
+            sum += number;
+        }
+        return sum;
     }
 
     /**
@@ -320,6 +686,8 @@ public class Inventory implements Serializable {
      * Year of Plenty, Victory Point Card.
      * <p>
      * enhanced by Anton Nikiforov, Alexander Losse, Iskander Yusupov
+     * <p>
+     * enhanced by using the card vectors, 2026-10-18
      *
      * @param cardName the name of the Resource Card
      * @param amount   how much of the Card should be increased
@@ -328,39 +696,17 @@ public class Inventory implements Serializable {
      * @since 2021-04-08
      */
     public void incCardStack(String cardName, int amount) {
-        switch (cardName) {
-            case "Lumber":
-                lumber.incNumber(amount);
-                break;
-            case "Brick":
-                brick.incNumber(amount);
-                break;
-            case "Grain":
-                grain.incNumber(amount);
-                break;
-            case "Wool":
-                wool.incNumber(amount);
-                break;
-            case "Ore":
-                ore.incNumber(amount);
-                break;
-            case "Knight":
-                cardKnight.incNumber(amount);
-                break;
-            case "Monopoly":
-                cardMonopoly.incNumber(amount);
-                break;
-            case "Road Building":
-                cardRoadBuilding.incNumber(amount);
-                break;
-            case "Year of Plenty":
-                cardYearOfPlenty.incNumber(amount);
-                break;
-            case "Victory Point Card":
-                incCardVictoryPoint();
-                break;
-            default:
-                break;
+        Resource resource = Resource.fromName(cardName);
+        if (resource != null) {
+            incResource(resource, amount);
+            return;
+        }
+        DevCard card = DevCard.fromName(cardName);
+        if (card == DevCard.VICTORY_POINT) {
+            incCardVictoryPoint();
+        } else if (card != null) {
+            developmentCards[card.ordinal()] += amount;
+            markChanged();
         }
     }
 
@@ -370,6 +716,8 @@ public class Inventory implements Serializable {
      * This method calls the method decNumber(int) of the class Card
      * String Card specifies the resource card
      * valid Strings: Lumber, Brick, Grain, Wool, Ore
+     * <p>
+     * enhanced by using the card vectors, 2026-10-18
      *
      * @param cardName the name of the Resource Card
      * @param amount   how much of the Card should be decreased
@@ -377,41 +725,22 @@ public class Inventory implements Serializable {
      * @since 2021-04-08
      */
     public void decCardStack(String cardName, int amount) {
-        switch (cardName) {
-            case "Lumber":
-                lumber.decNumber(amount);
-                break;
-            case "Brick":
-                brick.decNumber(amount);
-                break;
-            case "Grain":
-                grain.decNumber(amount);
-                break;
-            case "Wool":
-                wool.decNumber(amount);
-                break;
-            case "Ore":
-                ore.decNumber(amount);
-                break;
-            case "Knight":
-                cardKnight.decNumber(amount);
-                break;
-            case "Monopoly":
-                cardMonopoly.decNumber(amount);
-                break;
-            case "Road Building":
-                cardRoadBuilding.decNumber(amount);
-                break;
-            case "Year of Plenty":
-                cardYearOfPlenty.decNumber(amount);
-                break;
-            default:
-                break;
+        Resource resource = Resource.fromName(cardName);
+        if (resource != null) {
+            decResource(resource, amount);
+            return;
+        }
+        DevCard card = DevCard.fromName(cardName);
+        if (card != null && card != DevCard.VICTORY_POINT) {
+            developmentCards[card.ordinal()] -= amount;
+            markChanged();
         }
     }
 
     /**
      * Method used to return the amount of a certain resource
+     * <p>
+     * enhanced by using the card vectors, 2026-10-18
      *
      * @param resource the String name of the resource
      * @return the int amount of the resource in this inventory
@@ -419,70 +748,81 @@ public class Inventory implements Serializable {
      * @since 2021-05-19
      */
     public int getSpecificResourceAmount(String resource) {
-        switch (resource) {
-            case "Lumber":
-                return lumber.getNumber();
-            case "Brick":
-                return brick.getNumber();
-            case "Grain":
-                return grain.getNumber();
-            case "Wool":
-                return wool.getNumber();
-            case "Ore":
-                return ore.getNumber();
-            case "Knight":
-                return cardKnight.getNumber();
-            case "Monopoly":
-                return cardMonopoly.getNumber();
-            case "Road Building":
-                return cardRoadBuilding.getNumber();
-            case "Year of Plenty":
-                return cardYearOfPlenty.getNumber();
-            case "Victory Point Card":
-                return cardVictoryPoint;
-            default:
-                return 0;
+        Resource type = Resource.fromName(resource);
+        if (type != null) {
+            return resources[type.ordinal()];
         }
+        DevCard card = DevCard.fromName(resource);
+        return card == null ? 0 : developmentCards[card.ordinal()];
     }
 
     /**
      * Class for the cards in the game
+     * <p>
+     * enhanced by storing the number in a slot of a vector of the inventory, 2026-10-18
      *
      * @author Anton Nikiforov
      * @since 2020-03-04
      */
     public class CardStack implements Serializable {
 
-        private int number = 0;
+        private final int[] numbers;
+        private final int index;
+
+        /**
+         * Constructor for a stack with its own number
+         *
+         * @since 2026-10-18
+         */
+        public CardStack() {
+            this(new int[1], 0);
+        }
+
+        /**
+         * Constructor for a stack stored in a vector of the inventory
+         *
+         * @param numbers the vector
+         * @param index   the index of the stack in the vector
+         * @since 2026-10-18
+         */
+        private CardStack(int[] numbers, int index) {
+            this.numbers = numbers;
+            this.index = index;
+        }
 
         //Getter
         public int getNumber() {
-            return number;
+            return numbers[index];
         }
 
         //Setter
         public void setNumber(int number) {
-            this.number = number;
+            numbers[index] = number;
+            markChanged();
         }
 
         //Incrementer
         public void incNumber() {
-            this.number++;
+            numbers[index]++;
+            markChanged();
         }
 
         //Incrementer with number
         public void incNumber(int number) {
-            this.number += number;
+            numbers[index] += number;
+            markChanged();
         }
 
         //Decrementer
         public void decNumber() {
-            this.number--;
+            numbers[index]--;
+            markChanged();
         }
 
         //Decrementer with number
         public void decNumber(int number) {
-            this.number -= number;
+            numbers[index] -= number;
+            markChanged();
         }
     }
 
@@ -495,7 +835,7 @@ public class Inventory implements Serializable {
     public class UnitStack extends CardStack {
 
         public UnitStack(int number) {
-            super.number = number;
+            setNumber(number);
         }
     }
-}
\ No newline at end of file
+}
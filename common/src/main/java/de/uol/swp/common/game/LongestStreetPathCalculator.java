@@ -2,396 +2,345 @@ package de.uol.swp.common.game;
 
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.UUID;
 
 /**
- * Class that manages matrices of players and calculates street paths for each player.
+ * Class that keeps track of the streets of the players and calculates the longest street path for each player.
  * <p>
+ * Streets and buildings are addressed by the dense ids of the MapGraph nodes, the streets of each player are stored in
+ * a BitSet. The length of a road is the longest trail through connected
+ * streets of a player, using every street at most once. A trail may end at a building of another player, but may not
+ * pass it.
+ * <p>
+ * When a street or a building is added, only the roads of the affected players that touch it are searched again. The
+ * depth first search is bounded by the number of streets in the searched road.
+ * <p>
+ * enhanced by int ids and per player BitSets replacing the adjacency matrices and stored paths, 2026-10-18
  *
  * @author Marc Hermes, Kirstin Beyer
  * @since 2021-04-23
  */
-
 public class LongestStreetPathCalculator implements Serializable {
-    private final HashSet<MapGraph.StreetNode> streetNodeHashSet;
-    // first dimension referencing the player
-    // second dimension referencing the columns
-    // third dimension referencing the rows, ultimately containing the UUIDs of the corresponding street nodes and the integer value indicating connectedness
-    private final ArrayList<ArrayList<ArrayList<ConnectionClassIntegerWithUUID>>> adjacencyMatrixForAllPlayers = new ArrayList<>();
-    // ArrayList containing all possible street paths for each player
-    // first dimension referencing players
-    // second dimension referencing street paths
-    // third dimension referencing street UUIDs that make up the path
-    private final ArrayList<ArrayList<ArrayList<UUID>>> pathArrayList = new ArrayList<>();
+
+    private static final int PLAYERS = 4;
+    private static final int NO_BUILDING = -1;
+
+    private final MapGraph.BuildingNode[] buildings;
+    // the two buildings at the ends of every street, NO_BUILDING if there is none
+    private final int[][] streetEnds;
+    // the streets connected to every building
+    private final int[][] buildingStreets;
+    // the streets of every player
+    private final BitSet[] streetsOfPlayer = new BitSet[PLAYERS];
+    // the length of the longest path of the road every street belongs to
+    private final int[] roadLength;
+    private final int[] longestPath = new int[PLAYERS];
 
     /**
      * Constructor
      * <p>
-     * Creates a new ArrayList of the adjacency matrices in the first dimension and a pathArrayList for each player.
+     * Connects the ids of all streets and buildings. Streets which are already occupied, e.g. in a copied MapGraph,
+     * are taken over and the longest paths are calculated for them. The ids of the nodes have to be assigned already.
+     * <p>
+     * enhanced by the ids and the occupied streets, 2026-10-18
      *
      * @param streetNodeHashSet HashSet containing all street nodes of the MapGraph
      * @author Marc Hermes, Kirstin Beyer
      * @since 2021-04-23
      */
     public LongestStreetPathCalculator(HashSet<MapGraph.StreetNode> streetNodeHashSet) {
-        this.streetNodeHashSet = streetNodeHashSet;
-        adjacencyMatrixForAllPlayers.add(new ArrayList<>());
-        adjacencyMatrixForAllPlayers.add(new ArrayList<>());
-        adjacencyMatrixForAllPlayers.add(new ArrayList<>());
-        adjacencyMatrixForAllPlayers.add(new ArrayList<>());
-        pathArrayList.add(new ArrayList<>());
-        pathArrayList.add(new ArrayList<>());
-        pathArrayList.add(new ArrayList<>());
-        pathArrayList.add(new ArrayList<>());
-    }
-
-    /**
-     * Method called when a new street is placed on the MapGraph
-     * <p>
-     * Creates a new row and a new column in the players matrix for the new street with a 1 if the streets are connected and a 0 if they are not connected.
-     * Calls method recalculatePaths to recalculate all paths of this player at the end.
-     *
-     * @param streetUUID  UUID of the new street
-     * @param playerIndex index of the corresponding player
-     * @author Marc Hermes, Kirstin Beyer
-     * @since 2021-04-23
-     */
-    public void updateMatrixWithNewStreet(UUID streetUUID, int playerIndex) {
-        // get the corresponding players matrix
-        ArrayList<ArrayList<ConnectionClassIntegerWithUUID>> playerMatrix = adjacencyMatrixForAllPlayers
-                .get(playerIndex);
-        // create new ROW for the new street
-        playerMatrix.add(new ArrayList<>());
-
-        // iterates over the COLUMNS of the player matrix
-        for (int i = 0; i < playerMatrix.size() - 1; i++) {
-            // get the COLUMN ID -> UUID of the STREET of this COLUMN
-            UUID uuidColumn = playerMatrix.get(i).get(0).getUuidForRow();
-            // add new ROW to this COLUMN, the connection class indicates the coordinates of the connection. STREET UUID -> current COLUMN, UUID COLUMN -> current ROW
-            playerMatrix.get(playerMatrix.size() - 1)
-                    .add(new ConnectionClassIntegerWithUUID(streetUUID, uuidColumn, 0));
-            // do the same as above BUT MIRRORED (possible because of symmetry of the matrix)
-            playerMatrix.get(i).add(new ConnectionClassIntegerWithUUID(uuidColumn, streetUUID, 0));
-            MapGraph.StreetNode correctNewStreetNode = null;
-            MapGraph.StreetNode correctOldStreetNode = null;
-            // find the to the UUIDs corresponding streetNodes
-            for (MapGraph.StreetNode streetNode : streetNodeHashSet) {
-                if (streetNode.getUuid().equals(streetUUID)) {
-                    correctNewStreetNode = streetNode;
-                } else if (streetNode.getUuid().equals(uuidColumn)) {
-                    correctOldStreetNode = streetNode;
+        MapGraph.StreetNode[] streets = new MapGraph.StreetNode[streetNodeHashSet.size()];
+        int buildingCount = 0;
+        for (MapGraph.StreetNode street : streetNodeHashSet) {
+            streets[street.getId()] = street;
+            for (MapGraph.BuildingNode building : street.getConnectedBuildingNodes()) {
+                buildingCount = Math.max(buildingCount, building.getId() + 1);
+            }
+        }
+        buildings = new MapGraph.BuildingNode[buildingCount];
+        streetEnds = new int[streets.length][];
+        for (int street = 0; street < streets.length; street++) {
+            int[] ends = {NO_BUILDING, NO_BUILDING};
+            int end = 0;
+            for (MapGraph.BuildingNode building : streets[street].getConnectedBuildingNodes()) {
+                buildings[building.getId()] = building;
+                ends[end++] = building.getId();
+            }
+            streetEnds[street] = ends;
+        }
+        int[] degree = new int[buildings.length];
+        for (int[] ends : streetEnds) {
+            for (int building : ends) {
+                if (building != NO_BUILDING) {
+                    degree[building]++;
                 }
             }
-            // Check if the two streetNodes are CONNECTED by iterating over the to the newStreetNode connected buildingNodes
-            for (MapGraph.BuildingNode buildingNode : correctNewStreetNode.getConnectedBuildingNodes()) {
-                HashSet<MapGraph.StreetNode> newNeighborStreetNodes = buildingNode.getConnectedStreetNodes();
-                // Check if buildingNode is connected to the oldStreetNode (the streetNode representing the current COLUMN)
-                // also check whether or not the buildingNode is owned by a different player, thus disconnecting the two streets
-                if (newNeighborStreetNodes.contains(correctOldStreetNode) && (buildingNode
-                        .getOccupiedByPlayer() == playerIndex || buildingNode.getOccupiedByPlayer() == 666)) {
-                    // if actually connected put a 1 in the corresponding field of the matrix
-                    playerMatrix.get(playerMatrix.size() - 1).get(i).setInteger(1);
-                    // as well as the mirrored position (because of symmetry)
-                    playerMatrix.get(i).get(playerMatrix.size() - 1).setInteger(1);
-                    break;
+        }
+        buildingStreets = new int[buildings.length][];
+        for (int building = 0; building < buildings.length; building++) {
+            buildingStreets[building] = new int[degree[building]];
+        }
+        Arrays.fill(degree, 0);
+        for (int street = 0; street < streetEnds.length; street++) {
+            for (int building : streetEnds[street]) {
+                if (building != NO_BUILDING) {
+                    buildingStreets[building][degree[building]++] = street;
                 }
             }
         }
-        // this is the entry of the matrix where the streetNode references itself (the diagonal of the matrix) which is always set to 0.
-        playerMatrix.get(playerMatrix.size() - 1).add(new ConnectionClassIntegerWithUUID(streetUUID, streetUUID, 0));
-
-        reCalculatePaths(playerIndex);
-    }
 
-    /**
-     * Method called when a new building is placed on the MapGraph
-     * <p>
-     * Checks if a player (not the player who built the building) has two or more streets connected to this building.
-     * Updates players matrix accordingly and replaces 1 with 0, then calls method recalculatePathAtNewBuilding to recalculate paths for this player.
-     *
-     * @param buildingNode building node that was placed on the MapGraph
-     * @param playerIndex index of the corresponding player
-     * @author Marc Hermes, Kirstin Beyer
-     * @since 2021-04-23
-     */
-    public void updateMatrixWithNewBuilding(MapGraph.BuildingNode buildingNode, int playerIndex) {
-        HashSet<MapGraph.StreetNode> streetsOfBuilding = buildingNode.getConnectedStreetNodes();
-        ArrayList<UUID>[] playerArray = new ArrayList[4];
-        playerArray[0] = new ArrayList<>();
-        playerArray[1] = new ArrayList<>();
-        playerArray[2] = new ArrayList<>();
-        playerArray[3] = new ArrayList<>();
-        for (MapGraph.StreetNode streetNode : streetsOfBuilding) {
-            if (streetNode.getOccupiedByPlayer() != 666) {
-                playerArray[streetNode.getOccupiedByPlayer()].add(streetNode.getUuid());
+        roadLength = new int[streets.length];
+        for (int player = 0; player < PLAYERS; player++) {
+            streetsOfPlayer[player] = new BitSet(streets.length);
+        }
+        for (int street = 0; street < streets.length; street++) {
+            int player = streets[street].getOccupiedByPlayer();
+            if (player >= 0 && player < PLAYERS) {
+                streetsOfPlayer[player].set(street);
             }
         }
-        for (int p = 0; p < playerArray.length; p++) {
-
-            if (playerArray[p].size() >= 2 && p != playerIndex) {
-                ArrayList<ArrayList<ConnectionClassIntegerWithUUID>> playerMatrix = adjacencyMatrixForAllPlayers.get(p);
-
-                for (int i = 0; i < playerMatrix.size(); i++) {
-                    for (int j = 0; j < playerMatrix.get(i).size(); j++) {
-                        UUID rowUUID = playerMatrix.get(i).get(j).getUuidForRow();
-                        UUID columnUUID = playerMatrix.get(i).get(j).getUuidForColumn();
-                        if (playerArray[p].contains(rowUUID) && playerArray[p].contains(columnUUID)) {
-                            reCalculatePathsAtNewBuilding(p, rowUUID, columnUUID);
-                            playerMatrix.get(i).get(j).setInteger(0);
-                            playerMatrix.get(j).get(i).setInteger(0);
-                        }
-
-                    }
-
+        for (int player = 0; player < PLAYERS; player++) {
+            BitSet updated = new BitSet(streets.length);
+            BitSet streetsOfThisPlayer = streetsOfPlayer[player];
+            for (int street = streetsOfThisPlayer.nextSetBit(0); street >= 0;
+                 street = streetsOfThisPlayer.nextSetBit(street + 1)) {
+                if (!updated.get(street)) {
+                    updated.or(updateRoad(street, player));
                 }
             }
+            updateLongestPath(player);
         }
     }
 
     /**
-     * Method to recalculate paths when a new Building was placed on the MapGraph
+     * Method called when a new street is placed on the MapGraph
+     * <p>
+     * Adds the street to the streets of the player and recalculates the road it connects to.
      * <p>
-     * Finds all paths in the ArrayList from the affected player, that are divided by the new building and splits these
-     * paths between street1 and street2. The second part containing street2 is added to the ArrayList.
+     * enhanced to search only the road of the new street, 2026-10-18
      *
-     * @param playerIndex indicates the player who's path lengths are affected by the new building
-     * @param street1 first street from player with playerIndex that is connected to the new building
-     * @param street2 second street from player with playerIndex that is connected to the new building
+     * @param street      the new street, its occupying player has to be set already
+     * @param playerIndex index of the corresponding player
      * @author Marc Hermes, Kirstin Beyer
      * @since 2021-04-23
      */
-    public void reCalculatePathsAtNewBuilding(int playerIndex, UUID street1, UUID street2) {
-        ArrayList<ArrayList<UUID>> pathListForPlayer = pathArrayList.get(playerIndex);
-        int size = pathListForPlayer.size();
-        for (int i = 0; i < size; i++) {
-            ArrayList<UUID> path = pathListForPlayer.get(i);
-            if (Math.abs(path.indexOf(street1) - path.indexOf(street2)) == 1 && path.contains(street1) && path
-                    .contains(street2)) {
-                int index = Math.min(path.indexOf(street1), path.indexOf(street2));
-                ArrayList<UUID> newPath = new ArrayList<>();
-                while (path.size() - 1 > index) {
-                    newPath.add(path.remove(index + 1));
-                }
-                pathListForPlayer.add(newPath);
-            }
-        }
-
+    public void updateWithNewStreet(MapGraph.StreetNode street, int playerIndex) {
+        streetsOfPlayer[playerIndex].set(street.getId());
+        updateRoad(street.getId(), playerIndex);
+        updateLongestPath(playerIndex);
     }
 
     /**
-     * Method to recalculate all paths for one player
+     * Method called when a new building is placed on the MapGraph
+     * <p>
+     * A building of one player splits the roads of all other players passing it. The roads of every other player
+     * with at least two streets at the building are recalculated.
      * <p>
-     * Calculates the number of the entries "1" in the last row of the matrix. When it contains only one "1" the method
-     * calculateAllPathsStartingAtNewStreet is called, otherwise the method calculateAllPathsFromStart.
+     * enhanced to search only the roads touching the building, 2026-10-18
      *
-     * @param playerIndex indicates the player
+     * @param buildingNode building node that was placed on the MapGraph, its occupying player has to be set already
+     * @param playerIndex  index of the corresponding player
      * @author Marc Hermes, Kirstin Beyer
      * @since 2021-04-23
      */
-    public void reCalculatePaths(int playerIndex) {
-        ConnectionClassIntegerWithUUID[][] matrix = toArrayMatrix(playerIndex);
-        ArrayList<UUID> neighborStreets = new ArrayList<>();
-        for (int i = 0; i < matrix.length; i++) {
-            if (matrix[matrix.length - 1][i].getInteger() == 1) {
-                neighborStreets.add(matrix[matrix.length - 1][i].getUuidForColumn());
-            }
+    public void updateWithNewBuilding(MapGraph.BuildingNode buildingNode, int playerIndex) {
+        int building = buildingNode.getId();
+        if (building >= buildings.length || buildings[building] != buildingNode) {
+            return;
         }
-        if (neighborStreets.size() > 1) {
-            calculateAllPathsFromStart(matrix, playerIndex);
-        } else {
-            calculateAllPathsStartingAtNewStreet(matrix, playerIndex);
+        for (int player = 0; player < PLAYERS; player++) {
+            if (player == playerIndex) {
+                continue;
+            }
+            int streetsAtBuilding = 0;
+            for (int street : buildingStreets[building]) {
+                if (streetsOfPlayer[player].get(street)) {
+                    streetsAtBuilding++;
+                }
+            }
+            if (streetsAtBuilding >= 2) {
+                for (int street : buildingStreets[building]) {
+                    if (streetsOfPlayer[player].get(street)) {
+                        updateRoad(street, player);
+                    }
+                }
+                updateLongestPath(player);
+            }
         }
-
     }
 
     /**
-     * Method to calculate the paths when the new street is only connected to one street
+     * Method to print the adjacency matrix of the streets of one player
      * <p>
-     * Called when the street that was added is only connected to one other street. Calculates only the new paths by
-     * calling the method horizontal in the last row of the matrix.
+     * A 1 means that the two streets are connected by a building which does not belong to another player.
      *
-     * @param matrixOfPlayer adjacency matrix containing the street connections for the player
      * @param playerIndex indicates the player
      * @author Marc Hermes, Kirstin Beyer
      * @since 2021-04-23
      */
-    public void calculateAllPathsStartingAtNewStreet(ConnectionClassIntegerWithUUID[][] matrixOfPlayer,
-                                                     int playerIndex) {
-        ArrayList<UUID> path = new ArrayList<>();
-        horizontal(path, matrixOfPlayer.length - 1, 666, matrixOfPlayer, playerIndex);
+    public void printAdjacencyMatrix(int playerIndex) {
+        BitSet streets = streetsOfPlayer[playerIndex];
+        for (int row = streets.nextSetBit(0); row >= 0; row = streets.nextSetBit(row + 1)) {
+            StringBuilder line = new StringBuilder();
+            for (int column = streets.nextSetBit(0); column >= 0; column = streets.nextSetBit(column + 1)) {
+                line.append(row != column && connected(row, column, playerIndex) ? 1 : 0).append("   ");
+            }
+            System.out.println(line.append("\n"));
+        }
     }
 
     /**
-     * Method to calculate all paths from one player from start
+     * Method to return longest path from player
      * <p>
-     * Called when all paths from the player have to be calculated. Calls the method horizontal in every row of the
-     * matrix.
+     * The longest path is updated whenever a street or a building is added, so this is a simple lookup.
      *
-     * @param matrixOfPlayer adjacency matrix containing the street connections for the player
      * @param playerIndex indicates the player
+     * @return the number of streets of the longest path of the player
      * @author Marc Hermes, Kirstin Beyer
      * @since 2021-04-23
      */
-    public void calculateAllPathsFromStart(ConnectionClassIntegerWithUUID[][] matrixOfPlayer, int playerIndex) {
-        pathArrayList.get(playerIndex).clear();
-        for (int row = 0; row < matrixOfPlayer.length; row++) {
-            ArrayList<UUID> path = new ArrayList<>();
-            horizontal(path, row, 666, matrixOfPlayer, playerIndex);
-        }
+    public int getLongestPath(int playerIndex) {
+        return longestPath[playerIndex];
     }
 
     /**
-     * Method to go horizontal in the adjacency matrix
+     * Recalculates the road a street belongs to
      * <p>
-     * Goes through all row entries "1" for which the corresponding street in the column is not contained in the walked
-     * path yet.
-     * Then adds UUID of the corresponding street to the walked path and calls the method vertical in the column j and
-     * the considered row.
-     * Adds the walked path to the players path Array List and removes the last entry from walkedPath.
-     * Returns the walked path.
+     * Collects all streets of the player reachable from the street without passing a building of another player,
+     * searches the longest trail through them and stores its length for each of these streets.
      *
-     * @param walkedPath   ArrayList that contains the UUIDs of the previous streets
-     * @param row          corresponding row of the matrix
-     * @param lookUpColumn previous considered column of the matrix
-     * @param matrix adjacency matrix containing the street connections for the player
-     * @param playerIndex indicates the player
-     * @author Marc Hermes, Kirstin Beyer
-     * @since 2021-04-23
+     * @param start       id of the street
+     * @param playerIndex index of the player owning the street
+     * @return the streets of the road
+     * @since 2026-10-18
      */
-    public ArrayList<UUID> horizontal(ArrayList<UUID> walkedPath, int row, int lookUpColumn,
-                                      ConnectionClassIntegerWithUUID[][] matrix, int playerIndex) {
-        for (int j = 0; j < matrix.length; j++) {
-            ConnectionClassIntegerWithUUID currentMatrixEntry = matrix[row][j];
-            boolean cond = true;
-
-            if (currentMatrixEntry.getInteger() == 1 && !walkedPath.contains(currentMatrixEntry.getUuidForColumn())) {
-                if (lookUpColumn != 666) {
-                    for (int y = 0; y < matrix.length; y++) {
-                        if (matrix[y][lookUpColumn].getUuidForRow()
-                                .equals(currentMatrixEntry.getUuidForColumn()) && matrix[y][lookUpColumn]
-                                .getInteger() == 1) {
-                            cond = false;
-                            break;
-                        }
-                    }
+    private BitSet updateRoad(int start, int playerIndex) {
+        BitSet road = new BitSet(streetEnds.length);
+        BitSet ends = new BitSet(buildings.length);
+        int[] stack = new int[streetEnds.length];
+        int size = 0;
+        stack[size++] = start;
+        road.set(start);
+        while (size > 0) {
+            int street = stack[--size];
+            for (int building : streetEnds[street]) {
+                if (building == NO_BUILDING) {
+                    continue;
+                }
+                ends.set(building);
+                if (!passable(building, playerIndex)) {
+                    continue;
                 }
-                if (cond) {
-                    if (!walkedPath.contains(currentMatrixEntry.getUuidForRow())) {
-                        walkedPath.add(currentMatrixEntry.getUuidForRow());
+                for (int next : buildingStreets[building]) {
+                    if (!road.get(next) && streetsOfPlayer[playerIndex].get(next)) {
+                        road.set(next);
+                        stack[size++] = next;
                     }
-                    walkedPath.add(currentMatrixEntry.getUuidForColumn());
-                    ArrayList<UUID> result = new ArrayList<>(vertical(walkedPath, j, row, matrix, playerIndex));
-                    pathArrayList.get(playerIndex).add(result);
-                    walkedPath.remove(walkedPath.get(walkedPath.size() - 1));
                 }
             }
         }
-        return walkedPath;
+
+        boolean[] used = new boolean[streetEnds.length];
+        int longest = 0;
+        for (int building = ends.nextSetBit(0); building >= 0; building = ends.nextSetBit(building + 1)) {
+            longest = Math.max(longest, longestTrail(building, playerIndex, road, used, true));
+        }
+        for (int street = road.nextSetBit(0); street >= 0; street = road.nextSetBit(street + 1)) {
+            roadLength[street] = longest;
+        }
+        return road;
     }
 
     /**
-     * Method to go vertical in the adjacency matrix
-     * <p>
-     * Goes through all column entries "1" for which the corresponding street in the row is not contained in the walked
-     * path yet.
-     * Then adds UUID of the corresponding street to the walked path and calls the method horizontal in the row i and
-     * the considered column.
-     * Adds the walked path to the players path Array List and removes the last entry from walkedPath.
-     * Returns the walked path.
+     * Depth first search for the longest trail starting at a building
      *
-     * @param walkedPath  ArrayList that contains the UUIDs of the previous streets
-     * @param column      corresponding column of the matrix
-     * @param lookUpRow   previous considered row of the matrix
-     * @param matrix      adjacency matrix containing the street connections for the player
-     * @param playerIndex indicates the player
-     * @author Marc Hermes, Kirstin Beyer
-     * @since 2021-04-23
+     * @param building    id of the building the trail continues at
+     * @param playerIndex index of the player
+     * @param road        the streets the trail may use
+     * @param used        the streets already used by the trail
+     * @param start       true if the trail starts at the building, so it does not have to pass it
+     * @return the number of streets of the longest trail
+     * @since 2026-10-18
      */
-    public ArrayList<UUID> vertical(ArrayList<UUID> walkedPath, int column, int lookUpRow,
-                                    ConnectionClassIntegerWithUUID[][] matrix, int playerIndex) {
-        for (int i = 0; i < matrix.length; i++) {
-            ConnectionClassIntegerWithUUID currentMatrixEntry = matrix[i][column];
-            boolean cond = true;
-
-            if (currentMatrixEntry.getInteger() == 1 && !walkedPath.contains(currentMatrixEntry.getUuidForRow())) {
-                for (int x = 0; x < matrix.length; x++) {
-                    if (matrix[lookUpRow][x].getUuidForColumn()
-                            .equals(currentMatrixEntry.getUuidForRow()) && matrix[lookUpRow][x].getInteger() == 1) {
-                        cond = false;
-                        break;
-                    }
-                }
-                if (cond) {
-                    walkedPath.add(currentMatrixEntry.getUuidForRow());
-                    ArrayList<UUID> result = new ArrayList<>(horizontal(walkedPath, i, column, matrix, playerIndex));
-                    pathArrayList.get(playerIndex).add(result);
-                    walkedPath.remove(walkedPath.get(walkedPath.size() - 1));
-                }
+    private int longestTrail(int building, int playerIndex, BitSet road, boolean[] used, boolean start) {
+        if (!start && !passable(building, playerIndex)) {
+            return 0;
+        }
+        int longest = 0;
+        for (int street : buildingStreets[building]) {
+            if (!used[street] && road.get(street)) {
+                used[street] = true;
+                int next = otherEnd(street, building);
+                int length = 1 + (next == NO_BUILDING ? 0 : longestTrail(next, playerIndex, road, used, false));
+                used[street] = false;
+                longest = Math.max(longest, length);
             }
         }
-        return walkedPath;
+        return longest;
     }
 
     /**
-     * Method to print adjacency matrix for one player
-     * <p>
-     * Prints adjacency matrix of the corresponding player row by row.
+     * Sets the longest path of a player to the longest of the player's roads
      *
-     * @param playerIndex indicates the player
-     * @author Marc Hermes, Kirstin Beyer
-     * @since 2021-04-23
+     * @param playerIndex index of the player
+     * @since 2026-10-18
      */
-    public void printAdjacencyMatrix(int playerIndex) {
-        ArrayList<ArrayList<ConnectionClassIntegerWithUUID>> playerMatrix = adjacencyMatrixForAllPlayers
-                .get(playerIndex);
-        for (int i = 0; i < playerMatrix.size(); i++) {
-            for (int j = 0; j < playerMatrix.get(i).size(); j++) {
-                System.out.print(playerMatrix.get(i).get(j).getInteger() + "   ");
-            }
-            System.out.println("\n");
+    private void updateLongestPath(int playerIndex) {
+        int longest = 0;
+        BitSet streets = streetsOfPlayer[playerIndex];
+        for (int street = streets.nextSetBit(0); street >= 0; street = streets.nextSetBit(street + 1)) {
+            longest = Math.max(longest, roadLength[street]);
         }
+        longestPath[playerIndex] = longest;
     }
 
     /**
-     * Method to convert adjacency matrix from an ArrayList to an array
-     * <p>
-     * Converts adjacency matrix of the corresponding player from ArrayList tp array.
+     * Checks if two streets share a building the player may pass
      *
-     * @param playerIndex indicates the player
-     * @author Marc Hermes, Kirstin Beyer
-     * @since 2021-04-23
+     * @param street      id of the first street
+     * @param other       id of the second street
+     * @param playerIndex index of the player
+     * @return true if the streets are connected for the player
+     * @since 2026-10-18
      */
-    public ConnectionClassIntegerWithUUID[][] toArrayMatrix(int playerIndex) {
-        ArrayList<ArrayList<ConnectionClassIntegerWithUUID>> playerMatrix = adjacencyMatrixForAllPlayers
-                .get(playerIndex);
-        int size = playerMatrix.size();
-        ConnectionClassIntegerWithUUID[][] matrix = new ConnectionClassIntegerWithUUID[size][size];
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                matrix[i][j] = playerMatrix.get(i).get(j);
+    private boolean connected(int street, int other, int playerIndex) {
+        for (int building : streetEnds[street]) {
+            if (building != NO_BUILDING && passable(building, playerIndex)) {
+                for (int end : streetEnds[other]) {
+                    if (end == building) {
+                        return true;
+                    }
+                }
             }
         }
-        return matrix;
+        return false;
     }
 
     /**
-     * Method to return longest path from player
-     * <p>
-     * Gets longest path from the players path ArrayList and returns the size of this path.
+     * Checks if a road of the player may pass a building
      *
-     * @param playerIndex indicates the player
-     * @author Marc Hermes, Kirstin Beyer
-     * @since 2021-04-23
+     * @param building    id of the building
+     * @param playerIndex index of the player
+     * @return true if the building is free or belongs to the player
+     * @since 2026-10-18
      */
-    public int getLongestPath(int playerIndex) {
-        int size = 0;
-        for (ArrayList<UUID> list : pathArrayList.get(playerIndex)) {
-            if (size < list.size()) {
-                size = list.size();
-            }
-        }
-        return size;
+    private boolean passable(int building, int playerIndex) {
+        int occupant = buildings[building].getOccupiedByPlayer();
+        return occupant == playerIndex || occupant == 666;
+    }
+
+    /**
+     * Returns the building at the other end of a street
+     *
+     * @param street   id of the street
+     * @param building id of the building at one end
+     * @return id of the building at the other end or NO_BUILDING
+     * @since 2026-10-18
+     */
+    private int otherEnd(int street, int building) {
+        int[] ends = streetEnds[street];
+        return ends[0] == building ? ends[1] : ends[0];
     }
 }
@@ -2,7 +2,9 @@ package de.uol.swp.common.game;
 
 import de.uol.swp.common.game.exception.ListFullException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -17,15 +19,28 @@ import java.util.*;
  */
 public class MapGraph implements Serializable {
 
+    private static final int BOARD_FORMAT_VERSION = 1;
+    private static final int EXPLICIT_LIST = 0x80;
+
     private final HashSet<StreetNode> streetNodeHashSet = new HashSet<>();
     private final HashSet<BuildingNode> buildingNodeHashSet = new HashSet<>();
     private final HashSet<Hexagon> hexagonHashSet = new HashSet<>();
     private final int[] numOfRoads = new int[]{0, 0, 0, 0};
     private final int[] numOfBuildings = new int[]{0, 0, 0, 0};
     private final ArrayList<BuildingNode> builtBuildings = new ArrayList<>();
+    // all UUIDs of this MapGraph share the most significant bits, so a BoardDescriptor only needs the counter
+    private final long uuidMostSigBits = UUID.randomUUID().getMostSignificantBits();
+    private long uuidCounter = 0;
     // middle hexagon for reference
     private final Hexagon middle = new Hexagon("middle");
     private final LongestStreetPathCalculator longestStreetPathCalculator;
+    // indexes of the nodes, rebuilt on the first lookup after deserialization
+    private transient Map<UUID, Hexagon> hexagonsByUuid;
+    private transient Map<UUID, BuildingNode> buildingNodesByUuid;
+    private transient Map<UUID, StreetNode> streetNodesByUuid;
+    private Hexagon robberHexagon;
+    // production of every dice value, built on the first roll
+    private transient ProductionTable productionTable;
 
     /**
      * Creates the interconnected Grid of StreetNodes and BuildingNodes.
@@ -35,9 +50,223 @@ public class MapGraph implements Serializable {
      */
     public MapGraph(String mapTypeToGenerate) {
         initializeMapGraph(mapTypeToGenerate);
+        indexNodes();
+        this.longestStreetPathCalculator = new LongestStreetPathCalculator(streetNodeHashSet);
+    }
+
+    /**
+     * Recreates a MapGraph from a BoardDescriptor
+     *
+     * @param board the descriptor created by {@link #createBoardDescriptor()}
+     * @see #MapGraph(BoardDescriptor, BoardDelta)
+     * @since 2026-10-18
+     */
+    public MapGraph(BoardDescriptor board) {
+        this(board, null);
+    }
+
+    /**
+     * Recreates a MapGraph from a BoardDescriptor and the changes made since it was created
+     * <p>
+     * All Hexagons, BuildingNodes and StreetNodes get the same UUIDs, configuration and connections as in the
+     * original MapGraph. The LongestStreetPathCalculator takes over the streets already occupied.
+     *
+     * @param board   the descriptor created by {@link #createBoardDescriptor()}
+     * @param changes the changes created by {@link #createBoardDelta(BoardDescriptor)} or null
+     * @throws IllegalArgumentException if the descriptor is corrupted
+     * @since 2026-10-18
+     */
+    public MapGraph(BoardDescriptor board, BoardDelta changes) {
+        BoardReader in = new BoardReader(board.getData());
+        if (in.readVarInt() != BOARD_FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported BoardDescriptor version");
+        }
+        in.readUuidMode();
+        Hexagon[] hexagons = new Hexagon[in.readVarInt()];
+        BuildingNode[] buildings = new BuildingNode[in.readVarInt()];
+        StreetNode[] streets = new StreetNode[in.readVarInt()];
+        String[] strings = new String[in.readVarInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readString();
+        }
+
+        // The nodes have to exist before the Hexagons can reference them, so the slots are read afterwards.
+        int[][] hexagonRecords = new int[hexagons.length][];
+        in.resetUuids();
+        for (int i = 0; i < hexagons.length; i++) {
+            UUID uuid = in.readUuid();
+            String[] position = new String[in.readVarInt()];
+            for (int j = 0; j < position.length; j++) {
+                position[j] = strings[in.readVarInt()];
+            }
+            if (position.length == 1 && position[0].equals("middle")) {
+                hexagons[i] = middle;
+            } else {
+                hexagons[i] = new Hexagon(position[position.length - 1],
+                        Arrays.asList(position).subList(0, position.length - 1));
+            }
+            hexagons[i].uuid = uuid;
+            hexagons[i].configureTerrainTypeAndDiceToken(in.readInt(), in.readInt());
+            hexagons[i].setOccupiedByRobber(in.readBoolean());
+            hexagonRecords[i] = new int[18];
+            for (int j = 0; j < 18; j++) {
+                hexagonRecords[i][j] = in.readIndex();
+            }
+        }
+        in.resetUuids();
+        for (int i = 0; i < buildings.length; i++) {
+            UUID uuid = in.readUuid();
+            String position = strings[in.readVarInt()];
+            buildings[i] = new BuildingNode(position, element(hexagons, in.readIndex()), uuid);
+            buildings[i].typeOfHarbor = in.readInt();
+            buildings[i].occupiedByPlayer = in.readOccupant();
+            buildings[i].sizeOfSettlement = in.readInt();
+            buildingNodeHashSet.add(buildings[i]);
+        }
+        in.resetUuids();
+        for (int i = 0; i < streets.length; i++) {
+            UUID uuid = in.readUuid();
+            String position = strings[in.readVarInt()];
+            streets[i] = new StreetNode(position, element(hexagons, in.readIndex()), uuid);
+            streets[i].occupiedByPlayer = in.readOccupant();
+            streetNodeHashSet.add(streets[i]);
+        }
+        for (StreetNode street : streets) {
+            int size = in.readVarInt();
+            for (int j = 0; j < size; j++) {
+                street.connectedBuildingNodes.add(element(buildings, in.readIndex()));
+            }
+        }
+        if (in.readBoolean()) {
+            for (StreetNode street : streets) {
+                for (BuildingNode building : street.connectedBuildingNodes) {
+                    building.connectedStreetNodes.add(street);
+                }
+            }
+        } else {
+            for (BuildingNode building : buildings) {
+                int size = in.readVarInt();
+                for (int j = 0; j < size; j++) {
+                    building.connectedStreetNodes.add(element(streets, in.readIndex()));
+                }
+            }
+        }
+        for (int i = 0; i < hexagons.length; i++) {
+            int[] record = hexagonRecords[i];
+            Hexagon hexagon = hexagons[i];
+            hexagon.hexTopLeft = element(hexagons, record[0]);
+            hexagon.hexTopRight = element(hexagons, record[1]);
+            hexagon.hexLeft = element(hexagons, record[2]);
+            hexagon.hexRight = element(hexagons, record[3]);
+            hexagon.hexBottomLeft = element(hexagons, record[4]);
+            hexagon.hexBottomRight = element(hexagons, record[5]);
+            hexagon.streetTopLeft = element(streets, record[6]);
+            hexagon.streetTopRight = element(streets, record[7]);
+            hexagon.streetLeft = element(streets, record[8]);
+            hexagon.streetRight = element(streets, record[9]);
+            hexagon.streetBottomLeft = element(streets, record[10]);
+            hexagon.streetBottomRight = element(streets, record[11]);
+            hexagon.buildingTop = element(buildings, record[12]);
+            hexagon.buildingTopLeft = element(buildings, record[13]);
+            hexagon.buildingTopRight = element(buildings, record[14]);
+            hexagon.buildingBottomLeft = element(buildings, record[15]);
+            hexagon.buildingBottomRight = element(buildings, record[16]);
+            hexagon.buildingBottom = element(buildings, record[17]);
+        }
+        for (int i = 0; i < hexagons.length; i++) {
+            in.readList(hexagons[i].hexagons, hexagons, neighbourSlots(hexagons[i]));
+            in.readList(hexagons[i].streetNodes, streets, streetSlots(hexagons[i]));
+            in.readList(hexagons[i].buildingNodes, buildings, buildingSlots(hexagons[i]));
+        }
+        for (int i = 0; i < numOfRoads.length; i++) {
+            numOfRoads[i] = in.readInt();
+            numOfBuildings[i] = in.readInt();
+        }
+        int built = in.readVarInt();
+        for (int i = 0; i < built; i++) {
+            builtBuildings.add(element(buildings, in.readIndex()));
+        }
+        if (changes != null) {
+            applyBoardDelta(changes, hexagons, buildings, streets);
+        }
+        indexNodes();
+        this.longestStreetPathCalculator = new LongestStreetPathCalculator(streetNodeHashSet);
+    }
+
+    /**
+     * Copies a MapGraph
+     * <p>
+     * All Hexagons, BuildingNodes and StreetNodes are copied with the same UUIDs, configuration, occupancy and
+     * connections as in the original MapGraph. Like in {@link #MapGraph(BoardDescriptor, BoardDelta)} the
+     * LongestStreetPathCalculator takes over the streets already occupied.
+     *
+     * @param that the MapGraph to copy
+     * @see #copy()
+     * @since 2026-10-18
+     */
+    private MapGraph(MapGraph that) {
+        Map<Hexagon, Hexagon> hexagons = new IdentityHashMap<>(that.hexagonHashSet.size());
+        Map<BuildingNode, BuildingNode> buildings = new IdentityHashMap<>(that.buildingNodeHashSet.size());
+        Map<StreetNode, StreetNode> streets = new IdentityHashMap<>(that.streetNodeHashSet.size());
+        for (Hexagon hexagon : that.hexagonHashSet) {
+            if (hexagon == that.middle) {
+                hexagons.put(hexagon, middle);
+            } else {
+                List<String> position = hexagon.selfPosition;
+                hexagons.put(hexagon, new Hexagon(position.get(position.size() - 1),
+                        position.subList(0, position.size() - 1)));
+            }
+        }
+        for (BuildingNode building : that.buildingNodeHashSet) {
+            BuildingNode copy = new BuildingNode(building.positionToParent, hexagons.get(building.parent),
+                    building.uuid);
+            copy.typeOfHarbor = building.typeOfHarbor;
+            copy.occupiedByPlayer = building.occupiedByPlayer;
+            copy.sizeOfSettlement = building.sizeOfSettlement;
+            buildings.put(building, copy);
+            buildingNodeHashSet.add(copy);
+        }
+        for (StreetNode street : that.streetNodeHashSet) {
+            StreetNode copy = new StreetNode(street.positionToParent, hexagons.get(street.parent), street.uuid);
+            copy.occupiedByPlayer = street.occupiedByPlayer;
+            streets.put(street, copy);
+            streetNodeHashSet.add(copy);
+        }
+        for (Map.Entry<BuildingNode, BuildingNode> entry : buildings.entrySet()) {
+            for (StreetNode street : entry.getKey().connectedStreetNodes) {
+                entry.getValue().connectedStreetNodes.add(streets.get(street));
+            }
+        }
+        for (Map.Entry<StreetNode, StreetNode> entry : streets.entrySet()) {
+            for (BuildingNode building : entry.getKey().connectedBuildingNodes) {
+                entry.getValue().connectedBuildingNodes.add(buildings.get(building));
+            }
+        }
+        for (Map.Entry<Hexagon, Hexagon> entry : hexagons.entrySet()) {
+            entry.getValue().copyFrom(entry.getKey(), hexagons, buildings, streets);
+        }
+        System.arraycopy(that.numOfRoads, 0, numOfRoads, 0, numOfRoads.length);
+        System.arraycopy(that.numOfBuildings, 0, numOfBuildings, 0, numOfBuildings.length);
+        for (BuildingNode building : that.builtBuildings) {
+            builtBuildings.add(buildings.get(building));
+        }
+        indexNodes();
         this.longestStreetPathCalculator = new LongestStreetPathCalculator(streetNodeHashSet);
     }
 
+    /**
+     * Creates a copy of this MapGraph which can be changed without changing this one
+     * <p>
+     * Used by the AI to try out moves. Copying the nodes directly takes a few microseconds, while a copy made by
+     * serializing the MapGraph takes milliseconds.
+     *
+     * @return the copy of this MapGraph
+     * @since 2026-10-18
+     */
+    public MapGraph copy() {
+        return new MapGraph(this);
+    }
+
     /**
      * Getter for the HashSet of street nodes
      *
@@ -71,6 +300,140 @@ public class MapGraph implements Serializable {
         return hexagonHashSet;
     }
 
+    /**
+     * Returns the Hexagon with the UUID
+     *
+     * @param uuid the UUID of the Hexagon
+     * @return the Hexagon or null if there is none with the UUID
+     * @since 2026-10-18
+     */
+    public Hexagon getHexagon(UUID uuid) {
+        checkIndexes();
+        return hexagonsByUuid.get(uuid);
+    }
+
+    /**
+     * Returns the BuildingNode with the UUID
+     *
+     * @param uuid the UUID of the BuildingNode
+     * @return the BuildingNode or null if there is none with the UUID
+     * @since 2026-10-18
+     */
+    public BuildingNode getBuildingNode(UUID uuid) {
+        checkIndexes();
+        return buildingNodesByUuid.get(uuid);
+    }
+
+    /**
+     * Returns the StreetNode with the UUID
+     *
+     * @param uuid the UUID of the StreetNode
+     * @return the StreetNode or null if there is none with the UUID
+     * @since 2026-10-18
+     */
+    public StreetNode getStreetNode(UUID uuid) {
+        checkIndexes();
+        return streetNodesByUuid.get(uuid);
+    }
+
+    /**
+     * Returns the Hexagon the robber is placed on
+     *
+     * @return the Hexagon of the robber or null if the robber was not placed yet
+     * @since 2026-10-18
+     */
+    public Hexagon getRobberHexagon() {
+        return robberHexagon;
+    }
+
+    /**
+     * Moves the robber to the Hexagon with the UUID
+     * <p>
+     * If there is no Hexagon with the UUID the robber stays where it is.
+     *
+     * @param uuid the UUID of the Hexagon to move the robber to
+     * @return the Hexagon the robber was moved to or null if there is none with the UUID
+     * @since 2026-10-18
+     */
+    public Hexagon moveRobber(UUID uuid) {
+        Hexagon hexagon = getHexagon(uuid);
+        if (hexagon != null) {
+            if (robberHexagon != null) {
+                robberHexagon.setOccupiedByRobber(false);
+            }
+            hexagon.setOccupiedByRobber(true);
+        }
+        return hexagon;
+    }
+
+    /**
+     * Builds the UUID indexes and assigns the ids of all Hexagons and nodes
+     * <p>
+     * The ids are dense, starting at 0 for every kind of node, and follow the order of the UUIDs. A copy of this
+     * MapGraph or a MapGraph recreated from a BoardDescriptor therefore uses the same ids.
+     *
+     * @since 2026-10-18
+     */
+    private void indexNodes() {
+        hexagonsByUuid = new HashMap<>(hexagonHashSet.size() * 2);
+        buildingNodesByUuid = new HashMap<>(buildingNodeHashSet.size() * 2);
+        streetNodesByUuid = new HashMap<>(streetNodeHashSet.size() * 2);
+        List<Hexagon> hexagons = sortedHexagons();
+        for (int i = 0; i < hexagons.size(); i++) {
+            hexagons.get(i).id = i;
+            hexagonsByUuid.put(hexagons.get(i).uuid, hexagons.get(i));
+        }
+        indexNodes(sortedNodes(buildingNodeHashSet), buildingNodesByUuid);
+        indexNodes(sortedNodes(streetNodeHashSet), streetNodesByUuid);
+    }
+
+    /**
+     * Assigns the ids of the nodes in the order of the list and puts them into the index
+     *
+     * @param nodes the nodes ordered by UUID
+     * @param index the index to fill
+     * @param <T>   type of the nodes
+     * @since 2026-10-18
+     */
+    private static <T extends MapGraphNode> void indexNodes(List<T> nodes, Map<UUID, T> index) {
+        for (int i = 0; i < nodes.size(); i++) {
+            MapGraphNode node = nodes.get(i);
+            node.id = i;
+            index.put(node.uuid, nodes.get(i));
+        }
+    }
+
+    /**
+     * Rebuilds the UUID indexes if they are missing
+     * <p>
+     * The indexes are transient, so they are missing after deserialization. They are not rebuilt in readObject,
+     * because nodes referencing this MapGraph may still be incomplete at that point.
+     *
+     * @since 2026-10-18
+     */
+    private void checkIndexes() {
+        if (hexagonsByUuid == null) {
+            indexNodes();
+        }
+    }
+
+    /**
+     * Getter for the production of every dice value
+     * <p>
+     * The table is created on the first call and kept up to date when settlements are built or developed and when
+     * the robber moves.
+     *
+     * @return the ProductionTable of this MapGraph
+     * @since 2026-10-18
+     */
+    public ProductionTable getProductionTable() {
+        if (productionTable == null) {
+            checkIndexes();
+            productionTable = new ProductionTable(hexagonHashSet, buildingNodeHashSet);
+        }
+        return productionTable;
+    }
+
     /**
      * Getter for calculator of the longest street path
      *
@@ -594,6 +957,572 @@ public class MapGraph implements Serializable {
         }
     }
 
+    /**
+     * Creates the UUID for a new Hexagon or node of this MapGraph
+     * <p>
+     * The UUIDs share their most significant bits and count up in the least significant bits, which keeps them unique
+     * within the game but lets a BoardDescriptor encode each of them in one or two bytes.
+     *
+     * @return a new UUID
+     * @since 2026-10-18
+     */
+    private UUID nextUuid() {
+        return new UUID(uuidMostSigBits, uuidCounter++);
+    }
+
+    /**
+     * Creates a compact description of the play field
+     * <p>
+     * The descriptor contains the layout, terrain types, dice tokens, harbors, robber and the occupancy of all nodes,
+     * but not the state of the LongestStreetPathCalculator. It is a snapshot, later changes of this MapGraph are not
+     * reflected in it. Nodes are stored ordered by UUID, this order is also used by {@link BoardDelta}.
+     *
+     * @return the descriptor of this MapGraph
+     * @see BoardDescriptor
+     * @since 2026-10-18
+     */
+    public BoardDescriptor createBoardDescriptor() {
+        List<Hexagon> hexagons = sortedHexagons();
+        List<BuildingNode> buildings = sortedNodes(buildingNodeHashSet);
+        List<StreetNode> streets = sortedNodes(streetNodeHashSet);
+        Map<Hexagon, Integer> hexagonIndex = indexMap(hexagons);
+        Map<BuildingNode, Integer> buildingIndex = indexMap(buildings);
+        Map<StreetNode, Integer> streetIndex = indexMap(streets);
+
+        Map<String, Integer> stringIndex = new LinkedHashMap<>();
+        boolean sharedUuids = true;
+        for (Hexagon hexagon : hexagons) {
+            hexagon.selfPosition.forEach(position -> stringIndex.putIfAbsent(position, stringIndex.size()));
+            sharedUuids &= hexagon.uuid.getMostSignificantBits() == uuidMostSigBits;
+        }
+        for (MapGraphNode node : buildings) {
+            stringIndex.putIfAbsent(node.positionToParent, stringIndex.size());
+            sharedUuids &= node.uuid.getMostSignificantBits() == uuidMostSigBits;
+        }
+        for (MapGraphNode node : streets) {
+            stringIndex.putIfAbsent(node.positionToParent, stringIndex.size());
+            sharedUuids &= node.uuid.getMostSignificantBits() == uuidMostSigBits;
+        }
+
+        BoardWriter out = new BoardWriter();
+        out.writeVarInt(BOARD_FORMAT_VERSION);
+        out.writeUuidMode(sharedUuids, uuidMostSigBits);
+        out.writeVarInt(hexagons.size());
+        out.writeVarInt(buildings.size());
+        out.writeVarInt(streets.size());
+        out.writeVarInt(stringIndex.size());
+        stringIndex.keySet().forEach(out::writeString);
+
+        out.resetUuids();
+        for (Hexagon hexagon : hexagons) {
+            out.writeUuid(hexagon.uuid);
+            out.writeVarInt(hexagon.selfPosition.size());
+            hexagon.selfPosition.forEach(position -> out.writeVarInt(stringIndex.get(position)));
+            out.writeInt(hexagon.terrainType);
+            out.writeInt(hexagon.diceToken);
+            out.writeBoolean(hexagon.occupiedByRobber);
+            for (Hexagon neighbour : neighbourSlots(hexagon)) {
+                out.writeIndex(hexagonIndex, neighbour);
+            }
+            for (StreetNode street : streetSlots(hexagon)) {
+                out.writeIndex(streetIndex, street);
+            }
+            for (BuildingNode building : buildingSlots(hexagon)) {
+                out.writeIndex(buildingIndex, building);
+            }
+        }
+        out.resetUuids();
+        for (BuildingNode building : buildings) {
+            out.writeUuid(building.uuid);
+            out.writeVarInt(stringIndex.get(building.positionToParent));
+            out.writeIndex(hexagonIndex, building.parent);
+            out.writeInt(building.typeOfHarbor);
+            out.writeOccupant(building.occupiedByPlayer);
+            out.writeInt(building.sizeOfSettlement);
+        }
+        out.resetUuids();
+        for (StreetNode street : streets) {
+            out.writeUuid(street.uuid);
+            out.writeVarInt(stringIndex.get(street.positionToParent));
+            out.writeIndex(hexagonIndex, street.parent);
+            out.writeOccupant(street.occupiedByPlayer);
+        }
+
+        // The connections from BuildingNodes to StreetNodes are usually the inverse of the other direction.
+        Map<BuildingNode, Set<StreetNode>> inverse = new HashMap<>();
+        for (StreetNode street : streets) {
+            out.writeVarInt(street.connectedBuildingNodes.size());
+            for (BuildingNode building : street.connectedBuildingNodes) {
+                out.writeIndex(buildingIndex, building);
+                inverse.computeIfAbsent(building, b -> new HashSet<>()).add(street);
+            }
+        }
+        boolean symmetric = true;
+        for (BuildingNode building : buildings) {
+            symmetric &= building.connectedStreetNodes.equals(inverse.getOrDefault(building, Collections.emptySet()));
+        }
+        out.writeBoolean(symmetric);
+        if (!symmetric) {
+            for (BuildingNode building : buildings) {
+                out.writeVarInt(building.connectedStreetNodes.size());
+                for (StreetNode street : building.connectedStreetNodes) {
+                    out.writeIndex(streetIndex, street);
+                }
+            }
+        }
+
+        for (Hexagon hexagon : hexagons) {
+            out.writeList(hexagonIndex, hexagon.hexagons, neighbourSlots(hexagon));
+            out.writeList(streetIndex, hexagon.streetNodes, streetSlots(hexagon));
+            out.writeList(buildingIndex, hexagon.buildingNodes, buildingSlots(hexagon));
+        }
+        for (int i = 0; i < numOfRoads.length; i++) {
+            out.writeInt(numOfRoads[i]);
+            out.writeInt(numOfBuildings[i]);
+        }
+        out.writeVarInt(builtBuildings.size());
+        for (BuildingNode building : builtBuildings) {
+            out.writeIndex(buildingIndex, building);
+        }
+        return new BoardDescriptor(out.toByteArray());
+    }
+
+    /**
+     * Creates the changes of this MapGraph since the given descriptor was created
+     * <p>
+     * Only nodes whose occupancy or settlement size differ from the descriptor are part of the delta, so for a
+     * running game it is much smaller than the full MapGraph.
+     *
+     * @param board a descriptor created by {@link #createBoardDescriptor()} of this MapGraph
+     * @return the changes since the descriptor was created
+     * @throws IllegalArgumentException if the descriptor was created for a different MapGraph
+     * @see BoardDelta
+     * @since 2026-10-18
+     */
+    public BoardDelta createBoardDelta(BoardDescriptor board) {
+        MapGraph base = new MapGraph(board);
+        List<BuildingNode> baseBuildings = sortedNodes(base.buildingNodeHashSet);
+        List<StreetNode> baseStreets = sortedNodes(base.streetNodeHashSet);
+        List<Hexagon> hexagons = sortedHexagons();
+        List<BuildingNode> buildings = sortedNodes(buildingNodeHashSet);
+        List<StreetNode> streets = sortedNodes(streetNodeHashSet);
+        if (baseBuildings.size() != buildings.size() || baseStreets.size() != streets.size() ||
+                base.hexagonHashSet.size() != hexagons.size()) {
+            throw new IllegalArgumentException("BoardDescriptor does not belong to this MapGraph");
+        }
+
+        List<Integer> buildingIndices = new ArrayList<>();
+        List<Integer> buildingOccupants = new ArrayList<>();
+        List<Integer> settlementSizes = new ArrayList<>();
+        for (int i = 0; i < buildings.size(); i++) {
+            BuildingNode building = buildings.get(i);
+            BuildingNode baseBuilding = baseBuildings.get(i);
+            if (!building.uuid.equals(baseBuilding.uuid)) {
+                throw new IllegalArgumentException("BoardDescriptor does not belong to this MapGraph");
+            }
+            if (building.occupiedByPlayer != baseBuilding.occupiedByPlayer ||
+                    building.sizeOfSettlement != baseBuilding.sizeOfSettlement) {
+                buildingIndices.add(i);
+                buildingOccupants.add(building.occupiedByPlayer);
+                settlementSizes.add(building.sizeOfSettlement);
+            }
+        }
+        List<Integer> streetIndices = new ArrayList<>();
+        List<Integer> streetOccupants = new ArrayList<>();
+        for (int i = 0; i < streets.size(); i++) {
+            StreetNode street = streets.get(i);
+            if (!street.uuid.equals(baseStreets.get(i).uuid)) {
+                throw new IllegalArgumentException("BoardDescriptor does not belong to this MapGraph");
+            }
+            if (street.occupiedByPlayer != baseStreets.get(i).occupiedByPlayer) {
+                streetIndices.add(i);
+                streetOccupants.add(street.occupiedByPlayer);
+            }
+        }
+        List<Integer> robberIndices = new ArrayList<>();
+        for (int i = 0; i < hexagons.size(); i++) {
+            if (hexagons.get(i).occupiedByRobber) {
+                robberIndices.add(i);
+            }
+        }
+        Map<BuildingNode, Integer> buildingIndex = indexMap(buildings);
+        int[] built = new int[builtBuildings.size()];
+        for (int i = 0; i < built.length; i++) {
+            built[i] = buildingIndex.get(builtBuildings.get(i));
+        }
+        return new BoardDelta(toIntArray(buildingIndices), toIntArray(buildingOccupants),
+                toIntArray(settlementSizes), toIntArray(streetIndices), toIntArray(streetOccupants),
+                toIntArray(robberIndices), numOfRoads.clone(), numOfBuildings.clone(), built);
+    }
+
+    /**
+     * Applies the changes of a BoardDelta to the nodes of a recreated MapGraph
+     *
+     * @param changes   the changes to apply
+     * @param hexagons  the Hexagons in the order of the BoardDescriptor
+     * @param buildings the BuildingNodes in the order of the BoardDescriptor
+     * @param streets   the StreetNodes in the order of the BoardDescriptor
+     * @since 2026-10-18
+     */
+    private void applyBoardDelta(BoardDelta changes, Hexagon[] hexagons, BuildingNode[] buildings,
+                                 StreetNode[] streets) {
+        for (int i = 0; i < changes.buildingIndices.length; i++) {
+            BuildingNode building = buildings[changes.buildingIndices[i]];
+            building.occupiedByPlayer = changes.buildingOccupants[i];
+            building.sizeOfSettlement = changes.settlementSizes[i];
+        }
+        for (int i = 0; i < changes.streetIndices.length; i++) {
+            streets[changes.streetIndices[i]].occupiedByPlayer = changes.streetOccupants[i];
+        }
+        for (Hexagon hexagon : hexagons) {
+            hexagon.setOccupiedByRobber(false);
+        }
+        for (int robber : changes.robberIndices) {
+            hexagons[robber].setOccupiedByRobber(true);
+        }
+        System.arraycopy(changes.numOfRoads, 0, numOfRoads, 0, numOfRoads.length);
+        System.arraycopy(changes.numOfBuildings, 0, numOfBuildings, 0, numOfBuildings.length);
+        builtBuildings.clear();
+        for (int building : changes.builtBuildings) {
+            builtBuildings.add(buildings[building]);
+        }
+    }
+
+    /**
+     * Returns all Hexagons ordered by UUID
+     *
+     * @return the sorted Hexagons
+     * @since 2026-10-18
+     */
+    private List<Hexagon> sortedHexagons() {
+        List<Hexagon> hexagons = new ArrayList<>(hexagonHashSet);
+        hexagons.sort(Comparator.comparing(Hexagon::getUuid));
+        return hexagons;
+    }
+
+    /**
+     * Returns the nodes ordered by UUID
+     *
+     * @param nodes the nodes to sort
+     * @param <T>   type of the nodes
+     * @return the sorted nodes
+     * @since 2026-10-18
+     */
+    private static <T extends MapGraphNode> List<T> sortedNodes(Set<T> nodes) {
+        List<T> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparing(MapGraphNode::getUuid));
+        return sorted;
+    }
+
+    /**
+     * Returns the neighbour Hexagons of a Hexagon in the order used by the BoardDescriptor
+     *
+     * @param hexagon the Hexagon
+     * @return the neighbours, null where there is none
+     * @since 2026-10-18
+     */
+    private static Hexagon[] neighbourSlots(Hexagon hexagon) {
+        return new Hexagon[]{hexagon.hexTopLeft, hexagon.hexTopRight, hexagon.hexLeft, hexagon.hexRight,
+                hexagon.hexBottomLeft, hexagon.hexBottomRight};
+    }
+
+    /**
+     * Returns the StreetNodes of a Hexagon in the order used by the BoardDescriptor
+     *
+     * @param hexagon the Hexagon
+     * @return the StreetNodes, null where there is none
+     * @since 2026-10-18
+     */
+    private static StreetNode[] streetSlots(Hexagon hexagon) {
+        return new StreetNode[]{hexagon.streetTopLeft, hexagon.streetTopRight, hexagon.streetLeft,
+                hexagon.streetRight, hexagon.streetBottomLeft, hexagon.streetBottomRight};
+    }
+
+    /**
+     * Returns the BuildingNodes of a Hexagon in the order used by the BoardDescriptor
+     *
+     * @param hexagon the Hexagon
+     * @return the BuildingNodes, null where there is none
+     * @since 2026-10-18
+     */
+    private static BuildingNode[] buildingSlots(Hexagon hexagon) {
+        return new BuildingNode[]{hexagon.buildingTop, hexagon.buildingTopLeft, hexagon.buildingTopRight,
+                hexagon.buildingBottomLeft, hexagon.buildingBottomRight, hexagon.buildingBottom};
+    }
+
+    /**
+     * Maps every element of the list to its position in the list
+     *
+     * @param list the list to index
+     * @param <T>  type of the elements
+     * @return map from element to index
+     * @since 2026-10-18
+     */
+    private static <T> Map<T, Integer> indexMap(List<T> list) {
+        Map<T, Integer> indexMap = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            indexMap.put(list.get(i), i);
+        }
+        return indexMap;
+    }
+
+    /**
+     * Returns the element at the index, null for -1
+     *
+     * @param array the array
+     * @param index the index or -1
+     * @param <T>   type of the elements
+     * @return the element or null
+     * @since 2026-10-18
+     */
+    private static <T> T element(T[] array, int index) {
+        return index < 0 ? null : array[index];
+    }
+
+    /**
+     * Converts a list of Integers to an int array
+     *
+     * @param list the list
+     * @return the array
+     * @since 2026-10-18
+     */
+    private static int[] toIntArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Writes the binary encoding of a BoardDescriptor
+     * <p>
+     * Integers are written as variable length integers, references as index + 1 with 0 for null. The sets of a
+     * Hexagon are written as bit mask over its slots if possible.
+     *
+     * @since 2026-10-18
+     */
+    private static class BoardWriter {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+        private boolean sharedUuids;
+        private long previousUuid;
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (value >>> shift));
+            }
+        }
+
+        void writeBoolean(boolean value) {
+            out.write(value ? 1 : 0);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        void writeOccupant(int occupant) {
+            writeVarInt(occupant == 666 ? 0 : ((occupant << 1) ^ (occupant >> 31)) + 1);
+        }
+
+        <T> void writeIndex(Map<T, Integer> indexMap, T element) {
+            if (element == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer index = indexMap.get(element);
+            if (index == null) {
+                throw new IllegalStateException("Element is not part of this MapGraph: " + element);
+            }
+            writeVarInt(index + 1);
+        }
+
+        void writeUuidMode(boolean sharedUuids, long mostSigBits) {
+            this.sharedUuids = sharedUuids;
+            writeBoolean(sharedUuids);
+            if (sharedUuids) {
+                writeLong(mostSigBits);
+            }
+        }
+
+        void resetUuids() {
+            previousUuid = 0;
+        }
+
+        void writeUuid(UUID uuid) {
+            if (sharedUuids) {
+                long delta = uuid.getLeastSignificantBits() - previousUuid;
+                writeVarLong((delta << 1) ^ (delta >> 63));
+                previousUuid = uuid.getLeastSignificantBits();
+            } else {
+                writeLong(uuid.getMostSignificantBits());
+                writeLong(uuid.getLeastSignificantBits());
+            }
+        }
+
+        <T> void writeList(Map<T, Integer> indexMap, Collection<T> elements, T[] slots) {
+            int mask = 0;
+            for (T element : elements) {
+                int slot = 0;
+                while (slot < slots.length && slots[slot] != element) {
+                    slot++;
+                }
+                if (slot == slots.length) {
+                    mask = EXPLICIT_LIST;
+                    break;
+                }
+                mask |= 1 << slot;
+            }
+            out.write(mask);
+            if (mask == EXPLICIT_LIST) {
+                writeVarInt(elements.size());
+                for (T element : elements) {
+                    writeIndex(indexMap, element);
+                }
+            }
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Reads the binary encoding written by {@link BoardWriter}
+     *
+     * @since 2026-10-18
+     */
+    private static class BoardReader {
+
+        private final byte[] data;
+        private int position;
+        private boolean sharedUuids;
+        private long mostSigBits;
+        private long previousUuid;
+
+        BoardReader(byte[] data) {
+            this.data = data;
+        }
+
+        private int readByte() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("BoardDescriptor is truncated");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("BoardDescriptor is corrupted");
+        }
+
+        int readInt() {
+            int raw = readVarInt();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        String readString() {
+            int length = readVarInt();
+            if (position + length > data.length) {
+                throw new IllegalArgumentException("BoardDescriptor is truncated");
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        int readOccupant() {
+            int raw = readVarInt();
+            if (raw == 0) {
+                return 666;
+            }
+            raw--;
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        int readIndex() {
+            return readVarInt() - 1;
+        }
+
+        void readUuidMode() {
+            sharedUuids = readBoolean();
+            if (sharedUuids) {
+                mostSigBits = readLong();
+            }
+        }
+
+        void resetUuids() {
+            previousUuid = 0;
+        }
+
+        UUID readUuid() {
+            if (sharedUuids) {
+                long raw = readVarLong();
+                previousUuid += (raw >>> 1) ^ -(raw & 1);
+                return new UUID(mostSigBits, previousUuid);
+            }
+            return new UUID(readLong(), readLong());
+        }
+
+        <T> void readList(Collection<T> target, T[] elements, T[] slots) {
+            int mask = readByte();
+            if (mask == EXPLICIT_LIST) {
+                int size = readVarInt();
+                for (int i = 0; i < size; i++) {
+                    target.add(element(elements, readIndex()));
+                }
+                return;
+            }
+            for (int slot = 0; slot < slots.length; slot++) {
+                if ((mask & (1 << slot)) != 0) {
+                    target.add(slots[slot]);
+                }
+            }
+        }
+    }
+
     /**
      * Represents a buildable Node of the MapGraph.
      * <p>This class gives us the ability to put StreetNodes and BuildingNodes into the same List by putting in
@@ -610,6 +1539,7 @@ public class MapGraph implements Serializable {
         public final String positionToParent;
         public final Hexagon parent;
         public int occupiedByPlayer = 666;
+        private int id;
 
         //Constructors
 
@@ -641,6 +1571,18 @@ public class MapGraph implements Serializable {
             return uuid;
         }
 
+        /**
+         * Getter for the id
+         * <p>
+         * Ids are dense for every kind of node, so they can be used as index into arrays holding state of the nodes.
+         *
+         * @return the id of this node within its MapGraph
+         * @since 2026-10-18
+         */
+        public int getId() {
+            return id;
+        }
+
         /**
          * Getter for position to parent
          *
@@ -665,6 +1607,8 @@ public class MapGraph implements Serializable {
 
         /**
          * Setter for player that occupied node
+         * <p>
+         * enhanced by resetting the ProductionTable, 2026-10-18
          *
          * @param occupiedByPlayer player that occupied node
          * @author Pieter Vogt
@@ -672,6 +1616,8 @@ public class MapGraph implements Serializable {
          */
         public void setOccupiedByPlayer(int occupiedByPlayer) {
             this.occupiedByPlayer = occupiedByPlayer;
+            // the production of a building without its settlement being built is unknown to the table
+            productionTable = null;
         }
 
         /**
@@ -798,7 +1744,7 @@ public class MapGraph implements Serializable {
 
         /**
          * Builds a road for player with parsed index.
-         * Calls the function to update the matrix with new Street.
+         * Calls the LongestStreetPathCalculator to update the longest paths.
          * <p>
          * enhanced by Marc, Kirstin, 2021-04-23
          *
@@ -809,7 +1755,7 @@ public class MapGraph implements Serializable {
          */
         public boolean buildRoad(int playerIndex) {
             this.occupiedByPlayer = playerIndex;
-            longestStreetPathCalculator.updateMatrixWithNewStreet(this.getUuid(), playerIndex);
+            longestStreetPathCalculator.updateWithNewStreet(this, playerIndex);
             return true;
         }
     }
@@ -965,21 +1911,29 @@ public class MapGraph implements Serializable {
 
         /**
          * Builds or updates settlement for player with parsed index.
-         * Calls the function to update the matrix with new Street.
+         * Calls the LongestStreetPathCalculator to update the longest paths.
          * Increases size settlements.
          * <p>
          * enhanced by Marc, Kirstin, 2021-04-23
+         * <p>
+         * enhanced by updating the ProductionTable, 2026-10-18
          *
          * @param playerIndex index of player
          * @author Pieter Vogt, enhanced by Kirstin Beyer
          * @since 2021-04-15
          */
         public void buildOrDevelopSettlement(int playerIndex) {
+            if (productionTable != null) {
+                productionTable.removeBuilding(this);
+            }
             this.occupiedByPlayer = playerIndex;
             if (sizeOfSettlement == 0) {
-                longestStreetPathCalculator.updateMatrixWithNewBuilding(this, playerIndex);
+                longestStreetPathCalculator.updateWithNewBuilding(this, playerIndex);
             }
             sizeOfSettlement++;
+            if (productionTable != null) {
+                productionTable.addBuilding(this);
+            }
         }
     }
 
@@ -999,7 +1953,8 @@ public class MapGraph implements Serializable {
 
         private final List<String> selfPosition = new ArrayList<>(); //IMPORTANT! If fiddled with in the future: This must never become any sort of Set,because we need to be able to store duplicates!
 
-        private final UUID uuid = UUID.randomUUID();
+        private UUID uuid = nextUuid();
+        private int id;
         private final Set<BuildingNode> buildingNodes = new HashSet<>();
         private final Set<StreetNode> streetNodes = new HashSet<>();
         private final Set<Hexagon> hexagons = new HashSet<>();
@@ -1060,6 +2015,51 @@ public class MapGraph implements Serializable {
             hexagonHashSet.add(this);
         }
 
+        /**
+         * Takes over the state and the connections of a Hexagon of another MapGraph
+         *
+         * @param that         the Hexagon to copy
+         * @param hexagonCopy  the copies of the Hexagons of the other MapGraph
+         * @param buildingCopy the copies of the BuildingNodes of the other MapGraph
+         * @param streetCopy   the copies of the StreetNodes of the other MapGraph
+         * @see MapGraph#copy()
+         * @since 2026-10-18
+         */
+        private void copyFrom(Hexagon that, Map<Hexagon, Hexagon> hexagonCopy,
+                              Map<BuildingNode, BuildingNode> buildingCopy, Map<StreetNode, StreetNode> streetCopy) {
+            uuid = that.uuid;
+            diceToken = that.diceToken;
+            terrainType = that.terrainType;
+            setOccupiedByRobber(that.occupiedByRobber);
+            hexTopLeft = hexagonCopy.get(that.hexTopLeft);
+            hexTopRight = hexagonCopy.get(that.hexTopRight);
+            hexLeft = hexagonCopy.get(that.hexLeft);
+            hexRight = hexagonCopy.get(that.hexRight);
+            hexBottomLeft = hexagonCopy.get(that.hexBottomLeft);
+            hexBottomRight = hexagonCopy.get(that.hexBottomRight);
+            streetLeft = streetCopy.get(that.streetLeft);
+            streetBottomLeft = streetCopy.get(that.streetBottomLeft);
+            streetBottomRight = streetCopy.get(that.streetBottomRight);
+            streetRight = streetCopy.get(that.streetRight);
+            streetTopRight = streetCopy.get(that.streetTopRight);
+            streetTopLeft = streetCopy.get(that.streetTopLeft);
+            buildingTopLeft = buildingCopy.get(that.buildingTopLeft);
+            buildingBottomLeft = buildingCopy.get(that.buildingBottomLeft);
+            buildingBottom = buildingCopy.get(that.buildingBottom);
+            buildingBottomRight = buildingCopy.get(that.buildingBottomRight);
+            buildingTopRight = buildingCopy.get(that.buildingTopRight);
+            buildingTop = buildingCopy.get(that.buildingTop);
+            for (Hexagon hexagon : that.hexagons) {
+                hexagons.add(hexagonCopy.get(hexagon));
+            }
+            for (StreetNode street : that.streetNodes) {
+                streetNodes.add(streetCopy.get(street));
+            }
+            for (BuildingNode building : that.buildingNodes) {
+                buildingNodes.add(buildingCopy.get(building));
+            }
+        }
+
         //GETTER SETTER
 
         /**
@@ -1086,6 +2086,8 @@ public class MapGraph implements Serializable {
 
         /**
          * Setter for terrain type and dice token
+         * <p>
+         * enhanced by resetting the ProductionTable, 2026-10-18
          *
          * @param terrainType type of terrain
          * @param diceToken   dice token
@@ -1095,6 +2097,7 @@ public class MapGraph implements Serializable {
         public void configureTerrainTypeAndDiceToken(int terrainType, int diceToken) {
             this.terrainType = terrainType;
             this.diceToken = diceToken;
+            productionTable = null;
         }
 
         /**
@@ -1394,6 +2397,18 @@ public class MapGraph implements Serializable {
             return uuid;
         }
 
+        /**
+         * Getter for the id
+         * <p>
+         * Ids of Hexagons are dense, so they can be used as index into arrays holding state of the Hexagons.
+         *
+         * @return the id of this Hexagon within its MapGraph
+         * @since 2026-10-18
+         */
+        public int getId() {
+            return id;
+        }
+
         /**
          * Getter for boolean, which shows whether position is occupied by robber or not
          *
@@ -1408,12 +2423,24 @@ public class MapGraph implements Serializable {
         /**
          * Setter for boolean, which shows whether position is occupied by robber or not
          *
+         * <p>
+         * enhanced by remembering the Hexagon for {@link MapGraph#getRobberHexagon()} and updating the
+         * ProductionTable, 2026-10-18
+         *
          * @param occupiedByRobber boolean occupied by robber or not
          * @author Pieter Vogt
          * @since 2021-04-10
          */
         public void setOccupiedByRobber(boolean occupiedByRobber) {
+            if (productionTable != null && this.occupiedByRobber != occupiedByRobber) {
+                productionTable.updateRobber(this, occupiedByRobber);
+            }
             this.occupiedByRobber = occupiedByRobber;
+            if (occupiedByRobber) {
+                robberHexagon = this;
+            } else if (robberHexagon == this) {
+                robberHexagon = null;
+            }
         }
 
         /**
@@ -1431,72 +2458,72 @@ public class MapGraph implements Serializable {
             //First checking streetNodes...
             if (this.streetTopLeft == null && hexTopLeft != null) {
                 if (hexTopLeft.getStreetBottomRight() == null) {
-                    this.streetTopLeft = new StreetNode("topLeft", this, UUID.randomUUID());
+                    this.streetTopLeft = new StreetNode("topLeft", this, nextUuid());
                 } else {
                     this.streetTopLeft = hexTopLeft.getStreetBottomRight();
                 }
             } else {
-                this.streetTopLeft = new StreetNode("topLeft", this, UUID.randomUUID());
+                this.streetTopLeft = new StreetNode("topLeft", this, nextUuid());
             }
 
 
             if (this.streetTopRight == null && hexTopRight != null) {
 
                 if (hexTopRight.getStreetBottomLeft() == null) {
-                    this.streetTopRight = new StreetNode("topRight", this, UUID.randomUUID());
+                    this.streetTopRight = new StreetNode("topRight", this, nextUuid());
                 } else {
                     this.streetTopRight = hexTopRight.getStreetBottomLeft();
                 }
             } else {
-                this.streetTopRight = new StreetNode("topRight", this, UUID.randomUUID());
+                this.streetTopRight = new StreetNode("topRight", this, nextUuid());
             }
 
 
             if (streetLeft == null && hexLeft != null) {
 
                 if (hexLeft.getStreetRight() == null) {
-                    this.streetLeft = new StreetNode("left", this, UUID.randomUUID());
+                    this.streetLeft = new StreetNode("left", this, nextUuid());
                 } else {
                     this.streetLeft = hexLeft.getStreetRight();
                 }
             } else {
-                this.streetLeft = new StreetNode("left", this, UUID.randomUUID());
+                this.streetLeft = new StreetNode("left", this, nextUuid());
             }
 
 
             if (streetRight == null && hexRight != null) {
 
                 if (hexRight.getStreetLeft() == null) {
-                    this.streetRight = new StreetNode("right", this, UUID.randomUUID());
+                    this.streetRight = new StreetNode("right", this, nextUuid());
                 } else {
                     this.streetRight = hexRight.getStreetLeft();
                 }
             } else {
-                this.streetRight = new StreetNode("right", this, UUID.randomUUID());
+                this.streetRight = new StreetNode("right", this, nextUuid());
             }
 
 
             if (streetBottomLeft == null && hexBottomLeft != null) {
 
                 if (hexBottomLeft.getStreetTopRight() == null) {
-                    this.streetBottomLeft = new StreetNode("bottomLeft", this, UUID.randomUUID());
+                    this.streetBottomLeft = new StreetNode("bottomLeft", this, nextUuid());
                 } else {
                     this.streetBottomLeft = hexBottomLeft.getStreetTopRight();
                 }
             } else {
-                this.streetBottomLeft = new StreetNode("bottomLeft", this, UUID.randomUUID());
+                this.streetBottomLeft = new StreetNode("bottomLeft", this, nextUuid());
             }
 
 
             if (streetBottomRight == null && hexBottomRight != null) {
 
                 if (hexBottomRight.getStreetTopLeft() == null) {
-                    this.streetBottomRight = new StreetNode("bottomRight", this, UUID.randomUUID());
+                    this.streetBottomRight = new StreetNode("bottomRight", this, nextUuid());
                 } else {
                     this.streetBottomRight = hexBottomRight.getStreetTopLeft();
                 }
             } else {
-                this.streetBottomRight = new StreetNode("bottomRight", this, UUID.randomUUID());
+                this.streetBottomRight = new StreetNode("bottomRight", this, nextUuid());
             }
 
 
@@ -1504,13 +2531,13 @@ public class MapGraph implements Serializable {
             if (buildingTop == null && (hexTopLeft != null || hexTopRight != null)) {
                 if (hexTopLeft != null && hexTopRight == null) {
                     if (hexTopLeft.getBuildingBottomRight() == null) {
-                        this.buildingTop = new BuildingNode("top", this, UUID.randomUUID());
+                        this.buildingTop = new BuildingNode("top", this, nextUuid());
                     } else {
                         this.buildingTop = hexTopLeft.getBuildingBottomRight();
                     }
                 } else if (hexTopLeft == null && hexTopRight != null) {
                     if (hexTopRight.getBuildingBottomLeft() == null) {
-                        this.buildingTop = new BuildingNode("top", this, UUID.randomUUID());
+                        this.buildingTop = new BuildingNode("top", this, nextUuid());
                     } else {
                         this.buildingTop = hexTopRight.getBuildingBottomLeft();
                     }
@@ -1520,11 +2547,11 @@ public class MapGraph implements Serializable {
                     } else if (hexTopRight.getBuildingBottomLeft() != null) {
                         this.buildingTop = hexTopRight.getBuildingBottomLeft();
                     } else {
-                        this.buildingTop = new BuildingNode("top", this, UUID.randomUUID());
+                        this.buildingTop = new BuildingNode("top", this, nextUuid());
                     }
                 }
             } else {
-                this.buildingTop = new BuildingNode("top", this, UUID.randomUUID());
+                this.buildingTop = new BuildingNode("top", this, nextUuid());
             }
 
 
@@ -1532,13 +2559,13 @@ public class MapGraph implements Serializable {
             if (buildingTopLeft == null && (hexLeft != null || hexTopLeft != null)) {
                 if (hexLeft != null && hexTopLeft == null) {
                     if (hexLeft.getBuildingTopRight() == null) {
-                        this.buildingTopLeft = new BuildingNode("topLeft", this, UUID.randomUUID());
+                        this.buildingTopLeft = new BuildingNode("topLeft", this, nextUuid());
                     } else {
                         this.buildingTopLeft = hexLeft.getBuildingTopRight();
                     }
                 } else if (hexLeft == null && hexTopLeft != null) {
                     if (hexTopLeft.getBuildingBottom() == null) {
-                        this.buildingTopLeft = new BuildingNode("topLeft", this, UUID.randomUUID());
+                        this.buildingTopLeft = new BuildingNode("topLeft", this, nextUuid());
                     } else {
                         this.buildingTopLeft = hexTopLeft.getBuildingBottom();
                     }
@@ -1548,24 +2575,24 @@ public class MapGraph implements Serializable {
                     } else if (hexTopLeft.getBuildingBottom() != null) {
                         this.buildingTopLeft = hexTopLeft.getBuildingBottom();
                     } else {
-                        this.buildingTopLeft = new BuildingNode("topLeft", this, UUID.randomUUID());
+                        this.buildingTopLeft = new BuildingNode("topLeft", this, nextUuid());
                     }
                 }
             } else {
-                this.buildingTopLeft = new BuildingNode("topLeft", this, UUID.randomUUID());
+                this.buildingTopLeft = new BuildingNode("topLeft", this, nextUuid());
             }
 
             //Für buildingTopRight, vergl. mit hexRight und hexTopRight
             if (buildingTopRight == null && (hexRight != null || hexTopRight != null)) {
                 if (hexRight != null && hexTopRight == null) {
                     if (hexRight.getBuildingTopLeft() == null) {
-                        this.buildingTopRight = new BuildingNode("topRight", this, UUID.randomUUID());
+                        this.buildingTopRight = new BuildingNode("topRight", this, nextUuid());
                     } else {
                         this.buildingTopRight = hexRight.getBuildingTopLeft();
                     }
                 } else if (hexRight == null && hexTopRight != null) {
                     if (hexTopRight.getBuildingBottom() == null) {
-                        this.buildingTopRight = new BuildingNode("topRight", this, UUID.randomUUID());
+                        this.buildingTopRight = new BuildingNode("topRight", this, nextUuid());
                     } else {
                         this.buildingTopRight = hexTopRight.getBuildingBottom();
                     }
@@ -1575,24 +2602,24 @@ public class MapGraph implements Serializable {
                     } else if (hexTopRight.getBuildingBottom() != null) {
                         this.buildingTopRight = hexTopRight.getBuildingBottom();
                     } else {
-                        this.buildingTopRight = new BuildingNode("topRight", this, UUID.randomUUID());
+                        this.buildingTopRight = new BuildingNode("topRight", this, nextUuid());
                     }
                 }
             } else {
-                this.buildingTopRight = new BuildingNode("topRight", this, UUID.randomUUID());
+                this.buildingTopRight = new BuildingNode("topRight", this, nextUuid());
             }
 
             //Für buildingBottom, vergl. mit hexBottomLeft und hexBottomRight
             if (buildingBottom == null && (hexBottomLeft != null || hexBottomRight != null)) {
                 if (hexBottomLeft != null && hexBottomRight == null) {
                     if (hexBottomLeft.getBuildingTopRight() == null) {
-                        this.buildingBottom = new BuildingNode("bottom", this, UUID.randomUUID());
+                        this.buildingBottom = new BuildingNode("bottom", this, nextUuid());
                     } else {
                         this.buildingBottom = hexBottomLeft.getBuildingTopRight();
                     }
                 } else if (hexBottomLeft == null && hexBottomRight != null) {
                     if (hexBottomRight.getBuildingTopLeft() == null) {
-                        this.buildingBottom = new BuildingNode("bottom", this, UUID.randomUUID());
+                        this.buildingBottom = new BuildingNode("bottom", this, nextUuid());
                     } else {
                         this.buildingBottom = hexBottomRight.getBuildingTopLeft();
                     }
@@ -1602,24 +2629,24 @@ public class MapGraph implements Serializable {
                     } else if (hexBottomRight.getBuildingTopLeft() != null) {
                         this.buildingBottom = hexBottomRight.getBuildingTopLeft();
                     } else {
-                        this.buildingBottom = new BuildingNode("bottom", this, UUID.randomUUID());
+                        this.buildingBottom = new BuildingNode("bottom", this, nextUuid());
                     }
                 }
             } else {
-                this.buildingBottom = new BuildingNode("bottom", this, UUID.randomUUID());
+                this.buildingBottom = new BuildingNode("bottom", this, nextUuid());
             }
 
             //Für buildingBottomLeft, vergl. mit hexLeft und hexBottomLeft
             if (buildingBottomLeft == null && (hexLeft != null || hexBottomLeft != null)) {
                 if (hexLeft != null && hexBottomLeft == null) {
                     if (hexLeft.getBuildingBottomRight() == null) {
-                        this.buildingBottomLeft = new BuildingNode("bottomLeft", this, UUID.randomUUID());
+                        this.buildingBottomLeft = new BuildingNode("bottomLeft", this, nextUuid());
                     } else {
                         this.buildingBottomLeft = hexLeft.getBuildingBottomRight();
                     }
                 } else if (hexLeft == null && hexBottomLeft != null) {
                     if (hexBottomLeft.getBuildingTop() == null) {
-                        this.buildingBottomLeft = new BuildingNode("bottomLeft", this, UUID.randomUUID());
+                        this.buildingBottomLeft = new BuildingNode("bottomLeft", this, nextUuid());
                     } else {
                         this.buildingBottomLeft = hexBottomLeft.getBuildingTop();
                     }
@@ -1629,24 +2656,24 @@ public class MapGraph implements Serializable {
                     } else if (hexBottomLeft.getBuildingTop() != null) {
                         this.buildingBottomLeft = hexBottomLeft.getBuildingTop();
                     } else {
-                        this.buildingBottomLeft = new BuildingNode("bottomLeft", this, UUID.randomUUID());
+                        this.buildingBottomLeft = new BuildingNode("bottomLeft", this, nextUuid());
                     }
                 }
             } else {
-                this.buildingBottomLeft = new BuildingNode("bottomLeft", this, UUID.randomUUID());
+                this.buildingBottomLeft = new BuildingNode("bottomLeft", this, nextUuid());
             }
 
             //Für buildingBottomRight, vergl. mit hexBottomRight und hexRight
             if (buildingBottomRight == null && (hexBottomRight != null || hexRight != null)) {
                 if (hexBottomRight != null && hexRight == null) {
                     if (hexBottomRight.getBuildingTop() == null) {
-                        this.buildingBottomRight = new BuildingNode("bottomRight", this, UUID.randomUUID());
+                        this.buildingBottomRight = new BuildingNode("bottomRight", this, nextUuid());
                     } else {
                         this.buildingBottomRight = hexBottomRight.getBuildingTop();
                     }
                 } else if (hexBottomRight == null && hexRight != null) {
                     if (hexRight.getBuildingBottomLeft() == null) {
-                        this.buildingBottomRight = new BuildingNode("bottomRight", this, UUID.randomUUID());
+                        this.buildingBottomRight = new BuildingNode("bottomRight", this, nextUuid());
                     } else {
                         this.buildingBottomRight = hexRight.getBuildingBottomLeft();
                     }
@@ -1656,11 +2683,11 @@ public class MapGraph implements Serializable {
                     } else if (hexRight.getBuildingBottomLeft() != null) {
                         this.buildingBottomRight = hexRight.getBuildingBottomLeft();
                     } else {
-                        this.buildingBottomRight = new BuildingNode("bottomRight", this, UUID.randomUUID());
+                        this.buildingBottomRight = new BuildingNode("bottomRight", this, nextUuid());
                     }
                 }
             } else {
-                this.buildingBottomRight = new BuildingNode("bottomRight", this, UUID.randomUUID());
+                this.buildingBottomRight = new BuildingNode("bottomRight", this, nextUuid());
             }
 
             updateAllLists();
@@ -1674,19 +2701,19 @@ public class MapGraph implements Serializable {
          * @since 2021-04-08
          */
         public void generateNodesMiddle() {
-            this.streetTopLeft = new StreetNode("topLeft", this, UUID.randomUUID());
-            this.streetBottomLeft = new StreetNode("bottomLeft", this, UUID.randomUUID());
-            this.streetTopRight = new StreetNode("topRight", this, UUID.randomUUID());
-            this.streetLeft = new StreetNode("left", this, UUID.randomUUID());
-            this.streetRight = new StreetNode("right", this, UUID.randomUUID());
-            this.streetBottomRight = new StreetNode("bottomRight", this, UUID.randomUUID());
-
-            this.buildingTopLeft = new BuildingNode("topLeft", this, UUID.randomUUID());
-            this.buildingTopRight = new BuildingNode("topRight", this, UUID.randomUUID());
-            this.buildingBottomLeft = new BuildingNode("bottomLeft", this, UUID.randomUUID());
-            this.buildingBottomRight = new BuildingNode("bottomRight", this, UUID.randomUUID());
-            this.buildingTop = new BuildingNode("top", this, UUID.randomUUID());
-            this.buildingBottom = new BuildingNode("bottom", this, UUID.randomUUID());
+            this.streetTopLeft = new StreetNode("topLeft", this, nextUuid());
+            this.streetBottomLeft = new StreetNode("bottomLeft", this, nextUuid());
+            this.streetTopRight = new StreetNode("topRight", this, nextUuid());
+            this.streetLeft = new StreetNode("left", this, nextUuid());
+            this.streetRight = new StreetNode("right", this, nextUuid());
+            this.streetBottomRight = new StreetNode("bottomRight", this, nextUuid());
+
+            this.buildingTopLeft = new BuildingNode("topLeft", this, nextUuid());
+            this.buildingTopRight = new BuildingNode("topRight", this, nextUuid());
+            this.buildingBottomLeft = new BuildingNode("bottomLeft", this, nextUuid());
+            this.buildingBottomRight = new BuildingNode("bottomRight", this, nextUuid());
+            this.buildingTop = new BuildingNode("top", this, nextUuid());
+            this.buildingBottom = new BuildingNode("bottom", this, nextUuid());
 
             updateAllLists();
         }
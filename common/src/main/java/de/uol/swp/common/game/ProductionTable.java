@@ -0,0 +1,142 @@
+package de.uol.swp.common.game;
+
+import java.util.Set;
+
+/**
+ * Class that keeps track of the resources the players receive for every dice value
+ * <p>
+ * For every dice value the table holds the amount of every resource every player receives, which is the sum of the
+ * sizes of the settlements of the player at the Hexagons with that dice token. Hexagons occupied by the robber do not
+ * produce anything.
+ * <p>
+ * The MapGraph updates the table whenever a settlement is built or developed and whenever the robber moves, so a roll
+ * only has to look up the production of the rolled dice value instead of walking all Hexagons and BuildingNodes.
+ *
+ * @see MapGraph#getProductionTable()
+ * @since 2026-10-18
+ */
+public class ProductionTable {
+
+    public static final int PLAYERS = 4;
+
+    private static final int DICE_VALUES = 13;
+
+    // the Hexagons next to every building
+    private final MapGraph.Hexagon[][] hexagonsOfBuilding;
+    private final int[][][] production = new int[DICE_VALUES][PLAYERS][Resource.COUNT];
+
+    /**
+     * Constructor
+     * <p>
+     * Collects the Hexagons next to every building and adds the production of all settlements already built. The ids
+     * of the nodes have to be assigned already.
+     *
+     * @param hexagonHashSet      all Hexagons of the MapGraph
+     * @param buildingNodeHashSet all building nodes of the MapGraph
+     * @since 2026-10-18
+     */
+    ProductionTable(Set<MapGraph.Hexagon> hexagonHashSet, Set<MapGraph.BuildingNode> buildingNodeHashSet) {
+        int[] count = new int[buildingNodeHashSet.size()];
+        for (MapGraph.Hexagon hexagon : hexagonHashSet) {
+            for (MapGraph.BuildingNode building : hexagon.getBuildingNodes()) {
+                count[building.getId()]++;
+            }
+        }
+        hexagonsOfBuilding = new MapGraph.Hexagon[count.length][];
+        for (int building = 0; building < count.length; building++) {
+            hexagonsOfBuilding[building] = new MapGraph.Hexagon[count[building]];
+            count[building] = 0;
+        }
+        for (MapGraph.Hexagon hexagon : hexagonHashSet) {
+            for (MapGraph.BuildingNode building : hexagon.getBuildingNodes()) {
+                hexagonsOfBuilding[building.getId()][count[building.getId()]++] = hexagon;
+            }
+        }
+        for (MapGraph.BuildingNode building : buildingNodeHashSet) {
+            addBuilding(building);
+        }
+    }
+
+    /**
+     * Returns what every player receives for a dice value
+     * <p>
+     * The first index of the returned array is the index of the player, the second one the ordinal of the
+     * {@link Resource}, so every row is a resource vector of the Inventory. The array is a copy, so it may be changed
+     * by the caller.
+     *
+     * @param eyes the rolled dice value
+     * @return the amount of every resource for every player, all 0 if nothing is produced for the dice value
+     * @since 2026-10-18
+     */
+    public int[][] getProduction(int eyes) {
+        int[][] result = new int[PLAYERS][Resource.COUNT];
+        if (eyes >= 0 && eyes < DICE_VALUES) {
+            for (int player = 0; player < PLAYERS; player++) {
+                System.arraycopy(production[eyes][player], 0, result[player], 0, Resource.COUNT);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the production of a building to the table
+     * <p>
+     * Called after a settlement was built or developed.
+     *
+     * @param building the building
+     * @since 2026-10-18
+     */
+    void addBuilding(MapGraph.BuildingNode building) {
+        updateBuilding(building, 1);
+    }
+
+    /**
+     * Removes the production of a building from the table
+     * <p>
+     * Called before a settlement is built or developed, so the old size is removed.
+     *
+     * @param building the building
+     * @since 2026-10-18
+     */
+    void removeBuilding(MapGraph.BuildingNode building) {
+        updateBuilding(building, -1);
+    }
+
+    /**
+     * Updates the table after the robber was placed on or removed from a Hexagon
+     *
+     * @param hexagon          the Hexagon
+     * @param occupiedByRobber true if the robber was placed on the Hexagon
+     * @since 2026-10-18
+     */
+    void updateRobber(MapGraph.Hexagon hexagon, boolean occupiedByRobber) {
+        for (MapGraph.BuildingNode building : hexagon.getBuildingNodes()) {
+            update(hexagon, building, occupiedByRobber ? -1 : 1);
+        }
+    }
+
+    private void updateBuilding(MapGraph.BuildingNode building, int sign) {
+        for (MapGraph.Hexagon hexagon : hexagonsOfBuilding[building.getId()]) {
+            if (!hexagon.isOccupiedByRobber()) {
+                update(hexagon, building, sign);
+            }
+        }
+    }
+
+    /**
+     * Adds or removes what a building receives from a Hexagon
+     *
+     * @param hexagon  the Hexagon
+     * @param building the building next to the Hexagon
+     * @param sign     1 to add, -1 to remove the production
+     * @since 2026-10-18
+     */
+    private void update(MapGraph.Hexagon hexagon, MapGraph.BuildingNode building, int sign) {
+        Resource resource = Resource.ofTerrainType(hexagon.getTerrainType());
+        int eyes = hexagon.getDiceToken();
+        int player = building.getOccupiedByPlayer();
+        if (resource != null && eyes >= 0 && eyes < DICE_VALUES && player >= 0 && player < PLAYERS) {
+            production[eyes][player][resource.ordinal()] += sign * building.getSizeOfSettlement();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package de.uol.swp.common.game;
+
+/**
+ * The resource cards of the game
+ * <p>
+ * The ordinal of a resource is its index in the resource vectors of the Inventory and the ProductionTable, the name
+ * is the one used by the messages and the string keyed methods of the Inventory.
+ *
+ * @see Inventory
+ * @since 2026-10-18
+ */
+public enum Resource {
+
+    LUMBER("Lumber"),
+    BRICK("Brick"),
+    GRAIN("Grain"),
+    WOOL("Wool"),
+    ORE("Ore");
+
+    /**
+     * Number of resources, the length of every resource vector
+     */
+    public static final int COUNT = 5;
+
+    private static final Resource[] VALUES = values();
+    //"Ocean" = 0; "Forest" = 1; "Farmland" = 2; "Grassland" = 3; "Hillside" = 4; "Mountain" = 5; "Desert" = 6;
+    private static final Resource[] BY_TERRAIN_TYPE = {null, LUMBER, GRAIN, WOOL, BRICK, ORE, null};
+
+    private final String name;
+
+    Resource(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the name of the resource
+     *
+     * @return the name, e.g. "Lumber"
+     * @since 2026-10-18
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the resource with the index
+     *
+     * @param index the ordinal of the resource
+     * @return the resource
+     * @since 2026-10-18
+     */
+    public static Resource of(int index) {
+        return VALUES[index];
+    }
+
+    /**
+     * Returns the resource with the name
+     *
+     * @param name the name of the resource, e.g. "Lumber"
+     * @return the resource or null if there is none with the name
+     * @since 2026-10-18
+     */
+    public static Resource fromName(String name) {
+        if (name != null) {
+            for (Resource resource : VALUES) {
+                if (resource.name.equals(name)) {
+                    return resource;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the resource produced by a terrain type of a Hexagon
+     *
+     * @param terrainType the terrain type of the Hexagon
+     * @return the resource or null if the terrain does not produce anything
+     * @since 2026-10-18
+     */
+    public static Resource ofTerrainType(int terrainType) {
+        return terrainType >= 0 && terrainType < BY_TERRAIN_TYPE.length ? BY_TERRAIN_TYPE[terrainType] : null;
+    }
+}
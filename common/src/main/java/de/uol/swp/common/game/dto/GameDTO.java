@@ -3,9 +3,11 @@ package de.uol.swp.common.game.dto;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
 
+import de.uol.swp.common.game.BoardDescriptor;
 import de.uol.swp.common.game.DevelopmentCardDeck;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.Inventory;
@@ -32,11 +34,12 @@ public class GameDTO implements Game {
     private final ArrayList<User> userArrayList = new ArrayList<>();
     private final ArrayList<User> aiUsers = new ArrayList<>();
     private final Set<User> usersInLobby;
-    private final DevelopmentCardDeck developmentCardDeck = new DevelopmentCardDeck();
+    private final DevelopmentCardDeck developmentCardDeck;
     private final ArrayList<MapGraph.BuildingNode> lastBuildingOfOpeningTurn = new ArrayList<>();
     private final HashMap<String, Trade> tradeList = new HashMap<>();
     private final HashMap<String, Integer> boughtDevCardsThisTurn = new HashMap<>();
     private MapGraph mapGraph;
+    private transient BoardDescriptor boardDescriptor;
     private int overallTurns = 0; //This just counts +1 every time a player ends his turn. (good for Summary screen for example)
     private User owner;
     private int amountOfPlayers = 0;
@@ -73,9 +76,100 @@ public class GameDTO implements Game {
         this.owner = creator;
         this.users.add(creator);
         this.usersInLobby = usersInLobby;
+        this.developmentCardDeck = new DevelopmentCardDeck();
         this.mapGraph = new MapGraph(gameFieldVariant);
     }
 
+    /**
+     * Copy constructor used by {@link #createSimulationCopy()}
+     * <p>
+     * Copies the MapGraph, the inventories, the development card deck and all collections that can change during a
+     * turn. Users and trades are immutable for the simulation and therefore shared with the original game.
+     *
+     * @param that the game to copy
+     * @since 2026-10-18
+     */
+    private GameDTO(GameDTO that) {
+        this.name = that.name;
+        this.owner = that.owner;
+        this.users.addAll(that.users);
+        this.userArrayList.addAll(that.userArrayList);
+        this.aiUsers.addAll(that.aiUsers);
+        this.usersInLobby = that.usersInLobby == null ? null : new HashSet<>(that.usersInLobby);
+        this.developmentCardDeck = that.developmentCardDeck.copy();
+        this.tradeList.putAll(that.tradeList);
+        this.boughtDevCardsThisTurn.putAll(that.boughtDevCardsThisTurn);
+        this.mapGraph = that.mapGraph.copy();
+        that.lastBuildingOfOpeningTurn
+                .forEach(building -> lastBuildingOfOpeningTurn.add(mapGraph.getBuildingNode(building.getUuid())));
+        this.overallTurns = that.overallTurns;
+        this.amountOfPlayers = that.amountOfPlayers;
+        this.startingTurns = that.startingTurns;
+        this.startingPhase = that.startingPhase;
+        this.hasConcluded = that.hasConcluded;
+        this.countingUp = that.countingUp;
+        this.lastPlayerSecondTurn = that.lastPlayerSecondTurn;
+        this.playedCardThisTurn = that.playedCardThisTurn;
+        this.lastRolledDiceValue = that.lastRolledDiceValue;
+        this.currentCard = that.currentCard;
+        this.isTest = that.isTest;
+        this.rolledDiceThisTurn = that.rolledDiceThisTurn;
+        this.inventory1 = copyOf(that.inventory1);
+        this.inventory2 = copyOf(that.inventory2);
+        this.inventory3 = copyOf(that.inventory3);
+        this.inventory4 = copyOf(that.inventory4);
+        this.bankInventory = copyOf(that.bankInventory);
+        this.inventoryWithLargestArmy = copyOf(that, that.inventoryWithLargestArmy);
+        this.inventoryWithLongestRoad = copyOf(that, that.inventoryWithLongestRoad);
+    }
+
+    /**
+     * Creates a copy of this game for simulations
+     * <p>
+     * The copy can be changed freely, e.g. by the AI trying out its moves, without changing this game. It replaces
+     * copying the game by serializing it, which takes milliseconds, by copying only the state that can change.
+     *
+     * @return the copy of this game
+     * @since 2026-10-18
+     */
+    public GameDTO createSimulationCopy() {
+        return new GameDTO(this);
+    }
+
+    /**
+     * Copies an inventory that may be null
+     *
+     * @param inventory the inventory to copy
+     * @return the copy or null
+     * @since 2026-10-18
+     */
+    private static Inventory copyOf(Inventory inventory) {
+        return inventory == null ? null : inventory.copy();
+    }
+
+    /**
+     * Returns the copy of an inventory of the original game, so references between inventories are kept
+     *
+     * @param that      the original game
+     * @param inventory an inventory of the original game or null
+     * @return the corresponding inventory of this game or null
+     * @since 2026-10-18
+     */
+    private Inventory copyOf(GameDTO that, Inventory inventory) {
+        if (inventory == null) {
+            return null;
+        } else if (inventory == that.inventory1) {
+            return inventory1;
+        } else if (inventory == that.inventory2) {
+            return inventory2;
+        } else if (inventory == that.inventory3) {
+            return inventory3;
+        } else if (inventory == that.inventory4) {
+            return inventory4;
+        }
+        return inventory.copy();
+    }
+
     @Override
     public String getName() {
         return name;
@@ -361,6 +455,15 @@ public class GameDTO implements Game {
     @Override
     public void setMapGraph(MapGraph mapGraph) {
         this.mapGraph = mapGraph;
+        this.boardDescriptor = null;
+    }
+
+    @Override
+    public BoardDescriptor getBoardDescriptor() {
+        if (boardDescriptor == null) {
+            boardDescriptor = mapGraph.createBoardDescriptor();
+        }
+        return boardDescriptor;
     }
 
     @Override
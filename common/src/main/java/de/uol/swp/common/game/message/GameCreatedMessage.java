@@ -3,6 +3,7 @@ package de.uol.swp.common.game.message;
 import java.util.ArrayList;
 import java.util.Set;
 
+import de.uol.swp.common.game.BoardDescriptor;
 import de.uol.swp.common.game.MapGraph;
 import de.uol.swp.common.user.User;
 import de.uol.swp.common.user.UserDTO;
@@ -15,7 +16,8 @@ import de.uol.swp.common.user.UserDTO;
  * @since 2021-01-15
  */
 public class GameCreatedMessage extends AbstractGameMessage {
-    private final MapGraph mapGraph;
+    private final BoardDescriptor boardDescriptor;
+    private transient MapGraph mapGraph;
     private final ArrayList<User> users;
     private final Set<User> humans;
     private final String gameFieldVariant;
@@ -28,7 +30,7 @@ public class GameCreatedMessage extends AbstractGameMessage {
      * @since 2021-05-27
      */
     public GameCreatedMessage() {
-        this.mapGraph = null;
+        this.boardDescriptor = null;
         this.users = null;
         this.humans = null;
         this.gameFieldVariant = null;
@@ -39,20 +41,22 @@ public class GameCreatedMessage extends AbstractGameMessage {
      * Constructor
      * <p>
      * enhanced by Alexander Losse, Ricardo Mook 2021-03-05
+     * <p>
+     * The play field is sent as BoardDescriptor, which is created once per game, instead of the whole MapGraph.
      *
      * @param name             the name of the game
      * @param user             the user that received this message
-     * @param mapGraph         the mapGraph of the game
+     * @param boardDescriptor  the descriptor of the game field
      * @param users            the list of all users in the game
      * @param humans           the human players in this game
      * @param gameFieldVariant the variant of the game field
      * @param gameOwner        the owner of this game
      * @since 2021-01-07
      */
-    public GameCreatedMessage(String name, UserDTO user, MapGraph mapGraph, ArrayList<User> users, Set<User> humans,
-                              String gameFieldVariant, User gameOwner) {
+    public GameCreatedMessage(String name, UserDTO user, BoardDescriptor boardDescriptor, ArrayList<User> users,
+                              Set<User> humans, String gameFieldVariant, User gameOwner) {
         super(name, user);
-        this.mapGraph = mapGraph;
+        this.boardDescriptor = boardDescriptor;
         this.users = users;
         this.humans = humans;
         this.gameFieldVariant = gameFieldVariant;
@@ -61,14 +65,29 @@ public class GameCreatedMessage extends AbstractGameMessage {
 
     /**
      * getter for the mapgraph
+     * <p>
+     * The MapGraph is recreated from the BoardDescriptor on first access.
      *
      * @return the mapgraph
      * @author Pieter Vogt
      */
     public MapGraph getMapGraph() {
+        if (mapGraph == null && boardDescriptor != null) {
+            mapGraph = new MapGraph(boardDescriptor);
+        }
         return mapGraph;
     }
 
+    /**
+     * getter for the descriptor of the game field
+     *
+     * @return the descriptor of the game field
+     * @since 2026-10-18
+     */
+    public BoardDescriptor getBoardDescriptor() {
+        return boardDescriptor;
+    }
+
     /**
      * getter for the list of users.
      *
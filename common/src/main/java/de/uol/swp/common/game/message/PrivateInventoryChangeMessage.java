@@ -2,27 +2,42 @@ package de.uol.swp.common.game.message;
 
 import java.util.HashMap;
 
+import de.uol.swp.common.game.Inventory;
 import de.uol.swp.common.user.User;
 import de.uol.swp.common.user.UserDTO;
 
 /**
  * Message send to an specific user, when an inventory is updated
+ * <p>
+ * The message only contains the fields of the private view that changed since the last message, unless it is
+ * complete, see {@link Inventory#viewDelta(int[], int[])}.
+ * <p>
+ * enhanced by sending the compact private view of the inventory, 2026-10-18
+ * <p>
+ * enhanced by sending only the changed fields, 2026-10-18
  *
  * @author Iskander Yusupov, Anton Nikiforov
  * @since 2021-04-08
  */
 public class PrivateInventoryChangeMessage extends AbstractGameMessage {
 
-    private final HashMap<String, Integer> privateInventory;
+    private final int[] privateInventory;
+    private transient HashMap<String, Integer> privateInventoryView;
 
     /**
      * Default constructor
+     * <p>
+     * enhanced by taking the delta of the compact private view, 2026-10-18
      *
+     * @param gameName         the name of the game
+     * @param user             the owner of the inventory
+     * @param privateInventory the delta created by {@link Inventory#flushPrivateViewDelta()} or
+     *                         {@link Inventory#viewDelta(int[], int[])}
      * @author Iskander Yusupov, Anton Nikiforov
      * @since 2021-04-08
      */
 
-    public PrivateInventoryChangeMessage(String gameName, User user, HashMap<String, Integer> privateInventory) {
+    public PrivateInventoryChangeMessage(String gameName, User user, int[] privateInventory) {
         super(gameName, (UserDTO) user);
         this.privateInventory = privateInventory;
 
@@ -30,12 +45,66 @@ public class PrivateInventoryChangeMessage extends AbstractGameMessage {
 
     /**
      * Getter for the hashMap of the privateInventory
+     * <p>
+     * enhanced by creating the HashMap from the compact view once, 2026-10-18
+     * <p>
+     * enhanced by only containing the fields sent with the message, 2026-10-18
      *
-     * @return the HashMap representing the private View of the user
+     * @return the HashMap representing the changed fields of the private View of the user, all of them if the
+     * message is complete
      * @author Marc Hermes
      * @since 2021-05-03
      */
     public HashMap<String, Integer> getPrivateInventory() {
+        if (privateInventoryView == null) {
+            privateInventoryView = Inventory.privateViewOfDelta(privateInventory);
+        }
+        return privateInventoryView;
+    }
+
+    /**
+     * Getter for the delta of the compact private view of the inventory
+     *
+     * @return the delta as created by {@link Inventory#viewDelta(int[], int[])}
+     * @since 2026-10-18
+     */
+    public int[] getPrivateInventoryDelta() {
         return privateInventory;
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks if the message contains every field of the private view
+     *
+     * @return true if the message does not depend on the previous messages
+     * @since 2026-10-18
+     */
+    public boolean isComplete() {
+        return Inventory.isCompleteDelta(privateInventory, Inventory.PRIVATE_VIEW_SIZE);
+    }
+
+    /**
+     * Applies the changes of the message to the private view known by the client
+     *
+     * @param privateView the compact private view known before the message, null if there is none
+     * @return the new compact private view, null if there is no previous view and the message is not complete
+     * @since 2026-10-18
+     */
+    public int[] applyTo(int[] privateView) {
+        return Inventory.applyViewDelta(privateView, privateInventory, Inventory.PRIVATE_VIEW_SIZE);
+    }
+
+    /**
+     * Combines this message with the one sent after it
+     * <p>
+     * Used by the server to send one message instead of both to a client that
+     * cannot keep up.
+     *
+     * @param newer the message sent after this one for the same game and user
+     * @return a message with the changes of both messages
+     * @since 2026-10-18
+     */
+    public PrivateInventoryChangeMessage mergeWith(PrivateInventoryChangeMessage newer) {
+        return new PrivateInventoryChangeMessage(newer.getName(), newer.getUser(),
+                Inventory.mergeViewDeltas(privateInventory, newer.privateInventory));
+    }
+}
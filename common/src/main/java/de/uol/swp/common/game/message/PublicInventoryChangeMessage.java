@@ -3,42 +3,137 @@ package de.uol.swp.common.game.message;
 import java.util.ArrayList;
 import java.util.HashMap;
 
+import de.uol.swp.common.game.Inventory;
 import de.uol.swp.common.user.UserDTO;
 
 /**
  * Message send to all users, when an inventory is updated
+ * <p>
+ * The message only contains the players whose public view changed since the last message, and of them only the
+ * changed fields, unless it is complete, see {@link Inventory#viewDelta(int[], int[])}.
+ * <p>
+ * enhanced by sending the compact public views of the inventories, 2026-10-18
+ * <p>
+ * enhanced by sending only the changed players and fields, 2026-10-18
  *
  * @author Iskander Yusupov, Anton Nikiforov
  * @since 2021-04-08
  */
 public class PublicInventoryChangeMessage extends AbstractGameMessage {
-    final private ArrayList<HashMap<String, Integer>> publicInventories;
+    final private int[][] publicInventories;
+    private transient ArrayList<HashMap<String, Integer>> publicInventoryViews;
 
 
     /**
      * Default constructor
      * <p>
      * enhanced by Carsten Dekker ,Marc Johannes Hermes, Marius Birk, Iskander Yusupov
+     * <p>
+     * enhanced by taking the deltas of the compact public views, 2026-10-18
      *
+     * @param gameName          the name of the game
+     * @param publicInventories the deltas created by {@link Inventory#flushPublicViewDelta()} or
+     *                          {@link Inventory#viewDelta(int[], int[])} in the order of the players, null for the
+     *                          players whose public view did not change
      * @author Iskander Yusupov, Anton Nikiforov
      * @since 2021-05-07
      * @since 2021-04-08
      */
 
-    public PublicInventoryChangeMessage(String gameName, ArrayList<HashMap<String, Integer>> publicInventories) {
+    public PublicInventoryChangeMessage(String gameName, int[][] publicInventories) {
         super(gameName, new UserDTO("", "", ""));
         this.publicInventories = publicInventories;
     }
 
     /**
      * Getter for the arrayList of publicInventories
+     * <p>
+     * enhanced by creating the HashMaps from the compact views once, 2026-10-18
+     * <p>
+     * enhanced by only containing the fields sent with the message, 2026-10-18
      *
-     * @return the ArrayList representing the public View of the user
+     * @return the ArrayList representing the changed fields of the public View of every user, all of them if the
+     * message is complete
      * @author Iskander Yusupov
      * @since 2021-05-16
      */
     public ArrayList<HashMap<String, Integer>> getPublicInventories() {
+        if (publicInventoryViews == null) {
+            ArrayList<HashMap<String, Integer>> views = new ArrayList<>(publicInventories.length);
+            for (int[] publicInventory : publicInventories) {
+                views.add(Inventory.publicViewOfDelta(publicInventory));
+            }
+            publicInventoryViews = views;
+        }
+        return publicInventoryViews;
+    }
+
+    /**
+     * Getter for the deltas of the compact public views of the inventories
+     *
+     * @return the deltas as created by {@link Inventory#viewDelta(int[], int[])} in the order of the players, null
+     * for the players whose public view did not change
+     * @since 2026-10-18
+     */
+    public int[][] getPublicInventoryDeltas() {
         return publicInventories;
     }
 
-}
\ No newline at end of file
+    /**
+     * Checks if the message contains every field of the public view of every player
+     *
+     * @return true if the message does not depend on the previous messages
+     * @since 2026-10-18
+     */
+    public boolean isComplete() {
+        for (int[] publicInventory : publicInventories) {
+            if (!Inventory.isCompleteDelta(publicInventory, Inventory.PUBLIC_VIEW_SIZE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the changes of the message to the public views known by the client
+     *
+     * @param publicViews the compact public views known before the message in the order of the players, null if
+     *                    there are none
+     * @return the new compact public views, null if a view is unknown and the message does not contain all of its
+     * fields
+     * @since 2026-10-18
+     */
+    public int[][] applyTo(int[][] publicViews) {
+        int[][] result = new int[publicInventories.length][];
+        for (int i = 0; i < result.length; i++) {
+            int[] publicView = publicViews != null && i < publicViews.length ? publicViews[i] : null;
+            result[i] = Inventory.applyViewDelta(publicView, publicInventories[i], Inventory.PUBLIC_VIEW_SIZE);
+            if (result[i] == null) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Combines this message with the one sent after it
+     * <p>
+     * Used by the server to send one message instead of both to a client that
+     * cannot keep up. Messages with a different number of players, e.g. because a
+     * player left in between, cannot be combined.
+     *
+     * @param newer the message sent after this one for the same game
+     * @return a message with the changes of both messages, null if they cannot be combined
+     * @since 2026-10-18
+     */
+    public PublicInventoryChangeMessage mergeWith(PublicInventoryChangeMessage newer) {
+        if (publicInventories.length != newer.publicInventories.length) {
+            return null;
+        }
+        int[][] merged = new int[publicInventories.length][];
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = Inventory.mergeViewDeltas(publicInventories[i], newer.publicInventories[i]);
+        }
+        return new PublicInventoryChangeMessage(newer.getName(), merged);
+    }
+}
@@ -0,0 +1,21 @@
+package de.uol.swp.common.game.request;
+
+import de.uol.swp.common.user.UserDTO;
+
+/**
+ * Request sent to the server when the client needs the complete inventories of a game again
+ * <p>
+ * The inventory messages usually only contain what changed since the last ones, so a client that missed one or has
+ * no inventories yet asks for the complete views with this request. The server answers with a complete
+ * PrivateInventoryChangeMessage and a complete PublicInventoryChangeMessage.
+ *
+ * @see de.uol.swp.common.game.message.PrivateInventoryChangeMessage
+ * @see de.uol.swp.common.game.message.PublicInventoryChangeMessage
+ * @since 2026-10-18
+ */
+public class InventoryResyncRequest extends AbstractGameRequest {
+
+    public InventoryResyncRequest(String gameName, UserDTO user) {
+        super(gameName, user);
+    }
+}
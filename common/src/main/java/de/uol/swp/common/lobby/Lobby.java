@@ -2,7 +2,6 @@ package de.uol.swp.common.lobby;
 
 import java.io.Serializable;
 import java.util.Set;
-import java.util.Timer;
 
 import de.uol.swp.common.user.User;
 
@@ -179,23 +178,6 @@ public interface Lobby extends Serializable {
      */
     void setGameStarted(boolean value);
 
-    /**
-     * Method used to start the timer of the lobby for the gameStart
-     *
-     * @return the timer of this lobby
-     * @author Marc Hermes
-     * @since 2021-05-18
-     */
-    Timer startTimerForGameStart();
-
-    /**
-     * Method used to stop the timer of the lobby for the gameStart
-     *
-     * @author Marc Hermes
-     * @since 2021-05-18
-     */
-    void stopTimerForGameStart();
-
     /**
      * Getter for the minimum amount of players for the game corresponding to this lobby
      *
@@ -2,7 +2,6 @@ package de.uol.swp.common.lobby.dto;
 
 import java.util.Collections;
 import java.util.Set;
-import java.util.Timer;
 import java.util.TreeSet;
 
 import de.uol.swp.common.lobby.Lobby;
@@ -31,8 +30,6 @@ public class LobbyDTO implements Lobby {
     private int rdyResponsesReceived = 0;
     private String gameFieldVariant;
     private boolean gameStarted = false;
-    private transient final Timer timerForGameStart = new Timer();
-    private boolean timerStarted = false;
     private boolean isUsedForTest = false;
     private int minimumAmountOfPlayers;
 
@@ -291,33 +288,6 @@ public class LobbyDTO implements Lobby {
         this.gameStarted = value;
     }
 
-    /**
-     * Method used to start the timer of the lobby for the gameStart
-     *
-     * @return the timer of this lobby
-     * @author Marc Hermes
-     * @since 2021-05-18
-     */
-    @Override
-    public Timer startTimerForGameStart() {
-        timerStarted = true;
-        return this.timerForGameStart;
-    }
-
-    /**
-     * Method used to stop the timer of the lobby for the gameStart
-     *
-     * @author Marc Hermes
-     * @since 2021-05-18
-     */
-    @Override
-    public void stopTimerForGameStart() {
-        if (timerStarted) {
-            timerForGameStart.cancel();
-        }
-        timerStarted = false;
-    }
-
     /**
      * Setter for the minimum amount of players for the game corresponding to this lobby
      *
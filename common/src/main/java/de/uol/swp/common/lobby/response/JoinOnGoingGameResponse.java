@@ -3,6 +3,8 @@ package de.uol.swp.common.lobby.response;
 import java.util.ArrayList;
 import java.util.Set;
 
+import de.uol.swp.common.game.BoardDelta;
+import de.uol.swp.common.game.BoardDescriptor;
 import de.uol.swp.common.game.MapGraph;
 import de.uol.swp.common.message.AbstractResponseMessage;
 import de.uol.swp.common.user.User;
@@ -16,7 +18,9 @@ import de.uol.swp.common.user.UserDTO;
  */
 public class JoinOnGoingGameResponse extends AbstractResponseMessage {
 
-    private final MapGraph mapGraph;
+    private final BoardDescriptor boardDescriptor;
+    private final BoardDelta boardChanges;
+    private transient MapGraph mapGraph;
     private final ArrayList<User> users;
     private final Set<User> humans;
     private final String gameFieldVariant;
@@ -33,7 +37,8 @@ public class JoinOnGoingGameResponse extends AbstractResponseMessage {
      * @since 2021-05-27
      */
     public JoinOnGoingGameResponse() {
-        this.mapGraph = null;
+        this.boardDescriptor = null;
+        this.boardChanges = null;
         this.users = null;
         this.humans = null;
         this.gameFieldVariant = null;
@@ -50,7 +55,8 @@ public class JoinOnGoingGameResponse extends AbstractResponseMessage {
      * @param gameName            the name of the game the user wanted to join
      * @param user                the user who wanted to join the game
      * @param joinedSuccessful    true if he successfully joined, false if not
-     * @param mapGraph            the mapGraph of the game
+     * @param boardDescriptor     the descriptor of the game field created at the start of the game
+     * @param boardChanges        the changes of the game field since the descriptor was created
      * @param users               all the users currently in the game
      * @param humans              the human users currently in the game
      * @param gameFieldVariant    the gameFieldVariant of the mapGraph
@@ -59,13 +65,15 @@ public class JoinOnGoingGameResponse extends AbstractResponseMessage {
      * @author Marc Hermes
      * @since 2021-05-27
      */
-    public JoinOnGoingGameResponse(String gameName, UserDTO user, boolean joinedSuccessful, MapGraph mapGraph,
+    public JoinOnGoingGameResponse(String gameName, UserDTO user, boolean joinedSuccessful,
+                                   BoardDescriptor boardDescriptor, BoardDelta boardChanges,
                                    ArrayList<User> users, Set<User> humans, String gameFieldVariant,
                                    String reasonForFailedJoin, User gameOwner) {
         this.gameName = gameName;
         this.user = user;
         this.joinedSuccessful = joinedSuccessful;
-        this.mapGraph = mapGraph;
+        this.boardDescriptor = boardDescriptor;
+        this.boardChanges = boardChanges;
         this.users = users;
         this.humans = humans;
         this.gameFieldVariant = gameFieldVariant;
@@ -75,15 +83,40 @@ public class JoinOnGoingGameResponse extends AbstractResponseMessage {
 
     /**
      * Getter for the mapGraph
+     * <p>
+     * The MapGraph is recreated from the BoardDescriptor and the changes on first access.
      *
      * @return the mapGraph of the game the user joined
      * @author Marc Hermes
      * @since 2021-05-27
      */
     public MapGraph getMapGraph() {
+        if (mapGraph == null && boardDescriptor != null) {
+            mapGraph = new MapGraph(boardDescriptor, boardChanges);
+        }
         return mapGraph;
     }
 
+    /**
+     * Getter for the descriptor of the game field
+     *
+     * @return the descriptor of the game field created at the start of the game
+     * @since 2026-10-18
+     */
+    public BoardDescriptor getBoardDescriptor() {
+        return boardDescriptor;
+    }
+
+    /**
+     * Getter for the changes of the game field
+     *
+     * @return the changes of the game field since the descriptor was created
+     * @since 2026-10-18
+     */
+    public BoardDelta getBoardChanges() {
+        return boardChanges;
+    }
+
     /**
      * Getter for the users ArrayList
      *
@@ -16,6 +16,7 @@ abstract public class AbstractMessage implements Message {
 
     transient private MessageContext messageContext;
     transient private Session session = null;
+    private int correlationId;
 
     @Override
     public Optional<MessageContext> getMessageContext() {
@@ -37,10 +38,29 @@ abstract public class AbstractMessage implements Message {
         this.session = session;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * enhanced by the correlation id, 2026-10-18: a response created from a
+     * request takes over its correlation id
+     */
     @Override
     public void initWithMessage(Message otherMessage) {
         otherMessage.getMessageContext().ifPresent(this::setMessageContext);
         otherMessage.getSession().ifPresent(this::setSession);
+        if (this instanceof ResponseMessage && otherMessage instanceof RequestMessage) {
+            setCorrelationId(otherMessage.getCorrelationId());
+        }
+    }
+
+    @Override
+    public int getCorrelationId() {
+        return correlationId;
+    }
+
+    @Override
+    public void setCorrelationId(int correlationId) {
+        this.correlationId = correlationId;
     }
 
     @Override
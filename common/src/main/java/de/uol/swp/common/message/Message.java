@@ -67,4 +67,23 @@ public interface Message extends Serializable {
      * @since 2019-08-13
      */
     void initWithMessage(Message otherMessage);
+
+    /**
+     * Getter for the id pairing a request with its response
+     * <p>
+     * The client sets it on a request it waits for, the server copies it to the
+     * response, so the client can hand the response to the waiting caller.
+     *
+     * @return the correlation id or 0 if no one waits for the message
+     * @since 2026-10-18
+     */
+    int getCorrelationId();
+
+    /**
+     * Setter for the id pairing a request with its response
+     *
+     * @param correlationId the correlation id, 0 if no one waits for the message
+     * @since 2026-10-18
+     */
+    void setCorrelationId(int correlationId);
 }
@@ -0,0 +1,75 @@
+package de.uol.swp.common.user.request;
+
+import java.util.Objects;
+
+import de.uol.swp.common.message.AbstractRequestMessage;
+
+/**
+ * A request send from client to server to resume its session after the connection was lost
+ * <p>
+ * Sent as the first message of a new connection within the grace period of the
+ * server. The client counts the ServerMessages it received since the
+ * LoginSuccessfulResponse, so the server only sends the ones it missed instead of
+ * the client logging in again.
+ *
+ * @see de.uol.swp.common.user.response.LoginSuccessfulResponse#getResumeToken()
+ * @see de.uol.swp.common.user.response.ResumeSessionResponse
+ * @since 2026-10-18
+ */
+public class ResumeSessionRequest extends AbstractRequestMessage {
+
+    private static final long serialVersionUID = -3519437305614528690L;
+
+    private final String resumeToken;
+    private final long lastSeenSequence;
+
+    /**
+     * Constructor
+     *
+     * @param resumeToken      the token of the LoginSuccessfulResponse
+     * @param lastSeenSequence the number of ServerMessages received since the login
+     * @since 2026-10-18
+     */
+    public ResumeSessionRequest(String resumeToken, long lastSeenSequence) {
+        this.resumeToken = resumeToken;
+        this.lastSeenSequence = lastSeenSequence;
+    }
+
+    @Override
+    public boolean authorizationNeeded() {
+        return false;
+    }
+
+    /**
+     * Getter for the token of the session to resume
+     *
+     * @return the resume token
+     * @since 2026-10-18
+     */
+    public String getResumeToken() {
+        return resumeToken;
+    }
+
+    /**
+     * Getter for the number of ServerMessages the client received since the login
+     *
+     * @return the sequence number of the last ServerMessage received
+     * @since 2026-10-18
+     */
+    public long getLastSeenSequence() {
+        return lastSeenSequence;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resumeToken, lastSeenSequence);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        ResumeSessionRequest that = (ResumeSessionRequest) o;
+        return lastSeenSequence == that.lastSeenSequence && Objects.equals(resumeToken, that.resumeToken);
+    }
+}
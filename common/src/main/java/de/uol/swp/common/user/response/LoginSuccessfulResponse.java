@@ -9,6 +9,9 @@ import de.uol.swp.common.user.User;
  * A message containing the session (typically for a new logged in user)
  * <p>
  * This response is sent to the Client whose LoginRequest was successful
+ * <p>
+ * enhanced by the session resume, 2026-10-18: carries the token the client
+ * resumes its session with after losing the connection
  *
  * @author Marco Grawunder
  * @see de.uol.swp.common.user.request.LoginRequest
@@ -20,6 +23,7 @@ public class LoginSuccessfulResponse extends AbstractResponseMessage {
     private static final long serialVersionUID = -9107206137706636541L;
 
     private final User user;
+    private final String resumeToken;
 
     /**
      * Constructor
@@ -30,7 +34,23 @@ public class LoginSuccessfulResponse extends AbstractResponseMessage {
      * @since 2019-08-07
      */
     public LoginSuccessfulResponse(User user) {
+        this(user, null);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * The ServerMessages sent to the client after this response are counted by
+     * both sides, so a resumed session gets exactly the ones it missed.
+     *
+     * @param user        the user who successfully logged in
+     * @param resumeToken the token to resume the session with, null if it cannot be resumed
+     * @see de.uol.swp.common.user.request.ResumeSessionRequest
+     * @since 2026-10-18
+     */
+    public LoginSuccessfulResponse(User user, String resumeToken) {
         this.user = user;
+        this.resumeToken = resumeToken;
     }
 
     /**
@@ -45,6 +65,16 @@ public class LoginSuccessfulResponse extends AbstractResponseMessage {
         return user;
     }
 
+    /**
+     * Getter for the token to resume the session with
+     *
+     * @return the resume token or null if the session cannot be resumed
+     * @since 2026-10-18
+     */
+    public String getResumeToken() {
+        return resumeToken;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(user);
@@ -0,0 +1,88 @@
+package de.uol.swp.common.user.response;
+
+import java.util.Objects;
+
+import de.uol.swp.common.message.AbstractResponseMessage;
+import de.uol.swp.common.user.User;
+
+/**
+ * A message answering a ResumeSessionRequest
+ * <p>
+ * If the session was resumed, the ServerMessages the client missed follow this
+ * response and are counted on from the sequence number of the request. Otherwise
+ * the client has to log in again.
+ *
+ * @see de.uol.swp.common.user.request.ResumeSessionRequest
+ * @since 2026-10-18
+ */
+public class ResumeSessionResponse extends AbstractResponseMessage {
+
+    private static final long serialVersionUID = 4621768011530427367L;
+
+    private final User user;
+    private final String resumeToken;
+
+    /**
+     * Constructor for a session that could not be resumed
+     *
+     * @since 2026-10-18
+     */
+    public ResumeSessionResponse() {
+        this(null, null);
+    }
+
+    /**
+     * Constructor for a resumed session
+     *
+     * @param user        the user of the resumed session
+     * @param resumeToken the token to resume the session with the next time
+     * @since 2026-10-18
+     */
+    public ResumeSessionResponse(User user, String resumeToken) {
+        this.user = user;
+        this.resumeToken = resumeToken;
+    }
+
+    /**
+     * Getter for the user of the resumed session
+     *
+     * @return the user or null if the session was not resumed
+     * @since 2026-10-18
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Getter for the token to resume the session with the next time
+     *
+     * @return the resume token or null if the session was not resumed
+     * @since 2026-10-18
+     */
+    public String getResumeToken() {
+        return resumeToken;
+    }
+
+    /**
+     * Returns if the session was resumed
+     *
+     * @return true if the session was resumed, false if the client has to log in again
+     * @since 2026-10-18
+     */
+    public boolean isResumed() {
+        return user != null;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(user, resumeToken);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        ResumeSessionResponse that = (ResumeSessionResponse) o;
+        return Objects.equals(user, that.user) && Objects.equals(resumeToken, that.resumeToken);
+    }
+}
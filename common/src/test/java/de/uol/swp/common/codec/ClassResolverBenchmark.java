@@ -0,0 +1,84 @@
+package de.uol.swp.common.codec;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolver;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import de.uol.swp.common.chat.ResponseChatMessage;
+import de.uol.swp.common.lobby.request.CreateLobbyRequest;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.response.AllOnlineUsersResponse;
+
+/**
+ * Compares the decoded messages per second of the ClassResolver used so far and the MessageClassResolver
+ * <p>
+ * Only the messages decoded with Java serialization resolve classes, so all
+ * messages are decoded in the JAVA_SERIALIZATION format, and the
+ * AllOnlineUsersResponse, which has no codec, also in the COMPACT_BINARY format.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl common exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.common.codec.ClassResolverBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+public class ClassResolverBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    public static void main(String[] args) {
+        Configurator.setRootLevel(Level.WARN);
+        UserDTO user = new UserDTO("marco", "marco", "marco@grawunder.de");
+        List<Serializable> messages = List.of(
+                new ResponseChatMessage("Hat jemand Lehm?", "game", "marco", 1623772800000.0),
+                new CreateLobbyRequest("lobby", user),
+                new AllOnlineUsersResponse(List.of(user, new UserDTO("anna", "anna", "anna@test.de"),
+                        new UserDTO("bert", "bert", "bert@test.de"))));
+
+        long start = System.nanoTime();
+        MessageClassResolver allowlist = MessageClassResolver.getDefault();
+        System.out.printf("allowlist created in %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        System.out.printf("%-24s %-20s %-12s %16s %10s%n", "message", "format", "resolver", "decodes per s",
+                "ns each");
+        for (Serializable msg : messages) {
+            run(WireFormat.JAVA_SERIALIZATION, msg, "classloader", ClassResolvers.cacheDisabled(null));
+            run(WireFormat.JAVA_SERIALIZATION, msg, "allowlist", allowlist);
+        }
+        run(WireFormat.COMPACT_BINARY, messages.get(2), "classloader", ClassResolvers.cacheDisabled(null));
+        run(WireFormat.COMPACT_BINARY, messages.get(2), "allowlist", allowlist);
+    }
+
+    private static void run(WireFormat format, Serializable msg, String name, ClassResolver classResolver) {
+        EmbeddedChannel encoder = new EmbeddedChannel(format.createEncoder());
+        EmbeddedChannel decoder = new EmbeddedChannel(format.createDecoder(classResolver));
+        encoder.writeOutbound(msg);
+        ByteBuf frame = encoder.readOutbound();
+
+        for (int i = 0; i < WARMUP; i++) {
+            decodeOnce(decoder, frame);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decodeOnce(decoder, frame);
+        }
+        long nanos = System.nanoTime() - start;
+        frame.release();
+
+        System.out.printf("%-24s %-20s %-12s %16.0f %10d%n", msg.getClass().getSimpleName(), format, name,
+                ITERATIONS / (nanos / (double) TimeUnit.SECONDS.toNanos(1)), nanos / ITERATIONS);
+    }
+
+    private static void decodeOnce(EmbeddedChannel decoder, ByteBuf frame) {
+        decoder.writeInbound(frame.retainedDuplicate());
+        decoder.readInbound();
+    }
+}
@@ -0,0 +1,190 @@
+package de.uol.swp.common.codec;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.chat.ResponseChatMessage;
+import de.uol.swp.common.game.Inventory;
+import de.uol.swp.common.game.message.NextTurnMessage;
+import de.uol.swp.common.game.message.PrivateInventoryChangeMessage;
+import de.uol.swp.common.game.message.PublicInventoryChangeMessage;
+import de.uol.swp.common.game.message.RollDiceResultMessage;
+import de.uol.swp.common.game.message.SuccessfulConstructionMessage;
+import de.uol.swp.common.game.request.ConstructionRequest;
+import de.uol.swp.common.game.request.RollDiceRequest;
+import de.uol.swp.common.lobby.request.CreateLobbyRequest;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.PingRequest;
+import de.uol.swp.common.user.response.PingResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactMessageCodecTest {
+
+    private static final UserDTO defaultUser = new UserDTO("marco", "marco", "marco@grawunder.de", 3);
+
+    @SuppressWarnings("unchecked")
+    static <T> T roundTrip(WireFormat format, Serializable msg) {
+        EmbeddedChannel encoder = new EmbeddedChannel(format.createEncoder());
+        EmbeddedChannel decoder = new EmbeddedChannel(format.createDecoder(ClassResolvers.cacheDisabled(null)));
+        assertTrue(encoder.writeOutbound(msg));
+        ByteBuf frame = encoder.readOutbound();
+        assertTrue(decoder.writeInbound(frame));
+        return (T) decoder.readInbound();
+    }
+
+    static int frameSize(WireFormat format, Serializable msg) {
+        EmbeddedChannel encoder = new EmbeddedChannel(format.createEncoder());
+        encoder.writeOutbound(msg);
+        ByteBuf frame = encoder.readOutbound();
+        int size = frame.readableBytes();
+        frame.release();
+        return size;
+    }
+
+    @Test
+    void rollDiceResultMessageTest() {
+        RollDiceResultMessage msg = new RollDiceResultMessage(3, 6, 12, "game");
+        msg.setUser(defaultUser);
+        RollDiceResultMessage decoded = roundTrip(WireFormat.COMPACT_BINARY, msg);
+
+        assertEquals(msg, decoded);
+        assertEquals(3, decoded.getDiceEyes1());
+        assertEquals(6, decoded.getDiceEyes2());
+        assertEquals(12, decoded.getTurn());
+        assertEquals(3, ((UserDTO) decoded.getUser()).getProfilePictureID());
+    }
+
+    @Test
+    void pingMessagesTest() {
+        PingRequest request = new PingRequest(defaultUser, 1234L);
+        assertEquals(request, roundTrip(WireFormat.COMPACT_BINARY, request));
+
+        PingRequest requestWithoutTime = new PingRequest(null, null);
+        assertEquals(requestWithoutTime, roundTrip(WireFormat.COMPACT_BINARY, requestWithoutTime));
+
+        PingResponse response = new PingResponse("marco", 4321L);
+        assertEquals(response, roundTrip(WireFormat.COMPACT_BINARY, response));
+    }
+
+    @Test
+    void rollDiceRequestTest() {
+        RollDiceRequest decoded = roundTrip(WireFormat.COMPACT_BINARY, new RollDiceRequest("game", defaultUser, -7));
+
+        assertEquals("game", decoded.getName());
+        assertEquals(defaultUser, decoded.getUser());
+        assertEquals(-7, decoded.getCheatEyes());
+    }
+
+    @Test
+    void constructionMessagesTest() {
+        UUID uuid = UUID.randomUUID();
+        ConstructionRequest request = roundTrip(WireFormat.COMPACT_BINARY,
+                new ConstructionRequest(defaultUser, "game", uuid, "BuildingNode"));
+        assertEquals(uuid, request.getUuid());
+        assertEquals("BuildingNode", request.getTypeOfNode());
+        assertEquals(defaultUser, request.getUser());
+
+        SuccessfulConstructionMessage message = roundTrip(WireFormat.COMPACT_BINARY,
+                new SuccessfulConstructionMessage("game", defaultUser, 2, uuid, "StreetNode"));
+        assertEquals(2, message.getPlayerIndex());
+        assertEquals(uuid, message.getUuid());
+        assertEquals("game", message.getName());
+    }
+
+    @Test
+    void stringFieldsTest() {
+        NextTurnMessage turn = roundTrip(WireFormat.COMPACT_BINARY, new NextTurnMessage("gäme", null, 4, true));
+        assertEquals("gäme", turn.getGameName());
+        assertNull(turn.getPlayerWithCurrentTurn());
+        assertTrue(turn.isInStartingTurn());
+
+        ResponseChatMessage chat = roundTrip(WireFormat.COMPACT_BINARY,
+                new ResponseChatMessage("Hallo ☺", "global", "marco", 12.5));
+        assertEquals("Hallo ☺", chat.getMessage());
+        assertEquals(12.5, chat.getTime());
+    }
+
+    @Test
+    void inventoryMessagesTest() {
+        Inventory inventory = new Inventory(defaultUser);
+        inventory.incCardStack("Ore", 3);
+        inventory.incCardStack("Monopoly", 1);
+        inventory.road.decNumber();
+
+        PrivateInventoryChangeMessage privateMessage = roundTrip(WireFormat.COMPACT_BINARY,
+                new PrivateInventoryChangeMessage("game", defaultUser, inventory.flushPrivateViewDelta()));
+        assertEquals("game", privateMessage.getName());
+        assertEquals(defaultUser, privateMessage.getUser());
+        assertTrue(privateMessage.isComplete());
+        assertEquals(inventory.getPrivateView(), privateMessage.getPrivateInventory());
+
+        int[][] publicInventories = {inventory.flushPublicViewDelta(), null};
+        PublicInventoryChangeMessage publicMessage = roundTrip(WireFormat.COMPACT_BINARY,
+                new PublicInventoryChangeMessage("game", publicInventories));
+        assertEquals("game", publicMessage.getName());
+        assertEquals(2, publicMessage.getPublicInventories().size());
+        assertEquals(inventory.getPublicView(), publicMessage.getPublicInventories().get(0));
+        assertTrue(publicMessage.getPublicInventories().get(1).isEmpty());
+        assertArrayEquals(publicInventories, publicMessage.getPublicInventoryDeltas());
+        assertFalse(publicMessage.isComplete());
+    }
+
+    @Test
+    void correlationIdTest() {
+        for (WireFormat format : WireFormat.values()) {
+            PingRequest request = new PingRequest(defaultUser, 1234L);
+            int size = frameSize(format, request);
+            request.setCorrelationId(77);
+            assertEquals(77, ((PingRequest) roundTrip(format, request)).getCorrelationId(), format.toString());
+
+            CreateLobbyRequest fallback = new CreateLobbyRequest("lobby", defaultUser);
+            fallback.setCorrelationId(78);
+            assertEquals(78, ((CreateLobbyRequest) roundTrip(format, fallback)).getCorrelationId(), format.toString());
+
+            PingResponse response = new PingResponse("marco", 4321L);
+            response.initWithMessage(request);
+            assertEquals(77, ((PingResponse) roundTrip(format, response)).getCorrelationId(), format.toString());
+            assertEquals(0, ((PingRequest) roundTrip(format, new PingRequest(defaultUser, 1234L))).getCorrelationId());
+            if (format == WireFormat.COMPACT_BINARY) {
+                // one byte for the id, nothing for messages without one
+                assertEquals(size + 1, frameSize(format, request));
+            }
+        }
+    }
+
+    @Test
+    void unregisteredMessageFallsBackToSerializationTest() {
+        CreateLobbyRequest request = new CreateLobbyRequest("lobby", defaultUser);
+        assertEquals(MessageCodecRegistry.FALLBACK_ID, MessageCodecRegistry.getDefault().getId(CreateLobbyRequest.class));
+        assertEquals(request, roundTrip(WireFormat.COMPACT_BINARY, request));
+    }
+
+    @Test
+    void javaSerializationFormatTest() {
+        PingResponse response = new PingResponse("marco", 4321L);
+        assertEquals(response, roundTrip(WireFormat.JAVA_SERIALIZATION, response));
+    }
+
+    @Test
+    void compactFramesAreSmallerTest() {
+        RollDiceResultMessage msg = new RollDiceResultMessage(3, 6, 12, "game");
+        assertTrue(frameSize(WireFormat.COMPACT_BINARY, msg) * 10 < frameSize(WireFormat.JAVA_SERIALIZATION, msg));
+    }
+
+    @Test
+    void duplicateRegistrationTest() {
+        MessageCodecRegistry registry = new MessageCodecRegistry();
+        MessageCodec<PingResponse> codec = MessageCodecRegistry.getDefault().getCodec(2);
+        registry.register(1, PingResponse.class, codec);
+        assertThrows(IllegalArgumentException.class, () -> registry.register(1, PingResponse.class, codec));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(MessageCodecRegistry.FALLBACK_ID,
+                PingResponse.class, codec));
+    }
+}
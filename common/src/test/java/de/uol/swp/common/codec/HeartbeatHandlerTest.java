@@ -0,0 +1,99 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.PingRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the heartbeat of the connections
+ *
+ * @see de.uol.swp.common.codec.HeartbeatHandler
+ * @since 2026-10-18
+ */
+public class HeartbeatHandlerTest {
+
+    private final PingRequest request = new PingRequest(new UserDTO("marco", "marco", "marco@grawunder.de"), 1L);
+
+    /**
+     * Test that both decoders skip heartbeat frames between messages
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void decodersSkipHeartbeatsTest() {
+        for (WireFormat format : WireFormat.values()) {
+            EmbeddedChannel encoder = new EmbeddedChannel(format.createEncoder());
+            encoder.writeOutbound(request);
+            ByteBuf frame = encoder.readOutbound();
+
+            ByteBuf in = Unpooled.buffer();
+            in.writeBytes(HeartbeatHandler.frame());
+            in.writeBytes(frame);
+            in.writeBytes(HeartbeatHandler.frame());
+            in.writeBytes(HeartbeatHandler.frame());
+            frame.release();
+
+            EmbeddedChannel decoder = new EmbeddedChannel(format.createDecoder(ClassResolvers.cacheDisabled(null)));
+            decoder.writeInbound(in);
+            assertEquals(request, decoder.readInbound(), format.toString());
+            assertNull(decoder.readInbound(), format.toString());
+        }
+    }
+
+    /**
+     * Test that a heartbeat is sent when nothing was written for the interval
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void heartbeatSentWhenIdleTest() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HeartbeatHandler(20, 60_000));
+        assertNull(channel.readOutbound());
+
+        Thread.sleep(50);
+        channel.runScheduledPendingTasks();
+        ByteBuf heartbeat = channel.readOutbound();
+        assertEquals(HeartbeatHandler.FRAME_LENGTH, heartbeat.readableBytes());
+        assertEquals(0, heartbeat.getInt(heartbeat.readerIndex()));
+        assertTrue(channel.isOpen());
+    }
+
+    /**
+     * Test that the connection is closed when nothing was read for the timeout,
+     * but stays open as long as anything arrives
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void closeWhenSilentTest() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HeartbeatHandler(100, 200));
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(100);
+            channel.writeInbound(HeartbeatHandler.frame());
+            channel.runScheduledPendingTasks();
+            assertTrue(channel.isOpen());
+        }
+        Thread.sleep(300);
+        channel.runScheduledPendingTasks();
+        assertFalse(channel.isOpen());
+    }
+
+    /**
+     * Test that an invalid configuration is rejected
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void invalidConfigurationTest() {
+        assertThrows(IllegalArgumentException.class, () -> new HeartbeatHandler(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new HeartbeatHandler(100, 100));
+    }
+}
@@ -0,0 +1,86 @@
+package de.uol.swp.common.codec;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.game.MapGraph;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.response.AllOnlineUsersResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the MessageClassResolver
+ *
+ * @see de.uol.swp.common.codec.MessageClassResolver
+ * @since 2026-10-18
+ */
+public class MessageClassResolverTest {
+
+    private final MessageClassResolver resolver = MessageClassResolver.getDefault();
+
+    private Object roundTrip(WireFormat format, Serializable msg) {
+        EmbeddedChannel encoder = new EmbeddedChannel(format.createEncoder());
+        EmbeddedChannel decoder = new EmbeddedChannel(format.createDecoder(resolver));
+        assertTrue(encoder.writeOutbound(msg));
+        ByteBuf frame = encoder.readOutbound();
+        assertTrue(decoder.writeInbound(frame));
+        return decoder.readInbound();
+    }
+
+    /**
+     * Test that the classes of the common module, the JDK collections and arrays are resolved
+     *
+     * @throws ClassNotFoundException never, all classes exist
+     * @since 2026-10-18
+     */
+    @Test
+    void resolveAllowedClassesTest() throws ClassNotFoundException {
+        assertEquals(UserDTO.class, resolver.resolve(UserDTO.class.getName()));
+        assertEquals(MapGraph.BuildingNode.class, resolver.resolve(MapGraph.BuildingNode.class.getName()));
+        assertEquals(java.util.ArrayList.class, resolver.resolve("java.util.ArrayList"));
+        assertEquals(int[].class, resolver.resolve("[I"));
+        assertEquals(UserDTO[][].class, resolver.resolve(UserDTO[][].class.getName()));
+        assertSame(resolver.resolve("java.util.UUID"), resolver.resolve("java.util.UUID"));
+    }
+
+    /**
+     * Test that classes outside the common module and the JDK packages are rejected
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void rejectOtherClassesTest() {
+        assertThrows(SecurityException.class, () -> resolver.resolve("java.io.File"));
+        assertThrows(SecurityException.class, () -> resolver.resolve("[Ljava.net.URL;"));
+        assertThrows(SecurityException.class, () -> resolver.resolve("java.util.concurrent.ConcurrentHashMap"));
+        assertThrows(SecurityException.class, () -> resolver.resolve("de.uol.swp.server.Unknown"));
+    }
+
+    /**
+     * Test that messages with nested objects are decoded in both wire formats
+     * and that frames with other classes are rejected
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void decodeTest() {
+        for (WireFormat format : WireFormat.values()) {
+            AllOnlineUsersResponse response = new AllOnlineUsersResponse(
+                    List.of(new UserDTO("marco", "marco", "marco@grawunder.de")));
+            AllOnlineUsersResponse decoded = (AllOnlineUsersResponse) roundTrip(format, response);
+            assertEquals(response.getUsers(), decoded.getUsers());
+            MapGraph mapGraph = (MapGraph) roundTrip(format, new MapGraph("Standard"));
+            assertEquals(54, mapGraph.getBuildingNodeHashSet().size());
+
+            assertThrows(DecoderException.class, () -> roundTrip(format, new File("secret")), format.name());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package de.uol.swp.common.codec;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import de.uol.swp.common.chat.ResponseChatMessage;
+import de.uol.swp.common.game.message.NextTurnMessage;
+import de.uol.swp.common.game.message.RollDiceResultMessage;
+import de.uol.swp.common.game.request.ConstructionRequest;
+import de.uol.swp.common.lobby.request.CreateLobbyRequest;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.PingRequest;
+
+/**
+ * Compares bytes per message and encode/decode time of the wire formats
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl common exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.common.codec.WireCodecBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+public class WireCodecBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    public static void main(String[] args) {
+        UserDTO user = new UserDTO("marco", "marco", "marco@grawunder.de");
+        List<Serializable> messages = List.of(
+                new PingRequest(user, System.currentTimeMillis()),
+                new RollDiceResultMessage(3, 4, 17, "game"),
+                new NextTurnMessage("game", "marco", 17, false),
+                new ConstructionRequest(user, "game", UUID.randomUUID(), "BuildingNode"),
+                new ResponseChatMessage("Hat jemand Lehm?", "game", "marco", 1623772800000.0),
+                new CreateLobbyRequest("lobby", user));
+
+        System.out.printf("%-32s %-20s %8s %12s %12s%n", "message", "format", "bytes", "encode ns", "decode ns");
+        for (Serializable msg : messages) {
+            for (WireFormat format : WireFormat.values()) {
+                run(format, msg);
+            }
+        }
+    }
+
+    private static void run(WireFormat format, Serializable msg) {
+        EmbeddedChannel encoder = new EmbeddedChannel(format.createEncoder());
+        EmbeddedChannel decoder = new EmbeddedChannel(format.createDecoder(ClassResolvers.cacheDisabled(null)));
+
+        encoder.writeOutbound(msg);
+        ByteBuf frame = encoder.readOutbound();
+        int bytes = frame.readableBytes();
+
+        for (int i = 0; i < WARMUP; i++) {
+            encodeOnce(encoder, msg);
+            decodeOnce(decoder, frame);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encodeOnce(encoder, msg);
+        }
+        long encodeNs = (System.nanoTime() - start) / ITERATIONS;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decodeOnce(decoder, frame);
+        }
+        long decodeNs = (System.nanoTime() - start) / ITERATIONS;
+        frame.release();
+
+        System.out.printf("%-32s %-20s %8d %12d %12d%n", msg.getClass().getSimpleName(), format, bytes, encodeNs,
+                decodeNs);
+    }
+
+    private static void encodeOnce(EmbeddedChannel encoder, Serializable msg) {
+        encoder.writeOutbound(msg);
+        ((ByteBuf) encoder.readOutbound()).release();
+    }
+
+    private static void decodeOnce(EmbeddedChannel decoder, ByteBuf frame) {
+        decoder.writeInbound(frame.retainedDuplicate());
+        decoder.readInbound();
+    }
+}
@@ -0,0 +1,153 @@
+package de.uol.swp.common.game;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.SerializationTestHelper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for the BoardDescriptor and BoardDelta
+ *
+ * @since 2026-10-18
+ */
+public class BoardDescriptorTest {
+
+    private static Set<UUID> uuids(Set<? extends MapGraph.MapGraphNode> nodes) {
+        return nodes.stream().map(MapGraph.MapGraphNode::getUuid).collect(Collectors.toSet());
+    }
+
+    private static UUID uuid(MapGraph.Hexagon hexagon) {
+        return hexagon == null ? null : hexagon.getUuid();
+    }
+
+    private static UUID uuid(MapGraph.MapGraphNode node) {
+        return node == null ? null : node.getUuid();
+    }
+
+    /**
+     * Checks that both MapGraphs have the same layout, configuration and occupancy, comparing all references by UUID
+     */
+    private static void assertSameBoard(MapGraph expected, MapGraph actual) {
+        Map<UUID, MapGraph.Hexagon> hexagons = new HashMap<>();
+        actual.getHexagonHashSet().forEach(h -> hexagons.put(h.getUuid(), h));
+        assertEquals(expected.getHexagonHashSet().size(), hexagons.size());
+        for (MapGraph.Hexagon e : expected.getHexagonHashSet()) {
+            MapGraph.Hexagon a = hexagons.get(e.getUuid());
+            assertNotNull(a);
+            assertEquals(e.getSelfPosition(), a.getSelfPosition());
+            assertEquals(e.getTerrainType(), a.getTerrainType());
+            assertEquals(e.getDiceToken(), a.getDiceToken());
+            assertEquals(e.isOccupiedByRobber(), a.isOccupiedByRobber());
+            assertEquals(uuid(e.getHexTopLeft()), uuid(a.getHexTopLeft()));
+            assertEquals(uuid(e.getHexBottomRight()), uuid(a.getHexBottomRight()));
+            assertEquals(uuid(e.getStreetLeft()), uuid(a.getStreetLeft()));
+            assertEquals(uuid(e.getStreetTopRight()), uuid(a.getStreetTopRight()));
+            assertEquals(uuid(e.getBuildingTop()), uuid(a.getBuildingTop()));
+            assertEquals(uuid(e.getBuildingBottomLeft()), uuid(a.getBuildingBottomLeft()));
+            assertEquals(uuids(e.getBuildingNodes()), uuids(a.getBuildingNodes()));
+        }
+
+        Map<UUID, MapGraph.BuildingNode> buildings = new HashMap<>();
+        actual.getBuildingNodeHashSet().forEach(b -> buildings.put(b.getUuid(), b));
+        assertEquals(expected.getBuildingNodeHashSet().size(), buildings.size());
+        for (MapGraph.BuildingNode e : expected.getBuildingNodeHashSet()) {
+            MapGraph.BuildingNode a = buildings.get(e.getUuid());
+            assertNotNull(a);
+            assertEquals(e.getPositionToParent(), a.getPositionToParent());
+            assertEquals(e.getParent().getUuid(), a.getParent().getUuid());
+            assertEquals(e.getTypeOfHarbor(), a.getTypeOfHarbor());
+            assertEquals(e.getOccupiedByPlayer(), a.getOccupiedByPlayer());
+            assertEquals(e.getSizeOfSettlement(), a.getSizeOfSettlement());
+            assertEquals(uuids(e.getConnectedStreetNodes()), uuids(a.getConnectedStreetNodes()));
+        }
+
+        Map<UUID, MapGraph.StreetNode> streets = new HashMap<>();
+        actual.getStreetNodeHashSet().forEach(s -> streets.put(s.getUuid(), s));
+        assertEquals(expected.getStreetNodeHashSet().size(), streets.size());
+        for (MapGraph.StreetNode e : expected.getStreetNodeHashSet()) {
+            MapGraph.StreetNode a = streets.get(e.getUuid());
+            assertNotNull(a);
+            assertEquals(e.getOccupiedByPlayer(), a.getOccupiedByPlayer());
+            assertEquals(uuids(e.getConnectedBuildingNodes()), uuids(a.getConnectedBuildingNodes()));
+        }
+
+        assertArrayEquals(expected.getNumOfRoads(), actual.getNumOfRoads());
+        assertArrayEquals(expected.getNumOfBuildings(), actual.getNumOfBuildings());
+        assertEquals(expected.getBuiltBuildings().size(), actual.getBuiltBuildings().size());
+        for (int i = 0; i < expected.getBuiltBuildings().size(); i++) {
+            assertEquals(expected.getBuiltBuildings().get(i).getUuid(), actual.getBuiltBuildings().get(i).getUuid());
+        }
+    }
+
+    /**
+     * Builds a settlement with two roads for the player and moves the robber to a hexagon with the given dice token
+     */
+    private static void play(MapGraph mapGraph, int playerIndex, int diceToken) {
+        for (MapGraph.Hexagon hexagon : mapGraph.getHexagonHashSet()) {
+            if (hexagon.getDiceToken() == diceToken) {
+                MapGraph.BuildingNode building = hexagon.getBuildingTop();
+                if (building.tryBuildOrDevelopSettlement(playerIndex, 1)) {
+                    building.buildOrDevelopSettlement(playerIndex);
+                    mapGraph.addBuiltBuilding(building);
+                }
+                for (MapGraph.StreetNode street : building.getConnectedStreetNodes()) {
+                    if (street.tryBuildRoad(playerIndex, 1)) {
+                        street.buildRoad(playerIndex);
+                    }
+                }
+                mapGraph.getHexagonHashSet().forEach(h -> h.setOccupiedByRobber(false));
+                hexagon.setOccupiedByRobber(true);
+                return;
+            }
+        }
+    }
+
+    @Test
+    void recreateAllVariantsTest() {
+        for (String variant : new String[]{"", "Random", "VeryRandom"}) {
+            MapGraph mapGraph = new MapGraph(variant);
+            play(mapGraph, 0, 8);
+            BoardDescriptor board = mapGraph.createBoardDescriptor();
+            assertSameBoard(mapGraph, new MapGraph(board));
+        }
+    }
+
+    @Test
+    void recreateAfterSerializationTest() throws Exception {
+        MapGraph mapGraph = new MapGraph("Random");
+        BoardDescriptor board = SerializationTestHelper.unpickle(
+                SerializationTestHelper.pickle(mapGraph.createBoardDescriptor()), BoardDescriptor.class);
+        assertSameBoard(mapGraph, new MapGraph(board));
+    }
+
+    @Test
+    void deltaTest() throws Exception {
+        MapGraph mapGraph = new MapGraph("");
+        BoardDescriptor board = mapGraph.createBoardDescriptor();
+        assertEquals(0, mapGraph.createBoardDelta(board).getNumberOfChangedNodes());
+
+        play(mapGraph, 1, 6);
+        play(mapGraph, 2, 5);
+        BoardDelta delta = SerializationTestHelper.unpickle(
+                SerializationTestHelper.pickle(mapGraph.createBoardDelta(board)), BoardDelta.class);
+
+        assertTrue(delta.getNumberOfChangedNodes() > 0);
+        assertSameBoard(mapGraph, new MapGraph(board, delta));
+    }
+
+    @Test
+    void descriptorIsMuchSmallerTest() throws Exception {
+        MapGraph mapGraph = new MapGraph("");
+        play(mapGraph, 0, 8);
+        int graphSize = SerializationTestHelper.pickle(mapGraph).length;
+        int descriptorSize = SerializationTestHelper.pickle(mapGraph.createBoardDescriptor()).length;
+        assertTrue(descriptorSize * 10 < graphSize, descriptorSize + " bytes vs " + graphSize + " bytes");
+    }
+}
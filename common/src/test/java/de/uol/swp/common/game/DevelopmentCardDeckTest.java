@@ -33,4 +33,25 @@ public class DevelopmentCardDeckTest {
         assertNull(developmentCardDeck.drawnCard());
     }
 
+    /**
+     * This test makes sure that a copy of the deck draws the same cards without changing the original deck.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void copyTest() {
+        DevelopmentCardDeck developmentCardDeck = new DevelopmentCardDeck();
+        developmentCardDeck.drawnCard();
+        DevelopmentCardDeck copy = developmentCardDeck.copy();
+        assertEquals(24, copy.getNumberOfDevCards());
+        for (int i = 0; i < 24; i++) {
+            assertEquals(developmentCardDeck.drawnCard(), copy.drawnCard());
+        }
+        assertNull(copy.drawnCard());
+
+        copy = new DevelopmentCardDeck().copy();
+        copy.drawnCard();
+        assertEquals(24, copy.getNumberOfDevCards());
+    }
+
 }
\ No newline at end of file
@@ -165,4 +165,60 @@ public class GameDTOTest {
         assertTrue(inventories.contains(defaultGame.getInventory(userDTO2)));
         assertTrue(inventories.contains(defaultGame.getInventory(userDTO3)));
     }
+
+    /**
+     * This test checks that the simulation copy of a game can be changed without changing the original game.
+     * <p>
+     * The copy has to contain the same users, inventories and MapGraph, but all its mutable parts have to be
+     * separate objects.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    public void createSimulationCopyTest() {
+        users.addAll(Arrays.asList(userDTO, userDTO1, userDTO2, userDTO3));
+        defaultGame = new GameDTO("test", userDTO, "", users);
+        defaultGame.setUpUserArrayList();
+        defaultGame.setUpInventories();
+        defaultGame.getInventory(userDTO1).lumber.setNumber(3);
+        MapGraph.BuildingNode building = defaultGame.getMapGraph().getBuildingNodeHashSet().iterator().next();
+        building.setOccupiedByPlayer(1);
+        defaultGame.getMapGraph().addBuiltBuilding(building);
+
+        GameDTO copy = defaultGame.createSimulationCopy();
+
+        assertEquals(defaultGame.getUsersList(), copy.getUsersList());
+        assertEquals(defaultGame.getTurn(), copy.getTurn());
+        assertEquals(3, copy.getInventory(userDTO1).lumber.getNumber());
+        assertEquals(19, copy.getBankInventory().ore.getNumber());
+        assertEquals(defaultGame.getDevelopmentCardDeck().getNumberOfDevCards(),
+                copy.getDevelopmentCardDeck().getNumberOfDevCards());
+
+        MapGraph mapGraph = copy.getMapGraph();
+        assertNotSame(defaultGame.getMapGraph(), mapGraph);
+        assertEquals(defaultGame.getMapGraph().getHexagonHashSet().size(), mapGraph.getHexagonHashSet().size());
+        assertEquals(defaultGame.getMapGraph().getStreetNodeHashSet().size(), mapGraph.getStreetNodeHashSet().size());
+        assertEquals(1, mapGraph.getBuiltBuildings().size());
+        MapGraph.BuildingNode copiedBuilding = mapGraph.getBuiltBuildings().get(0);
+        assertNotSame(building, copiedBuilding);
+        assertEquals(building.getUuid(), copiedBuilding.getUuid());
+        assertEquals(1, copiedBuilding.getOccupiedByPlayer());
+        assertTrue(mapGraph.getBuildingNodeHashSet().contains(copiedBuilding));
+        for (MapGraph.StreetNode street : copiedBuilding.getConnectedStreetNodes()) {
+            assertTrue(mapGraph.getStreetNodeHashSet().contains(street));
+            assertTrue(street.getConnectedBuildingNodes().contains(copiedBuilding));
+        }
+
+        copy.getInventory(userDTO1).lumber.decNumber();
+        copy.getDevelopmentCardDeck().drawnCard();
+        copy.getBankInventory().ore.decNumber();
+        copiedBuilding.getConnectedStreetNodes().iterator().next().setOccupiedByPlayer(1);
+
+        assertEquals(3, defaultGame.getInventory(userDTO1).lumber.getNumber());
+        assertEquals(19, defaultGame.getBankInventory().ore.getNumber());
+        assertEquals(25, defaultGame.getDevelopmentCardDeck().getNumberOfDevCards());
+        for (MapGraph.StreetNode street : building.getConnectedStreetNodes()) {
+            assertEquals(666, street.getOccupiedByPlayer());
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package de.uol.swp.common.game;
 
 import java.util.HashMap;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -393,4 +394,120 @@ public class InventoryTest {
         assertEquals(8, inventory.wool.getNumber());
         assertEquals(8, inventory.ore.getNumber());
     }
-}
\ No newline at end of file
+
+    @Test
+    void resourceVectorTest() {
+        Inventory inventory = new Inventory(user);
+        assertFalse(inventory.canAfford(Inventory.SETTLEMENT_COST));
+
+        inventory.addResources(new int[]{1, 1, 3, 1, 3});
+        assertEquals(9, inventory.sumResource());
+        assertEquals(3, inventory.grain.getNumber());
+        assertTrue(inventory.canAfford(Inventory.SETTLEMENT_COST));
+        assertTrue(inventory.canAfford(Inventory.CITY_COST));
+
+        inventory.subtractResources(Inventory.SETTLEMENT_COST);
+        assertEquals(0, inventory.getResource(Resource.LUMBER));
+        assertEquals(2, inventory.getSpecificResourceAmount("Grain"));
+        assertFalse(inventory.canAfford(Inventory.ROAD_COST));
+        assertTrue(inventory.canAfford(Inventory.CITY_COST));
+
+        inventory.incResource(Resource.ORE, 2);
+        inventory.decResource(Resource.WOOL, 0);
+        assertEquals(5, inventory.ore.getNumber());
+        assertEquals(0, inventory.getSpecificResourceAmount("Test"));
+    }
+
+    @Test
+    void viewVectorTest() {
+        Inventory inventory = new Inventory(user);
+        inventory.incCardStack("Wool", 2);
+        inventory.incCardStack("Knight", 1);
+        inventory.incCardVictoryPoint();
+        inventory.settlement.decNumber();
+        inventory.setPlayedKnights(3);
+        inventory.setLongestRoad(true);
+
+        assertEquals(inventory.getPrivateView(), Inventory.toPrivateView(inventory.getPrivateViewVector()));
+        assertEquals(inventory.getPublicView(), Inventory.toPublicView(inventory.getPublicViewVector()));
+        assertEquals(1, inventory.getDevelopmentCard(DevCard.VICTORY_POINT));
+        assertEquals(2, inventory.getDevelopmentCard(DevCard.KNIGHT) + inventory.getCardVictoryPoint());
+
+        Inventory copy = inventory.copy();
+        copy.incResource(Resource.WOOL, 1);
+        assertEquals(2, inventory.wool.getNumber());
+        assertEquals(3, copy.wool.getNumber());
+        assertEquals(inventory.getPublicView().get("Played Knights"), copy.getPublicView().get("Played Knights"));
+    }
+
+    @Test
+    void viewDeltaTest() {
+        Inventory inventory = new Inventory(user);
+        int[] privateDelta = inventory.flushPrivateViewDelta();
+        assertTrue(Inventory.isCompleteDelta(privateDelta, Inventory.PRIVATE_VIEW_SIZE));
+        int[] privateView = Inventory.applyViewDelta(null, privateDelta, Inventory.PRIVATE_VIEW_SIZE);
+        assertArrayEquals(inventory.getPrivateViewVector(), privateView);
+        int[] publicView = Inventory.applyViewDelta(null, inventory.flushPublicViewDelta(),
+                Inventory.PUBLIC_VIEW_SIZE);
+        assertNull(inventory.flushPrivateViewDelta());
+        assertNull(inventory.flushPublicViewDelta());
+
+        inventory.wool.incNumber(2);
+        inventory.settlement.decNumber();
+        privateDelta = inventory.flushPrivateViewDelta();
+        assertArrayEquals(new int[]{(1 << Resource.WOOL.ordinal()) | (1 << 12), 2, 4}, privateDelta);
+        assertNull(Inventory.applyViewDelta(null, privateDelta, Inventory.PRIVATE_VIEW_SIZE));
+        privateView = Inventory.applyViewDelta(privateView, privateDelta, Inventory.PRIVATE_VIEW_SIZE);
+        assertArrayEquals(inventory.getPrivateViewVector(), privateView);
+        assertEquals(Integer.valueOf(2), Inventory.privateViewOfDelta(privateDelta).get("Wool"));
+        assertEquals(2, Inventory.privateViewOfDelta(privateDelta).size());
+
+        int[] publicDelta = inventory.flushPublicViewDelta();
+        assertArrayEquals(new int[]{1 << 1, 2}, publicDelta);
+        publicView = Inventory.applyViewDelta(publicView, publicDelta, Inventory.PUBLIC_VIEW_SIZE);
+        assertArrayEquals(inventory.getPublicViewVector(), publicView);
+
+        // a change that is undone before the flush is not sent
+        inventory.incResource(Resource.ORE, 1);
+        inventory.decCardStack("Ore", 1);
+        assertNull(inventory.flushPrivateViewDelta());
+        assertNull(inventory.flushPublicViewDelta());
+
+        inventory.setLongestRoad(true);
+        assertArrayEquals(new int[]{1 << 6, 1}, inventory.flushPublicViewDelta());
+        assertNull(inventory.flushPublicViewDelta());
+        assertNull(inventory.flushPrivateViewDelta());
+    }
+
+    /**
+     * Test for combining two consecutive deltas
+     * <p>
+     * Applying the combined delta has to give the same view as applying both
+     * deltas one after the other.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void mergeViewDeltasTest() {
+        Random random = new Random(3);
+        for (int run = 0; run < 200; run++) {
+            int[] first = new int[Inventory.PRIVATE_VIEW_SIZE];
+            int[] second = first.clone();
+            int[] third = first.clone();
+            for (int i = 0; i < first.length; i++) {
+                first[i] = random.nextInt(3);
+                second[i] = random.nextBoolean() ? first[i] : random.nextInt(3);
+                third[i] = random.nextBoolean() ? second[i] : random.nextInt(3);
+            }
+            int[] older = Inventory.viewDelta(first, second);
+            int[] newer = Inventory.viewDelta(second, third);
+            int[] merged = Inventory.mergeViewDeltas(older, newer);
+            assertArrayEquals(third, Inventory.applyViewDelta(first, merged, Inventory.PRIVATE_VIEW_SIZE));
+            assertEquals(Integer.bitCount(older[0] | newer[0]) + 1, merged.length);
+        }
+        int[] delta = {1 << 2, 5};
+        assertSame(delta, Inventory.mergeViewDeltas(null, delta));
+        assertSame(delta, Inventory.mergeViewDeltas(delta, null));
+        assertNull(Inventory.mergeViewDeltas(null, null));
+    }
+}
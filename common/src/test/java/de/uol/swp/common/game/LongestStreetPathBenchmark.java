@@ -0,0 +1,113 @@
+package de.uol.swp.common.game;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Measures the cost of keeping the longest roads up to date on worst case boards
+ * <p>
+ * Every player builds 15 roads, each new road is placed so that it closes as many
+ * loops in the road network of the player as possible. Only the time spent in
+ * buildRoad, which updates the LongestStreetPathCalculator, is measured.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl common exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.common.game.LongestStreetPathBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+public class LongestStreetPathBenchmark {
+
+    private static final int PLAYERS = 4;
+    private static final int ROADS = 15;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    private static long buildNanos;
+
+    public static void main(String[] args) {
+        List<List<MapGraph.StreetNode>> order = new ArrayList<>();
+        int[] lengths = new int[PLAYERS];
+        for (int i = 0; i < WARMUP; i++) {
+            buildBoard(order, lengths);
+        }
+        buildNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            buildBoard(order, lengths);
+        }
+        double ms = buildNanos / 1_000_000.0 / ITERATIONS;
+        System.out.printf("%d roads per player, longest roads %d %d %d %d, %.3f ms per board%n", ROADS, lengths[0],
+                lengths[1], lengths[2], lengths[3], ms);
+    }
+
+    /**
+     * Creates a MapGraph and builds the roads of all players on it
+     *
+     * @param order   list the roads of every player are stored in
+     * @param lengths array the longest roads of the players are written to
+     */
+    private static void buildBoard(List<List<MapGraph.StreetNode>> order, int[] lengths) {
+        MapGraph mapGraph = new MapGraph("");
+        List<MapGraph.StreetNode> streets = new ArrayList<>(mapGraph.getStreetNodeHashSet());
+        streets.sort(Comparator.comparing(MapGraph.StreetNode::getUuid));
+        order.clear();
+        for (int player = 0; player < PLAYERS; player++) {
+            List<MapGraph.StreetNode> roads = new ArrayList<>();
+            MapGraph.StreetNode seed = streets.get(player * streets.size() / PLAYERS);
+            while (seed.getOccupiedByPlayer() != 666) {
+                seed = streets.get((streets.indexOf(seed) + 1) % streets.size());
+            }
+            buildRoad(seed, player);
+            roads.add(seed);
+            while (roads.size() < ROADS) {
+                MapGraph.StreetNode next = null;
+                int bestTouches = 0;
+                for (MapGraph.StreetNode street : streets) {
+                    if (street.getOccupiedByPlayer() == 666) {
+                        int touches = touches(street, player);
+                        if (touches > bestTouches) {
+                            bestTouches = touches;
+                            next = street;
+                        }
+                    }
+                }
+                if (next == null) {
+                    break;
+                }
+                buildRoad(next, player);
+                roads.add(next);
+            }
+            order.add(roads);
+        }
+        for (int player = 0; player < PLAYERS; player++) {
+            lengths[player] = mapGraph.getLongestStreetPathCalculator().getLongestPath(player);
+        }
+    }
+
+    private static void buildRoad(MapGraph.StreetNode street, int player) {
+        long start = System.nanoTime();
+        street.buildRoad(player);
+        buildNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Counts the ends of a street at which a road of the player already ends
+     *
+     * @param street the street
+     * @param player the index of the player
+     * @return 0, 1 or 2
+     */
+    private static int touches(MapGraph.StreetNode street, int player) {
+        int touches = 0;
+        for (MapGraph.BuildingNode building : street.getConnectedBuildingNodes()) {
+            for (MapGraph.StreetNode neighbour : building.getConnectedStreetNodes()) {
+                if (neighbour.getOccupiedByPlayer() == player) {
+                    touches++;
+                    break;
+                }
+            }
+        }
+        return touches;
+    }
+}
@@ -143,4 +143,39 @@ public class LongestStreetPathCalculatorTest {
         assertEquals(mapGraph.getLongestStreetPathCalculator().getLongestPath(1), 7);
         mapGraph.getLongestStreetPathCalculator().printAdjacencyMatrix(1);
     }
+
+    /**
+     * This test checks that a copied or recreated MapGraph takes over the longest street paths.
+     * <p>
+     * We build the streets of blackBoxTest4 and check the longest path of player 1 in a copy of the MapGraph and in a
+     * MapGraph created from its BoardDescriptor. Then we split the road of the copy and check the original again.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void copiedMapGraphTest() {
+        MapGraph.BuildingNode building = null;
+        for (MapGraph.Hexagon hexagon : hexagons) {
+            if (hexagon.getSelfPosition().contains("left") && hexagon.getSelfPosition().size() == 2) {
+                hexagon.getStreetTopLeft().buildRoad(1);
+                hexagon.getStreetBottomLeft().buildRoad(1);
+                hexagon.getStreetLeft().buildRoad(1);
+                hexagon.getStreetRight().buildRoad(1);
+                hexagon.getStreetBottomRight().buildRoad(1);
+                building = hexagon.getBuildingBottom();
+            }
+        }
+        MapGraph copy = mapGraph.copy();
+        assertEquals(5, copy.getLongestStreetPathCalculator().getLongestPath(1));
+        assertEquals(5, new MapGraph(mapGraph.createBoardDescriptor()).getLongestStreetPathCalculator()
+                .getLongestPath(1));
+
+        for (MapGraph.BuildingNode copiedBuilding : copy.getBuildingNodeHashSet()) {
+            if (copiedBuilding.getUuid().equals(building.getUuid())) {
+                copiedBuilding.buildOrDevelopSettlement(2);
+            }
+        }
+        assertEquals(3, copy.getLongestStreetPathCalculator().getLongestPath(1));
+        assertEquals(5, mapGraph.getLongestStreetPathCalculator().getLongestPath(1));
+    }
 }
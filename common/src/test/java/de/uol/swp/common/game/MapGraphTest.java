@@ -0,0 +1,113 @@
+package de.uol.swp.common.game;
+
+import java.util.BitSet;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.SerializationTestHelper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for the UUID lookups, the ids and the robber of the MapGraph
+ *
+ * @since 2026-10-18
+ */
+public class MapGraphTest {
+
+    /**
+     * Checks that every node can be found by its UUID and that the ids are dense
+     */
+    private static void assertIndexed(MapGraph mapGraph) {
+        BitSet ids = new BitSet();
+        for (MapGraph.Hexagon hexagon : mapGraph.getHexagonHashSet()) {
+            assertSame(hexagon, mapGraph.getHexagon(hexagon.getUuid()));
+            ids.set(hexagon.getId());
+        }
+        assertEquals(mapGraph.getHexagonHashSet().size(), ids.cardinality());
+        assertEquals(mapGraph.getHexagonHashSet().size(), ids.length());
+
+        ids.clear();
+        for (MapGraph.BuildingNode buildingNode : mapGraph.getBuildingNodeHashSet()) {
+            assertSame(buildingNode, mapGraph.getBuildingNode(buildingNode.getUuid()));
+            ids.set(buildingNode.getId());
+        }
+        assertEquals(mapGraph.getBuildingNodeHashSet().size(), ids.length());
+
+        ids.clear();
+        for (MapGraph.StreetNode streetNode : mapGraph.getStreetNodeHashSet()) {
+            assertSame(streetNode, mapGraph.getStreetNode(streetNode.getUuid()));
+            ids.set(streetNode.getId());
+        }
+        assertEquals(mapGraph.getStreetNodeHashSet().size(), ids.length());
+
+        assertNull(mapGraph.getHexagon(UUID.randomUUID()));
+        assertNull(mapGraph.getBuildingNode(UUID.randomUUID()));
+        assertNull(mapGraph.getStreetNode(UUID.randomUUID()));
+    }
+
+    @Test
+    void lookupTest() {
+        for (String variant : new String[]{"", "Random", "VeryRandom"}) {
+            assertIndexed(new MapGraph(variant));
+        }
+    }
+
+    @Test
+    void lookupAfterSerializationTest() throws Exception {
+        MapGraph mapGraph = SerializationTestHelper.unpickle(
+                SerializationTestHelper.pickle(new MapGraph("Random")), MapGraph.class);
+        assertIndexed(mapGraph);
+    }
+
+    @Test
+    void sameIdsInCopiesTest() {
+        MapGraph mapGraph = new MapGraph("Random");
+        MapGraph copy = mapGraph.copy();
+        MapGraph recreated = new MapGraph(mapGraph.createBoardDescriptor());
+        assertIndexed(copy);
+        assertIndexed(recreated);
+        for (MapGraph.BuildingNode buildingNode : mapGraph.getBuildingNodeHashSet()) {
+            assertEquals(buildingNode.getId(), copy.getBuildingNode(buildingNode.getUuid()).getId());
+            assertEquals(buildingNode.getId(), recreated.getBuildingNode(buildingNode.getUuid()).getId());
+        }
+        for (MapGraph.StreetNode streetNode : mapGraph.getStreetNodeHashSet()) {
+            assertEquals(streetNode.getId(), copy.getStreetNode(streetNode.getUuid()).getId());
+            assertEquals(streetNode.getId(), recreated.getStreetNode(streetNode.getUuid()).getId());
+        }
+        for (MapGraph.Hexagon hexagon : mapGraph.getHexagonHashSet()) {
+            assertEquals(hexagon.getId(), copy.getHexagon(hexagon.getUuid()).getId());
+            assertEquals(hexagon.getId(), recreated.getHexagon(hexagon.getUuid()).getId());
+        }
+    }
+
+    @Test
+    void moveRobberTest() {
+        MapGraph mapGraph = new MapGraph("");
+        assertNull(mapGraph.getRobberHexagon());
+
+        MapGraph.Hexagon robber = mapGraph.getHexagonHashSet().iterator().next();
+        assertSame(robber, mapGraph.moveRobber(robber.getUuid()));
+        assertTrue(robber.isOccupiedByRobber());
+
+        MapGraph.Hexagon target = null;
+        for (MapGraph.Hexagon hexagon : mapGraph.getHexagonHashSet()) {
+            if (hexagon != robber) {
+                target = hexagon;
+                break;
+            }
+        }
+        assertSame(target, mapGraph.moveRobber(target.getUuid()));
+        assertSame(target, mapGraph.getRobberHexagon());
+        assertTrue(target.isOccupiedByRobber());
+        assertFalse(robber.isOccupiedByRobber());
+
+        assertNull(mapGraph.moveRobber(UUID.randomUUID()));
+        assertSame(target, mapGraph.getRobberHexagon());
+        assertEquals(1, mapGraph.getHexagonHashSet().stream().filter(MapGraph.Hexagon::isOccupiedByRobber).count());
+
+        MapGraph copy = mapGraph.copy();
+        assertEquals(target.getUuid(), copy.getRobberHexagon().getUuid());
+    }
+}
@@ -0,0 +1,147 @@
+package de.uol.swp.common.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.uol.swp.common.user.UserDTO;
+
+/**
+ * Measures the cost of handing out the resources of a dice roll in many games at once
+ * <p>
+ * Every game has four players with two settlements and one city each. The rolls of all games are handed out once by
+ * walking all Hexagons and moving the cards from the bank one by one, like the GameService did before, and once with
+ * the ProductionTable of the MapGraph and one batched move per resource. As both ways hand out the same rolls equally
+ * often, every amount in the inventories has to be even at the end.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl common exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.common.game.ProductionBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+public class ProductionBenchmark {
+
+    private static final int GAMES = 500;
+    private static final int ROUNDS = 3;
+    private static final int WARMUP = 20;
+    private static final int ROLLS = 100;
+
+    private static final class Table {
+        private final MapGraph mapGraph = new MapGraph("Random");
+        private final Inventory[] inventories = new Inventory[ProductionTable.PLAYERS];
+        private final Inventory bank = new Inventory(new UserDTO("Bank", "", ""));
+
+        private Table(Random random) {
+            for (int player = 0; player < inventories.length; player++) {
+                inventories[player] = new Inventory(new UserDTO("player" + player, "", ""));
+            }
+            List<MapGraph.BuildingNode> buildings = new ArrayList<>(mapGraph.getBuildingNodeHashSet());
+            for (int player = 0; player < ProductionTable.PLAYERS; player++) {
+                for (int i = 0; i < 2; i++) {
+                    MapGraph.BuildingNode building = buildings.remove(random.nextInt(buildings.size()));
+                    building.buildOrDevelopSettlement(player);
+                    if (i == 0) {
+                        building.buildOrDevelopSettlement(player);
+                    }
+                }
+            }
+            bank.addResources(new int[]{1_000_000, 1_000_000, 1_000_000, 1_000_000, 1_000_000});
+        }
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        List<Table> tables = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            tables.add(new Table(random));
+        }
+        int[] rolls = new int[ROLLS];
+        for (int i = 0; i < ROLLS; i++) {
+            rolls[i] = 2 + random.nextInt(6) + random.nextInt(6);
+        }
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (int i = 0; i < WARMUP; i++) {
+                scanAll(tables, rolls);
+                tableAll(tables, rolls);
+            }
+            long scan = scanAll(tables, rolls);
+            long table = tableAll(tables, rolls);
+            System.out.printf("round %d: %d games x %d rolls, scan %.3f us, table %.3f us per roll%n", round, GAMES,
+                    ROLLS, scan / 1000.0 / GAMES / ROLLS, table / 1000.0 / GAMES / ROLLS);
+        }
+        for (Table table : tables) {
+            for (int player = 0; player < ProductionTable.PLAYERS; player++) {
+                for (Resource resource : Resource.values()) {
+                    if (table.inventories[player].getResource(resource) % 2 != 0) {
+                        throw new IllegalStateException("different production");
+                    }
+                }
+            }
+        }
+    }
+
+    private static long scanAll(List<Table> tables, int[] rolls) {
+        long start = System.nanoTime();
+        for (int eyes : rolls) {
+            for (Table table : tables) {
+                scan(table, eyes);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long tableAll(List<Table> tables, int[] rolls) {
+        long start = System.nanoTime();
+        for (int eyes : rolls) {
+            for (Table table : tables) {
+                batched(table, eyes);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Hands out the resources like the GameService did before the ProductionTable
+     */
+    private static void scan(Table table, int eyes) {
+        for (MapGraph.Hexagon hexagon : table.mapGraph.getHexagonHashSet()) {
+            if (hexagon.getDiceToken() == eyes) {
+                for (MapGraph.BuildingNode buildingNode : hexagon.getBuildingNodes()) {
+                    Resource resource = Resource.ofTerrainType(hexagon.getTerrainType());
+                    if (buildingNode.getOccupiedByPlayer() != 666 && !hexagon.isOccupiedByRobber()
+                            && resource != null) {
+                        String resourceTyp = resource.getName();
+                        Inventory inventory = table.inventories[buildingNode.getOccupiedByPlayer()];
+                        for (int i = buildingNode.getSizeOfSettlement(); i > 0; i--) {
+                            if (table.bank.getSpecificResourceAmount(resourceTyp) > 0) {
+                                table.bank.decCardStack(resourceTyp, 1);
+                                inventory.incCardStack(resourceTyp, 1);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands out the resources like the GameService does with the ProductionTable
+     */
+    private static void batched(Table table, int eyes) {
+        int[][] production = table.mapGraph.getProductionTable().getProduction(eyes);
+        for (int i = 0; i < Resource.COUNT; i++) {
+            Resource resource = Resource.of(i);
+            int stock = table.bank.getResource(resource);
+            int left = stock;
+            for (int player = 0; player < production.length && left > 0; player++) {
+                int amount = Math.min(production[player][i], left);
+                if (amount > 0) {
+                    table.inventories[player].incResource(resource, amount);
+                    left -= amount;
+                }
+            }
+            table.bank.decResource(resource, stock - left);
+        }
+    }
+}
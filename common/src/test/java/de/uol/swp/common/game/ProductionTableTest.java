@@ -0,0 +1,105 @@
+package de.uol.swp.common.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.SerializationTestHelper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for the ProductionTable
+ *
+ * @since 2026-10-18
+ */
+public class ProductionTableTest {
+
+    /**
+     * Calculates the production of a dice value by walking all Hexagons, like the GameService did before
+     */
+    private static int[][] scan(MapGraph mapGraph, int eyes) {
+        int[][] production = new int[ProductionTable.PLAYERS][Resource.COUNT];
+        for (MapGraph.Hexagon hexagon : mapGraph.getHexagonHashSet()) {
+            Resource resource = Resource.ofTerrainType(hexagon.getTerrainType());
+            if (hexagon.getDiceToken() == eyes && !hexagon.isOccupiedByRobber() && resource != null) {
+                for (MapGraph.BuildingNode buildingNode : hexagon.getBuildingNodes()) {
+                    if (buildingNode.getOccupiedByPlayer() != 666) {
+                        production[buildingNode.getOccupiedByPlayer()][resource.ordinal()] +=
+                                buildingNode.getSizeOfSettlement();
+                    }
+                }
+            }
+        }
+        return production;
+    }
+
+    private static void assertSameProduction(MapGraph mapGraph) {
+        for (int eyes = 2; eyes <= 12; eyes++) {
+            assertArrayEquals(scan(mapGraph, eyes), mapGraph.getProductionTable().getProduction(eyes),
+                    "dice value " + eyes);
+        }
+    }
+
+    /**
+     * Builds and develops random settlements and moves the robber, checking the table after every change
+     */
+    private static void play(MapGraph mapGraph, Random random, int changes) {
+        List<MapGraph.BuildingNode> buildings = new ArrayList<>(mapGraph.getBuildingNodeHashSet());
+        List<MapGraph.Hexagon> hexagons = new ArrayList<>(mapGraph.getHexagonHashSet());
+        for (int i = 0; i < changes; i++) {
+            if (random.nextInt(3) == 0) {
+                mapGraph.moveRobber(hexagons.get(random.nextInt(hexagons.size())).getUuid());
+            } else {
+                MapGraph.BuildingNode building = buildings.get(random.nextInt(buildings.size()));
+                if (building.getSizeOfSettlement() < 2) {
+                    int player = building.getSizeOfSettlement() == 0 ? random.nextInt(4) :
+                            building.getOccupiedByPlayer();
+                    building.buildOrDevelopSettlement(player);
+                }
+            }
+            assertSameProduction(mapGraph);
+        }
+    }
+
+    @Test
+    void incrementalUpdateTest() {
+        Random random = new Random(42);
+        for (String variant : new String[]{"", "Random", "VeryRandom"}) {
+            MapGraph mapGraph = new MapGraph(variant);
+            assertSameProduction(mapGraph);
+            play(mapGraph, random, 60);
+        }
+    }
+
+    @Test
+    void createdForPlayedMapGraphTest() throws Exception {
+        Random random = new Random(7);
+        MapGraph mapGraph = new MapGraph("Random");
+        play(mapGraph, random, 30);
+
+        assertSameProduction(mapGraph.copy());
+        MapGraph deserialized = SerializationTestHelper.unpickle(SerializationTestHelper.pickle(mapGraph),
+                MapGraph.class);
+        assertSameProduction(deserialized);
+        play(deserialized, random, 30);
+    }
+
+    @Test
+    void noProductionTest() {
+        MapGraph mapGraph = new MapGraph("");
+        for (MapGraph.BuildingNode building : mapGraph.getBuildingNodeHashSet()) {
+            building.buildOrDevelopSettlement(0);
+        }
+        int[][] nothing = new int[ProductionTable.PLAYERS][Resource.COUNT];
+        assertArrayEquals(nothing, mapGraph.getProductionTable().getProduction(7));
+        assertArrayEquals(nothing, mapGraph.getProductionTable().getProduction(1));
+        assertArrayEquals(nothing, mapGraph.getProductionTable().getProduction(13));
+
+        int[][] production = mapGraph.getProductionTable().getProduction(8);
+        production[0][0] = -1;
+        assertArrayEquals(scan(mapGraph, 8), mapGraph.getProductionTable().getProduction(8));
+    }
+}
@@ -0,0 +1,326 @@
+package de.uol.swp.loadtest;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoopGroup;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.client.ClientConnection;
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.game.MapGraph;
+import de.uol.swp.common.game.message.GameCreatedMessage;
+import de.uol.swp.common.game.message.NextTurnMessage;
+import de.uol.swp.common.game.message.RollDiceResultMessage;
+import de.uol.swp.common.game.message.SuccessfulConstructionMessage;
+import de.uol.swp.common.game.request.ConstructionRequest;
+import de.uol.swp.common.game.request.EndTurnRequest;
+import de.uol.swp.common.game.request.PlayerReadyRequest;
+import de.uol.swp.common.game.request.RollDiceRequest;
+import de.uol.swp.common.lobby.message.StartGameMessage;
+import de.uol.swp.common.lobby.request.CreateLobbyRequest;
+import de.uol.swp.common.lobby.request.LobbyJoinUserRequest;
+import de.uol.swp.common.lobby.request.StartGameRequest;
+import de.uol.swp.common.message.Message;
+import de.uol.swp.common.message.RequestMessage;
+import de.uol.swp.common.message.ResponseMessage;
+import de.uol.swp.common.message.ServerMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.LoginRequest;
+import de.uol.swp.common.user.request.RegisterUserRequest;
+import de.uol.swp.common.user.response.LoginSuccessfulResponse;
+import de.uol.swp.common.user.response.lobby.LobbyCreatedSuccessfulResponse;
+import de.uol.swp.common.user.response.lobby.LobbyJoinedSuccessfulResponse;
+
+/**
+ * A simulated user without a user interface
+ * <p>
+ * Uses the ClientConnection of the client with an EventBus of its own, so the
+ * server cannot tell it from a real client. After logging in and joining a
+ * lobby, the bot plays a scripted turn whenever it is its turn: in the opening
+ * turns it builds a settlement on the first free place it finds and a road next
+ * to it, afterwards it rolls the dice and ends the turn as soon as the result
+ * arrived. To find free places, the bot keeps a MapGraph of its game updated
+ * with the constructions of all players. The handlers run on the netty thread
+ * of the connection.
+ *
+ * @see de.uol.swp.loadtest.LoadTest
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+class BotClient {
+
+    private static final Logger LOG = LogManager.getLogger(BotClient.class);
+
+    private static final long STEP_TIMEOUT_SECONDS = 60;
+
+    private final String username;
+    private final String password = "password";
+    private final LoadStatistics statistics;
+    private final ClientConnection connection;
+    private volatile UserDTO user;
+    private volatile String gameName;
+    private MapGraph mapGraph;
+
+    private final CompletableFuture<Void> lobbyCreated = timeout(new CompletableFuture<>());
+    private final CompletableFuture<Void> lobbyJoined = timeout(new CompletableFuture<>());
+    private final CompletableFuture<Void> gameCreated = timeout(new CompletableFuture<>());
+    // when the request waiting for its broadcast was sent, 0 if none waits
+    private volatile long rollSentAt;
+    private volatile long endTurnSentAt;
+    private volatile long constructionSentAt;
+
+    /**
+     * Constructor
+     *
+     * @param username   the name the bot registers and logs in with
+     * @param host       the server name or IP to connect to
+     * @param port       the server port to connect to
+     * @param statistics the LoadStatistics the bot counts in
+     * @since 2026-10-18
+     */
+    BotClient(String username, String host, int port, LoadStatistics statistics) {
+        this.username = username;
+        this.statistics = statistics;
+        EventBus eventBus = new EventBus(username);
+        this.connection = new ClientConnection(host, port, eventBus);
+        eventBus.register(this);
+    }
+
+    private static <T> CompletableFuture<T> timeout(CompletableFuture<T> future) {
+        return future.orTimeout(STEP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Connects the bot to the server
+     *
+     * @param group      the EventLoopGroup shared by the bots
+     * @param wireFormat the format used by the server
+     * @return the ChannelFuture completed when connected
+     * @since 2026-10-18
+     */
+    ChannelFuture connect(EventLoopGroup group, WireFormat wireFormat) {
+        return connection.connect(group, wireFormat);
+    }
+
+    /**
+     * Registers the user of the bot and logs it in
+     * <p>
+     * A failed registration is ignored, as the user may exist from an earlier run.
+     *
+     * @return the future completed when logged in
+     * @since 2026-10-18
+     */
+    CompletableFuture<Void> login() {
+        return await(new RegisterUserRequest(new UserDTO(username, password, username + "@bots.de")))
+                .handle((response, e) -> null)
+                .thenCompose(ignored -> await(new LoginRequest(username, password)))
+                .thenAccept(response -> user = UserDTO.create(((LoginSuccessfulResponse) response).getUser()));
+    }
+
+    /**
+     * Creates a lobby owned by the bot
+     *
+     * @param lobbyName the name of the lobby
+     * @return the future completed when the lobby was created
+     * @since 2026-10-18
+     */
+    CompletableFuture<Void> createLobby(String lobbyName) {
+        send(new CreateLobbyRequest(lobbyName, user));
+        return lobbyCreated;
+    }
+
+    /**
+     * Joins the lobby of another bot
+     *
+     * @param lobbyName the name of the lobby
+     * @return the future completed when the lobby was joined
+     * @since 2026-10-18
+     */
+    CompletableFuture<Void> joinLobby(String lobbyName) {
+        send(new LobbyJoinUserRequest(lobbyName, user));
+        return lobbyJoined;
+    }
+
+    /**
+     * Starts the game of the lobby owned by the bot
+     * <p>
+     * The game starts as soon as every bot in the lobby said it is ready.
+     *
+     * @param lobbyName the name of the lobby
+     * @param players   the number of bots in the lobby
+     * @since 2026-10-18
+     */
+    void startGame(String lobbyName, int players) {
+        send(new StartGameRequest(lobbyName, user, "Standard", players));
+    }
+
+    /**
+     * Getter for the future completed when the game of the bot was created
+     *
+     * @return the future of the game
+     * @since 2026-10-18
+     */
+    CompletableFuture<Void> getGameCreated() {
+        return gameCreated;
+    }
+
+    /**
+     * Closes the connection of the bot
+     *
+     * @since 2026-10-18
+     */
+    void close() {
+        connection.close();
+    }
+
+    private CompletableFuture<ResponseMessage> await(RequestMessage request) {
+        statistics.requestSent();
+        long start = System.nanoTime();
+        return connection.request(request).whenComplete((response, e) -> {
+            if (e == null) {
+                statistics.getResponseLatency().record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private void send(RequestMessage request) {
+        statistics.requestSent();
+        connection.onRequestMessage(request);
+    }
+
+    /**
+     * Counts every message received by the bot
+     *
+     * @param message the ServerMessage or ResponseMessage posted by the ClientConnection
+     * @since 2026-10-18
+     */
+    @Subscribe
+    public void onMessage(Message message) {
+        if (message instanceof ServerMessage || message instanceof ResponseMessage) {
+            statistics.messageReceived();
+        }
+    }
+
+    @Subscribe
+    public void onLobbyCreated(LobbyCreatedSuccessfulResponse response) {
+        lobbyCreated.complete(null);
+    }
+
+    @Subscribe
+    public void onLobbyJoined(LobbyJoinedSuccessfulResponse response) {
+        lobbyJoined.complete(null);
+    }
+
+    @Subscribe
+    public void onStartGame(StartGameMessage message) {
+        send(new PlayerReadyRequest(message.getName(), user, true));
+    }
+
+    @Subscribe
+    public void onGameCreated(GameCreatedMessage message) {
+        gameName = message.getName();
+        mapGraph = message.getMapGraph();
+        if (message.getGameOwner() != null && message.getGameOwner().getUsername().equals(username)) {
+            statistics.gameStarted();
+        }
+        gameCreated.complete(null);
+    }
+
+    @Subscribe
+    public void onNextTurn(NextTurnMessage message) {
+        long sentAt = endTurnSentAt;
+        if (sentAt != 0) {
+            endTurnSentAt = 0;
+            statistics.getBroadcastLatency().record(System.nanoTime() - sentAt);
+        }
+        if (!username.equals(message.getPlayerWithCurrentTurn())) {
+            return;
+        }
+        if (message.isInStartingTurn()) {
+            buildSettlementAndRoad();
+        } else {
+            rollSentAt = System.nanoTime();
+            send(new RollDiceRequest(gameName, user));
+        }
+    }
+
+    @Subscribe
+    public void onRollDiceResult(RollDiceResultMessage message) {
+        long sentAt = rollSentAt;
+        if (sentAt != 0) {
+            rollSentAt = 0;
+            statistics.getBroadcastLatency().record(System.nanoTime() - sentAt);
+            endTurn();
+        }
+    }
+
+    @Subscribe
+    public void onSuccessfulConstruction(SuccessfulConstructionMessage message) {
+        if (message.getUser().getUsername().equals(username)) {
+            long sentAt = constructionSentAt;
+            if (sentAt != 0) {
+                constructionSentAt = 0;
+                statistics.getBroadcastLatency().record(System.nanoTime() - sentAt);
+            }
+        }
+        if ("BuildingNode".equals(message.getTypeOfNode())) {
+            mapGraph.getBuildingNode(message.getUuid()).buildOrDevelopSettlement(message.getPlayerIndex());
+        } else {
+            mapGraph.getStreetNode(message.getUuid()).buildRoad(message.getPlayerIndex());
+        }
+    }
+
+    /**
+     * Builds the settlement and road of an opening turn, the server then ends the turn
+     * <p>
+     * Like the RandomAI, the first free place not next to another building is taken.
+     */
+    private void buildSettlementAndRoad() {
+        for (MapGraph.BuildingNode buildingNode : mapGraph.getBuildingNodeHashSet()) {
+            if (buildingNode.getOccupiedByPlayer() != 666 || buildingNode.getParent().getSelfPosition().size() >= 3
+                    || !isFarFromBuildings(buildingNode)) {
+                continue;
+            }
+            for (MapGraph.StreetNode streetNode : buildingNode.getConnectedStreetNodes()) {
+                if (streetNode.getOccupiedByPlayer() == 666) {
+                    statistics.turnPlayed();
+                    constructionSentAt = System.nanoTime();
+                    construct(buildingNode.getUuid(), "BuildingNode");
+                    construct(streetNode.getUuid(), "StreetNode");
+                    return;
+                }
+            }
+        }
+        LOG.warn(username + " found no place to build in " + gameName);
+    }
+
+    private boolean isFarFromBuildings(MapGraph.BuildingNode buildingNode) {
+        for (MapGraph.StreetNode streetNode : buildingNode.getConnectedStreetNodes()) {
+            for (MapGraph.BuildingNode neighbour : streetNode.getConnectedBuildingNodes()) {
+                if (neighbour.getOccupiedByPlayer() != 666) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void construct(UUID uuid, String typeOfNode) {
+        send(new ConstructionRequest(user, gameName, uuid, typeOfNode));
+    }
+
+    private void endTurn() {
+        LOG.debug(username + " ends the turn in " + gameName);
+        statistics.turnPlayed();
+        endTurnSentAt = System.nanoTime();
+        send(new EndTurnRequest(gameName, user));
+    }
+}
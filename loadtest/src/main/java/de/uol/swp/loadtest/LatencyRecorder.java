@@ -0,0 +1,150 @@
+package de.uol.swp.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects latencies in a histogram to report their percentiles
+ * <p>
+ * The values are not kept, every latency only increments the counter of its
+ * bucket, so a long load test needs no more memory than a short one. Each power
+ * of two is split into {@value #SUB_BUCKETS} buckets, so a percentile is at most
+ * 1/{@value #SUB_BUCKETS} too high. Can be used by any number of threads.
+ *
+ * @see de.uol.swp.loadtest.LoadTest
+ * @since 2026-10-18
+ */
+public class LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one latency
+     *
+     * @param nanos the latency in nanoseconds, negative values count as 0
+     * @since 2026-10-18
+     */
+    public void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Getter for the number of recorded latencies
+     *
+     * @return the number of latencies
+     * @since 2026-10-18
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Getter for the highest recorded latency
+     *
+     * @return the highest latency in nanoseconds, 0 if none was recorded
+     * @since 2026-10-18
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Getter for the average of the recorded latencies
+     *
+     * @return the average latency in nanoseconds, 0 if none was recorded
+     * @since 2026-10-18
+     */
+    public long getAverageNanos() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / n;
+    }
+
+    /**
+     * Getter for a percentile of the recorded latencies
+     *
+     * @param percentile the percentile, e.g. 99 for the latency 99 percent of the latencies do not exceed
+     * @return the upper bound of the bucket of the percentile in nanoseconds, 0 if none was recorded
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     * @since 2026-10-18
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("invalid percentile: " + percentile);
+        }
+        long[] counts = new long[buckets.length()];
+        long n = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            n += counts[i];
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(n * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Forgets all recorded latencies, e.g. after the warm up
+     * <p>
+     * Latencies recorded at the same time may be lost or counted partially.
+     *
+     * @since 2026-10-18
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (nanos >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d avg=%.2fms p50=%.2fms p99=%.2fms max=%.2fms", getCount(),
+                toMillis(getAverageNanos()), toMillis(getPercentileNanos(50)), toMillis(getPercentileNanos(99)),
+                toMillis(getMaxNanos()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
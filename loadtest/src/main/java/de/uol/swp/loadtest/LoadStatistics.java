@@ -0,0 +1,192 @@
+package de.uol.swp.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The numbers measured by the bots of a load test
+ * <p>
+ * Shared by all bots, so every counter can be used by any number of threads.
+ *
+ * @see de.uol.swp.loadtest.BotClient
+ * @since 2026-10-18
+ */
+public class LoadStatistics {
+
+    private final LatencyRecorder responseLatency = new LatencyRecorder();
+    private final LatencyRecorder broadcastLatency = new LatencyRecorder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final LongAdder requestsSent = new LongAdder();
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder turnsPlayed = new LongAdder();
+    private final LongAccumulator peakHeapBytes = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakThreads = new LongAccumulator(Math::max, 0);
+    private volatile long startNanos = System.nanoTime();
+    private volatile long elapsedNanos;
+
+    /**
+     * Getter for the time from sending a request until its response arrived
+     * <p>
+     * Measured for the registrations and logins of the bots, before the warm up.
+     *
+     * @return the LatencyRecorder of the awaited requests
+     * @since 2026-10-18
+     */
+    public LatencyRecorder getResponseLatency() {
+        return responseLatency;
+    }
+
+    /**
+     * Getter for the time from sending a request until the ServerMessage it caused arrived
+     * <p>
+     * Measured for RollDiceRequests until the RollDiceResultMessage, for
+     * EndTurnRequests until the NextTurnMessage and for the settlements of the
+     * opening turns until the SuccessfulConstructionMessage, all sent to every
+     * player of the game.
+     *
+     * @return the LatencyRecorder of the broadcasts
+     * @since 2026-10-18
+     */
+    public LatencyRecorder getBroadcastLatency() {
+        return broadcastLatency;
+    }
+
+    void messageReceived() {
+        messagesReceived.increment();
+    }
+
+    void requestSent() {
+        requestsSent.increment();
+    }
+
+    void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    void turnPlayed() {
+        turnsPlayed.increment();
+    }
+
+    /**
+     * Records the heap and threads of the JVM the server runs in
+     *
+     * @param heapBytes the used heap in bytes
+     * @param threads   the number of live threads
+     * @since 2026-10-18
+     */
+    void sampleServer(long heapBytes, int threads) {
+        peakHeapBytes.accumulate(heapBytes);
+        peakThreads.accumulate(threads);
+    }
+
+    /**
+     * Getter for the number of ServerMessages and ResponseMessages received by all bots
+     *
+     * @return the number of received messages
+     * @since 2026-10-18
+     */
+    public long getMessagesReceived() {
+        return messagesReceived.sum();
+    }
+
+    /**
+     * Getter for the number of requests sent by all bots
+     *
+     * @return the number of sent requests
+     * @since 2026-10-18
+     */
+    public long getRequestsSent() {
+        return requestsSent.sum();
+    }
+
+    /**
+     * Getter for the number of games started for the bots
+     *
+     * @return the number of started games, counted once per game
+     * @since 2026-10-18
+     */
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    /**
+     * Getter for the number of turns ended by the bots
+     *
+     * @return the number of played turns
+     * @since 2026-10-18
+     */
+    public long getTurnsPlayed() {
+        return turnsPlayed.sum();
+    }
+
+    /**
+     * Getter for the highest used heap sampled while measuring
+     *
+     * @return the peak heap in bytes, 0 if the server was not sampled
+     * @since 2026-10-18
+     */
+    public long getPeakHeapBytes() {
+        return peakHeapBytes.get();
+    }
+
+    /**
+     * Getter for the highest number of threads sampled while measuring
+     *
+     * @return the peak number of threads, 0 if the server was not sampled
+     * @since 2026-10-18
+     */
+    public long getPeakThreads() {
+        return peakThreads.get();
+    }
+
+    /**
+     * Getter for the received messages per second while measuring
+     *
+     * @return the messages per second
+     * @since 2026-10-18
+     */
+    public double getMessagesPerSecond() {
+        long nanos = elapsedNanos > 0 ? elapsedNanos : System.nanoTime() - startNanos;
+        return getMessagesReceived() / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Forgets everything counted so far and starts measuring
+     * <p>
+     * Used after the warm up, the games already started and the response
+     * latencies of the logins are kept.
+     *
+     * @since 2026-10-18
+     */
+    void startMeasuring() {
+        broadcastLatency.reset();
+        messagesReceived.reset();
+        requestsSent.reset();
+        turnsPlayed.reset();
+        peakHeapBytes.reset();
+        peakThreads.reset();
+        elapsedNanos = 0;
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Stops measuring, the messages per second are not changed by later messages
+     *
+     * @since 2026-10-18
+     */
+    void stopMeasuring() {
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    @Override
+    public String toString() {
+        String server = getPeakThreads() == 0 ? "not sampled (remote server)"
+                : String.format("peak heap %.1f MB, peak threads %d (server and bots)",
+                        getPeakHeapBytes() / (1024.0 * 1024.0), getPeakThreads());
+        return String.format("games %d, turns %d, requests %d, messages %d (%.0f msgs/s)%n"
+                        + "login latency:     %s%nbroadcast latency: %s%nserver: %s", getGamesStarted(),
+                getTurnsPlayed(), getRequestsSent(), getMessagesReceived(), getMessagesPerSecond(), responseLatency,
+                broadcastLatency, server);
+    }
+}
@@ -0,0 +1,230 @@
+package de.uol.swp.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.codec.WireFormat;
+
+/**
+ * Plays games with headless bots against a server to measure its throughput and latency
+ * <p>
+ * Starts a server in the same JVM, unless {@value #HOST_PROPERTY} names one, and
+ * connects {@value #BOTS_PROPERTY} bots to it. The bots log in, meet in lobbies of
+ * {@value #PLAYERS_PROPERTY} and play their games for {@value #DURATION_PROPERTY}
+ * seconds after a warm up of {@value #WARMUP_PROPERTY} seconds. Then the received
+ * messages per second, the 50th and 99th percentile of the time from a request to
+ * the broadcast it caused and the peak heap and threads of the server JVM are
+ * printed. The wire format is read from the same system property as in server and
+ * client.
+ * <p>
+ * Run e.g. with {@code java -Dswp.loadtest.bots=200 -jar loadtest-1.1-SNAPSHOT-jar-with-dependencies.jar}.
+ *
+ * @see de.uol.swp.loadtest.BotClient
+ * @see de.uol.swp.loadtest.LoadStatistics
+ * @since 2026-10-18
+ */
+public class LoadTest {
+
+    /**
+     * System property with the number of bots
+     */
+    public static final String BOTS_PROPERTY = "swp.loadtest.bots";
+
+    /**
+     * System property with the number of bots playing one game, 1 to 4
+     */
+    public static final String PLAYERS_PROPERTY = "swp.loadtest.playersPerGame";
+
+    /**
+     * System property with the seconds the games are measured
+     */
+    public static final String DURATION_PROPERTY = "swp.loadtest.durationSeconds";
+
+    /**
+     * System property with the seconds the games are played before measuring
+     */
+    public static final String WARMUP_PROPERTY = "swp.loadtest.warmupSeconds";
+
+    /**
+     * System property with the server to connect to, a server is started in the JVM if it is not set
+     */
+    public static final String HOST_PROPERTY = "swp.loadtest.host";
+
+    /**
+     * System property with the port of the server
+     */
+    public static final String PORT_PROPERTY = "swp.loadtest.port";
+
+    /**
+     * System property with the number of threads running the connections of the bots
+     */
+    public static final String THREADS_PROPERTY = "swp.loadtest.threads";
+
+    private static final Logger LOG = LogManager.getLogger(LoadTest.class);
+
+    private final int bots;
+    private final int playersPerGame;
+    private final long durationSeconds;
+    private final long warmupSeconds;
+    private final String host;
+    private final int port;
+    private final int threads;
+    private final WireFormat wireFormat;
+
+    /**
+     * Constructor
+     *
+     * @param bots            the number of bots
+     * @param playersPerGame  the number of bots playing one game
+     * @param durationSeconds the seconds the games are measured
+     * @param warmupSeconds   the seconds the games are played before measuring
+     * @param host            the server to connect to, null to start one in this JVM
+     * @param port            the port of the server
+     * @param threads         the number of threads running the connections of the bots
+     * @param wireFormat      the format used to encode and decode messages
+     * @throws IllegalArgumentException if a value is out of range
+     * @since 2026-10-18
+     */
+    public LoadTest(int bots, int playersPerGame, long durationSeconds, long warmupSeconds, String host, int port,
+                    int threads, WireFormat wireFormat) {
+        if (bots <= 0 || playersPerGame < 1 || playersPerGame > 4 || durationSeconds <= 0 || warmupSeconds < 0
+                || threads <= 0) {
+            throw new IllegalArgumentException("invalid load test: " + bots + " bots, " + playersPerGame
+                    + " per game, " + durationSeconds + " s, warm up " + warmupSeconds + " s, " + threads
+                    + " threads");
+        }
+        this.bots = bots;
+        this.playersPerGame = playersPerGame;
+        this.durationSeconds = durationSeconds;
+        this.warmupSeconds = warmupSeconds;
+        this.host = host;
+        this.port = port;
+        this.threads = threads;
+        this.wireFormat = wireFormat;
+    }
+
+    /**
+     * Creates a load test configured by the system properties
+     * <p>
+     * Without the properties, 16 bots play games of 4 for 30 seconds after 5
+     * seconds of warm up against a server on port 50199 in this JVM.
+     *
+     * @return the configured LoadTest
+     * @since 2026-10-18
+     */
+    public static LoadTest fromSystemProperties() {
+        return new LoadTest(Integer.getInteger(BOTS_PROPERTY, 16), Integer.getInteger(PLAYERS_PROPERTY, 4),
+                Long.getLong(DURATION_PROPERTY, 30), Long.getLong(WARMUP_PROPERTY, 5),
+                System.getProperty(HOST_PROPERTY), Integer.getInteger(PORT_PROPERTY, 50199),
+                Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                WireFormat.fromSystemProperty());
+    }
+
+    /**
+     * Main Method
+     *
+     * @param args ignored, the load test is configured by the system properties
+     * @throws Exception if the bots could not start their games
+     * @since 2026-10-18
+     */
+    public static void main(String[] args) throws Exception {
+        LoadStatistics statistics = fromSystemProperties().run();
+        System.out.println(statistics);
+        // the services of a local server keep their threads
+        System.exit(0);
+    }
+
+    /**
+     * Runs the load test
+     *
+     * @return the LoadStatistics measured after the warm up
+     * @throws Exception if the server did not start or the bots could not start their games
+     * @since 2026-10-18
+     */
+    public LoadStatistics run() throws Exception {
+        LocalServer localServer = host == null ? new LocalServer(port, wireFormat) : null;
+        EventLoopGroup group = new NioEventLoopGroup(threads);
+        LoadStatistics statistics = new LoadStatistics();
+        List<BotClient> botClients = new ArrayList<>();
+        try {
+            String prefix = "bot" + Long.toString(System.currentTimeMillis(), 36) + "-";
+            for (int i = 0; i < bots; i++) {
+                BotClient bot = new BotClient(prefix + i, host == null ? "localhost" : host, port, statistics);
+                botClients.add(bot);
+                bot.connect(group, wireFormat).sync();
+            }
+            LOG.info("Connected " + bots + " bots");
+            List<CompletableFuture<Void>> steps = new ArrayList<>();
+            for (BotClient bot : botClients) {
+                steps.add(bot.login());
+            }
+            CompletableFuture.allOf(steps.toArray(new CompletableFuture[0])).join();
+            LOG.info("Logged in " + bots + " bots");
+
+            steps.clear();
+            for (int first = 0; first < bots; first += playersPerGame) {
+                List<BotClient> players = botClients.subList(first, Math.min(bots, first + playersPerGame));
+                steps.add(startGame(prefix + "lobby" + first / playersPerGame, players));
+            }
+            CompletableFuture.allOf(steps.toArray(new CompletableFuture[0])).join();
+            LOG.info("Started " + steps.size() + " games");
+
+            Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSeconds));
+            statistics.startMeasuring();
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            while (System.nanoTime() < end) {
+                if (localServer != null) {
+                    statistics.sampleServer(memory.getHeapMemoryUsage().getUsed(), threadBean.getThreadCount());
+                }
+                Thread.sleep(Math.max(1, Math.min(1000, TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime()))));
+            }
+            statistics.stopMeasuring();
+            return statistics;
+        } finally {
+            botClients.forEach(BotClient::close);
+            group.shutdownGracefully().sync();
+            if (localServer != null) {
+                localServer.stop();
+            }
+        }
+    }
+
+    /**
+     * Lets the first bot create a lobby, the others join it and starts the game
+     *
+     * @param lobbyName the name of the lobby
+     * @param players   the bots playing the game, the first one owns the lobby
+     * @return the future completed when the game was created for all bots
+     * @since 2026-10-18
+     */
+    private static CompletableFuture<Void> startGame(String lobbyName, List<BotClient> players) {
+        BotClient owner = players.get(0);
+        return owner.createLobby(lobbyName).thenCompose(created -> {
+            List<CompletableFuture<Void>> joined = new ArrayList<>();
+            for (BotClient player : players.subList(1, players.size())) {
+                joined.add(player.joinLobby(lobbyName));
+            }
+            return CompletableFuture.allOf(joined.toArray(new CompletableFuture[0]));
+        }).thenCompose(joined -> {
+            owner.startGame(lobbyName, players.size());
+            List<CompletableFuture<Void>> created = new ArrayList<>();
+            for (BotClient player : players) {
+                created.add(player.getGameCreated());
+            }
+            return CompletableFuture.allOf(created.toArray(new CompletableFuture[0]));
+        });
+    }
+}
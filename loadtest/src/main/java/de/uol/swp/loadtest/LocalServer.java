@@ -0,0 +1,82 @@
+package de.uol.swp.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.server.chat.ChatService;
+import de.uol.swp.server.communication.ServerHandler;
+import de.uol.swp.server.communication.netty.NettyServerHandler;
+import de.uol.swp.server.communication.netty.Server;
+import de.uol.swp.server.di.ServerModule;
+import de.uol.swp.server.game.GameService;
+import de.uol.swp.server.lobby.LobbyService;
+import de.uol.swp.server.usermanagement.AuthenticationService;
+import de.uol.swp.server.usermanagement.UserService;
+import de.uol.swp.server.usermanagement.store.MainMemoryBasedUserStore;
+
+/**
+ * A server started in the JVM of the load test
+ * <p>
+ * Wired like the ServerApp, but the users are kept in memory, so no database
+ * is needed and every run starts without users.
+ *
+ * @see de.uol.swp.loadtest.LoadTest
+ * @since 2026-10-18
+ */
+class LocalServer {
+
+    private static final Logger LOG = LogManager.getLogger(LocalServer.class);
+
+    private final Server server;
+    private final Thread thread;
+
+    /**
+     * Starts the server on its own thread and waits until it accepts connections
+     *
+     * @param port       the port the server is reachable on
+     * @param wireFormat the format used to encode and decode messages
+     * @throws Exception if the server did not start within 30 seconds
+     * @since 2026-10-18
+     */
+    LocalServer(int port, WireFormat wireFormat) throws Exception {
+        Injector injector = Guice.createInjector(new ServerModule(new MainMemoryBasedUserStore()));
+        // like in the ServerApp, the services are not referenced by any other class
+        injector.getInstance(UserService.class);
+        injector.getInstance(AuthenticationService.class);
+        injector.getInstance(LobbyService.class);
+        injector.getInstance(ChatService.class);
+        injector.getInstance(GameService.class);
+        ServerHandler serverHandler = injector.getInstance(ServerHandler.class);
+        server = new Server(new NettyServerHandler(serverHandler));
+        thread = new Thread(() -> {
+            try {
+                server.start(port, wireFormat);
+            } catch (Exception e) {
+                LOG.error("Server stopped", e);
+            }
+        }, "local-server");
+        thread.setDaemon(true);
+        thread.start();
+        if (!server.awaitStarted(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Server did not start on port " + port);
+        }
+        LOG.info("Started server on port " + port);
+    }
+
+    /**
+     * Stops the server and waits until its event loops are shut down
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    void stop() throws InterruptedException {
+        server.stop();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
@@ -0,0 +1,63 @@
+package de.uol.swp.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the LatencyRecorder
+ *
+ * @see de.uol.swp.loadtest.LatencyRecorder
+ * @since 2026-10-18
+ */
+public class LatencyRecorderTest {
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    /**
+     * Test that the percentiles are at most one bucket too high
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void percentileTest() {
+        for (int i = 1; i <= 1000; i++) {
+            recorder.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        assertEquals(1000, recorder.getCount());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), recorder.getMaxNanos());
+        assertEquals(500_500, recorder.getAverageNanos());
+        assertInBucket(TimeUnit.MICROSECONDS.toNanos(500), recorder.getPercentileNanos(50));
+        assertInBucket(TimeUnit.MICROSECONDS.toNanos(990), recorder.getPercentileNanos(99));
+        assertEquals(recorder.getMaxNanos(), recorder.getPercentileNanos(100));
+    }
+
+    /**
+     * Test that small values are counted exactly and a reset forgets everything
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void smallValuesAndResetTest() {
+        recorder.record(3);
+        recorder.record(3);
+        recorder.record(7);
+        recorder.record(-5);
+
+        assertEquals(3, recorder.getPercentileNanos(50));
+        assertEquals(7, recorder.getPercentileNanos(99));
+        assertEquals(0, recorder.getPercentileNanos(0));
+
+        recorder.reset();
+        assertEquals(0, recorder.getCount());
+        assertEquals(0, recorder.getPercentileNanos(99));
+        assertThrows(IllegalArgumentException.class, () -> recorder.getPercentileNanos(101));
+    }
+
+    private static void assertInBucket(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16, actual + " not near " + expected);
+    }
+}
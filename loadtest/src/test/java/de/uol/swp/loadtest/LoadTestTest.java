@@ -0,0 +1,41 @@
+package de.uol.swp.loadtest;
+
+import java.net.ServerSocket;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.codec.WireFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for a short load test against a server in the same JVM
+ *
+ * @see de.uol.swp.loadtest.LoadTest
+ * @since 2026-10-18
+ */
+public class LoadTestTest {
+
+    /**
+     * Test that the bots start their games and play turns until the end
+     *
+     * @throws Exception if the server did not start or a game could not be started
+     * @since 2026-10-18
+     */
+    @Test
+    void botsPlayGamesTest() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        LoadStatistics statistics = new LoadTest(6, 4, 2, 0, null, port, 2, WireFormat.COMPACT_BINARY).run();
+
+        // one game of 4 and one of 2 bots
+        assertEquals(2, statistics.getGamesStarted());
+        assertTrue(statistics.getTurnsPlayed() > 0);
+        assertEquals(12, statistics.getResponseLatency().getCount());
+        assertTrue(statistics.getBroadcastLatency().getCount() > 0);
+        assertTrue(statistics.getMessagesReceived() > statistics.getRequestsSent());
+        assertTrue(statistics.getPeakThreads() > 0);
+    }
+}
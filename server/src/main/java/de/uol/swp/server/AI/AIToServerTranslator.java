@@ -1,6 +1,7 @@
 package de.uol.swp.server.AI;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import de.uol.swp.common.game.Game;
@@ -48,122 +49,138 @@ public class AIToServerTranslator {
      * <p>
      * Depending on the class of the aiAction different messages and requests will be created.
      * These messages will then be used as parameters for the corresponding gameService method calls.
+     * <p>
+     * enhanced by the AITurnScheduler, 2026-10-18: if the GameService has an AITurnScheduler and the game is played by
+     * users, the actions are queued there and run one after the other with a delay, which increases the readability of
+     * the game without blocking a thread. Otherwise they are run right away.
      *
      * @param aiActions   the ArrayList of AIActions the AI wants to do
      * @param gameService the GameService of the Server
      * @author Marc Hermes
+     * @see de.uol.swp.server.AI.AITurnScheduler
      * @since 2021-05-11
      */
-    public static void translate(ArrayList<AIAction> aiActions, GameService gameService) throws InterruptedException {
-
-        for (AIAction aiAction : aiActions) {
-
-            String aiActionName = aiAction.getActionType();
-            String gameName = aiAction.getGameName();
-            UserDTO user = (UserDTO) aiAction.getUser();
-
-            // before every action put the thread of the AI to sleep, which forces a delay in it's actions,
-            // thus increasing the readability of the game
-            Optional<Game> game = gameService.getGameManagement().getGame(gameName);
-            if (game.isPresent()) {
-                if (game.get().getUsers().size() > 0 && !game.get().isUsedForTest()) {
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException ex) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
+    public static void translate(ArrayList<AIAction> aiActions, GameService gameService) {
+        if (aiActions.isEmpty()) {
+            return;
+        }
+        String gameName = aiActions.get(0).getGameName();
+        AITurnScheduler scheduler = gameService.getAITurnScheduler();
+        Optional<Game> game = gameService.getGameManagement().getGame(gameName);
+        if (scheduler != null && game.isPresent() && game.get().getUsers().size() > 0 && !game.get()
+                .isUsedForTest()) {
+            List<Runnable> actions = new ArrayList<>(aiActions.size());
+            for (AIAction aiAction : aiActions) {
+                actions.add(() -> translate(aiAction, gameService));
             }
+            scheduler.schedule(gameName, actions);
+        } else {
+            for (AIAction aiAction : aiActions) {
+                translate(aiAction, gameService);
+            }
+        }
+    }
+
+    /**
+     * Translates a single AIAction and calls the corresponding gameService method
+     *
+     * @param aiAction    the AIAction to translate
+     * @param gameService the GameService of the Server
+     * @author Marc Hermes
+     * @since 2021-05-11
+     */
+    private static void translate(AIAction aiAction, GameService gameService) {
+        String aiActionName = aiAction.getActionType();
+        String gameName = aiAction.getGameName();
+        UserDTO user = (UserDTO) aiAction.getUser();
+        if (aiAction instanceof EndTurnAction) {
+            EndTurnRequest etr = new EndTurnRequest(gameName, user);
+            gameService.onEndTurnRequest(etr);
+
+        } else if (aiAction instanceof BuildAction) {
+            BuildAction ba = (BuildAction) aiAction;
+            String typeOfNode;
+            switch (aiActionName) {
+                case "BuildTown":
+                case "BuildCity":
+                    typeOfNode = "BuildingNode";
+                    break;
+                default:
+                    typeOfNode = "StreetNode";
 
-            if (aiAction instanceof EndTurnAction) {
-                EndTurnRequest etr = new EndTurnRequest(gameName, user);
-                gameService.onEndTurnRequest(etr);
-
-            } else if (aiAction instanceof BuildAction) {
-                BuildAction ba = (BuildAction) aiAction;
-                String typeOfNode;
-                switch (aiActionName) {
-                    case "BuildTown":
-                    case "BuildCity":
-                        typeOfNode = "BuildingNode";
-                        break;
-                    default:
-                        typeOfNode = "StreetNode";
-
-                }
-                ConstructionRequest cr = new ConstructionRequest(user, gameName, ba.getField(), typeOfNode);
-                gameService.onConstructionRequest(cr);
-
-            } else if (aiAction instanceof BuyDevelopmentCardAction) {
-                BuyDevelopmentCardRequest bdcr = new BuyDevelopmentCardRequest(user, gameName);
-                gameService.onBuyDevelopmentCardRequest(bdcr);
-
-            } else if (aiAction instanceof MoveBanditAction) {
-                MoveBanditAction mba = (MoveBanditAction) aiAction;
-                RobbersNewFieldRequest rnfm = new RobbersNewFieldRequest(gameName, user, mba.getField());
-                gameService.onRobbersNewFieldRequest(rnfm);
-
-            } else if (aiAction instanceof DiscardResourcesAction) {
-                DiscardResourcesAction dra = (DiscardResourcesAction) aiAction;
-                ResourcesToDiscardRequest rdr = new ResourcesToDiscardRequest(gameName, user,
-                        dra.getResourcesToDiscard());
-                gameService.onResourcesToDiscard(rdr);
-
-            } else if (aiAction instanceof DrawRandomResourceFromPlayerAction) {
-                DrawRandomResourceFromPlayerAction drrfpa = (DrawRandomResourceFromPlayerAction) aiAction;
-                DrawRandomResourceFromPlayerRequest drrfpm = new DrawRandomResourceFromPlayerRequest(gameName, user,
-                        drrfpa.getPlayerName(), drrfpa.getResource());
-                gameService.onDrawRandomResourceFromPlayerRequest(drrfpm);
-
-            } else if (aiAction instanceof PlayDevelopmentCardAction) {
-                PlayDevelopmentCardAction pda = (PlayDevelopmentCardAction) aiAction;
-                PlayDevelopmentCardRequest pdcr = new PlayDevelopmentCardRequest(pda.getDevCard(), gameName, user);
-                gameService.onPlayDevelopmentCardRequest(pdcr);
-
-                if (aiAction instanceof PlayDevelopmentCardKnightAction) {
-                    PlayDevelopmentCardKnightAction pka = (PlayDevelopmentCardKnightAction) aiAction;
-                    ResolveDevelopmentCardKnightRequest rkr = new ResolveDevelopmentCardKnightRequest(pka.getDevCard(),
-                            user, gameName, pka.getField());
-                    gameService.onResolveDevelopmentCardRequest(rkr);
-
-                } else if (aiAction instanceof PlayDevelopmentCardMonopolyAction) {
-                    PlayDevelopmentCardMonopolyAction pma = (PlayDevelopmentCardMonopolyAction) aiAction;
-                    ResolveDevelopmentCardMonopolyRequest rmr = new ResolveDevelopmentCardMonopolyRequest(
-                            pma.getDevCard(), user, gameName, pma.getResource());
-                    gameService.onResolveDevelopmentCardRequest(rmr);
-
-                } else if (aiAction instanceof PlayDevelopmentCardRoadBuildingAction) {
-                    PlayDevelopmentCardRoadBuildingAction pba = (PlayDevelopmentCardRoadBuildingAction) aiAction;
-                    ResolveDevelopmentCardRoadBuildingRequest rbr = new ResolveDevelopmentCardRoadBuildingRequest(
-                            pba.getDevCard(), user, gameName, pba.getStreet1(), pba.getStreet2());
-                    gameService.onResolveDevelopmentCardRequest(rbr);
-
-                } else if (aiAction instanceof PlayDevelopmentCardYearOfPlentyAction) {
-                    PlayDevelopmentCardYearOfPlentyAction pya = (PlayDevelopmentCardYearOfPlentyAction) aiAction;
-                    ResolveDevelopmentCardYearOfPlentyRequest ryr = new ResolveDevelopmentCardYearOfPlentyRequest(
-                            pya.getDevCard(), user, gameName, pya.getResource1(), pya.getResource2());
-                    gameService.onResolveDevelopmentCardRequest(ryr);
-
-                }
-
-            } else if (aiAction instanceof TradeStartAction) {
-                TradeStartAction tsa = (TradeStartAction) aiAction;
-                TradeItemRequest tir = new TradeItemRequest(user, gameName, tsa.getOfferList(), tsa.getTradeCode(),
-                        tsa.getWishList());
-                gameService.onTradeItemRequest(tir);
-
-            } else if (aiAction instanceof TradeBidAction) {
-                TradeBidAction tba = (TradeBidAction) aiAction;
-                TradeItemRequest tir = new TradeItemRequest(user, gameName, tba.getBidList(), tba.getTradeCode(),
-                        tba.getBidList());
-                gameService.onTradeItemRequest(tir);
-
-            } else if (aiAction instanceof TradeOfferAcceptAction) {
-                TradeOfferAcceptAction toaa = (TradeOfferAcceptAction) aiAction;
-                TradeChoiceRequest tcr = new TradeChoiceRequest((UserDTO) toaa.getAcceptedBidder(),
-                        toaa.getTradeAccepted(), gameName, toaa.getTradeCode());
-                gameService.onTradeChoiceRequest(tcr);
             }
+            ConstructionRequest cr = new ConstructionRequest(user, gameName, ba.getField(), typeOfNode);
+            gameService.onConstructionRequest(cr);
+
+        } else if (aiAction instanceof BuyDevelopmentCardAction) {
+            BuyDevelopmentCardRequest bdcr = new BuyDevelopmentCardRequest(user, gameName);
+            gameService.onBuyDevelopmentCardRequest(bdcr);
+
+        } else if (aiAction instanceof MoveBanditAction) {
+            MoveBanditAction mba = (MoveBanditAction) aiAction;
+            RobbersNewFieldRequest rnfm = new RobbersNewFieldRequest(gameName, user, mba.getField());
+            gameService.onRobbersNewFieldRequest(rnfm);
+
+        } else if (aiAction instanceof DiscardResourcesAction) {
+            DiscardResourcesAction dra = (DiscardResourcesAction) aiAction;
+            ResourcesToDiscardRequest rdr = new ResourcesToDiscardRequest(gameName, user,
+                    dra.getResourcesToDiscard());
+            gameService.onResourcesToDiscard(rdr);
+
+        } else if (aiAction instanceof DrawRandomResourceFromPlayerAction) {
+            DrawRandomResourceFromPlayerAction drrfpa = (DrawRandomResourceFromPlayerAction) aiAction;
+            DrawRandomResourceFromPlayerRequest drrfpm = new DrawRandomResourceFromPlayerRequest(gameName, user,
+                    drrfpa.getPlayerName(), drrfpa.getResource());
+            gameService.onDrawRandomResourceFromPlayerRequest(drrfpm);
+
+        } else if (aiAction instanceof PlayDevelopmentCardAction) {
+            PlayDevelopmentCardAction pda = (PlayDevelopmentCardAction) aiAction;
+            PlayDevelopmentCardRequest pdcr = new PlayDevelopmentCardRequest(pda.getDevCard(), gameName, user);
+            gameService.onPlayDevelopmentCardRequest(pdcr);
+
+            if (aiAction instanceof PlayDevelopmentCardKnightAction) {
+                PlayDevelopmentCardKnightAction pka = (PlayDevelopmentCardKnightAction) aiAction;
+                ResolveDevelopmentCardKnightRequest rkr = new ResolveDevelopmentCardKnightRequest(pka.getDevCard(),
+                        user, gameName, pka.getField());
+                gameService.onResolveDevelopmentCardRequest(rkr);
+
+            } else if (aiAction instanceof PlayDevelopmentCardMonopolyAction) {
+                PlayDevelopmentCardMonopolyAction pma = (PlayDevelopmentCardMonopolyAction) aiAction;
+                ResolveDevelopmentCardMonopolyRequest rmr = new ResolveDevelopmentCardMonopolyRequest(
+                        pma.getDevCard(), user, gameName, pma.getResource());
+                gameService.onResolveDevelopmentCardRequest(rmr);
+
+            } else if (aiAction instanceof PlayDevelopmentCardRoadBuildingAction) {
+                PlayDevelopmentCardRoadBuildingAction pba = (PlayDevelopmentCardRoadBuildingAction) aiAction;
+                ResolveDevelopmentCardRoadBuildingRequest rbr = new ResolveDevelopmentCardRoadBuildingRequest(
+                        pba.getDevCard(), user, gameName, pba.getStreet1(), pba.getStreet2());
+                gameService.onResolveDevelopmentCardRequest(rbr);
+
+            } else if (aiAction instanceof PlayDevelopmentCardYearOfPlentyAction) {
+                PlayDevelopmentCardYearOfPlentyAction pya = (PlayDevelopmentCardYearOfPlentyAction) aiAction;
+                ResolveDevelopmentCardYearOfPlentyRequest ryr = new ResolveDevelopmentCardYearOfPlentyRequest(
+                        pya.getDevCard(), user, gameName, pya.getResource1(), pya.getResource2());
+                gameService.onResolveDevelopmentCardRequest(ryr);
+
+            }
+
+        } else if (aiAction instanceof TradeStartAction) {
+            TradeStartAction tsa = (TradeStartAction) aiAction;
+            TradeItemRequest tir = new TradeItemRequest(user, gameName, tsa.getOfferList(), tsa.getTradeCode(),
+                    tsa.getWishList());
+            gameService.onTradeItemRequest(tir);
+
+        } else if (aiAction instanceof TradeBidAction) {
+            TradeBidAction tba = (TradeBidAction) aiAction;
+            TradeItemRequest tir = new TradeItemRequest(user, gameName, tba.getBidList(), tba.getTradeCode(),
+                    tba.getBidList());
+            gameService.onTradeItemRequest(tir);
+
+        } else if (aiAction instanceof TradeOfferAcceptAction) {
+            TradeOfferAcceptAction toaa = (TradeOfferAcceptAction) aiAction;
+            TradeChoiceRequest tcr = new TradeChoiceRequest((UserDTO) toaa.getAcceptedBidder(),
+                    toaa.getTradeAccepted(), gameName, toaa.getTradeCode());
+            gameService.onTradeChoiceRequest(tcr);
         }
     }
 }
@@ -0,0 +1,286 @@
+package de.uol.swp.server.AI;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.server.communication.MailboxExecutor;
+import de.uol.swp.server.communication.ServerTimer;
+
+/**
+ * Paces the actions of the AI without blocking a thread per AI
+ * <p>
+ * Every game has a queue of AI actions. One action is run per delay, in the
+ * mailbox of the game, so it never runs concurrently with the requests of the
+ * players. Between two actions no thread is occupied, the ServerTimer serves
+ * all games.
+ * <p>
+ * Actions scheduled while an action of the same game runs, e.g. the bids of
+ * AI players for a trade the AI just started, are run before the remaining
+ * actions of the game. This keeps the order the actions had when every
+ * AIToServerTranslator call ran all its actions at once.
+ *
+ * @see de.uol.swp.server.AI.AIToServerTranslator
+ * @see de.uol.swp.server.communication.MailboxExecutor
+ * @see de.uol.swp.server.communication.ServerTimer
+ * @since 2026-10-18
+ */
+@Singleton
+public class AITurnScheduler {
+
+    /**
+     * Name of the system property holding the delay between two AI actions in milliseconds
+     */
+    public static final String DELAY_PROPERTY = "swp.aiActionDelay";
+
+    private static final long DEFAULT_DELAY_MILLIS = 1000;
+    private static final Logger LOG = LogManager.getLogger(AITurnScheduler.class);
+    private static final ThreadLocal<String> RUNNING_GAME = new ThreadLocal<>();
+
+    private final MailboxExecutor mailboxExecutor;
+    private final ServerTimer timer;
+    private final boolean ownTimer;
+    private final long delayNanos;
+    private volatile boolean stopped;
+    private final ConcurrentHashMap<String, GameQueue> queues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queuedActions = new AtomicInteger();
+    private final LongAdder executedActions = new LongAdder();
+    private final LongAdder totalLagNanos = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    /**
+     * Constructor
+     * <p>
+     * The delay is read from the system property {@value #DELAY_PROPERTY}, one
+     * second if it is not set.
+     *
+     * @param mailboxExecutor the MailboxExecutor the actions are run in
+     * @param timer           the ServerTimer waiting for the delays
+     * @since 2026-10-18
+     */
+    @Inject
+    public AITurnScheduler(MailboxExecutor mailboxExecutor, ServerTimer timer) {
+        this(mailboxExecutor, timer, Long.getLong(DELAY_PROPERTY, DEFAULT_DELAY_MILLIS), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Uses a ServerTimer of its own, which is stopped by {@link #shutdown()}.
+     *
+     * @param mailboxExecutor the MailboxExecutor the actions are run in
+     * @param delay           the delay before every action
+     * @param timeUnit        the unit of the delay
+     * @since 2026-10-18
+     */
+    public AITurnScheduler(MailboxExecutor mailboxExecutor, long delay, TimeUnit timeUnit) {
+        this(mailboxExecutor, new ServerTimer(null, 1, TimeUnit.MILLISECONDS), true, delay, timeUnit);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param mailboxExecutor the MailboxExecutor the actions are run in
+     * @param timer           the ServerTimer waiting for the delays
+     * @param delay           the delay before every action
+     * @param timeUnit        the unit of the delay
+     * @since 2026-10-18
+     */
+    public AITurnScheduler(MailboxExecutor mailboxExecutor, ServerTimer timer, long delay, TimeUnit timeUnit) {
+        this(mailboxExecutor, timer, false, delay, timeUnit);
+    }
+
+    private AITurnScheduler(MailboxExecutor mailboxExecutor, ServerTimer timer, boolean ownTimer, long delay,
+                            TimeUnit timeUnit) {
+        this.mailboxExecutor = mailboxExecutor;
+        this.timer = timer;
+        this.ownTimer = ownTimer;
+        this.delayNanos = timeUnit.toNanos(delay);
+    }
+
+    /**
+     * Queues actions of the AI of a game
+     *
+     * @param gameName the name of the game
+     * @param actions  the actions, each is run after the delay
+     * @since 2026-10-18
+     */
+    public void schedule(String gameName, List<Runnable> actions) {
+        if (actions.isEmpty()) {
+            return;
+        }
+        boolean nested = gameName.equals(RUNNING_GAME.get());
+        GameQueue[] toSchedule = new GameQueue[1];
+        queues.compute(gameName, (k, queue) -> {
+            if (queue == null) {
+                queue = new GameQueue(k);
+            }
+            if (nested) {
+                ListIterator<Runnable> iterator = actions.listIterator(actions.size());
+                while (iterator.hasPrevious()) {
+                    queue.actions.addFirst(iterator.previous());
+                }
+            } else {
+                queue.actions.addAll(actions);
+            }
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                toSchedule[0] = queue;
+            }
+            return queue;
+        });
+        queuedActions.addAndGet(actions.size());
+        if (toSchedule[0] != null) {
+            scheduleNext(toSchedule[0]);
+        }
+    }
+
+    /**
+     * Starts the timer for the next action of a game
+     *
+     * @param queue the queue of the game
+     * @since 2026-10-18
+     */
+    private void scheduleNext(GameQueue queue) {
+        if (stopped) {
+            return;
+        }
+        queue.dueNanos = System.nanoTime() + delayNanos;
+        timer.schedule(() -> mailboxExecutor.execute(MailboxExecutor.getNamedKey(queue.gameName),
+                () -> runNext(queue)), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs the next action of a game and schedules the one after it
+     *
+     * @param queue the queue of the game
+     * @since 2026-10-18
+     */
+    private void runNext(GameQueue queue) {
+        if (stopped) {
+            return;
+        }
+        long lag = System.nanoTime() - queue.dueNanos;
+        totalLagNanos.add(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+
+        Runnable[] action = new Runnable[1];
+        queues.computeIfPresent(queue.gameName, (k, q) -> {
+            action[0] = q.actions.pollFirst();
+            return q;
+        });
+        if (action[0] != null) {
+            queuedActions.decrementAndGet();
+            RUNNING_GAME.set(queue.gameName);
+            try {
+                action[0].run();
+            } catch (Exception e) {
+                LOG.error("AI action in game " + queue.gameName + " failed", e);
+            } finally {
+                RUNNING_GAME.remove();
+                executedActions.increment();
+            }
+        }
+        GameQueue next = queues.compute(queue.gameName, (k, q) -> {
+            if (q == null || q.actions.isEmpty()) {
+                queue.scheduled = false;
+                return null;
+            }
+            return q;
+        });
+        if (next != null) {
+            scheduleNext(next);
+        }
+    }
+
+    /**
+     * Getter for the number of actions waiting to be run
+     *
+     * @return the number of queued actions of all games
+     * @since 2026-10-18
+     */
+    public int getQueuedActions() {
+        return queuedActions.get();
+    }
+
+    /**
+     * Getter for the number of actions already run
+     *
+     * @return the number of executed actions
+     * @since 2026-10-18
+     */
+    public long getExecutedActions() {
+        return executedActions.sum();
+    }
+
+    /**
+     * Getter for the average time actions started later than planned
+     * <p>
+     * The lag includes the time waiting in the timer and in the mailbox of the game.
+     *
+     * @return the average scheduling lag in nanoseconds
+     * @since 2026-10-18
+     */
+    public long getAverageLagNanos() {
+        long executed = executedActions.sum();
+        return executed == 0 ? 0 : totalLagNanos.sum() / executed;
+    }
+
+    /**
+     * Getter for the maximum time an action started later than planned
+     *
+     * @return the maximum scheduling lag in nanoseconds
+     * @since 2026-10-18
+     */
+    public long getMaxLagNanos() {
+        return maxLagNanos.get();
+    }
+
+    /**
+     * Stops running actions, queued actions are not run anymore
+     * <p>
+     * A ServerTimer passed to the constructor keeps running, it may be used by others.
+     *
+     * @since 2026-10-18
+     */
+    public void shutdown() {
+        stopped = true;
+        if (ownTimer) {
+            timer.shutdown();
+        }
+    }
+
+    /**
+     * The queued AI actions of one game
+     *
+     * @since 2026-10-18
+     */
+    private static class GameQueue {
+
+        private final String gameName;
+        private final Deque<Runnable> actions = new ArrayDeque<>();
+
+        /**
+         * True while an action of the game is waiting in the timer or running, guarded by the map entry
+         */
+        private boolean scheduled;
+        private volatile long dueNanos;
+
+        private GameQueue(String gameName) {
+            this.gameName = gameName;
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package de.uol.swp.server.AI;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Optional;
@@ -58,14 +54,16 @@ public abstract class AbstractAISystem implements AISystem {
      * Abstract constructor
      * <p>
      * Creates a Deep Copy of the game so that the values of the original game are not overwritten by the AI.
+     * <p>
+     * The copy is created with the simulation copy of the GameDTO, which is much cheaper than serializing the game.
      *
      * @param thatGame the game that this AISystem will have to work with and of which a deep copy will be created
      * @author Marc Hermes
+     * @see GameDTO#createSimulationCopy()
      * @since 2021-05-08
      */
     public AbstractAISystem(GameDTO thatGame) {
-        game = (GameDTO) deepCopy(thatGame);
-        assert game != null;
+        game = thatGame.createSimulationCopy();
         inventory = game.getInventory(game.getUser(game.getTurn()));
         mapGraph = game.getMapGraph();
         user = game.getUser(game.getTurn());
@@ -73,35 +71,6 @@ public abstract class AbstractAISystem implements AISystem {
         playedCardThisTurn = game.getCurrentCard();
     }
 
-    /**
-     * Creates a deep copy of an object
-     * <p>
-     * By turning the object into an byteStream and then returning in into the object it originally was,
-     * all of the information stored in the object will remain.
-     * However the actual reference of the object in the program will be lost.
-     * Thus we can use the deep copy of the object to analyze changes without actually changing the original object
-     * <p>
-     * Idea from: https://www.journaldev.com/17129/java-deep-copy-object
-     *
-     * @param object the object to create a deep copy of
-     * @return the deep copy of the object
-     * @author Marc Hermes
-     * @since 2021-05-19
-     */
-    private static Object deepCopy(Object object) {
-        try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ObjectOutputStream outputStrm = new ObjectOutputStream(outputStream);
-            outputStrm.writeObject(object);
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
-            ObjectInputStream objInputStream = new ObjectInputStream(inputStream);
-            return objInputStream.readObject();
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
-    }
-
     /**
      * Used to end the turn for the AI
      * <p>
@@ -279,14 +248,7 @@ public abstract class AbstractAISystem implements AISystem {
         PlayDevelopmentCardKnightAction pa = new PlayDevelopmentCardKnightAction(user, game.getName(), "Knight", field);
         inventory.cardKnight.decNumber();
         playedCardThisTurn = "Knight";
-        for (MapGraph.Hexagon hx : mapGraph.getHexagonHashSet()) {
-            if (hx.isOccupiedByRobber()) {
-                hx.setOccupiedByRobber(false);
-            }
-            if (hx.getUuid().equals(field)) {
-                hx.setOccupiedByRobber(true);
-            }
-        }
+        mapGraph.moveRobber(field);
         aiActions.add(pa);
     }
 
@@ -334,8 +296,9 @@ public abstract class AbstractAISystem implements AISystem {
         PlayDevelopmentCardRoadBuildingAction pa = new PlayDevelopmentCardRoadBuildingAction(user, game.getName(),
                 "Road Building", street1, street2);
         inventory.cardRoadBuilding.decNumber();
-        for (MapGraph.StreetNode sn : mapGraph.getStreetNodeHashSet()) {
-            if (sn.getUuid().equals(street1) || sn.getUuid().equals(street2)) {
+        for (UUID street : new UUID[]{street1, street2}) {
+            MapGraph.StreetNode sn = mapGraph.getStreetNode(street);
+            if (sn != null) {
                 sn.buildRoad(game.getTurn());
             }
         }
@@ -380,14 +343,7 @@ public abstract class AbstractAISystem implements AISystem {
     @Override
     public void moveBandit(UUID field) {
         MoveBanditAction mba = new MoveBanditAction(user, game.getName(), field);
-        for (MapGraph.Hexagon hx : mapGraph.getHexagonHashSet()) {
-            if (hx.isOccupiedByRobber()) {
-                hx.setOccupiedByRobber(false);
-            }
-            if (hx.getUuid().equals(field)) {
-                hx.setOccupiedByRobber(true);
-            }
-        }
+        mapGraph.moveRobber(field);
         aiActions.add(mba);
     }
 
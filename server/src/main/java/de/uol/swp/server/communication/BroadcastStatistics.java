@@ -0,0 +1,85 @@
+package de.uol.swp.server.communication;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the encodings saved by sending shared frames to many clients
+ * <p>
+ * For every message type the number of writes that reused a frame and the
+ * encode time that would have been spent to encode the message for each of
+ * them are summed up.
+ *
+ * @see de.uol.swp.server.communication.ServerHandler
+ * @since 2026-10-18
+ */
+public class BroadcastStatistics {
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Records one message encoded once and written to many clients
+     *
+     * @param type         the class of the message
+     * @param encodeNanos  the time needed to encode the message once
+     * @param reusedWrites the number of writes that reused the encoded frame
+     * @since 2026-10-18
+     */
+    void record(Class<?> type, long encodeNanos, int reusedWrites) {
+        if (reusedWrites <= 0) {
+            return;
+        }
+        Counter counter = counters.computeIfAbsent(type, k -> new Counter());
+        counter.reusedWrites.add(reusedWrites);
+        counter.nanosSaved.add(encodeNanos * reusedWrites);
+    }
+
+    /**
+     * Getter for the number of writes that reused an encoded frame
+     *
+     * @param type the class of the message
+     * @return the number of writes without encoding
+     * @since 2026-10-18
+     */
+    public long getReusedWrites(Class<?> type) {
+        Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.reusedWrites.sum();
+    }
+
+    /**
+     * Getter for the estimated encode time saved
+     *
+     * @param type the class of the message
+     * @return the saved time in nanoseconds
+     * @since 2026-10-18
+     */
+    public long getEncodeNanosSaved(Class<?> type) {
+        Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.nanosSaved.sum();
+    }
+
+    /**
+     * Returns the saved encode time of all message types
+     *
+     * @return map from the simple name of the message type to the saved time in nanoseconds
+     * @since 2026-10-18
+     */
+    public Map<String, Long> getEncodeNanosSaved() {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((type, counter) -> result.put(type.getSimpleName(), counter.nanosSaved.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public String toString() {
+        return "BroadcastStatistics" + getEncodeNanosSaved();
+    }
+
+    private static class Counter {
+        private final LongAdder reusedWrites = new LongAdder();
+        private final LongAdder nanosSaved = new LongAdder();
+    }
+}
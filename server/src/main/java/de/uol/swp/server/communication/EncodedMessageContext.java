@@ -0,0 +1,144 @@
+package de.uol.swp.server.communication;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.message.ResponseMessage;
+import de.uol.swp.common.message.ServerMessage;
+
+/**
+ * MessageContext that can send already encoded frames
+ * <p>
+ * Used by the ServerHandler to encode a ServerMessage sent to many clients only
+ * once and write the same frame to every channel. The write methods without a
+ * flush let the OutboundFlusher send all messages of a request with one flush.
+ * <p>
+ * enhanced by the session resume, 2026-10-18: keeps the last ServerMessages of a
+ * logged in client to send them again on a new connection
+ *
+ * @see de.uol.swp.server.communication.ServerHandler
+ * @see de.uol.swp.server.communication.OutboundFlusher
+ * @see de.uol.swp.server.communication.SessionResumer
+ * @see de.uol.swp.common.codec.WireFormat#encodeFrame(java.io.Serializable, ByteBuf)
+ * @since 2026-10-18
+ */
+public interface EncodedMessageContext extends MessageContext {
+
+    /**
+     * Getter for the wire format of the connection
+     *
+     * @return the WireFormat used by the channel or null if unknown
+     * @since 2026-10-18
+     */
+    WireFormat getWireFormat();
+
+    /**
+     * Getter for the allocator of the connection
+     *
+     * @return the ByteBufAllocator used to allocate the frames
+     * @since 2026-10-18
+     */
+    ByteBufAllocator alloc();
+
+    /**
+     * Send a frame encoded with the wire format of this connection
+     * <p>
+     * The ownership of the frame is passed on, so callers sharing a frame have
+     * to pass a retained duplicate. The message is sent instead of the frame if
+     * the connection cannot take the frame right now, e.g. to combine it with a
+     * newer message of the same kind.
+     *
+     * @param frame   the encoded frame
+     * @param message the message the frame was encoded from
+     * @since 2026-10-18
+     */
+    void writeAndFlush(ByteBuf frame, ServerMessage message);
+
+    /**
+     * Writes a ResponseMessage without flushing it
+     *
+     * @param message the message to write
+     * @since 2026-10-18
+     */
+    void write(ResponseMessage message);
+
+    /**
+     * Writes a ServerMessage without flushing it
+     *
+     * @param message the message to write
+     * @since 2026-10-18
+     */
+    void write(ServerMessage message);
+
+    /**
+     * Writes a frame encoded with the wire format of this connection without flushing it
+     * <p>
+     * The frame is handled like in {@link #writeAndFlush(ByteBuf, ServerMessage)}.
+     *
+     * @param frame   the encoded frame
+     * @param message the message the frame was encoded from
+     * @since 2026-10-18
+     */
+    void write(ByteBuf frame, ServerMessage message);
+
+    /**
+     * Sends everything written to the connection so far
+     *
+     * @since 2026-10-18
+     */
+    void flush();
+
+    /**
+     * Writes a ServerMessage and flushes the connection after a delay
+     * <p>
+     * Messages written with this method within the delay of each other are sent
+     * with one flush, so none of them waits longer than the delay.
+     *
+     * @param message    the message to write
+     * @param delayNanos the maximum time the message waits for the flush
+     * @since 2026-10-18
+     */
+    void writeAndFlushLater(ServerMessage message, long delayNanos);
+
+    /**
+     * Writes a frame and flushes the connection after a delay
+     * <p>
+     * Works like {@link #writeAndFlushLater(ServerMessage, long)}, the frame is
+     * handled like in {@link #writeAndFlush(ByteBuf, ServerMessage)}.
+     *
+     * @param frame      the encoded frame
+     * @param message    the message the frame was encoded from
+     * @param delayNanos the maximum time the frame waits for the flush
+     * @since 2026-10-18
+     */
+    void writeAndFlushLater(ByteBuf frame, ServerMessage message, long delayNanos);
+
+    /**
+     * Starts to record the ServerMessages sent to the client
+     * <p>
+     * The ServerMessages are counted from the start marker on, in the order they
+     * reach the client, so the count matches the one of the client.
+     *
+     * @param startMarker the response after which the client counts the ServerMessages
+     * @param capacity    the number of ServerMessages kept to send them again
+     * @since 2026-10-18
+     */
+    void startReplay(ResponseMessage startMarker, int capacity);
+
+    /**
+     * Resumes the session of another connection on this connection
+     * <p>
+     * The response is sent first, followed by the ServerMessages the client did
+     * not receive on the other connection. From then on, everything sent to the
+     * other connection is passed on to this one.
+     *
+     * @param previous         the connection the session was recorded on
+     * @param response         the response telling the client to count on
+     * @param lastSeenSequence the number of ServerMessages the client received
+     * @return false if nothing was recorded or the client missed more ServerMessages than were kept
+     * @since 2026-10-18
+     */
+    boolean resume(EncodedMessageContext previous, ResponseMessage response, long lastSeenSequence);
+}
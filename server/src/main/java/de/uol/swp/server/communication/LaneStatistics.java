@@ -0,0 +1,120 @@
+package de.uol.swp.server.communication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the tasks of a lane of the MailboxExecutor and how long they waited
+ * <p>
+ * Used to size the lanes: a lane whose tasks wait long or are rejected needs
+ * more threads or a higher queue limit.
+ *
+ * @see de.uol.swp.server.communication.RequestLane
+ * @see de.uol.swp.server.communication.MailboxExecutor
+ * @since 2026-10-18
+ */
+public class LaneStatistics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAccumulator peakQueueDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Counts a task added to the lane, unless the lane already holds the limit
+     *
+     * @param maxQueued the queue limit, or 0 to add the task anyway
+     * @return true if the task was counted, false if it has to be rejected
+     */
+    boolean tryEnqueue(int maxQueued) {
+        int depth;
+        do {
+            depth = queueDepth.get();
+            if (maxQueued > 0 && depth >= maxQueued) {
+                rejectedTasks.increment();
+                return false;
+            }
+        } while (!queueDepth.compareAndSet(depth, depth + 1));
+        peakQueueDepth.accumulate(depth + 1);
+        return true;
+    }
+
+    void recordStarted(long nanosWaited) {
+        queueDepth.decrementAndGet();
+        executedTasks.increment();
+        waitNanos.add(nanosWaited);
+        maxWaitNanos.accumulate(nanosWaited);
+    }
+
+    /**
+     * Getter for the number of tasks waiting in the lane right now
+     *
+     * @return the current queue depth
+     * @since 2026-10-18
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Getter for the highest number of tasks that waited in the lane at once
+     *
+     * @return the peak queue depth
+     * @since 2026-10-18
+     */
+    public long getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    /**
+     * Getter for the number of tasks started by the workers of the lane
+     *
+     * @return the number of executed tasks
+     * @since 2026-10-18
+     */
+    public long getExecutedTasks() {
+        return executedTasks.sum();
+    }
+
+    /**
+     * Getter for the number of requests rejected because the lane was full
+     *
+     * @return the number of rejected requests
+     * @since 2026-10-18
+     */
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * Getter for the average time a task waited from being added until it started
+     *
+     * @return the average wait in nanoseconds, 0 if no task was started
+     * @since 2026-10-18
+     */
+    public long getAverageWaitNanos() {
+        long executed = getExecutedTasks();
+        return executed == 0 ? 0 : waitNanos.sum() / executed;
+    }
+
+    /**
+     * Getter for the longest time a task waited from being added until it started
+     *
+     * @return the maximum wait in nanoseconds
+     * @since 2026-10-18
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "LaneStatistics{depth=" + getQueueDepth() + ", peakDepth=" + getPeakQueueDepth()
+                + ", executed=" + getExecutedTasks() + ", rejected=" + getRejectedTasks()
+                + ", averageWaitMicros=" + getAverageWaitNanos() / 1000
+                + ", maxWaitMicros=" + getMaxWaitNanos() / 1000 + "}";
+    }
+}
@@ -0,0 +1,350 @@
+package de.uol.swp.server.communication;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Executes tasks in one serialized mailbox per key on a shared worker pool
+ * <p>
+ * Tasks with the same key, e.g. all requests of one game, run one after the
+ * other in the order they were submitted, never concurrently. Tasks with
+ * different keys run in parallel. A mailbox only occupies a worker while it has
+ * tasks, and is removed as soon as it is empty, so finished games leave nothing
+ * behind.
+ * <p>
+ * enhanced by the RequestLanes, 2026-10-18: every lane has a worker pool, a queue
+ * limit and LaneStatistics of its own, so a busy lane does not delay the tasks
+ * of the others. A key still has one mailbox for all lanes, its tasks run on the
+ * workers of the lane they were added to, but one after the other as before.
+ *
+ * @see de.uol.swp.server.communication.ServerHandler
+ * @see de.uol.swp.server.communication.RequestLane
+ * @since 2026-10-18
+ */
+@Singleton
+public class MailboxExecutor {
+
+    private static final String SERVER_MAILBOX_PREFIX = "server:";
+
+    private static final String NAMED_MAILBOX_PREFIX = "name:";
+
+    private static final Logger LOG = LogManager.getLogger(MailboxExecutor.class);
+
+    /**
+     * Number of tasks a mailbox runs before it gives its worker to the next mailbox
+     */
+    private static final int BATCH_SIZE = 32;
+
+    private final Map<RequestLane, Lane> lanes = new EnumMap<>(RequestLane.class);
+    private final ConcurrentHashMap<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * <p>
+     * Creates the worker pools with the threads and queue limits of the lanes.
+     * <p>
+     * enhanced by the RequestLanes, 2026-10-18: one worker pool per lane
+     *
+     * @see de.uol.swp.server.communication.RequestLane#getThreads()
+     * @since 2026-10-18
+     */
+    @Inject
+    public MailboxExecutor() {
+        for (RequestLane lane : RequestLane.values()) {
+            lanes.put(lane, new Lane(lane, lane.getThreads(), lane.getMaxQueued()));
+        }
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * enhanced by the RequestLanes, 2026-10-18: every lane gets a pool of this
+     * size and its default queue limit
+     *
+     * @param workerThreads number of threads of the worker pool of each lane
+     * @since 2026-10-18
+     */
+    public MailboxExecutor(int workerThreads) {
+        for (RequestLane lane : RequestLane.values()) {
+            lanes.put(lane, new Lane(lane, workerThreads, lane.getMaxQueued()));
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param workerThreads number of threads of the worker pool of each lane
+     * @param maxQueued     number of requests that may wait in each lane
+     * @since 2026-10-18
+     */
+    public MailboxExecutor(int workerThreads, int maxQueued) {
+        for (RequestLane lane : RequestLane.values()) {
+            lanes.put(lane, new Lane(lane, workerThreads, maxQueued));
+        }
+    }
+
+    /**
+     * Adds a task of the server itself to the mailbox of a key in the game lane
+     * <p>
+     * Used for the AI turns and timers, which run in line with the requests of
+     * their game. The task is never rejected.
+     *
+     * @param key  the key of the mailbox, e.g. the name of a game
+     * @param task the task to run
+     * @since 2026-10-18
+     */
+    public void execute(String key, Runnable task) {
+        execute(RequestLane.GAME, key, task);
+    }
+
+    /**
+     * Adds a task to the mailbox of a key in a lane, even if the lane is full
+     *
+     * @param lane the lane to run the task in
+     * @param key  the key of the mailbox, e.g. the name of a game
+     * @param task the task to run
+     * @since 2026-10-18
+     */
+    public void execute(RequestLane lane, String key, Runnable task) {
+        Lane target = lanes.get(lane);
+        target.statistics.tryEnqueue(0);
+        enqueue(target, key, task);
+    }
+
+    /**
+     * Adds a task to the mailbox of a key in a lane, unless the lane is full
+     *
+     * @param lane the lane to run the task in
+     * @param key  the key of the mailbox, e.g. the name of a game
+     * @param task the task to run
+     * @return true if the task was added, false if the lane holds its queue limit
+     * @see de.uol.swp.server.communication.RequestLane#getMaxQueued()
+     * @since 2026-10-18
+     */
+    public boolean offer(RequestLane lane, String key, Runnable task) {
+        Lane target = lanes.get(lane);
+        if (!target.statistics.tryEnqueue(target.maxQueued)) {
+            return false;
+        }
+        enqueue(target, key, task);
+        return true;
+    }
+
+    private void enqueue(Lane lane, String key, Runnable task) {
+        Mailbox[] toSchedule = new Mailbox[1];
+        mailboxes.compute(key, (k, mailbox) -> {
+            if (mailbox == null) {
+                mailbox = new Mailbox(k);
+            }
+            mailbox.tasks.add(new QueuedTask(lane, task));
+            if (!mailbox.scheduled) {
+                mailbox.scheduled = true;
+                toSchedule[0] = mailbox;
+            }
+            return mailbox;
+        });
+        if (toSchedule[0] != null) {
+            lane.workers.execute(() -> toSchedule[0].run(lane));
+        }
+    }
+
+    /**
+     * Returns the key of the mailbox of a game, lobby or chat
+     * <p>
+     * A game uses the same mailbox as the lobby it was created from.
+     *
+     * @param name the name of the game, lobby or chat
+     * @return the key of the mailbox
+     * @since 2026-10-18
+     */
+    public static String getNamedKey(String name) {
+        return NAMED_MAILBOX_PREFIX + name;
+    }
+
+    /**
+     * Returns the key of the server mailbox of a lane
+     * <p>
+     * The requests of a lane that belong to no game, lobby or chat are processed one
+     * after the other in this mailbox. Every lane has a server mailbox of its own, so
+     * e.g. a storm of lobby listings does not hold up the logins.
+     *
+     * @param lane the RequestLane
+     * @return the key of the mailbox
+     * @since 2026-10-18
+     */
+    public static String getServerKey(RequestLane lane) {
+        return SERVER_MAILBOX_PREFIX + lane.name().toLowerCase();
+    }
+
+    /**
+     * Getter for the number of mailboxes with pending or running tasks
+     *
+     * @return the number of active mailboxes
+     * @since 2026-10-18
+     */
+    public int getActiveMailboxCount() {
+        return mailboxes.size();
+    }
+
+    /**
+     * Getter for the queue depth and wait times of a lane
+     *
+     * @param lane the lane
+     * @return the LaneStatistics of the lane
+     * @since 2026-10-18
+     */
+    public LaneStatistics getStatistics(RequestLane lane) {
+        return lanes.get(lane).statistics;
+    }
+
+    /**
+     * Stops the worker pools after the submitted tasks are done
+     * <p>
+     * enhanced by the RequestLanes, 2026-10-18: stops the pools of all lanes
+     *
+     * @param timeout  maximum time to wait
+     * @param timeUnit unit of the timeout
+     * @return true if all tasks are done
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    public boolean shutdown(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        for (Lane lane : lanes.values()) {
+            lane.workers.shutdown();
+        }
+        long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        boolean terminated = true;
+        for (Lane lane : lanes.values()) {
+            terminated &= lane.workers.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        return terminated;
+    }
+
+    /**
+     * The worker pool and queue limit of a RequestLane
+     *
+     * @since 2026-10-18
+     */
+    private static class Lane {
+
+        private final ExecutorService workers;
+        private final int maxQueued;
+        private final LaneStatistics statistics = new LaneStatistics();
+
+        private Lane(RequestLane lane, int workerThreads, int maxQueued) {
+            this.maxQueued = maxQueued;
+            String prefix = "mailbox-worker-" + lane.name().toLowerCase() + "-";
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+                Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * A task, the lane it runs in and when it was added to its mailbox
+     *
+     * @since 2026-10-18
+     */
+    private static class QueuedTask {
+
+        private final Lane lane;
+        private final Runnable task;
+        private final long queuedAt = System.nanoTime();
+
+        private QueuedTask(Lane lane, Runnable task) {
+            this.lane = lane;
+            this.task = task;
+        }
+    }
+
+    /**
+     * The tasks of one key, run by at most one worker at a time
+     * <p>
+     * A worker runs the tasks of its own lane at the head of the mailbox. When the
+     * next task belongs to another lane, the mailbox moves on to a worker of that lane.
+     *
+     * @since 2026-10-18
+     */
+    private class Mailbox {
+
+        private final String key;
+        private final Queue<QueuedTask> tasks = new ConcurrentLinkedQueue<>();
+
+        /**
+         * True while the mailbox is submitted to or running on a worker, guarded by the map entry
+         */
+        private boolean scheduled;
+
+        private Mailbox(String key) {
+            this.key = key;
+        }
+
+        private void run(Lane lane) {
+            Lane current = lane;
+            while (current != null) {
+                runBatch(current);
+                Lane next = nextLane();
+                if (next == null) {
+                    return;
+                }
+                try {
+                    next.workers.execute(() -> run(next));
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // the pools are shut down, the remaining tasks are run right here
+                    current = next;
+                }
+            }
+        }
+
+        private void runBatch(Lane lane) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                QueuedTask queued = tasks.peek();
+                if (queued == null || queued.lane != lane && i > 0) {
+                    break;
+                }
+                tasks.poll();
+                queued.lane.statistics.recordStarted(System.nanoTime() - queued.queuedAt);
+                try {
+                    queued.task.run();
+                } catch (Exception e) {
+                    LOG.error("Task of mailbox " + key + " failed", e);
+                }
+            }
+        }
+
+        /**
+         * Gets the lane of the next task or removes the mailbox if it is empty
+         */
+        private Lane nextLane() {
+            Lane[] next = new Lane[1];
+            mailboxes.compute(key, (k, mailbox) -> {
+                QueuedTask head = tasks.peek();
+                if (head == null) {
+                    scheduled = false;
+                    return null;
+                }
+                next[0] = head.lane;
+                return mailbox;
+            });
+            return next[0];
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package de.uol.swp.server.communication;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An EventBus delivering the messages through a precomputed table of handlers
+ * <p>
+ * The Guava EventBus looks the handlers of a message up on every post and calls
+ * them with reflection. This one keeps, for every concrete message class, the
+ * array of handlers of the class and all its supertypes, built on the first post
+ * of the class, and calls them through MethodHandles. Registering or
+ * unregistering a listener replaces the tables.
+ * <p>
+ * Listeners stay unchanged: handlers are found by their {@code @Subscribe}
+ * annotation, a handler without {@code @AllowConcurrentEvents} is never run
+ * concurrently, messages posted by a handler are delivered after the current
+ * message, a message without handlers is posted again as a DeadEvent, and an
+ * exception thrown by a handler is logged and does not stop the others.
+ *
+ * @see com.google.common.eventbus.EventBus
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class MessageDispatcher extends EventBus {
+
+    private static final Logger LOG = LogManager.getLogger(MessageDispatcher.class);
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private volatile Registry registry = new Registry(Map.of());
+
+    private final ThreadLocal<Dispatch> dispatch = ThreadLocal.withInitial(Dispatch::new);
+
+    /**
+     * Constructor
+     *
+     * @since 2026-10-18
+     */
+    public MessageDispatcher() {
+        super("default");
+    }
+
+    /**
+     * Constructor
+     *
+     * @param identifier the name of the bus, e.g. for the log
+     * @since 2026-10-18
+     */
+    public MessageDispatcher(String identifier) {
+        super(identifier);
+    }
+
+    /**
+     * Registers all {@code @Subscribe} methods of a listener
+     * <p>
+     * Registering a listener again does not register its methods twice.
+     *
+     * @param object the listener
+     * @throws IllegalArgumentException if a {@code @Subscribe} method does not take exactly one object
+     * @since 2026-10-18
+     */
+    @Override
+    public synchronized void register(Object object) {
+        Map<Class<?>, List<Handler>> handlers = registry.copyHandlers();
+        for (Handler handler : findHandlers(object)) {
+            List<Handler> ofType = handlers.computeIfAbsent(handler.eventType, k -> new ArrayList<>());
+            if (!ofType.contains(handler)) {
+                ofType.add(handler);
+            }
+        }
+        registry = new Registry(handlers);
+    }
+
+    /**
+     * Unregisters all {@code @Subscribe} methods of a listener
+     *
+     * @param object the listener
+     * @throws IllegalArgumentException if the listener is not registered
+     * @since 2026-10-18
+     */
+    @Override
+    public synchronized void unregister(Object object) {
+        Map<Class<?>, List<Handler>> handlers = registry.copyHandlers();
+        for (Handler handler : findHandlers(object)) {
+            List<Handler> ofType = handlers.get(handler.eventType);
+            if (ofType == null || !ofType.remove(handler)) {
+                throw new IllegalArgumentException(
+                        "missing event subscriber for an annotated method. Is " + object + " registered?");
+            }
+            if (ofType.isEmpty()) {
+                handlers.remove(handler.eventType);
+            }
+        }
+        registry = new Registry(handlers);
+    }
+
+    /**
+     * Delivers a message to the handlers of its class and all its supertypes
+     * <p>
+     * Messages posted while a handler runs are delivered after the current message,
+     * in the order they were posted.
+     *
+     * @param event the message to deliver
+     * @since 2026-10-18
+     */
+    @Override
+    public void post(Object event) {
+        Handler[] handlers = registry.handlersOf(event.getClass());
+        if (handlers.length == 0) {
+            if (!(event instanceof DeadEvent)) {
+                post(new DeadEvent(this, event));
+            }
+            return;
+        }
+        Dispatch current = dispatch.get();
+        current.queue.add(new Delivery(event, handlers));
+        if (current.dispatching) {
+            return;
+        }
+        current.dispatching = true;
+        try {
+            Delivery delivery;
+            while ((delivery = current.queue.poll()) != null) {
+                for (Handler handler : delivery.handlers) {
+                    handler.handle(delivery.event);
+                }
+            }
+        } finally {
+            current.dispatching = false;
+            current.queue.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MessageDispatcher{" + identifier() + "}";
+    }
+
+    /**
+     * Finds the {@code @Subscribe} methods of a listener and its supertypes
+     * <p>
+     * A method overridden by a subclass is only found once.
+     */
+    private static List<Handler> findHandlers(Object listener) {
+        List<Handler> handlers = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> type : TypeToken.of(listener.getClass()).getTypes().rawTypes()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length != 1 || parameterTypes[0].isPrimitive()) {
+                    throw new IllegalArgumentException("Method " + method
+                            + " has @Subscribe annotation but has " + parameterTypes.length
+                            + " parameters. Subscriber methods must have exactly 1 parameter of a reference type.");
+                }
+                if (signatures.add(method.getName() + parameterTypes[0].getName())) {
+                    handlers.add(new Handler(listener, method));
+                }
+            }
+        }
+        return handlers;
+    }
+
+    /**
+     * The handlers of a snapshot of the registered listeners
+     * <p>
+     * Never changed after construction, except for the cache of the tables.
+     */
+    private static class Registry {
+
+        private static final Handler[] NONE = new Handler[0];
+
+        private final Map<Class<?>, List<Handler>> handlers;
+        private final Map<Class<?>, Handler[]> tables = new ConcurrentHashMap<>();
+
+        private Registry(Map<Class<?>, List<Handler>> handlers) {
+            this.handlers = handlers;
+        }
+
+        private Map<Class<?>, List<Handler>> copyHandlers() {
+            Map<Class<?>, List<Handler>> copy = new LinkedHashMap<>();
+            handlers.forEach((type, ofType) -> copy.put(type, new ArrayList<>(ofType)));
+            return copy;
+        }
+
+        /**
+         * Gets the table of a message class, the handlers of the class come first
+         */
+        private Handler[] handlersOf(Class<?> eventClass) {
+            Handler[] table = tables.get(eventClass);
+            if (table == null) {
+                List<Handler> all = new ArrayList<>();
+                for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+                    all.addAll(handlers.getOrDefault(type, List.of()));
+                }
+                table = all.isEmpty() ? NONE : all.toArray(NONE);
+                tables.put(eventClass, table);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * A {@code @Subscribe} method of a listener
+     */
+    private static class Handler {
+
+        private final Object target;
+        private final Method method;
+        private final Class<?> eventType;
+        private final MethodHandle methodHandle;
+        private final boolean concurrent;
+
+        private Handler(Object target, Method method) {
+            this.target = target;
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+            this.concurrent = method.isAnnotationPresent(AllowConcurrentEvents.class);
+            method.setAccessible(true);
+            try {
+                this.methodHandle = MethodHandles.lookup().unreflect(method).asType(HANDLER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot access subscriber method " + method, e);
+            }
+        }
+
+        private void handle(Object event) {
+            try {
+                if (concurrent) {
+                    methodHandle.invokeExact(target, event);
+                } else {
+                    synchronized (this) {
+                        methodHandle.invokeExact(target, event);
+                    }
+                }
+            } catch (Throwable e) {
+                LOG.error("Exception thrown by subscriber method " + method.getName() + '('
+                        + eventType.getName() + ')' + " on subscriber " + target + " when dispatching event: "
+                        + event, e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Handler)) {
+                return false;
+            }
+            Handler other = (Handler) o;
+            return target == other.target && method.equals(other.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(target) + method.hashCode();
+        }
+    }
+
+    /**
+     * The messages waiting to be delivered by a thread
+     */
+    private static class Dispatch {
+
+        private final ArrayDeque<Delivery> queue = new ArrayDeque<>();
+        private boolean dispatching;
+    }
+
+    /**
+     * A message and the handlers it is delivered to
+     */
+    private static class Delivery {
+
+        private final Object event;
+        private final Handler[] handlers;
+
+        private Delivery(Object event, Handler[] handlers) {
+            this.event = event;
+            this.handlers = handlers;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package de.uol.swp.server.communication;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.netty.buffer.ByteBuf;
+
+import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.message.ResponseMessage;
+import de.uol.swp.common.message.ServerMessage;
+
+/**
+ * Sends the messages written while a request is processed with one flush per client
+ * <p>
+ * Handling a request often sends several messages to the same client. Inside of
+ * {@link #runBuffered(Runnable)} the messages are only written, and every client
+ * written to is flushed once when the outermost call returns, instead of once per
+ * message.
+ * <p>
+ * ServerMessages sent outside of a request, e.g. by the AI or a timer, are flushed
+ * right away, unless a flush window is set with the system property
+ * {@value #FLUSH_WINDOW_PROPERTY} in microseconds. Then they are flushed at most
+ * that long after they were written, together with all messages written to the
+ * same client in the meantime.
+ *
+ * @see de.uol.swp.server.communication.ServerHandler
+ * @see de.uol.swp.server.communication.EncodedMessageContext
+ * @since 2026-10-18
+ */
+@Singleton
+public class OutboundFlusher {
+
+    /**
+     * System property with the flush window for ServerMessages sent outside of a request in microseconds
+     */
+    public static final String FLUSH_WINDOW_PROPERTY = "swp.flushWindowMicros";
+
+    private final long flushWindowNanos;
+
+    // the clients written to in the current scope of the thread, null outside of a scope
+    private final ThreadLocal<Set<EncodedMessageContext>> pending = new ThreadLocal<>();
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    /**
+     * Constructor
+     * <p>
+     * Reads the flush window from the system property, without it every message
+     * sent outside of a request is flushed right away.
+     *
+     * @since 2026-10-18
+     */
+    @Inject
+    public OutboundFlusher() {
+        this(TimeUnit.MICROSECONDS.toNanos(Long.getLong(FLUSH_WINDOW_PROPERTY, 0)));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param flushWindowNanos the maximum time a ServerMessage sent outside of a request
+     *                         waits for its flush, 0 to flush right away
+     * @since 2026-10-18
+     */
+    public OutboundFlusher(long flushWindowNanos) {
+        this.flushWindowNanos = Math.max(0, flushWindowNanos);
+    }
+
+    /**
+     * Runs a task and flushes every client written to by it once afterwards
+     * <p>
+     * Calls may be nested, the clients are flushed when the outermost call returns,
+     * even if the task throws an exception.
+     *
+     * @param task the task, e.g. posting a request on the EventBus
+     * @since 2026-10-18
+     */
+    public void runBuffered(Runnable task) {
+        if (pending.get() != null) {
+            task.run();
+            return;
+        }
+        Set<EncodedMessageContext> clients = new LinkedHashSet<>();
+        pending.set(clients);
+        try {
+            task.run();
+        } finally {
+            pending.remove();
+            for (EncodedMessageContext client : clients) {
+                client.flush();
+                flushes.increment();
+            }
+        }
+    }
+
+    /**
+     * Sends a ResponseMessage to a client
+     *
+     * @param ctx     the MessageContext of the client
+     * @param message the message to send
+     * @since 2026-10-18
+     */
+    public void send(MessageContext ctx, ResponseMessage message) {
+        Set<EncodedMessageContext> clients = pending.get();
+        if (clients != null && ctx instanceof EncodedMessageContext) {
+            ((EncodedMessageContext) ctx).write(message);
+            written(clients, (EncodedMessageContext) ctx);
+        } else {
+            ctx.writeAndFlush(message);
+            writtenAndFlushed();
+        }
+    }
+
+    /**
+     * Sends a ServerMessage to a client
+     *
+     * @param ctx     the MessageContext of the client
+     * @param message the message to send
+     * @since 2026-10-18
+     */
+    public void send(MessageContext ctx, ServerMessage message) {
+        Set<EncodedMessageContext> clients = pending.get();
+        if (!(ctx instanceof EncodedMessageContext)) {
+            ctx.writeAndFlush(message);
+            writtenAndFlushed();
+        } else if (clients != null) {
+            ((EncodedMessageContext) ctx).write(message);
+            written(clients, (EncodedMessageContext) ctx);
+        } else if (flushWindowNanos > 0) {
+            ((EncodedMessageContext) ctx).writeAndFlushLater(message, flushWindowNanos);
+            writes.increment();
+        } else {
+            ctx.writeAndFlush(message);
+            writtenAndFlushed();
+        }
+    }
+
+    /**
+     * Sends an encoded ServerMessage to a client
+     * <p>
+     * The frame is handled like in
+     * {@link EncodedMessageContext#writeAndFlush(ByteBuf, ServerMessage)}.
+     *
+     * @param ctx     the MessageContext of the client
+     * @param frame   the encoded message
+     * @param message the message the frame was encoded from
+     * @since 2026-10-18
+     */
+    public void send(EncodedMessageContext ctx, ByteBuf frame, ServerMessage message) {
+        Set<EncodedMessageContext> clients = pending.get();
+        if (clients != null) {
+            ctx.write(frame, message);
+            written(clients, ctx);
+        } else if (flushWindowNanos > 0) {
+            ctx.writeAndFlushLater(frame, message, flushWindowNanos);
+            writes.increment();
+        } else {
+            ctx.writeAndFlush(frame, message);
+            writtenAndFlushed();
+        }
+    }
+
+    private void written(Set<EncodedMessageContext> clients, EncodedMessageContext ctx) {
+        clients.add(ctx);
+        writes.increment();
+    }
+
+    private void writtenAndFlushed() {
+        writes.increment();
+        flushes.increment();
+    }
+
+    /**
+     * Getter for the flush window of ServerMessages sent outside of a request
+     *
+     * @return the flush window in nanoseconds, 0 if they are flushed right away
+     * @since 2026-10-18
+     */
+    public long getFlushWindowNanos() {
+        return flushWindowNanos;
+    }
+
+    /**
+     * Getter for the number of messages sent
+     *
+     * @return the number of messages sent through this OutboundFlusher
+     * @since 2026-10-18
+     */
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    /**
+     * Getter for the number of flushes
+     * <p>
+     * Flushes scheduled for the flush window are not counted, as one of them may
+     * send the messages of many calls.
+     *
+     * @return the number of flushes done by this OutboundFlusher
+     * @since 2026-10-18
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "OutboundFlusher{writes=" + getWrites() + ", flushes=" + getFlushes() + "}";
+    }
+}
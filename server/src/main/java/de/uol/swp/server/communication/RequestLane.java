@@ -0,0 +1,94 @@
+package de.uol.swp.server.communication;
+
+import de.uol.swp.common.chat.RequestChatMessage;
+import de.uol.swp.common.game.request.AbstractGameRequest;
+import de.uol.swp.common.game.request.RollDiceRequest;
+import de.uol.swp.common.lobby.request.AbstractLobbyRequest;
+import de.uol.swp.common.lobby.request.RetrieveAllLobbiesRequest;
+import de.uol.swp.common.message.RequestMessage;
+
+/**
+ * The lanes the requests are processed in, each with its own worker threads and queue limit
+ * <p>
+ * A burst of chat messages or lobby lists only fills its own lane, so the game
+ * actions keep their latency when the main menu is busy. The threads and the
+ * queue limit of a lane are read from the system properties
+ * {@code swp.lane.<lane>.threads} and {@code swp.lane.<lane>.maxQueued}, e.g.
+ * {@code swp.lane.chat.threads}. The lanes only split the queueing, the requests
+ * of one mailbox run one after the other whatever their lanes are.
+ *
+ * @see de.uol.swp.server.communication.MailboxExecutor
+ * @since 2026-10-18
+ */
+public enum RequestLane {
+
+    /**
+     * The actions of a running game, also used for the AI turns and timers of the server
+     */
+    GAME(Math.max(2, Runtime.getRuntime().availableProcessors()), 10_000),
+
+    /**
+     * Creating, joining, listing and starting lobbies
+     */
+    LOBBY(2, 1000),
+
+    /**
+     * Chat messages and the cheats sent in them
+     */
+    CHAT(1, 1000),
+
+    /**
+     * Everything else, e.g. login, registration, user lists and profile updates
+     */
+    DIRECTORY(2, 1000);
+
+    private final int defaultThreads;
+    private final int defaultMaxQueued;
+
+    RequestLane(int defaultThreads, int defaultMaxQueued) {
+        this.defaultThreads = defaultThreads;
+        this.defaultMaxQueued = defaultMaxQueued;
+    }
+
+    /**
+     * Gets the lane a RequestMessage is processed in
+     *
+     * @param msg the RequestMessage
+     * @return the lane of the request
+     * @since 2026-10-18
+     */
+    public static RequestLane of(RequestMessage msg) {
+        if (msg instanceof AbstractGameRequest || msg instanceof RollDiceRequest) {
+            return GAME;
+        } else if (msg instanceof AbstractLobbyRequest || msg instanceof RetrieveAllLobbiesRequest) {
+            return LOBBY;
+        } else if (msg instanceof RequestChatMessage) {
+            return CHAT;
+        }
+        return DIRECTORY;
+    }
+
+    /**
+     * Getter for the number of worker threads of the lane
+     *
+     * @return the threads from the system property, or the default of the lane
+     * @since 2026-10-18
+     */
+    public int getThreads() {
+        return Math.max(1, Integer.getInteger(getPropertyPrefix() + "threads", defaultThreads));
+    }
+
+    /**
+     * Getter for the number of requests that may wait in the lane before new ones are rejected
+     *
+     * @return the limit from the system property, or the default of the lane
+     * @since 2026-10-18
+     */
+    public int getMaxQueued() {
+        return Math.max(1, Integer.getInteger(getPropertyPrefix() + "maxQueued", defaultMaxQueued));
+    }
+
+    private String getPropertyPrefix() {
+        return "swp.lane." + name().toLowerCase() + ".";
+    }
+}
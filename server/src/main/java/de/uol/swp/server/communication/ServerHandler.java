@@ -1,20 +1,29 @@
 package de.uol.swp.server.communication;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.google.common.eventbus.DeadEvent;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import com.google.inject.Inject;
 
+import io.netty.buffer.ByteBuf;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import de.uol.swp.common.chat.RequestChatMessage;
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.game.request.AbstractGameRequest;
+import de.uol.swp.common.game.request.RollDiceRequest;
+import de.uol.swp.common.lobby.request.AbstractLobbyRequest;
 import de.uol.swp.common.message.ExceptionMessage;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.message.MessageContext;
@@ -24,7 +33,10 @@ import de.uol.swp.common.message.ServerMessage;
 import de.uol.swp.common.user.Session;
 import de.uol.swp.common.user.message.UserLoggedInMessage;
 import de.uol.swp.common.user.message.UserLoggedOutMessage;
+import de.uol.swp.common.user.request.LogoutRequest;
+import de.uol.swp.common.user.request.ResumeSessionRequest;
 import de.uol.swp.common.user.response.LoginSuccessfulResponse;
+import de.uol.swp.common.user.response.ResumeSessionResponse;
 import de.uol.swp.server.message.ClientAuthorizedMessage;
 import de.uol.swp.server.message.ClientDisconnectedMessage;
 import de.uol.swp.server.message.ServerExceptionMessage;
@@ -41,6 +53,11 @@ public class ServerHandler implements ServerHandlerDelegate {
 
     private static final Logger LOG = LogManager.getLogger(ServerHandler.class);
 
+    /**
+     * Prefix of the chat of a game, followed by the name of the game
+     */
+    private static final String GAME_CHAT_PREFIX = "game_";
+
     /**
      * Clients that are connected
      */
@@ -49,22 +66,109 @@ public class ServerHandler implements ServerHandlerDelegate {
     /**
      * Clients with logged in sessions
      */
-    final private Map<MessageContext, Session> activeSessions = new HashMap<>();
+    final private Map<MessageContext, Session> activeSessions = new ConcurrentHashMap<>();
+
+    /**
+     * Inverse index of activeSessions, so the MessageContext of a receiver is found without a scan
+     */
+    final private Map<Session, MessageContext> sessionContexts = new ConcurrentHashMap<>();
+
+    /**
+     * Encodings saved by sending shared frames
+     */
+    final private BroadcastStatistics broadcastStatistics = new BroadcastStatistics();
 
     /**
      * Event bus (injected)
      */
     final private EventBus eventBus;
 
+    /**
+     * Mailboxes the requests are processed in, null to process them on the calling thread
+     */
+    final private MailboxExecutor mailboxExecutor;
+
+    /**
+     * Flushes the messages of a request once, null to flush every message
+     */
+    final private OutboundFlusher outboundFlusher;
+
+    /**
+     * Keeps the sessions of lost connections, null to log them out right away
+     */
+    final private SessionResumer sessionResumer;
+
+    /**
+     * The request processed by the current thread, its responses get its correlation id
+     */
+    final private ThreadLocal<RequestMessage> processedRequest = new ThreadLocal<>();
+
     /**
      * Constructor
+     * <p>
+     * Requests are posted on the EventBus by the thread that received them.
      *
      * @param eventBus the EventBus used throughout the entire server
      * @see EventBus
      */
-    @Inject
     public ServerHandler(EventBus eventBus) {
+        this(eventBus, null);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Requests are posted on the EventBus from the mailbox of their game or lobby,
+     * so the netty threads never run the handlers.
+     *
+     * @param eventBus        the EventBus used throughout the entire server
+     * @param mailboxExecutor the MailboxExecutor the requests are processed in
+     * @see EventBus
+     * @see de.uol.swp.server.communication.MailboxExecutor
+     * @since 2026-10-18
+     */
+    public ServerHandler(EventBus eventBus, MailboxExecutor mailboxExecutor) {
+        this(eventBus, mailboxExecutor, null);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Like {@link #ServerHandler(EventBus, MailboxExecutor)}, but all messages sent
+     * while a request is processed are flushed once when it is done.
+     *
+     * @param eventBus        the EventBus used throughout the entire server
+     * @param mailboxExecutor the MailboxExecutor the requests are processed in
+     * @param outboundFlusher the OutboundFlusher the messages are sent with
+     * @see EventBus
+     * @see de.uol.swp.server.communication.OutboundFlusher
+     * @since 2026-10-18
+     */
+    public ServerHandler(EventBus eventBus, MailboxExecutor mailboxExecutor, OutboundFlusher outboundFlusher) {
+        this(eventBus, mailboxExecutor, outboundFlusher, null);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Like {@link #ServerHandler(EventBus, MailboxExecutor, OutboundFlusher)}, but
+     * a client that lost its connection can resume its session for a grace period.
+     *
+     * @param eventBus        the EventBus used throughout the entire server
+     * @param mailboxExecutor the MailboxExecutor the requests are processed in
+     * @param outboundFlusher the OutboundFlusher the messages are sent with
+     * @param sessionResumer  the SessionResumer keeping the sessions of lost connections
+     * @see EventBus
+     * @see de.uol.swp.server.communication.SessionResumer
+     * @since 2026-10-18
+     */
+    @Inject
+    public ServerHandler(EventBus eventBus, MailboxExecutor mailboxExecutor, OutboundFlusher outboundFlusher,
+                         SessionResumer sessionResumer) {
         this.eventBus = eventBus;
+        this.mailboxExecutor = mailboxExecutor;
+        this.outboundFlusher = outboundFlusher;
+        this.sessionResumer = sessionResumer;
         eventBus.register(this);
     }
 
@@ -92,6 +196,9 @@ public class ServerHandler implements ServerHandlerDelegate {
      * If an ServerExceptionMessage is detected on the EventBus, this method is called.
      * It sends the ServerExceptionMessage to the affiliated client if a client is
      * affiliated.
+     * <p>
+     * enhanced by the correlation id, 2026-10-18: the ExceptionMessage answers the
+     * request processed by the current thread
      *
      * @param msg The ServerExceptionMessage found on the EventBus
      * @author Marco Grawunder
@@ -101,8 +208,11 @@ public class ServerHandler implements ServerHandlerDelegate {
     private void onServerException(ServerExceptionMessage msg) {
         Optional<MessageContext> ctx = getCtx(msg);
         LOG.error(msg.getException());
-        ctx.ifPresent(channelHandlerContext -> sendToClient(channelHandlerContext,
-                new ExceptionMessage(msg.getException().getMessage())));
+        ctx.ifPresent(channelHandlerContext -> {
+            ExceptionMessage response = new ExceptionMessage(msg.getException().getMessage());
+            correlate(channelHandlerContext, response);
+            sendToClient(channelHandlerContext, response);
+        });
     }
 
     /**
@@ -130,10 +240,21 @@ public class ServerHandler implements ServerHandlerDelegate {
         connectedClients.add(ctx);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * enhanced by the SessionResumer, 2026-10-18: a session with a resume token
+     * stays logged in for the grace period
+     */
     @Override
     public void clientDisconnected(MessageContext ctx) {
         LOG.debug("Client disconnected");
         Session session = this.activeSessions.get(ctx);
+        if (session != null && sessionResumer != null && sessionResumer.disconnected(session,
+                () -> runOnServerMailbox(() -> expireSession(ctx, session)))) {
+            LOG.debug("Keeping the session of " + session.getUser().getUsername() + " to be resumed");
+            return;
+        }
         if (session != null) {
             ClientDisconnectedMessage msg = new ClientDisconnectedMessage();
             msg.setSession(session);
@@ -143,20 +264,210 @@ public class ServerHandler implements ServerHandlerDelegate {
         connectedClients.remove(ctx);
     }
 
+    /**
+     * Logs out a session that was not resumed in time
+     *
+     * @param ctx     the MessageContext of the lost connection
+     * @param session the Session kept for the grace period
+     * @since 2026-10-18
+     */
+    private void expireSession(MessageContext ctx, Session session) {
+        connectedClients.remove(ctx);
+        if (activeSessions.remove(ctx, session)) {
+            sessionContexts.remove(session, ctx);
+            ClientDisconnectedMessage msg = new ClientDisconnectedMessage();
+            msg.setSession(session);
+            eventBus.post(msg);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * enhanced by the SessionResumer, 2026-10-18: a ResumeSessionRequest is
+     * handled right here and a LogoutRequest ends the resumability of the session
+     */
     @Override
     public void process(RequestMessage msg) {
         LOG.debug("Received new message from client " + msg);
         if (msg.getMessageContext().isPresent()) {
             try {
+                if (msg instanceof ResumeSessionRequest) {
+                    resumeSession(msg.getMessageContext().get(), (ResumeSessionRequest) msg);
+                    return;
+                }
                 checkIfMessageNeedsAuthorization(msg.getMessageContext().get(), msg);
-                eventBus.post(msg);
+                if (sessionResumer != null && msg instanceof LogoutRequest) {
+                    msg.getSession().ifPresent(sessionResumer::forget);
+                }
+                dispatch(msg);
             } catch (Exception e) {
                 LOG.error("ServerException " + e.getClass().getName() + " " + e.getMessage());
-                sendToClient(msg.getMessageContext().get(), new ExceptionMessage(e.getMessage()));
+                ExceptionMessage response = new ExceptionMessage(e.getMessage());
+                response.setCorrelationId(msg.getCorrelationId());
+                sendToClient(msg.getMessageContext().get(), response);
+            }
+        }
+    }
+
+    /**
+     * Resumes the session of a client on a new connection
+     * <p>
+     * The new connection takes over the session and gets the ServerMessages the
+     * client missed. If the client missed more than were kept, the session is
+     * logged out and the client has to log in again.
+     *
+     * @param ctx the MessageContext of the new connection
+     * @param msg the ResumeSessionRequest of the client
+     * @see de.uol.swp.server.communication.SessionResumer
+     * @since 2026-10-18
+     */
+    private void resumeSession(MessageContext ctx, ResumeSessionRequest msg) {
+        Session session = sessionResumer != null ? sessionResumer.resume(msg.getResumeToken()) : null;
+        MessageContext previous = session != null ? sessionContexts.get(session) : null;
+        if (previous instanceof EncodedMessageContext && ctx instanceof EncodedMessageContext) {
+            // broadcasts go to the new connection only from now on
+            connectedClients.remove(previous);
+            ResumeSessionResponse response = new ResumeSessionResponse(session.getUser(), msg.getResumeToken());
+            if (((EncodedMessageContext) ctx).resume((EncodedMessageContext) previous, response,
+                    msg.getLastSeenSequence())) {
+                LOG.debug("Resumed the session of " + session.getUser().getUsername() + " on " + ctx);
+                putSession(ctx, session);
+                return;
+            }
+            LOG.debug("The session of " + session.getUser().getUsername() + " missed too much to be resumed");
+            sessionResumer.forget(session);
+            runOnServerMailbox(() -> expireSession(previous, session));
+        }
+        sendToClient(ctx, new ResumeSessionResponse());
+    }
+
+    /**
+     * Runs a task in the mailbox shared by all directory requests, e.g. the logins
+     * and logouts
+     *
+     * @param task the task to run
+     * @since 2026-10-18
+     */
+    private void runOnServerMailbox(Runnable task) {
+        if (mailboxExecutor == null) {
+            task.run();
+        } else {
+            mailboxExecutor.execute(RequestLane.DIRECTORY, MailboxExecutor.getServerKey(RequestLane.DIRECTORY), task);
+        }
+    }
+
+    /**
+     * Posts a RequestMessage on the EventBus
+     * <p>
+     * Requests belonging to a game, lobby or chat are processed one after the other
+     * in the mailbox of that name, as games are created from lobbies with the same
+     * name. All other requests share one mailbox.
+     * <p>
+     * enhanced by the OutboundFlusher, 2026-10-18: the messages sent while the
+     * request is processed are flushed once afterwards
+     * <p>
+     * enhanced by the correlation id, 2026-10-18: the responses sent to the client
+     * while the request is processed get its correlation id
+     * <p>
+     * enhanced by the RequestLanes, 2026-10-18: the request is processed by the
+     * workers of its lane, and rejected if the lane is full. The requests of a
+     * game and of its lobby still share the mailbox of their name, so they never
+     * run at the same time. The other requests share one mailbox per lane, so a
+     * full lane does not delay the requests of the others.
+     *
+     * @param msg the RequestMessage to post
+     * @throws RejectedExecutionException if the lane of the request holds its queue limit
+     * @see de.uol.swp.server.communication.MailboxExecutor
+     * @see de.uol.swp.server.communication.OutboundFlusher
+     * @see de.uol.swp.server.communication.RequestLane
+     * @since 2026-10-18
+     */
+    private void dispatch(RequestMessage msg) {
+        Runnable post = () -> postRequest(msg);
+        Runnable task = outboundFlusher == null ? post : () -> outboundFlusher.runBuffered(post);
+        if (mailboxExecutor == null) {
+            task.run();
+            return;
+        }
+        RequestLane lane = RequestLane.of(msg);
+        if (!mailboxExecutor.offer(lane, getMailboxKey(msg), task)) {
+            throw new RejectedExecutionException("The server is busy, please try again");
+        }
+    }
+
+    /**
+     * Posts a RequestMessage on the EventBus and remembers it while it is processed
+     *
+     * @param msg the RequestMessage to post
+     * @since 2026-10-18
+     */
+    private void postRequest(RequestMessage msg) {
+        RequestMessage outer = processedRequest.get();
+        processedRequest.set(msg);
+        try {
+            eventBus.post(msg);
+        } finally {
+            if (outer == null) {
+                processedRequest.remove();
+            } else {
+                processedRequest.set(outer);
             }
         }
     }
 
+    /**
+     * Gives a response the correlation id of the request it answers
+     * <p>
+     * A response without a correlation id sent to the client of the request
+     * processed by the current thread answers that request.
+     *
+     * @param ctx the MessageContext the response is sent to
+     * @param msg the response
+     * @since 2026-10-18
+     */
+    private void correlate(MessageContext ctx, ResponseMessage msg) {
+        RequestMessage request = processedRequest.get();
+        if (msg.getCorrelationId() == 0 && request != null && request.getCorrelationId() != 0
+                && request.getMessageContext().map(ctx::equals).orElse(false)) {
+            msg.setCorrelationId(request.getCorrelationId());
+        }
+    }
+
+    /**
+     * Gets the key of the mailbox a RequestMessage is processed in
+     * <p>
+     * Every request changing a game has to be in the mailbox of its name, also
+     * the ones that are no AbstractGameRequest, like the RollDiceRequest. The
+     * lobby requests use the same mailbox, as a game shares the name of its lobby.
+     * The chat of a game is named {@value #GAME_CHAT_PREFIX} and the name of the
+     * game. Its messages can carry cheats changing the game, so they are in the
+     * mailbox of the game as well.
+     * <p>
+     * A request without a name is processed in the server mailbox of its lane, e.g.
+     * the lobby listings do not share a mailbox with the logins.
+     *
+     * @param msg the RequestMessage
+     * @return the key of the mailbox
+     * @since 2026-10-18
+     */
+    static String getMailboxKey(RequestMessage msg) {
+        String name = null;
+        if (msg instanceof AbstractGameRequest) {
+            name = ((AbstractGameRequest) msg).getName();
+        } else if (msg instanceof RollDiceRequest) {
+            name = ((RollDiceRequest) msg).getName();
+        } else if (msg instanceof AbstractLobbyRequest) {
+            name = ((AbstractLobbyRequest) msg).getName();
+        } else if (msg instanceof RequestChatMessage) {
+            name = ((RequestChatMessage) msg).getChat();
+            if (name != null && name.startsWith(GAME_CHAT_PREFIX)) {
+                name = name.substring(GAME_CHAT_PREFIX.length());
+            }
+        }
+        return name == null ? MailboxExecutor.getServerKey(RequestLane.of(msg)) : MailboxExecutor.getNamedKey(name);
+    }
+
     // -------------------------------------------------------------------------------
     // User Management Events (from event bus)
     // -------------------------------------------------------------------------------
@@ -168,6 +479,13 @@ public class ServerHandler implements ServerHandlerDelegate {
      * It gets the MessageContext and then gives it and a new LoginSuccessfulResponse to
      * sendToClient for sending as well as giving a new UserLoggedInMessage to sendMessage
      * for notifying all connected clients.
+     * <p>
+     * enhanced by the SessionResumer, 2026-10-18: the response carries a resume
+     * token and the ServerMessages sent after it are recorded. A session of the
+     * same user that waited to be resumed is replaced by the new one.
+     * <p>
+     * enhanced by the correlation ids, 2026-10-18: the response answers the LoginRequest
+     * the client awaits
      *
      * @param msg The ClientAuthorizedMessage found on the EventBus
      * @author Marco Grawunder
@@ -179,14 +497,41 @@ public class ServerHandler implements ServerHandlerDelegate {
     private void onClientAuthorized(ClientAuthorizedMessage msg) {
         Optional<MessageContext> ctx = getCtx(msg);
         if (ctx.isPresent() && msg.getSession().isPresent()) {
+            msg.getReplacedSession().ifPresent(this::removeReplacedSession);
             putSession(ctx.get(), msg.getSession().get());
-            sendToClient(ctx.get(), new LoginSuccessfulResponse(msg.getUser()));
+            LoginSuccessfulResponse response;
+            if (sessionResumer != null && ctx.get() instanceof EncodedMessageContext) {
+                response = new LoginSuccessfulResponse(msg.getUser(), sessionResumer.register(msg.getSession().get()));
+                ((EncodedMessageContext) ctx.get()).startReplay(response, sessionResumer.getReplayCapacity());
+            } else {
+                response = new LoginSuccessfulResponse(msg.getUser());
+            }
+            correlate(ctx.get(), response);
+            sendToClient(ctx.get(), response);
             sendMessage(new UserLoggedInMessage(msg.getUser().getUsername()));
         } else {
             LOG.warn("No context for " + msg);
         }
     }
 
+    /**
+     * Removes the session replaced by a new login of its user
+     * <p>
+     * A user whose session waited to be resumed logged in again, so the lost
+     * connection of the old session is forgotten.
+     *
+     * @param replacedSession the Session replaced by the new login
+     * @see de.uol.swp.server.message.ClientAuthorizedMessage#getReplacedSession()
+     * @since 2026-10-18
+     */
+    private void removeReplacedSession(Session replacedSession) {
+        MessageContext ctx = sessionContexts.get(replacedSession);
+        if (ctx != null) {
+            connectedClients.remove(ctx);
+            removeSession(ctx);
+        }
+    }
+
     /**
      * Handles UserLoggedOutMessages found on the EventBus
      * <p>
@@ -216,6 +561,9 @@ public class ServerHandler implements ServerHandlerDelegate {
      * If an ResponseMessage is detected on the EventBus, this method is called.
      * It gets the MessageContext and then gives it and the ResponseMessage to
      * sendToClient for sending.
+     * <p>
+     * enhanced by the correlation id, 2026-10-18: the response gets the correlation
+     * id of the request processed by the current thread
      *
      * @param msg The ResponseMessage found on the EventBus
      * @author Marco Grawunder
@@ -228,6 +576,7 @@ public class ServerHandler implements ServerHandlerDelegate {
         if (ctx.isPresent()) {
             msg.setSession(null);
             msg.setMessageContext(null);
+            correlate(ctx.get(), msg);
             LOG.debug("Send to client " + ctx.get() + " message " + msg);
             sendToClient(ctx.get(), msg);
         }
@@ -275,8 +624,14 @@ public class ServerHandler implements ServerHandlerDelegate {
      */
     private void putSession(MessageContext ctx, Session newSession) {
 
-        // TODO: check if session is already bound to connection
-        activeSessions.put(ctx, newSession);
+        Session oldSession = activeSessions.put(ctx, newSession);
+        if (oldSession != null && !oldSession.equals(newSession)) {
+            sessionContexts.remove(oldSession, ctx);
+        }
+        MessageContext oldCtx = sessionContexts.put(newSession, ctx);
+        if (oldCtx != null && !oldCtx.equals(ctx)) {
+            activeSessions.remove(oldCtx, newSession);
+        }
     }
 
     /**
@@ -287,7 +642,10 @@ public class ServerHandler implements ServerHandlerDelegate {
      * @since 2019-11-20
      */
     private void removeSession(MessageContext ctx) {
-        activeSessions.remove(ctx);
+        Session session = activeSessions.remove(ctx);
+        if (session != null) {
+            sessionContexts.remove(session, ctx);
+        }
     }
 
     /**
@@ -336,12 +694,7 @@ public class ServerHandler implements ServerHandlerDelegate {
      * @since 2019-11-20
      */
     private Optional<MessageContext> getCtx(Session session) {
-        for (Map.Entry<MessageContext, Session> e : activeSessions.entrySet()) {
-            if (e.getValue().equals(session)) {
-                return Optional.of(e.getKey());
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(sessionContexts.get(session));
     }
 
     /**
@@ -355,11 +708,13 @@ public class ServerHandler implements ServerHandlerDelegate {
      * @since 2019-11-20
      */
     private List<MessageContext> getCtx(List<Session> receiver) {
-        List<MessageContext> ctxs = new ArrayList<>();
-        receiver.forEach(r -> {
-            Optional<MessageContext> s = getCtx(r);
-            s.ifPresent(ctxs::add);
-        });
+        List<MessageContext> ctxs = new ArrayList<>(receiver.size());
+        for (Session session : receiver) {
+            MessageContext ctx = sessionContexts.get(session);
+            if (ctx != null) {
+                ctxs.add(ctx);
+            }
+        }
         return ctxs;
     }
 
@@ -370,6 +725,8 @@ public class ServerHandler implements ServerHandlerDelegate {
 
     /**
      * Sends a ResponseMessage to a client specified by a MessageContext
+     * <p>
+     * enhanced by the OutboundFlusher, 2026-10-18: sent with the OutboundFlusher if there is one
      *
      * @param ctx     The MessageContext containing the specified client
      * @param message The Message to send
@@ -380,7 +737,11 @@ public class ServerHandler implements ServerHandlerDelegate {
      */
     private void sendToClient(MessageContext ctx, ResponseMessage message) {
         LOG.trace("Trying to sendMessage to client: " + ctx + " " + message);
-        ctx.writeAndFlush(message);
+        if (outboundFlusher != null) {
+            outboundFlusher.send(ctx, message);
+        } else {
+            ctx.writeAndFlush(message);
+        }
     }
 
     /**
@@ -401,6 +762,8 @@ public class ServerHandler implements ServerHandlerDelegate {
 
     /**
      * Sends a ServerMessage to multiple users specified by a list of MessageContexts
+     * <p>
+     * enhanced by the OutboundFlusher, 2026-10-18: sent with the OutboundFlusher if there is one
      *
      * @param sendTo List of MessageContexts to send the message to
      * @param msg    message to send
@@ -410,15 +773,110 @@ public class ServerHandler implements ServerHandlerDelegate {
      * @since 2019-11-20
      */
     private void sendToMany(List<MessageContext> sendTo, ServerMessage msg) {
-        for (MessageContext client : sendTo) {
+        Map<WireFormat, EncodedFrame> frames = sendTo.size() > 1 ? new EnumMap<>(WireFormat.class) : null;
+        try {
+            for (MessageContext client : sendTo) {
+                try {
+                    ByteBuf frame = frames != null ? getFrame(frames, client, msg) : null;
+                    if (frame != null && outboundFlusher != null) {
+                        outboundFlusher.send((EncodedMessageContext) client, frame.retainedDuplicate(), msg);
+                    } else if (frame != null) {
+                        ((EncodedMessageContext) client).writeAndFlush(frame.retainedDuplicate(), msg);
+                    } else if (outboundFlusher != null) {
+                        outboundFlusher.send(client, msg);
+                    } else {
+                        client.writeAndFlush(msg);
+                    }
+                } catch (Exception e) {
+                    LOG.warn("Could not send " + msg + " to " + client, e);
+                }
+            }
+        } finally {
+            if (frames != null) {
+                for (EncodedFrame frame : frames.values()) {
+                    broadcastStatistics.record(msg.getClass(), frame.encodeNanos, frame.writes - 1);
+                    frame.frame.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the frame of a ServerMessage in the wire format of a client
+     * <p>
+     * The message is encoded only for the first client of each wire format, all
+     * others get a duplicate of the same frame. The encode time saved by that is
+     * recorded in the BroadcastStatistics.
+     *
+     * @param frames frames of the message already encoded, by wire format
+     * @param client the client the message is sent to
+     * @param msg    message to send
+     * @return the encoded frame or null if the client can only send messages
+     * @throws Exception if the message could not be encoded
+     * @see de.uol.swp.server.communication.BroadcastStatistics
+     * @since 2026-10-18
+     */
+    private ByteBuf getFrame(Map<WireFormat, EncodedFrame> frames, MessageContext client, ServerMessage msg)
+            throws Exception {
+        if (!(client instanceof EncodedMessageContext)) {
+            return null;
+        }
+        EncodedMessageContext encodedClient = (EncodedMessageContext) client;
+        WireFormat wireFormat = encodedClient.getWireFormat();
+        if (wireFormat == null) {
+            return null;
+        }
+        EncodedFrame encodedFrame = frames.get(wireFormat);
+        if (encodedFrame == null) {
+            long start = System.nanoTime();
+            ByteBuf frame = encodedClient.alloc().ioBuffer();
             try {
-                client.writeAndFlush(msg);
+                wireFormat.encodeFrame(msg, frame);
             } catch (Exception e) {
-                // TODO: Handle exception for unreachable clients
-                e.printStackTrace();
+                frame.release();
+                throw e;
             }
+            encodedFrame = new EncodedFrame(frame, System.nanoTime() - start);
+            frames.put(wireFormat, encodedFrame);
         }
+        encodedFrame.writes++;
+        return encodedFrame.frame;
     }
 
+    /**
+     * Getter for the statistics of messages encoded once for many clients
+     *
+     * @return the BroadcastStatistics of this ServerHandler
+     * @since 2026-10-18
+     */
+    public BroadcastStatistics getBroadcastStatistics() {
+        return broadcastStatistics;
+    }
 
+    /**
+     * Getter for the OutboundFlusher the messages are sent with
+     *
+     * @return the OutboundFlusher or null if every message is flushed right away
+     * @since 2026-10-18
+     */
+    public OutboundFlusher getOutboundFlusher() {
+        return outboundFlusher;
+    }
+
+    /**
+     * A ServerMessage encoded once for all clients of a wire format
+     *
+     * @since 2026-10-18
+     */
+    private static class EncodedFrame {
+
+        private final ByteBuf frame;
+        private final long encodeNanos;
+        private int writes;
+
+        private EncodedFrame(ByteBuf frame, long encodeNanos) {
+            this.frame = frame;
+            this.encodeNanos = encodeNanos;
+        }
+    }
 }
@@ -0,0 +1,229 @@
+package de.uol.swp.server.communication;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The one timer of the server
+ * <p>
+ * Countdowns of lobbies, the pacing of the AI and every other delayed task share
+ * a single hashed wheel timer with one thread, no matter how many tasks are
+ * pending. A task is due at most one tick, {@value #TICK_PROPERTY} milliseconds,
+ * late. Every scheduled task returns a Timeout to cancel it.
+ * <p>
+ * Tasks of a game or lobby should be run in its mailbox, so they never run
+ * concurrently with its requests. Tasks run on the timer thread itself have to
+ * be short, as they delay all other tasks. The thread is started with the first
+ * scheduled task.
+ *
+ * @see de.uol.swp.server.communication.MailboxExecutor
+ * @since 2026-10-18
+ */
+@Singleton
+public class ServerTimer {
+
+    /**
+     * System property with the tick duration of the timer in milliseconds
+     */
+    public static final String TICK_PROPERTY = "swp.timer.tickMillis";
+
+    private static final Logger LOG = LogManager.getLogger(ServerTimer.class);
+
+    private final MailboxExecutor mailboxExecutor;
+    private final long tickNanos;
+    private HashedWheelTimer wheel;
+    private boolean stopped;
+
+    private final LongAdder scheduledTasks = new LongAdder();
+    private final LongAdder cancelledTasks = new LongAdder();
+
+    /**
+     * Constructor
+     * <p>
+     * Tasks of a game or lobby are run on the timer thread.
+     *
+     * @since 2026-10-18
+     */
+    public ServerTimer() {
+        this(null);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * The tick duration is read from the system property {@value #TICK_PROPERTY},
+     * 10 milliseconds if it is not set.
+     *
+     * @param mailboxExecutor the MailboxExecutor the tasks of a game or lobby are run in, may be null
+     * @since 2026-10-18
+     */
+    @Inject
+    public ServerTimer(MailboxExecutor mailboxExecutor) {
+        this(mailboxExecutor, Long.getLong(TICK_PROPERTY, 10), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param mailboxExecutor the MailboxExecutor the tasks of a game or lobby are run in, may be null
+     * @param tickDuration    the time between two ticks of the timer
+     * @param timeUnit        the unit of the tick duration
+     * @throws IllegalArgumentException if the tick duration is not positive
+     * @since 2026-10-18
+     */
+    public ServerTimer(MailboxExecutor mailboxExecutor, long tickDuration, TimeUnit timeUnit) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("invalid tick duration: " + tickDuration + " " + timeUnit);
+        }
+        this.mailboxExecutor = mailboxExecutor;
+        this.tickNanos = timeUnit.toNanos(tickDuration);
+    }
+
+    /**
+     * Runs a task on the timer thread after a delay
+     *
+     * @param task  the task, it has to be short
+     * @param delay the delay before the task is run
+     * @param unit  the unit of the delay
+     * @return the Timeout to cancel the task with
+     * @throws IllegalStateException if the timer was stopped
+     * @since 2026-10-18
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        scheduledTasks.increment();
+        return getWheel().newTimeout(timeout -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOG.error("Timer task " + task + " failed", e);
+            }
+        }, delay, unit);
+    }
+
+    /**
+     * Runs a task in the mailbox of a game or lobby after a delay
+     * <p>
+     * Without a MailboxExecutor the task is run on the timer thread.
+     *
+     * @param name  the name of the game or lobby
+     * @param task  the task to run
+     * @param delay the delay before the task is run
+     * @param unit  the unit of the delay
+     * @return the Timeout to cancel the task with, before it was handed to the mailbox
+     * @throws IllegalStateException if the timer was stopped
+     * @see de.uol.swp.server.communication.MailboxExecutor#getNamedKey(String)
+     * @since 2026-10-18
+     */
+    public Timeout schedule(String name, Runnable task, long delay, TimeUnit unit) {
+        if (mailboxExecutor == null) {
+            return schedule(task, delay, unit);
+        }
+        return schedule(() -> mailboxExecutor.execute(MailboxExecutor.getNamedKey(name), task), delay, unit);
+    }
+
+    /**
+     * Runs a task in the mailbox of a game or lobby right away
+     * <p>
+     * Used by the requests of the server mailbox that change a game or lobby,
+     * e.g. a LogoutRequest leaving all games of the user. Without a
+     * MailboxExecutor the task is run on the calling thread.
+     *
+     * @param name the name of the game or lobby
+     * @param task the task to run
+     * @see de.uol.swp.server.communication.MailboxExecutor#getNamedKey(String)
+     * @since 2026-10-18
+     */
+    public void execute(String name, Runnable task) {
+        if (mailboxExecutor == null) {
+            task.run();
+        } else {
+            mailboxExecutor.execute(MailboxExecutor.getNamedKey(name), task);
+        }
+    }
+
+    /**
+     * Cancels a task if it was not run yet
+     *
+     * @param timeout the Timeout of the task, may be null
+     * @return true if the task will not be run anymore because of this call
+     * @since 2026-10-18
+     */
+    public boolean cancel(Timeout timeout) {
+        if (timeout != null && timeout.cancel()) {
+            cancelledTasks.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized HashedWheelTimer getWheel() {
+        if (stopped) {
+            throw new IllegalStateException("The server timer was stopped");
+        }
+        if (wheel == null) {
+            wheel = new HashedWheelTimer(runnable -> {
+                Thread thread = new Thread(runnable, "server-timer");
+                thread.setDaemon(true);
+                return thread;
+            }, tickNanos, TimeUnit.NANOSECONDS);
+        }
+        return wheel;
+    }
+
+    /**
+     * Getter for the number of tasks waiting to be run
+     *
+     * @return the number of pending tasks
+     * @since 2026-10-18
+     */
+    public synchronized long getPendingTasks() {
+        return wheel == null ? 0 : wheel.pendingTimeouts();
+    }
+
+    /**
+     * Getter for the number of tasks scheduled so far
+     *
+     * @return the number of scheduled tasks
+     * @since 2026-10-18
+     */
+    public long getScheduledTasks() {
+        return scheduledTasks.sum();
+    }
+
+    /**
+     * Getter for the number of tasks cancelled with {@link #cancel(Timeout)}
+     *
+     * @return the number of cancelled tasks
+     * @since 2026-10-18
+     */
+    public long getCancelledTasks() {
+        return cancelledTasks.sum();
+    }
+
+    /**
+     * Stops the timer, pending tasks are not run anymore
+     *
+     * @since 2026-10-18
+     */
+    public synchronized void shutdown() {
+        stopped = true;
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ServerTimer{pending=" + getPendingTasks() + ", scheduled=" + getScheduledTasks() + ", cancelled="
+                + getCancelledTasks() + "}";
+    }
+}
@@ -0,0 +1,296 @@
+package de.uol.swp.server.communication;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.netty.util.Timeout;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.user.Session;
+
+/**
+ * Keeps the sessions of clients that lost their connection for a grace period
+ * <p>
+ * Every logged in session gets a random resume token. When the connection of a
+ * session is lost, the session stays logged in for {@value #GRACE_PROPERTY}
+ * milliseconds. If the client connects again within that time and presents the
+ * token, it continues the session and gets the ServerMessages it missed, without
+ * logging in again. Otherwise the session expires and is logged out.
+ * <p>
+ * The last {@value #REPLAY_PROPERTY} ServerMessages of a session are kept to
+ * send them again.
+ *
+ * @see de.uol.swp.common.user.request.ResumeSessionRequest
+ * @see de.uol.swp.server.communication.EncodedMessageContext#resume
+ * @since 2026-10-18
+ */
+@Singleton
+public class SessionResumer {
+
+    /**
+     * System property with the milliseconds a session can be resumed after its connection was lost
+     */
+    public static final String GRACE_PROPERTY = "swp.resume.graceMillis";
+
+    /**
+     * System property with the number of ServerMessages kept per session to send them again
+     */
+    public static final String REPLAY_PROPERTY = "swp.resume.replayMessages";
+
+    private static final Logger LOG = LogManager.getLogger(SessionResumer.class);
+
+    private final ServerTimer serverTimer;
+    private final long graceMillis;
+    private final int replayCapacity;
+    private final SecureRandom random = new SecureRandom();
+
+    private final Map<String, ResumableSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Session, String> tokens = new ConcurrentHashMap<>();
+
+    private final LongAdder resumedSessions = new LongAdder();
+    private final LongAdder expiredSessions = new LongAdder();
+
+    /**
+     * Constructor
+     * <p>
+     * Grace period and number of kept messages are read from the system properties
+     * {@value #GRACE_PROPERTY} and {@value #REPLAY_PROPERTY}, 30 seconds and 256
+     * messages if they are not set.
+     *
+     * @param serverTimer the ServerTimer the sessions expire with
+     * @since 2026-10-18
+     */
+    @Inject
+    public SessionResumer(ServerTimer serverTimer) {
+        this(serverTimer, Long.getLong(GRACE_PROPERTY, 30_000), Integer.getInteger(REPLAY_PROPERTY, 256));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param serverTimer    the ServerTimer the sessions expire with
+     * @param graceMillis    the milliseconds a session can be resumed after its connection was lost
+     * @param replayCapacity the number of ServerMessages kept per session
+     * @throws IllegalArgumentException if a value is not positive
+     * @since 2026-10-18
+     */
+    public SessionResumer(ServerTimer serverTimer, long graceMillis, int replayCapacity) {
+        if (graceMillis <= 0 || replayCapacity <= 0) {
+            throw new IllegalArgumentException("invalid session resume: grace " + graceMillis + " ms, "
+                    + replayCapacity + " messages");
+        }
+        this.serverTimer = serverTimer;
+        this.graceMillis = graceMillis;
+        this.replayCapacity = replayCapacity;
+    }
+
+    /**
+     * Creates the resume token of a logged in session
+     *
+     * @param session the Session of the client
+     * @return the new resume token, replacing an older one of the session
+     * @since 2026-10-18
+     */
+    public String register(Session session) {
+        forget(session);
+        byte[] bytes = new byte[18];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new ResumableSession(session));
+        tokens.put(session, token);
+        return token;
+    }
+
+    /**
+     * Removes the resume token of a session, e.g. when it logged out
+     *
+     * @param session the Session of the client
+     * @since 2026-10-18
+     */
+    public void forget(Session session) {
+        String token = tokens.remove(session);
+        ResumableSession resumable = token != null ? sessions.remove(token) : null;
+        if (resumable != null) {
+            synchronized (resumable) {
+                resumable.expired = true;
+                serverTimer.cancel(resumable.expiry);
+            }
+        }
+    }
+
+    /**
+     * Keeps a session whose connection was lost for the grace period
+     * <p>
+     * If the session is not resumed in time, it is forgotten and the expire task
+     * is run on the timer thread, so it has to be short.
+     *
+     * @param session the Session of the client
+     * @param expire  the task logging the session out
+     * @return true if the session is kept, false if it has no resume token
+     * @since 2026-10-18
+     */
+    public boolean disconnected(Session session, Runnable expire) {
+        String token = tokens.get(session);
+        ResumableSession resumable = token != null ? sessions.get(token) : null;
+        if (resumable == null) {
+            return false;
+        }
+        synchronized (resumable) {
+            if (resumable.expired) {
+                return false;
+            }
+            if (resumable.expiry == null) {
+                resumable.expiry = serverTimer.schedule(() -> {
+                    synchronized (resumable) {
+                        if (resumable.expiry == null || resumable.expired) {
+                            return;
+                        }
+                        resumable.expired = true;
+                    }
+                    sessions.remove(token, resumable);
+                    tokens.remove(session, token);
+                    expiredSessions.increment();
+                    LOG.debug("Session of " + session.getUser().getUsername() + " expired");
+                    expire.run();
+                }, graceMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes the session of a resume token back from the grace period
+     *
+     * @param token the resume token presented by the client
+     * @return the Session to continue or null if the token is unknown or expired
+     * @since 2026-10-18
+     */
+    public Session resume(String token) {
+        ResumableSession resumable = token != null ? sessions.get(token) : null;
+        if (resumable == null) {
+            return null;
+        }
+        synchronized (resumable) {
+            if (resumable.expired) {
+                return null;
+            }
+            serverTimer.cancel(resumable.expiry);
+            resumable.expiry = null;
+        }
+        resumedSessions.increment();
+        return resumable.session;
+    }
+
+    /**
+     * Checks whether a session of a user waits to be resumed
+     *
+     * @param username the name of the user
+     * @return true if the connection of a session of the user was lost within the grace period
+     * @since 2026-10-18
+     */
+    public boolean isWaiting(String username) {
+        for (ResumableSession resumable : sessions.values()) {
+            synchronized (resumable) {
+                if (resumable.expiry != null && !resumable.expired
+                        && resumable.session.getUser().getUsername().equals(username)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ends the grace period of a user right away, e.g. because the user logs in again
+     *
+     * @param username the name of the user
+     * @return the Session that was waiting to be resumed or null if there is none
+     * @since 2026-10-18
+     */
+    public Session expire(String username) {
+        for (ResumableSession resumable : sessions.values()) {
+            synchronized (resumable) {
+                if (resumable.expiry == null || resumable.expired
+                        || !resumable.session.getUser().getUsername().equals(username)) {
+                    continue;
+                }
+            }
+            forget(resumable.session);
+            expiredSessions.increment();
+            return resumable.session;
+        }
+        return null;
+    }
+
+    /**
+     * Getter for the milliseconds a session can be resumed after its connection was lost
+     *
+     * @return the grace period in milliseconds
+     * @since 2026-10-18
+     */
+    public long getGraceMillis() {
+        return graceMillis;
+    }
+
+    /**
+     * Getter for the number of ServerMessages kept per session
+     *
+     * @return the number of ServerMessages a client can miss and still resume
+     * @since 2026-10-18
+     */
+    public int getReplayCapacity() {
+        return replayCapacity;
+    }
+
+    /**
+     * Getter for the number of sessions resumed so far
+     *
+     * @return the number of resumed sessions
+     * @since 2026-10-18
+     */
+    public long getResumedSessions() {
+        return resumedSessions.sum();
+    }
+
+    /**
+     * Getter for the number of sessions that expired before they were resumed
+     *
+     * @return the number of expired sessions
+     * @since 2026-10-18
+     */
+    public long getExpiredSessions() {
+        return expiredSessions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SessionResumer{resumable=" + sessions.size() + ", resumed=" + getResumedSessions() + ", expired="
+                + getExpiredSessions() + "}";
+    }
+
+    /**
+     * A session with a resume token
+     *
+     * @since 2026-10-18
+     */
+    private static class ResumableSession {
+
+        private final Session session;
+        // the pending expiry while the connection is lost
+        private Timeout expiry;
+        private boolean expired;
+
+        private ResumableSession(Session session) {
+            this.session = session;
+        }
+    }
+}
@@ -1,21 +1,55 @@
 package de.uol.swp.server.communication.netty;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 
-import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.codec.WireFormat;
 import de.uol.swp.common.message.ResponseMessage;
 import de.uol.swp.common.message.ServerMessage;
+import de.uol.swp.server.communication.EncodedMessageContext;
 
 /**
  * This class is used to encapsulate a netty channel handler context
+ * <p>
+ * enhanced by the OutboundBuffer, 2026-10-18: every message is written on the
+ * event loop and held back by the OutboundBuffer of the channel while the client
+ * cannot keep up
+ * <p>
+ * enhanced by the session resume, 2026-10-18: the ServerMessages of a session
+ * are recorded in its ReplayBuffer, also while the connection is lost, and passed
+ * on to the connection the session was resumed on
  *
  * @author Marco Grawunder
  * @see de.uol.swp.common.message.MessageContext
  * @since 2019-11-20
  */
-class NettyMessageContext implements MessageContext {
+class NettyMessageContext implements EncodedMessageContext {
+
+    /**
+     * Channel attribute holding the wire format, set when the channel is initialized
+     */
+    static final AttributeKey<WireFormat> WIRE_FORMAT = AttributeKey.valueOf("swp.wireFormat");
+
+    /**
+     * Channel attribute holding the messages held back for a slow client, set when the channel becomes active
+     */
+    static final AttributeKey<OutboundBuffer> OUTBOUND_BUFFER = AttributeKey.valueOf("swp.outboundBuffer");
+
+    /**
+     * Channel attribute holding the last messages of the session, set when the client logged in or resumed
+     */
+    static final AttributeKey<ReplayBuffer> REPLAY_BUFFER = AttributeKey.valueOf("swp.replayBuffer");
+
+    /**
+     * Channel attribute holding the flush scheduled by writeAndFlushLater, only used on the event loop
+     */
+    private static final AttributeKey<DelayedFlush> DELAYED_FLUSH = AttributeKey.valueOf("swp.delayedFlush");
 
     private final ChannelHandlerContext ctx;
 
@@ -46,12 +80,187 @@ class NettyMessageContext implements MessageContext {
 
     @Override
     public void writeAndFlush(ResponseMessage message) {
-        ctx.writeAndFlush(message);
+        send(message, null, true);
     }
 
     @Override
     public void writeAndFlush(ServerMessage message) {
-        ctx.writeAndFlush(message);
+        send(message, null, true);
+    }
+
+    @Override
+    public WireFormat getWireFormat() {
+        return ctx.channel().attr(WIRE_FORMAT).get();
+    }
+
+    @Override
+    public ByteBufAllocator alloc() {
+        return ctx.alloc();
+    }
+
+    @Override
+    public void writeAndFlush(ByteBuf frame, ServerMessage message) {
+        send(frame, message, true);
+    }
+
+    @Override
+    public void write(ResponseMessage message) {
+        send(message, null, false);
+    }
+
+    @Override
+    public void write(ServerMessage message) {
+        send(message, null, false);
+    }
+
+    @Override
+    public void write(ByteBuf frame, ServerMessage message) {
+        send(frame, message, false);
+    }
+
+    @Override
+    public void flush() {
+        ctx.flush();
+    }
+
+    @Override
+    public void startReplay(ResponseMessage startMarker, int capacity) {
+        ctx.channel().attr(REPLAY_BUFFER).set(new ReplayBuffer(ctx, capacity, startMarker));
+    }
+
+    @Override
+    public boolean resume(EncodedMessageContext previous, ResponseMessage response, long lastSeenSequence) {
+        if (!(previous instanceof NettyMessageContext)) {
+            return false;
+        }
+        ReplayBuffer replayBuffer = ((NettyMessageContext) previous).ctx.channel().attr(REPLAY_BUFFER).get();
+        // queued while the buffer is locked, so nothing passed on to this connection overtakes the replay
+        return replayBuffer != null && replayBuffer.moveTo(ctx, lastSeenSequence,
+                missed -> ctx.executor().execute(() -> replay(replayBuffer, response, missed)));
+    }
+
+    /**
+     * Writes the response to a resume and the messages the client missed
+     * <p>
+     * Both are written past the OutboundBuffer, as the missed messages were
+     * already held back and recorded on the old connection.
+     *
+     * @param replayBuffer the ReplayBuffer taken over from the old connection
+     * @param response     the response telling the client to count on
+     * @param missed       the messages the client missed
+     * @since 2026-10-18
+     */
+    private void replay(ReplayBuffer replayBuffer, ResponseMessage response, List<ServerMessage> missed) {
+        ctx.channel().attr(REPLAY_BUFFER).set(replayBuffer);
+        ctx.write(response, ctx.voidPromise());
+        for (ServerMessage message : missed) {
+            ctx.write(message, ctx.voidPromise());
+        }
+        ctx.flush();
+    }
+
+    @Override
+    public void writeAndFlushLater(ServerMessage message, long delayNanos) {
+        writeLater(message, null, delayNanos);
+    }
+
+    @Override
+    public void writeAndFlushLater(ByteBuf frame, ServerMessage message, long delayNanos) {
+        writeLater(frame, message, delayNanos);
+    }
+
+    /**
+     * Writes a message on the event loop
+     * <p>
+     * If the channel has an OutboundBuffer, the message is passed to it, so it is
+     * held back while the client cannot keep up.
+     *
+     * @param message the message or frame to write
+     * @param source  the message a frame was encoded from, null if a message is written
+     * @param flush   true to flush the channel afterwards
+     * @see de.uol.swp.server.communication.netty.OutboundBuffer
+     * @since 2026-10-18
+     */
+    private void send(Object message, ServerMessage source, boolean flush) {
+        if (!ctx.executor().inEventLoop()) {
+            ctx.executor().execute(() -> send(message, source, flush));
+            return;
+        }
+        write(message, source);
+        if (flush) {
+            ctx.flush();
+        }
+    }
+
+    private void write(Object message, ServerMessage source) {
+        OutboundBuffer outboundBuffer = ctx.channel().attr(OUTBOUND_BUFFER).get();
+        if (outboundBuffer != null && ctx.channel().isActive()) {
+            outboundBuffer.write(ctx, message, source);
+        } else {
+            writeToChannel(ctx, message, source);
+        }
+    }
+
+    /**
+     * Writes a message to the wire, the last step of every message sent
+     * <p>
+     * The message is recorded in the ReplayBuffer of the channel. If the channel
+     * is closed, it is only recorded, so the client can get it after resuming the
+     * session. If the session was resumed on another connection, the message is
+     * passed on to it.
+     *
+     * @param ctx     the ChannelHandlerContext of the connection
+     * @param message the message or frame to write
+     * @param source  the message a frame was encoded from, null if a message is written
+     * @see de.uol.swp.server.communication.netty.ReplayBuffer
+     * @since 2026-10-18
+     */
+    static void writeToChannel(ChannelHandlerContext ctx, Object message, ServerMessage source) {
+        ReplayBuffer replayBuffer = ctx.channel().attr(REPLAY_BUFFER).get();
+        if (replayBuffer != null) {
+            ChannelHandlerContext resumedOn = replayBuffer.record(ctx, message, source);
+            if (resumedOn != null || !ctx.channel().isActive()) {
+                if (message instanceof ByteBuf) {
+                    ((ByteBuf) message).release();
+                    message = source;
+                }
+                if (resumedOn != null && message instanceof ServerMessage) {
+                    new NettyMessageContext(resumedOn).writeAndFlush((ServerMessage) message);
+                } else if (resumedOn != null && message instanceof ResponseMessage) {
+                    new NettyMessageContext(resumedOn).writeAndFlush((ResponseMessage) message);
+                }
+                return;
+            }
+        }
+        ctx.write(message, ctx.voidPromise());
+    }
+
+    /**
+     * Writes a message on the event loop and schedules a flush if none is scheduled yet
+     * <p>
+     * Both are done on the event loop, so a message is either written before the
+     * scheduled flush runs or schedules the next one.
+     *
+     * @param message    the message or frame to write
+     * @param source     the message a frame was encoded from, null if a message is written
+     * @param delayNanos the maximum time the message waits for the flush
+     * @since 2026-10-18
+     */
+    private void writeLater(Object message, ServerMessage source, long delayNanos) {
+        if (!ctx.executor().inEventLoop()) {
+            ctx.executor().execute(() -> writeLater(message, source, delayNanos));
+            return;
+        }
+        write(message, source);
+        DelayedFlush delayedFlush = ctx.channel().attr(DELAYED_FLUSH).get();
+        if (delayedFlush == null) {
+            delayedFlush = new DelayedFlush(ctx);
+            ctx.channel().attr(DELAYED_FLUSH).set(delayedFlush);
+        }
+        if (!delayedFlush.scheduled) {
+            delayedFlush.scheduled = true;
+            ctx.executor().schedule(delayedFlush, delayNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
     @Override
@@ -66,4 +275,25 @@ class NettyMessageContext implements MessageContext {
         NettyMessageContext that = (NettyMessageContext) o;
         return Objects.equals(ctx, that.ctx);
     }
+
+    /**
+     * Flush of a channel scheduled by writeAndFlushLater
+     *
+     * @since 2026-10-18
+     */
+    private static class DelayedFlush implements Runnable {
+
+        private final ChannelHandlerContext ctx;
+        private boolean scheduled;
+
+        private DelayedFlush(ChannelHandlerContext ctx) {
+            this.ctx = ctx;
+        }
+
+        @Override
+        public void run() {
+            scheduled = false;
+            ctx.flush();
+        }
+    }
 }
@@ -27,6 +27,7 @@ class NettyServerHandler implements ChannelInboundHandler {
 
     private static final Logger LOG = LogManager.getLogger(NettyServerHandler.class);
     private final ServerHandler delegate;
+    private final SlowConsumerPolicy slowConsumerPolicy;
 
     /**
      * Constructor
@@ -39,7 +40,30 @@ class NettyServerHandler implements ChannelInboundHandler {
      */
     @Inject
     public NettyServerHandler(ServerHandler delegate) {
+        this(delegate, SlowConsumerPolicy.fromSystemProperties());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate           handler who handles all communication
+     * @param slowConsumerPolicy the policy for the messages of clients that cannot keep up
+     * @see de.uol.swp.server.communication.netty.SlowConsumerPolicy
+     * @since 2026-10-18
+     */
+    public NettyServerHandler(ServerHandler delegate, SlowConsumerPolicy slowConsumerPolicy) {
         this.delegate = delegate;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+    }
+
+    /**
+     * Getter for the policy for the messages of clients that cannot keep up
+     *
+     * @return the SlowConsumerPolicy, holding the statistics of all connections
+     * @since 2026-10-18
+     */
+    public SlowConsumerPolicy getSlowConsumerPolicy() {
+        return slowConsumerPolicy;
     }
 
     @Override
@@ -52,14 +76,38 @@ class NettyServerHandler implements ChannelInboundHandler {
 
     }
 
+    /**
+     * Registers a new client at the ServerHandler
+     * <p>
+     * enhanced by the OutboundBuffer, 2026-10-18: the channel gets an OutboundBuffer
+     * holding back its messages while the client cannot keep up
+     *
+     * @param ctx the ChannelHandlerContext of the channel
+     * @since 2019-11-20
+     */
     @Override
     public void channelActive(ChannelHandlerContext ctx) {
+        ctx.channel().attr(NettyMessageContext.OUTBOUND_BUFFER).set(new OutboundBuffer(slowConsumerPolicy));
         delegate.newClientConnected(new NettyMessageContext(ctx));
     }
 
+    /**
+     * Drops the messages held back for the closed channel and tells the ServerHandler
+     * <p>
+     * The user of the client is logged out, no matter if the client closed the
+     * connection or the server did, e.g. after the heartbeat timed out.
+     *
+     * @param ctx the ChannelHandlerContext of the channel
+     * @see de.uol.swp.common.codec.HeartbeatHandler
+     * @since 2026-10-18
+     */
     @Override
-    public void channelInactive(ChannelHandlerContext channelHandlerContext) {
-
+    public void channelInactive(ChannelHandlerContext ctx) {
+        OutboundBuffer outboundBuffer = ctx.channel().attr(NettyMessageContext.OUTBOUND_BUFFER).get();
+        if (outboundBuffer != null) {
+            outboundBuffer.clear();
+        }
+        delegate.clientDisconnected(new NettyMessageContext(ctx));
     }
 
     @Override
@@ -74,9 +122,15 @@ class NettyServerHandler implements ChannelInboundHandler {
         }
     }
 
+    /**
+     * Flushes the responses written while the data read from the channel was processed
+     *
+     * @param ctx the ChannelHandlerContext of the channel
+     * @since 2026-10-18
+     */
     @Override
-    public void channelReadComplete(ChannelHandlerContext channelHandlerContext) {
-
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
     }
 
     @Override
@@ -84,9 +138,18 @@ class NettyServerHandler implements ChannelInboundHandler {
 
     }
 
+    /**
+     * Sends the messages held back while the channel was not writable
+     *
+     * @param ctx the ChannelHandlerContext of the channel
+     * @since 2026-10-18
+     */
     @Override
-    public void channelWritabilityChanged(ChannelHandlerContext channelHandlerContext) {
-
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        OutboundBuffer outboundBuffer = ctx.channel().attr(NettyMessageContext.OUTBOUND_BUFFER).get();
+        if (outboundBuffer != null) {
+            outboundBuffer.writabilityChanged(ctx);
+        }
     }
 
     @Override
@@ -0,0 +1,200 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.message.ServerMessage;
+
+/**
+ * Holds back the messages of one connection while its client cannot keep up
+ * <p>
+ * As long as nothing is held back and the channel is writable, messages are
+ * written right away. Otherwise they are kept in the order they were sent and
+ * handled as the SlowConsumerPolicy says, until the channel is writable again.
+ * Only used on the event loop of the channel.
+ *
+ * @see de.uol.swp.server.communication.netty.SlowConsumerPolicy
+ * @since 2026-10-18
+ */
+class OutboundBuffer {
+
+    private static final Logger LOG = LogManager.getLogger(OutboundBuffer.class);
+
+    private final SlowConsumerPolicy policy;
+
+    // held back messages by state key, events get a key of their own
+    private final Map<Object, Object> held = new LinkedHashMap<>();
+    private int queuedEvents;
+    private long unwritableSince = -1;
+    private boolean draining;
+    private boolean disconnectScheduled;
+
+    /**
+     * Constructor
+     *
+     * @param policy the policy for the held back messages
+     * @since 2026-10-18
+     */
+    OutboundBuffer(SlowConsumerPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Writes a message or holds it back
+     * <p>
+     * A frame that is held back is released and its message is kept instead.
+     *
+     * @param ctx     the ChannelHandlerContext of the connection
+     * @param message the message or frame to write
+     * @param source  the message a frame was encoded from, null if a message is written
+     * @since 2026-10-18
+     */
+    void write(ChannelHandlerContext ctx, Object message, ServerMessage source) {
+        if ((held.isEmpty() && ctx.channel().isWritable()) || (message instanceof ByteBuf && source == null)) {
+            NettyMessageContext.writeToChannel(ctx, message, source);
+            return;
+        }
+        if (message instanceof ByteBuf) {
+            ((ByteBuf) message).release();
+            message = source;
+        }
+        markUnwritable();
+        OutboundStatistics statistics = policy.getStatistics();
+        Object key = policy.getStateKey(message);
+        if (key != null) {
+            Object older = held.remove(key);
+            if (older != null) {
+                Object merged = policy.merge(older, message);
+                if (merged != null) {
+                    held.put(key, merged);
+                    statistics.recordCoalesced();
+                    return;
+                }
+                // keep the older one in front of the newer one as an event
+                held.put(new EventKey(), older);
+                queuedEvents++;
+            }
+            held.put(key, message);
+            statistics.recordQueued();
+            return;
+        }
+        if (queuedEvents >= policy.getMaxQueuedMessages()) {
+            statistics.recordDropped();
+            scheduleDisconnect(ctx);
+            return;
+        }
+        held.put(new EventKey(), message);
+        queuedEvents++;
+        statistics.recordQueued();
+    }
+
+    /**
+     * Called when the writability of the channel changed
+     * <p>
+     * Writes the held back messages as long as the channel stays writable.
+     *
+     * @param ctx the ChannelHandlerContext of the connection
+     * @since 2026-10-18
+     */
+    void writabilityChanged(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isWritable()) {
+            markUnwritable();
+            return;
+        }
+        if (draining) {
+            return;
+        }
+        draining = true;
+        try {
+            while (!held.isEmpty() && ctx.channel().isWritable()) {
+                Iterator<Map.Entry<Object, Object>> iterator = held.entrySet().iterator();
+                while (iterator.hasNext() && ctx.channel().isWritable()) {
+                    Map.Entry<Object, Object> entry = iterator.next();
+                    iterator.remove();
+                    if (entry.getKey() instanceof EventKey) {
+                        queuedEvents--;
+                    }
+                    NettyMessageContext.writeToChannel(ctx, entry.getValue(), null);
+                }
+                ctx.flush();
+            }
+        } finally {
+            draining = false;
+        }
+        if (held.isEmpty() && ctx.channel().isWritable()) {
+            markWritable();
+        }
+    }
+
+    /**
+     * Drops all held back messages, called when the channel was closed
+     *
+     * @since 2026-10-18
+     */
+    void clear() {
+        held.clear();
+        queuedEvents = 0;
+        markWritable();
+    }
+
+    /**
+     * Getter for the number of held back messages
+     *
+     * @return the number of messages waiting for the channel to become writable
+     * @since 2026-10-18
+     */
+    int size() {
+        return held.size();
+    }
+
+    private void markUnwritable() {
+        if (unwritableSince < 0) {
+            unwritableSince = System.nanoTime();
+        }
+    }
+
+    private void markWritable() {
+        if (unwritableSince >= 0) {
+            policy.getStatistics().recordUnwritable(System.nanoTime() - unwritableSince);
+            unwritableSince = -1;
+        }
+    }
+
+    /**
+     * Closes the connection if it is still over budget after the grace period
+     *
+     * @param ctx the ChannelHandlerContext of the connection
+     * @since 2026-10-18
+     */
+    private void scheduleDisconnect(ChannelHandlerContext ctx) {
+        if (disconnectScheduled) {
+            return;
+        }
+        disconnectScheduled = true;
+        ctx.executor().schedule(() -> {
+            disconnectScheduled = false;
+            if (ctx.channel().isActive() && (!ctx.channel().isWritable()
+                    || queuedEvents >= policy.getMaxQueuedMessages())) {
+                LOG.warn("Closing " + ctx.channel() + ", the client did not keep up with " + size()
+                        + " held back messages");
+                policy.getStatistics().recordDisconnect();
+                clear();
+                ctx.close();
+            }
+        }, policy.getGraceMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Key of a held back message that is sent on its own
+     */
+    private static final class EventKey {
+    }
+}
@@ -0,0 +1,97 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what happened to the messages of clients that could not keep up
+ *
+ * @see de.uol.swp.server.communication.netty.SlowConsumerPolicy
+ * @since 2026-10-18
+ */
+public class OutboundStatistics {
+
+    private final LongAdder unwritableNanos = new LongAdder();
+    private final LongAdder queuedMessages = new LongAdder();
+    private final LongAdder coalescedMessages = new LongAdder();
+    private final LongAdder droppedMessages = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+
+    void recordUnwritable(long nanos) {
+        unwritableNanos.add(nanos);
+    }
+
+    void recordQueued() {
+        queuedMessages.increment();
+    }
+
+    void recordCoalesced() {
+        coalescedMessages.increment();
+    }
+
+    void recordDropped() {
+        droppedMessages.increment();
+    }
+
+    void recordDisconnect() {
+        disconnects.increment();
+    }
+
+    /**
+     * Getter for the time connections could not take messages
+     * <p>
+     * The time of a connection is added when it can take messages again or is closed.
+     *
+     * @return the summed up time in nanoseconds
+     * @since 2026-10-18
+     */
+    public long getUnwritableNanos() {
+        return unwritableNanos.sum();
+    }
+
+    /**
+     * Getter for the number of messages held back and sent later
+     *
+     * @return the number of queued messages
+     * @since 2026-10-18
+     */
+    public long getQueuedMessages() {
+        return queuedMessages.sum();
+    }
+
+    /**
+     * Getter for the number of messages combined with a newer one of the same state
+     *
+     * @return the number of messages not sent on their own
+     * @since 2026-10-18
+     */
+    public long getCoalescedMessages() {
+        return coalescedMessages.sum();
+    }
+
+    /**
+     * Getter for the number of messages dropped because the queue of a connection was full
+     *
+     * @return the number of dropped messages
+     * @since 2026-10-18
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * Getter for the number of connections closed because they stayed over budget
+     *
+     * @return the number of closed connections
+     * @since 2026-10-18
+     */
+    public long getDisconnects() {
+        return disconnects.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "OutboundStatistics{unwritableMillis=" + getUnwritableNanos() / 1_000_000
+                + ", queued=" + getQueuedMessages() + ", coalesced=" + getCoalescedMessages()
+                + ", dropped=" + getDroppedMessages() + ", disconnects=" + getDisconnects() + "}";
+    }
+}
@@ -0,0 +1,181 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.uol.swp.common.message.ExceptionMessage;
+import de.uol.swp.common.message.RequestMessage;
+
+/**
+ * Lets the requests of one connection through as allowed by the RateLimitPolicy
+ * <p>
+ * Added to the pipeline right after the decoder, so a throttled request never
+ * reaches the ServerHandler. When reads are delayed, the connection stops
+ * reading until the waiting requests were let through, so a flooding client
+ * is slowed down by its own TCP window and nothing more is decoded meanwhile.
+ * All methods run on the event loop of the channel.
+ *
+ * @see de.uol.swp.server.communication.netty.RateLimitPolicy
+ * @since 2026-10-18
+ */
+public class RateLimitHandler extends ChannelInboundHandlerAdapter {
+
+    private static final Logger LOG = LogManager.getLogger(RateLimitHandler.class);
+
+    private final RateLimitPolicy policy;
+    private final TokenBucket sessionBucket;
+    private final Map<Class<?>, TokenBucket> typeBuckets = new HashMap<>();
+    private final ArrayDeque<RequestMessage> waiting = new ArrayDeque<>();
+    private ScheduledFuture<?> scheduledRelease;
+
+    /**
+     * Constructor
+     *
+     * @param policy the RateLimitPolicy shared by all connections
+     * @since 2026-10-18
+     */
+    public RateLimitHandler(RateLimitPolicy policy) {
+        this.policy = policy;
+        this.sessionBucket = TokenBucket.of(policy.getSessionLimit());
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (!(msg instanceof RequestMessage)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        RequestMessage request = (RequestMessage) msg;
+        if (!waiting.isEmpty()) {
+            // keeps the order behind the requests that already wait
+            waiting.add(request);
+            return;
+        }
+        long waitNanos = tryAcquire(request);
+        if (waitNanos == 0) {
+            ctx.fireChannelRead(request);
+            return;
+        }
+        policy.recordThrottled(request.getClass());
+        if (policy.isDelayReads()) {
+            waiting.add(request);
+            ctx.channel().config().setAutoRead(false);
+            scheduleRelease(ctx, waitNanos);
+        } else {
+            LOG.debug("Rejected " + request.getClass().getSimpleName() + " of " + ctx.channel());
+            ExceptionMessage response = new ExceptionMessage("Too many requests, please slow down");
+            response.setCorrelationId(request.getCorrelationId());
+            new NettyMessageContext(ctx).writeAndFlush(response);
+        }
+    }
+
+    /**
+     * Takes a token from the buckets of a request, if all of them have one
+     *
+     * @param request the request
+     * @return 0 if the request may be let through, else the nanoseconds until it may
+     */
+    private long tryAcquire(RequestMessage request) {
+        long now = System.nanoTime();
+        TokenBucket typeBucket = typeBuckets.computeIfAbsent(request.getClass(),
+                type -> TokenBucket.of(policy.getTypeLimit(type)));
+        long waitNanos = Math.max(sessionBucket.nanosUntilAvailable(now), typeBucket.nanosUntilAvailable(now));
+        if (waitNanos == 0) {
+            sessionBucket.take();
+            typeBucket.take();
+        }
+        return waitNanos;
+    }
+
+    private void scheduleRelease(ChannelHandlerContext ctx, long waitNanos) {
+        scheduledRelease = ctx.executor().schedule(() -> release(ctx), waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Lets the waiting requests through as far as the buckets allow and reads on when none is left
+     */
+    private void release(ChannelHandlerContext ctx) {
+        scheduledRelease = null;
+        boolean released = false;
+        while (!waiting.isEmpty()) {
+            long waitNanos = tryAcquire(waiting.peek());
+            if (waitNanos > 0) {
+                scheduleRelease(ctx, waitNanos);
+                break;
+            }
+            ctx.fireChannelRead(waiting.poll());
+            released = true;
+        }
+        if (released) {
+            ctx.fireChannelReadComplete();
+        }
+        if (waiting.isEmpty() && ctx.channel().isActive()) {
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    /**
+     * Drops the waiting requests of the closed channel
+     *
+     * @param ctx the ChannelHandlerContext of the channel
+     * @since 2026-10-18
+     */
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (scheduledRelease != null) {
+            scheduledRelease.cancel(false);
+            scheduledRelease = null;
+        }
+        waiting.clear();
+        ctx.fireChannelInactive();
+    }
+
+    /**
+     * A bucket holding up to burst tokens, refilled continuously at the rate of its limit
+     *
+     * @since 2026-10-18
+     */
+    private static class TokenBucket {
+
+        private static final TokenBucket UNLIMITED = new TokenBucket(null);
+
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        private TokenBucket(RateLimitPolicy.Limit limit) {
+            this.tokensPerNano = limit == null ? 0 : limit.getRequestsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = limit == null ? 0 : limit.getBurst();
+            this.tokens = capacity;
+        }
+
+        private static TokenBucket of(RateLimitPolicy.Limit limit) {
+            return limit == null ? UNLIMITED : new TokenBucket(limit);
+        }
+
+        private long nanosUntilAvailable(long now) {
+            if (this == UNLIMITED) {
+                return 0;
+            }
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            return tokens >= 1 ? 0 : Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+        private void take() {
+            if (this != UNLIMITED) {
+                tokens -= 1;
+            }
+        }
+    }
+}
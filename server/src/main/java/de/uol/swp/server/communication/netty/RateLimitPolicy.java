@@ -0,0 +1,249 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Decides how many requests a client may send
+ * <p>
+ * Every connection has a token bucket for all its requests, refilled with
+ * {@value #SESSION_PROPERTY} requests per second, and one for each request type
+ * with a limit of its own in {@value #TYPES_PROPERTY}. A request is let through
+ * if both buckets have a token. Otherwise it is throttled: it is answered with
+ * an ExceptionMessage, or, if {@value #DELAY_READS_PROPERTY} is true, it waits
+ * until the buckets are refilled and no more is read from the connection
+ * meanwhile.
+ * <p>
+ * A limit is written as {@code <requests per second>/<burst>}, e.g.
+ * {@code 2/10}, the request types by their simple class name, e.g.
+ * {@code -Dswp.rateLimit.types=RequestChatMessage=5/20,RetrieveAllLobbiesRequest=2/10}.
+ * A limit of 0 requests per second is no limit.
+ *
+ * @see de.uol.swp.server.communication.netty.RateLimitHandler
+ * @since 2026-10-18
+ */
+public class RateLimitPolicy {
+
+    /**
+     * System property with the limit of all requests of a connection
+     */
+    public static final String SESSION_PROPERTY = "swp.rateLimit.session";
+
+    /**
+     * System property with the limits of single request types
+     */
+    public static final String TYPES_PROPERTY = "swp.rateLimit.types";
+
+    /**
+     * System property to delay reading instead of answering throttled requests with an ExceptionMessage
+     */
+    public static final String DELAY_READS_PROPERTY = "swp.rateLimit.delayReads";
+
+    private static final Logger LOG = LogManager.getLogger(RateLimitPolicy.class);
+
+    private static final String DEFAULT_SESSION_LIMIT = "50/100";
+
+    private static final String DEFAULT_TYPE_LIMITS =
+            "RetrieveAllOnlineUsersRequest=2/10,RetrieveAllLobbiesRequest=2/10,RequestChatMessage=5/20";
+
+    private final Limit sessionLimit;
+    private final Map<String, Limit> typeLimits;
+    private final boolean delayReads;
+    private final Map<String, LongAdder> throttledRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param sessionLimit the limit of all requests of a connection, null for none
+     * @param typeLimits   the limits of request types, by their simple class name
+     * @param delayReads   true to delay throttled requests, false to answer them with an ExceptionMessage
+     * @since 2026-10-18
+     */
+    public RateLimitPolicy(Limit sessionLimit, Map<String, Limit> typeLimits, boolean delayReads) {
+        this.sessionLimit = sessionLimit;
+        this.typeLimits = Map.copyOf(typeLimits);
+        this.delayReads = delayReads;
+    }
+
+    /**
+     * Returns the policy configured by the system properties
+     * <p>
+     * Without them a connection may send 50 requests per second with bursts of
+     * 100, user lists and lobby lists 2 per second with bursts of 10 and chat
+     * messages 5 per second with bursts of 20. Throttled requests are answered
+     * with an ExceptionMessage.
+     *
+     * @return the configured policy
+     * @throws IllegalArgumentException if a limit cannot be parsed
+     * @since 2026-10-18
+     */
+    public static RateLimitPolicy fromSystemProperties() {
+        Map<String, Limit> typeLimits = new HashMap<>();
+        for (String entry : System.getProperty(TYPES_PROPERTY, DEFAULT_TYPE_LIMITS).split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] typeAndLimit = entry.split("=");
+            if (typeAndLimit.length != 2) {
+                throw new IllegalArgumentException("invalid request type limit: " + entry);
+            }
+            Limit limit = Limit.parse(typeAndLimit[1]);
+            if (limit != null) {
+                typeLimits.put(typeAndLimit[0].trim(), limit);
+            }
+        }
+        RateLimitPolicy policy = new RateLimitPolicy(
+                Limit.parse(System.getProperty(SESSION_PROPERTY, DEFAULT_SESSION_LIMIT)), typeLimits,
+                Boolean.parseBoolean(System.getProperty(DELAY_READS_PROPERTY, "false").trim()));
+        LOG.info("Using " + policy);
+        return policy;
+    }
+
+    /**
+     * Getter for the limit of all requests of a connection
+     *
+     * @return the Limit, null if there is none
+     * @since 2026-10-18
+     */
+    public Limit getSessionLimit() {
+        return sessionLimit;
+    }
+
+    /**
+     * Gets the limit of a request type
+     *
+     * @param type the class of the request
+     * @return the Limit, null if the type has none
+     * @since 2026-10-18
+     */
+    public Limit getTypeLimit(Class<?> type) {
+        return typeLimits.get(type.getSimpleName());
+    }
+
+    /**
+     * Getter for what happens to throttled requests
+     *
+     * @return true if they are delayed, false if they are answered with an ExceptionMessage
+     * @since 2026-10-18
+     */
+    public boolean isDelayReads() {
+        return delayReads;
+    }
+
+    void recordThrottled(Class<?> type) {
+        throttledRequests.computeIfAbsent(type.getSimpleName(), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Getter for the number of throttled requests of a type, of all connections using this policy
+     *
+     * @param type the class of the request
+     * @return the number of throttled requests
+     * @since 2026-10-18
+     */
+    public long getThrottledRequests(Class<?> type) {
+        LongAdder count = throttledRequests.get(type.getSimpleName());
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Getter for the number of throttled requests of all types
+     *
+     * @return the numbers by the simple class name of the requests, sorted by name
+     * @since 2026-10-18
+     */
+    public Map<String, Long> getThrottledRequests() {
+        Map<String, Long> counts = new TreeMap<>();
+        throttledRequests.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitPolicy{session=" + sessionLimit + ", types=" + new TreeMap<>(typeLimits)
+                + ", delayReads=" + delayReads + "}";
+    }
+
+    /**
+     * The rate and burst of a token bucket
+     *
+     * @since 2026-10-18
+     */
+    public static class Limit {
+
+        private final double requestsPerSecond;
+        private final int burst;
+
+        /**
+         * Constructor
+         *
+         * @param requestsPerSecond the requests let through per second in the long run
+         * @param burst             the requests let through at once after a pause
+         * @throws IllegalArgumentException if a value is not positive
+         * @since 2026-10-18
+         */
+        public Limit(double requestsPerSecond, int burst) {
+            if (!(requestsPerSecond > 0) || burst < 1) {
+                throw new IllegalArgumentException("invalid rate limit: " + requestsPerSecond + "/" + burst);
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+        }
+
+        /**
+         * Parses a limit written as {@code <requests per second>/<burst>}
+         * <p>
+         * Without a burst, the requests of one second are the burst.
+         *
+         * @param value the limit, e.g. {@code 2/10}
+         * @return the Limit, null for a rate of 0
+         * @throws IllegalArgumentException if the value cannot be parsed
+         * @since 2026-10-18
+         */
+        public static Limit parse(String value) {
+            String[] rateAndBurst = value.trim().split("/");
+            try {
+                double requestsPerSecond = Double.parseDouble(rateAndBurst[0].trim());
+                if (requestsPerSecond == 0) {
+                    return null;
+                }
+                int burst = rateAndBurst.length > 1 ? Integer.parseInt(rateAndBurst[1].trim())
+                        : (int) Math.max(1, Math.ceil(requestsPerSecond));
+                return new Limit(requestsPerSecond, burst);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid rate limit: " + value, e);
+            }
+        }
+
+        /**
+         * Getter for the requests let through per second in the long run
+         *
+         * @return the refill rate of the bucket
+         * @since 2026-10-18
+         */
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        /**
+         * Getter for the requests let through at once after a pause
+         *
+         * @return the capacity of the bucket
+         * @since 2026-10-18
+         */
+        public int getBurst() {
+            return burst;
+        }
+
+        @Override
+        public String toString() {
+            return requestsPerSecond + "/" + burst;
+        }
+    }
+}
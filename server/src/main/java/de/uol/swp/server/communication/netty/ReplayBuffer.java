@@ -0,0 +1,125 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.netty.channel.ChannelHandlerContext;
+
+import de.uol.swp.common.message.ServerMessage;
+
+/**
+ * The last ServerMessages written to the client of a session
+ * <p>
+ * Keeps a ring of the ServerMessages in the order they were written to the wire,
+ * after the messages held back by the OutboundBuffer, so the count matches the
+ * messages the client received. Counting starts with the response that told the
+ * client to count. While the connection is lost, the messages of the session are
+ * recorded without being written, and a new connection of the client takes the
+ * buffer over and gets the messages it missed.
+ * <p>
+ * Used by the event loops of the old and the new connection, so all methods are
+ * synchronized.
+ *
+ * @see de.uol.swp.server.communication.netty.NettyMessageContext#resume
+ * @since 2026-10-18
+ */
+class ReplayBuffer {
+
+    private final ServerMessage[] ring;
+    private long sequence;
+    private Object startMarker;
+    private ChannelHandlerContext ctx;
+
+    /**
+     * Constructor
+     *
+     * @param ctx         the ChannelHandlerContext of the connection the messages are written to
+     * @param capacity    the number of messages kept
+     * @param startMarker the message after which the ServerMessages are counted
+     * @since 2026-10-18
+     */
+    ReplayBuffer(ChannelHandlerContext ctx, int capacity, Object startMarker) {
+        this.ring = new ServerMessage[capacity];
+        this.ctx = ctx;
+        this.startMarker = startMarker;
+    }
+
+    /**
+     * Records a message written to the wire
+     * <p>
+     * Only ServerMessages after the start marker are recorded, and only if they
+     * are written by the latest connection of the session.
+     *
+     * @param from    the ChannelHandlerContext the message is written to
+     * @param message the message or frame written
+     * @param source  the message a frame was encoded from, null if a message is written
+     * @return null if the message belongs to this connection, otherwise the connection it has to be passed on to
+     * @since 2026-10-18
+     */
+    synchronized ChannelHandlerContext record(ChannelHandlerContext from, Object message, ServerMessage source) {
+        if (from != ctx) {
+            return ctx;
+        }
+        if (startMarker != null) {
+            if (message == startMarker) {
+                startMarker = null;
+            }
+            return null;
+        }
+        if (source == null && message instanceof ServerMessage) {
+            source = (ServerMessage) message;
+        }
+        if (source != null) {
+            ring[(int) (sequence % ring.length)] = source;
+            sequence++;
+        }
+        return null;
+    }
+
+    /**
+     * Getter for the connection the messages of the session are written to
+     *
+     * @return the ChannelHandlerContext of the latest connection
+     * @since 2026-10-18
+     */
+    synchronized ChannelHandlerContext getCtx() {
+        return ctx;
+    }
+
+    /**
+     * Getter for the number of ServerMessages recorded since the start marker
+     *
+     * @return the sequence number of the last recorded message
+     * @since 2026-10-18
+     */
+    synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Moves the session to a new connection
+     * <p>
+     * The missed messages are handed to the replay while the buffer is locked,
+     * so the replay can be queued before any message is passed on to the new
+     * connection.
+     *
+     * @param target   the ChannelHandlerContext of the new connection
+     * @param lastSeen the number of ServerMessages the client received
+     * @param replay   takes the messages the client missed, in order
+     * @return false if the client missed more messages than are kept or counts more than were sent
+     * @since 2026-10-18
+     */
+    synchronized boolean moveTo(ChannelHandlerContext target, long lastSeen, Consumer<List<ServerMessage>> replay) {
+        if (startMarker != null || lastSeen < 0 || lastSeen > sequence || sequence - lastSeen > ring.length) {
+            return false;
+        }
+        List<ServerMessage> missed = new ArrayList<>((int) (sequence - lastSeen));
+        for (long i = lastSeen; i < sequence; i++) {
+            missed.add(ring[(int) (i % ring.length)]);
+        }
+        ctx = target;
+        replay.accept(missed);
+        return true;
+    }
+}
@@ -1,22 +1,24 @@
 package de.uol.swp.server.communication.netty;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
+import io.netty.handler.codec.serialization.ClassResolver;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import de.uol.swp.common.MyObjectDecoder;
-import de.uol.swp.common.MyObjectEncoder;
+import de.uol.swp.common.codec.HeartbeatHandler;
+import de.uol.swp.common.codec.MessageClassResolver;
+import de.uol.swp.common.codec.WireFormat;
 import de.uol.swp.server.usermanagement.UserManagement;
 
 /**
@@ -29,7 +31,10 @@ public class Server {
 
     private static final Logger LOG = LogManager.getLogger(Server.class);
     private final ChannelHandler serverHandler;
+    private final RateLimitPolicy rateLimitPolicy;
     private UserManagement userManagement;
+    private final CountDownLatch started = new CountDownLatch(1);
+    private volatile Channel serverChannel;
 
     /**
      * Constructor
@@ -42,7 +47,32 @@ public class Server {
      * @since 2019-11-20
      */
     public Server(ChannelHandler serverHandler) {
+        this(serverHandler, RateLimitPolicy.fromSystemProperties());
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Creates a new Server Object limiting the requests of the clients by the given policy
+     *
+     * @param serverHandler   the handler of the decoded messages, shared by all channels
+     * @param rateLimitPolicy the RateLimitPolicy for the requests of every channel
+     * @see de.uol.swp.server.communication.netty.RateLimitHandler
+     * @since 2026-10-18
+     */
+    public Server(ChannelHandler serverHandler, RateLimitPolicy rateLimitPolicy) {
         this.serverHandler = serverHandler;
+        this.rateLimitPolicy = rateLimitPolicy;
+    }
+
+    /**
+     * Getter for the policy limiting the requests of the clients
+     *
+     * @return the RateLimitPolicy, holding the throttled requests of all channels
+     * @since 2026-10-18
+     */
+    public RateLimitPolicy getRateLimitPolicy() {
+        return rateLimitPolicy;
     }
 
     /**
@@ -61,19 +91,74 @@ public class Server {
      * @since 2021-01-18
      */
     public void start(int port) throws Exception {
-        EventLoopGroup bossGroup = new NioEventLoopGroup(1);
-        EventLoopGroup workerGroup = new NioEventLoopGroup();
+        start(port, WireFormat.fromSystemProperty());
+    }
+
+    /**
+     * Start a new server on given port using the given wire format
+     * <p>
+     * enhanced by the transport selection, 2026-10-18: transport and socket options are read from the system
+     * properties
+     *
+     * @param port       port number the server shall be reachable on
+     * @param wireFormat the format used to encode and decode messages, clients have to use the same
+     * @throws Exception server failed to start e.g. because the port is already in use
+     * @see de.uol.swp.common.codec.WireFormat
+     * @since 2026-10-18
+     */
+    public void start(int port, WireFormat wireFormat) throws Exception {
+        start(port, wireFormat, ServerTransport.fromSystemProperty(), ServerOptions.fromSystemProperties());
+    }
+
+    /**
+     * Start a new server on given port using the given wire format, transport and socket options
+     * <p>
+     * Logs which transport and options are used before the port is opened.
+     * <p>
+     * enhanced by the HeartbeatHandler, 2026-10-18: every channel gets a heartbeat
+     * configured by the system properties, closing it when the client went silent
+     * <p>
+     * enhanced by the RateLimitHandler, 2026-10-18: the decoded requests of every
+     * channel are limited by the RateLimitPolicy before they are processed
+     * <p>
+     * enhanced by {@link #stop()}, 2026-10-18: returns when the server is stopped
+     *
+     * @param port       port number the server shall be reachable on
+     * @param wireFormat the format used to encode and decode messages, clients have to use the same
+     * @param transport  the transport accepting the connections
+     * @param options    the socket and event loop settings
+     * @throws Exception server failed to start e.g. because the port is already in use
+     * @see de.uol.swp.server.communication.netty.ServerTransport
+     * @see de.uol.swp.server.communication.netty.ServerOptions
+     * @since 2026-10-18
+     */
+    public void start(int port, WireFormat wireFormat, ServerTransport transport, ServerOptions options)
+            throws Exception {
+        LOG.info("Using wire format " + wireFormat);
+        LOG.info("Using transport " + transport + " with " + options);
+        HeartbeatHandler heartbeat = HeartbeatHandler.fromSystemProperties();
+        LOG.info("Using heartbeat every " + heartbeat.getIntervalMillis() + " ms, timeout "
+                + heartbeat.getTimeoutMillis() + " ms");
+        ClassResolver classResolver = MessageClassResolver.fromSystemProperty();
+        EventLoopGroup bossGroup = transport.createEventLoopGroup(1);
+        EventLoopGroup workerGroup = transport.createEventLoopGroup(options.getWorkerThreads());
         try {
             ServerBootstrap b = new ServerBootstrap();
-            b.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class)
+            options.apply(b);
+            b.group(bossGroup, workerGroup).channel(transport.getServerChannelClass())
                     .localAddress(new InetSocketAddress(port)).childHandler(new ChannelInitializer<SocketChannel>() {
 
                 @Override
                 protected void initChannel(SocketChannel ch) {
+                    ch.attr(NettyMessageContext.WIRE_FORMAT).set(wireFormat);
+                    // first, so every byte read counts as a sign of life
+                    ch.pipeline().addLast(new HeartbeatHandler(heartbeat.getIntervalMillis(),
+                            heartbeat.getTimeoutMillis()));
                     // Encoder and decoder are both needed! Send and
                     // receive serializable objects
-                    ch.pipeline().addLast(new MyObjectEncoder());
-                    ch.pipeline().addLast(new MyObjectDecoder(ClassResolvers.cacheDisabled(null)));
+                    ch.pipeline().addLast(wireFormat.createEncoder());
+                    ch.pipeline().addLast(wireFormat.createDecoder(classResolver));
+                    ch.pipeline().addLast(new RateLimitHandler(rateLimitPolicy));
                     // must be last in the pipeline else they will not
                     // get encoded/decoded objects but ByteBuf
                     ch.pipeline().addLast(serverHandler);
@@ -82,6 +167,8 @@ public class Server {
             });
             // Just wait for server shutdown
             ChannelFuture f = b.bind().sync();
+            serverChannel = f.channel();
+            started.countDown();
             f.channel().closeFuture().sync();
         } finally {
             bossGroup.shutdownGracefully().sync();
@@ -89,5 +176,30 @@ public class Server {
         }
     }
 
+    /**
+     * Waits until the server accepts connections
+     * <p>
+     * Used when the server is started on another thread, e.g. by a load test.
+     *
+     * @param timeout the time to wait
+     * @param unit    the unit of the timeout
+     * @return true if the port is open, false if the time elapsed
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    public boolean awaitStarted(long timeout, TimeUnit unit) throws InterruptedException {
+        return started.await(timeout, unit);
+    }
 
+    /**
+     * Closes the port, so the start method returns after shutting the event loops down
+     *
+     * @since 2026-10-18
+     */
+    public void stop() {
+        Channel channel = serverChannel;
+        if (channel != null) {
+            channel.close();
+        }
+    }
 }
@@ -0,0 +1,332 @@
+package de.uol.swp.server.communication.netty;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
+
+/**
+ * The socket and event loop settings of the server
+ * <p>
+ * The defaults are the ones netty uses, except TCP_NODELAY, which is on as the
+ * game sends many small messages. Every setting can be changed at startup with
+ * the system property named in its constant, e.g.
+ * {@code -Dswp.workerThreads=4 -Dswp.sendBufferSize=65536}.
+ *
+ * @see de.uol.swp.server.communication.netty.Server
+ * @since 2026-10-18
+ */
+public class ServerOptions {
+
+    /**
+     * System property with the number of worker threads, 0 for two per processor
+     */
+    public static final String WORKER_THREADS_PROPERTY = "swp.workerThreads";
+
+    /**
+     * System property to turn TCP_NODELAY on or off
+     */
+    public static final String TCP_NO_DELAY_PROPERTY = "swp.tcpNoDelay";
+
+    /**
+     * System property with SO_SNDBUF in bytes, 0 for the default of the operating system
+     */
+    public static final String SEND_BUFFER_PROPERTY = "swp.sendBufferSize";
+
+    /**
+     * System property with SO_RCVBUF in bytes, 0 for the default of the operating system
+     */
+    public static final String RECEIVE_BUFFER_PROPERTY = "swp.receiveBufferSize";
+
+    /**
+     * System property with the low write buffer water mark in bytes
+     */
+    public static final String LOW_WATER_MARK_PROPERTY = "swp.writeBufferLowWaterMark";
+
+    /**
+     * System property with the high write buffer water mark in bytes
+     */
+    public static final String HIGH_WATER_MARK_PROPERTY = "swp.writeBufferHighWaterMark";
+
+    /**
+     * System property to let the allocator prefer direct buffers
+     */
+    public static final String PREFER_DIRECT_PROPERTY = "swp.allocator.preferDirect";
+
+    /**
+     * System property with the number of direct arenas of the pooled allocator
+     */
+    public static final String DIRECT_ARENAS_PROPERTY = "swp.allocator.directArenas";
+
+    /**
+     * System property with the max order of the pooled allocator, the chunk size is the page size shifted by it
+     */
+    public static final String MAX_ORDER_PROPERTY = "swp.allocator.maxOrder";
+
+    private int workerThreads = 0;
+    private boolean tcpNoDelay = true;
+    private int sendBufferSize = 0;
+    private int receiveBufferSize = 0;
+    private int writeBufferLowWaterMark = WriteBufferWaterMark.DEFAULT.low();
+    private int writeBufferHighWaterMark = WriteBufferWaterMark.DEFAULT.high();
+    private boolean preferDirect = true;
+    private int directArenas = PooledByteBufAllocator.defaultNumDirectArena();
+    private int maxOrder = PooledByteBufAllocator.defaultMaxOrder();
+
+    /**
+     * Returns the options configured by the system properties
+     * <p>
+     * Settings without a system property keep their default.
+     *
+     * @return the configured options
+     * @since 2026-10-18
+     */
+    public static ServerOptions fromSystemProperties() {
+        ServerOptions options = new ServerOptions();
+        options.setWorkerThreads(Integer.getInteger(WORKER_THREADS_PROPERTY, options.workerThreads));
+        options.setTcpNoDelay(getBoolean(TCP_NO_DELAY_PROPERTY, options.tcpNoDelay));
+        options.setSendBufferSize(Integer.getInteger(SEND_BUFFER_PROPERTY, options.sendBufferSize));
+        options.setReceiveBufferSize(Integer.getInteger(RECEIVE_BUFFER_PROPERTY, options.receiveBufferSize));
+        options.setWriteBufferWaterMarks(Integer.getInteger(LOW_WATER_MARK_PROPERTY, options.writeBufferLowWaterMark),
+                Integer.getInteger(HIGH_WATER_MARK_PROPERTY, options.writeBufferHighWaterMark));
+        options.setPreferDirect(getBoolean(PREFER_DIRECT_PROPERTY, options.preferDirect));
+        options.setDirectArenas(Integer.getInteger(DIRECT_ARENAS_PROPERTY, options.directArenas));
+        options.setMaxOrder(Integer.getInteger(MAX_ORDER_PROPERTY, options.maxOrder));
+        return options;
+    }
+
+    private static boolean getBoolean(String property, boolean defaultValue) {
+        String value = System.getProperty(property);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Applies the socket options and the allocator to a ServerBootstrap
+     * <p>
+     * The buffer sizes are only set if they are greater than 0.
+     *
+     * @param bootstrap the ServerBootstrap of the server
+     * @since 2026-10-18
+     */
+    public void apply(ServerBootstrap bootstrap) {
+        PooledByteBufAllocator allocator = createAllocator();
+        bootstrap.option(ChannelOption.ALLOCATOR, allocator)
+                .childOption(ChannelOption.ALLOCATOR, allocator)
+                .childOption(ChannelOption.TCP_NODELAY, tcpNoDelay)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+                        new WriteBufferWaterMark(writeBufferLowWaterMark, writeBufferHighWaterMark));
+        if (sendBufferSize > 0) {
+            bootstrap.childOption(ChannelOption.SO_SNDBUF, sendBufferSize);
+        }
+        if (receiveBufferSize > 0) {
+            bootstrap.childOption(ChannelOption.SO_RCVBUF, receiveBufferSize);
+        }
+    }
+
+    /**
+     * Creates the pooled allocator of the channels
+     * <p>
+     * The heap arenas and the page size are the defaults of netty.
+     *
+     * @return the new allocator
+     * @since 2026-10-18
+     */
+    public PooledByteBufAllocator createAllocator() {
+        return new PooledByteBufAllocator(preferDirect, PooledByteBufAllocator.defaultNumHeapArena(), directArenas,
+                PooledByteBufAllocator.defaultPageSize(), maxOrder);
+    }
+
+    /**
+     * Getter for the number of worker threads
+     *
+     * @return the number of threads, 0 for two per processor
+     * @since 2026-10-18
+     */
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Setter for the number of worker threads
+     *
+     * @param workerThreads the number of threads, 0 for two per processor
+     * @throws IllegalArgumentException if the number is negative
+     * @since 2026-10-18
+     */
+    public void setWorkerThreads(int workerThreads) {
+        if (workerThreads < 0) {
+            throw new IllegalArgumentException("workerThreads must not be negative: " + workerThreads);
+        }
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Getter for TCP_NODELAY
+     *
+     * @return true if small messages are sent without delay
+     * @since 2026-10-18
+     */
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    /**
+     * Setter for TCP_NODELAY
+     *
+     * @param tcpNoDelay true to send small messages without delay
+     * @since 2026-10-18
+     */
+    public void setTcpNoDelay(boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+    }
+
+    /**
+     * Getter for SO_SNDBUF
+     *
+     * @return the size in bytes, 0 for the default of the operating system
+     * @since 2026-10-18
+     */
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    /**
+     * Setter for SO_SNDBUF
+     *
+     * @param sendBufferSize the size in bytes, 0 for the default of the operating system
+     * @since 2026-10-18
+     */
+    public void setSendBufferSize(int sendBufferSize) {
+        this.sendBufferSize = sendBufferSize;
+    }
+
+    /**
+     * Getter for SO_RCVBUF
+     *
+     * @return the size in bytes, 0 for the default of the operating system
+     * @since 2026-10-18
+     */
+    public int getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    /**
+     * Setter for SO_RCVBUF
+     *
+     * @param receiveBufferSize the size in bytes, 0 for the default of the operating system
+     * @since 2026-10-18
+     */
+    public void setReceiveBufferSize(int receiveBufferSize) {
+        this.receiveBufferSize = receiveBufferSize;
+    }
+
+    /**
+     * Getter for the low write buffer water mark
+     *
+     * @return the low water mark in bytes
+     * @since 2026-10-18
+     */
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    /**
+     * Getter for the high write buffer water mark
+     *
+     * @return the high water mark in bytes
+     * @since 2026-10-18
+     */
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    /**
+     * Setter for the write buffer water marks
+     * <p>
+     * A channel stops being writable when more than the high water mark is
+     * waiting to be sent, and becomes writable again below the low water mark.
+     *
+     * @param low  the low water mark in bytes
+     * @param high the high water mark in bytes
+     * @throws IllegalArgumentException if low is negative or greater than high
+     * @since 2026-10-18
+     */
+    public void setWriteBufferWaterMarks(int low, int high) {
+        if (low < 0 || high < low) {
+            throw new IllegalArgumentException("invalid write buffer water marks: low " + low + ", high " + high);
+        }
+        this.writeBufferLowWaterMark = low;
+        this.writeBufferHighWaterMark = high;
+    }
+
+    /**
+     * Getter for the buffer type preferred by the allocator
+     *
+     * @return true if direct buffers are preferred
+     * @since 2026-10-18
+     */
+    public boolean isPreferDirect() {
+        return preferDirect;
+    }
+
+    /**
+     * Setter for the buffer type preferred by the allocator
+     *
+     * @param preferDirect true to prefer direct buffers
+     * @since 2026-10-18
+     */
+    public void setPreferDirect(boolean preferDirect) {
+        this.preferDirect = preferDirect;
+    }
+
+    /**
+     * Getter for the number of direct arenas of the pooled allocator
+     *
+     * @return the number of direct arenas
+     * @since 2026-10-18
+     */
+    public int getDirectArenas() {
+        return directArenas;
+    }
+
+    /**
+     * Setter for the number of direct arenas of the pooled allocator
+     *
+     * @param directArenas the number of direct arenas
+     * @since 2026-10-18
+     */
+    public void setDirectArenas(int directArenas) {
+        this.directArenas = directArenas;
+    }
+
+    /**
+     * Getter for the max order of the pooled allocator
+     *
+     * @return the max order
+     * @since 2026-10-18
+     */
+    public int getMaxOrder() {
+        return maxOrder;
+    }
+
+    /**
+     * Setter for the max order of the pooled allocator
+     *
+     * @param maxOrder the max order, the chunk size is the page size shifted by it
+     * @since 2026-10-18
+     */
+    public void setMaxOrder(int maxOrder) {
+        this.maxOrder = maxOrder;
+    }
+
+    @Override
+    public String toString() {
+        return "workerThreads=" + (workerThreads == 0 ? "default" : workerThreads)
+                + ", TCP_NODELAY=" + tcpNoDelay
+                + ", SO_SNDBUF=" + (sendBufferSize > 0 ? sendBufferSize : "default")
+                + ", SO_RCVBUF=" + (receiveBufferSize > 0 ? receiveBufferSize : "default")
+                + ", writeBufferWaterMark=" + writeBufferLowWaterMark + "/" + writeBufferHighWaterMark
+                + ", allocator=pooled " + (preferDirect ? "direct" : "heap")
+                + " (directArenas=" + directArenas + ", maxOrder=" + maxOrder + ")";
+    }
+}
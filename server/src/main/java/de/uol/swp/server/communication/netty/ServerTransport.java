@@ -0,0 +1,129 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.Locale;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The transports the server can accept connections with
+ * <p>
+ * The native epoll transport of Linux needs less CPU per message than NIO and is
+ * used whenever it is available. It can be turned off with the system property
+ * {@value #PROPERTY} set to {@code nio}.
+ *
+ * @see de.uol.swp.server.communication.netty.Server
+ * @since 2026-10-18
+ */
+public enum ServerTransport {
+
+    /**
+     * The native epoll transport, only available on Linux
+     */
+    EPOLL {
+        @Override
+        public boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int threads) {
+            return new EpollEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+    },
+
+    /**
+     * The Java NIO transport, available everywhere
+     */
+    NIO {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int threads) {
+            return new NioEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+    };
+
+    /**
+     * Name of the system property used to select the transport, {@code auto}, {@code epoll} or {@code nio}
+     */
+    public static final String PROPERTY = "swp.transport";
+
+    private static final Logger LOG = LogManager.getLogger(ServerTransport.class);
+
+    /**
+     * Checks if the transport can be used on this host
+     *
+     * @return true if the transport can be used
+     * @since 2026-10-18
+     */
+    public abstract boolean isAvailable();
+
+    /**
+     * Creates an EventLoopGroup of this transport
+     *
+     * @param threads the number of threads, 0 for the default of netty
+     * @return the new EventLoopGroup
+     * @since 2026-10-18
+     */
+    public abstract EventLoopGroup createEventLoopGroup(int threads);
+
+    /**
+     * Getter for the channel class accepting the connections
+     *
+     * @return the server channel class of this transport
+     * @since 2026-10-18
+     */
+    public abstract Class<? extends ServerSocketChannel> getServerChannelClass();
+
+    /**
+     * Returns the transport configured by the system property {@value #PROPERTY}
+     * <p>
+     * Without the property, or with {@code auto}, epoll is used if it is available
+     * and NIO otherwise. A transport that is not available on this host falls back
+     * to NIO as well.
+     *
+     * @return the transport to use
+     * @since 2026-10-18
+     */
+    public static ServerTransport fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isBlank() || value.trim().equalsIgnoreCase("auto")) {
+            return EPOLL.isAvailable() ? EPOLL : NIO;
+        }
+        ServerTransport transport;
+        try {
+            transport = valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown transport " + value + ", using " + NIO);
+            return NIO;
+        }
+        if (!transport.isAvailable()) {
+            LOG.warn("Transport " + transport + " is not available, using " + NIO + ": "
+                    + Epoll.unavailabilityCause());
+            return NIO;
+        }
+        return transport;
+    }
+}
@@ -0,0 +1,144 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.uol.swp.common.game.message.PrivateInventoryChangeMessage;
+import de.uol.swp.common.game.message.PublicInventoryChangeMessage;
+import de.uol.swp.common.lobby.message.LobbySizeChangedMessage;
+
+/**
+ * Decides what happens to the messages of a client that cannot keep up
+ * <p>
+ * While the outbound buffer of a connection is over its high water mark, the
+ * messages for it are held back. Messages that only carry the latest state, like
+ * the inventories and the lobby size, are combined with the held back message of
+ * the same kind, so only one of them is sent. All other messages are queued up to
+ * {@value #MAX_QUEUED_PROPERTY} messages, further ones are dropped. A connection
+ * that still cannot take messages {@value #GRACE_PROPERTY} milliseconds after the
+ * first message was dropped is closed.
+ *
+ * @see de.uol.swp.server.communication.netty.NettyServerHandler
+ * @since 2026-10-18
+ */
+public class SlowConsumerPolicy {
+
+    /**
+     * System property with the number of messages queued for a slow client
+     */
+    public static final String MAX_QUEUED_PROPERTY = "swp.slowConsumer.maxQueuedMessages";
+
+    /**
+     * System property with the milliseconds a slow client may stay over budget before it is disconnected
+     */
+    public static final String GRACE_PROPERTY = "swp.slowConsumer.graceMillis";
+
+    private final int maxQueuedMessages;
+    private final long graceMillis;
+    private final OutboundStatistics statistics = new OutboundStatistics();
+
+    /**
+     * Constructor
+     *
+     * @param maxQueuedMessages the number of messages queued for a slow client
+     * @param graceMillis       the milliseconds a slow client may stay over budget
+     * @throws IllegalArgumentException if a value is negative
+     * @since 2026-10-18
+     */
+    public SlowConsumerPolicy(int maxQueuedMessages, long graceMillis) {
+        if (maxQueuedMessages < 0 || graceMillis < 0) {
+            throw new IllegalArgumentException("invalid slow consumer policy: " + maxQueuedMessages + " messages, "
+                    + graceMillis + " ms");
+        }
+        this.maxQueuedMessages = maxQueuedMessages;
+        this.graceMillis = graceMillis;
+    }
+
+    /**
+     * Returns the policy configured by the system properties
+     * <p>
+     * Without them 1000 messages are queued and a client over budget is
+     * disconnected after 10 seconds.
+     *
+     * @return the configured policy
+     * @since 2026-10-18
+     */
+    public static SlowConsumerPolicy fromSystemProperties() {
+        return new SlowConsumerPolicy(Integer.getInteger(MAX_QUEUED_PROPERTY, 1000),
+                Long.getLong(GRACE_PROPERTY, 10_000));
+    }
+
+    /**
+     * Returns the key of the latest state a message carries
+     * <p>
+     * Held back messages with the same key are combined.
+     *
+     * @param message the message to send
+     * @return the key, null if the message is an event that has to be sent on its own
+     * @since 2026-10-18
+     */
+    Object getStateKey(Object message) {
+        if (message instanceof PrivateInventoryChangeMessage) {
+            return key(message, ((PrivateInventoryChangeMessage) message).getName());
+        }
+        if (message instanceof PublicInventoryChangeMessage) {
+            return key(message, ((PublicInventoryChangeMessage) message).getName());
+        }
+        if (message instanceof LobbySizeChangedMessage) {
+            return key(message, ((LobbySizeChangedMessage) message).getName());
+        }
+        return null;
+    }
+
+    private static List<Object> key(Object message, String name) {
+        return Arrays.asList(message.getClass(), name);
+    }
+
+    /**
+     * Combines a held back message with a newer one of the same state key
+     *
+     * @param older the held back message
+     * @param newer the newer message
+     * @return the message to send instead of both, null if they cannot be combined
+     * @since 2026-10-18
+     */
+    Object merge(Object older, Object newer) {
+        if (older instanceof PrivateInventoryChangeMessage) {
+            return ((PrivateInventoryChangeMessage) older).mergeWith((PrivateInventoryChangeMessage) newer);
+        }
+        if (older instanceof PublicInventoryChangeMessage) {
+            return ((PublicInventoryChangeMessage) older).mergeWith((PublicInventoryChangeMessage) newer);
+        }
+        return newer;
+    }
+
+    /**
+     * Getter for the number of messages queued for a slow client
+     *
+     * @return the maximum number of queued messages
+     * @since 2026-10-18
+     */
+    public int getMaxQueuedMessages() {
+        return maxQueuedMessages;
+    }
+
+    /**
+     * Getter for the time a slow client may stay over budget
+     *
+     * @return the time in milliseconds
+     * @since 2026-10-18
+     */
+    public long getGraceMillis() {
+        return graceMillis;
+    }
+
+    /**
+     * Getter for the statistics of all connections using this policy
+     *
+     * @return the OutboundStatistics
+     * @since 2026-10-18
+     */
+    public OutboundStatistics getStatistics() {
+        return statistics;
+    }
+}
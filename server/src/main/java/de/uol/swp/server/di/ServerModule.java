@@ -3,6 +3,7 @@ package de.uol.swp.server.di;
 import com.google.common.eventbus.EventBus;
 import com.google.inject.AbstractModule;
 
+import de.uol.swp.server.communication.MessageDispatcher;
 import de.uol.swp.server.usermanagement.store.SQLBasedUserStore;
 import de.uol.swp.server.usermanagement.store.UserStore;
 
@@ -15,10 +16,34 @@ import de.uol.swp.server.usermanagement.store.UserStore;
 @SuppressWarnings("UnstableApiUsage")
 public class ServerModule extends AbstractModule {
 
-    private final EventBus bus = new EventBus();
+    private final EventBus bus = new MessageDispatcher();
     //Hier kann der Store ausgewählt werden
     //private final UserStore userStore = new MainMemoryBasedUserStore();
-    private final UserStore userStore = new SQLBasedUserStore();
+    private final UserStore userStore;
+
+    /**
+     * Constructor
+     * <p>
+     * The users are kept in the SQLBasedUserStore.
+     *
+     * @since 2026-10-18
+     */
+    public ServerModule() {
+        this(new SQLBasedUserStore());
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Used to start a server without a database, e.g. for tests or load tests
+     * with the MainMemoryBasedUserStore.
+     *
+     * @param userStore the UserStore the users are kept in
+     * @since 2026-10-18
+     */
+    public ServerModule(UserStore userStore) {
+        this.userStore = userStore;
+    }
 
     @Override
     protected void configure() {
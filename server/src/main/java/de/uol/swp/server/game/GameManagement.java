@@ -1,10 +1,10 @@
 package de.uol.swp.server.game;
 
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.dto.GameDTO;
@@ -13,6 +13,8 @@ import de.uol.swp.common.user.User;
 /**
  * Manages starting, deletion and storing of games
  * <p>
+ * enhanced by the mailboxes, 2026-10-18: the games are stored in a ConcurrentHashMap, since the requests of different
+ * games are processed in parallel
  *
  * @author Iskander Yusupov
  * @see de.uol.swp.common.game.Game
@@ -21,7 +23,7 @@ import de.uol.swp.common.user.User;
  * @since 2021-01-15
  */
 public class GameManagement extends AbstractGameManagement {
-    private final Map<String, Game> games = new HashMap<>();
+    private final Map<String, Game> games = new ConcurrentHashMap<>();
 
     /**
      * Creates a new game and adds it to the list
@@ -41,11 +43,9 @@ public class GameManagement extends AbstractGameManagement {
      */
     @Override
     public void createGame(String name, User owner, Set<User> lobbyUsers, String gameFieldVariant) {
-        if (games.containsKey(name)) {
+        GameDTO game = new GameDTO(name, owner, gameFieldVariant, lobbyUsers);
+        if (games.putIfAbsent(name, game) != null) {
             throw new GameManagementException("The Game " + name + "already exists!");
-        } else {
-            GameDTO game = new GameDTO(name, owner, gameFieldVariant, lobbyUsers);
-            games.put(name, game);
         }
     }
 
@@ -59,10 +59,9 @@ public class GameManagement extends AbstractGameManagement {
      */
     @Override
     public void dropGame(String name) {
-        if (!games.containsKey(name)) {
+        if (games.remove(name) == null) {
             throw new IllegalArgumentException("Game name " + name + " not found!");
         }
-        games.remove(name);
     }
 
     /**
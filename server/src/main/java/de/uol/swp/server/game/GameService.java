@@ -1,13 +1,17 @@
 package de.uol.swp.server.game;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import de.uol.swp.common.chat.ResponseChatMessage;
+import de.uol.swp.common.codec.WireBuffers;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.Inventory;
 import de.uol.swp.common.game.MapGraph;
+import de.uol.swp.common.game.ProductionTable;
+import de.uol.swp.common.game.Resource;
 import de.uol.swp.common.game.dto.GameDTO;
 import de.uol.swp.common.game.dto.StatsDTO;
 import de.uol.swp.common.game.message.*;
@@ -30,23 +34,31 @@ import de.uol.swp.common.user.User;
 import de.uol.swp.common.user.UserDTO;
 import de.uol.swp.common.user.request.LogoutRequest;
 import de.uol.swp.server.AI.AIToServerTranslator;
+import de.uol.swp.server.AI.AITurnScheduler;
 import de.uol.swp.server.AI.RandomAI;
 import de.uol.swp.server.AI.TestAI;
 import de.uol.swp.server.AbstractService;
+import de.uol.swp.server.communication.ServerTimer;
 import de.uol.swp.server.game.dice.Dice;
 import de.uol.swp.server.lobby.LobbyManagementException;
 import de.uol.swp.server.lobby.LobbyService;
 import de.uol.swp.server.usermanagement.AuthenticationService;
 import de.uol.swp.server.usermanagement.UserService;
+import io.netty.util.Timeout;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
 /**
  * Handles the game requests send by the users
+ * <p>
+ * enhanced by the mailboxes, 2026-10-18: the requests of a game are processed one after another in the mailbox of
+ * the game, so the handlers allow concurrent events and the requests of different games are processed in parallel
  *
  * @author Kirstin, Pieter
  * @since 2021-01-07
@@ -60,10 +72,17 @@ public class GameService extends AbstractService {
     private final LobbyService lobbyService;
     private final AuthenticationService authenticationService;
     private final UserService userService;
-    // used for differentiating between the actual GameService and the GameService used for tests, where the Threads of the AI need to be joined
-    // if the Threads aren't joined for the tests the tests will fail because they run through and check the JUNIT asserts without the threads being done.
-    // We don't want to join the threads for non test-purposes though, since that would make the GameService slow to respond.
+    // used for differentiating between the actual GameService and the GameService used for tests, where the actions of the AI need to be run right away
+    // if the actions are scheduled for the tests the tests will fail because they run through and check the JUNIT asserts without the AI being done.
+    // We don't want to run them right away for non test-purposes though, since the AI would act faster than users can follow.
     private boolean joiningAIThreadsNeeded = false;
+    private final AITurnScheduler aiTurnScheduler;
+    private final ServerTimer serverTimer;
+    // countdowns to the start of the games by lobby name
+    private final Map<String, Timeout> gameStartCountdowns = new ConcurrentHashMap<>();
+    // turns of the AI waiting for the turn currently processed by this thread to complete
+    private final ThreadLocal<Deque<GameDTO>> pendingAITurns = new ThreadLocal<>();
+    private final Map<String, InventoryBroadcastStats> inventoryBroadcastStats = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -75,14 +94,58 @@ public class GameService extends AbstractService {
      * @author:
      * @since 2021-01-07
      */
-    @Inject
     public GameService(GameManagement gameManagement, LobbyService lobbyService,
                        AuthenticationService authenticationService, EventBus eventBus, UserService userService) {
+        this(gameManagement, lobbyService, authenticationService, eventBus, userService, null);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * The actions of the AI are paced by the given AITurnScheduler instead of being run right away.
+     *
+     * @param gameManagement        The management class for creating, storing and deleting games
+     * @param lobbyService          the LobbyService of the server
+     * @param authenticationService the user management
+     * @param eventBus              the server-wide EventBus
+     * @param userService           the UserService of the server
+     * @param aiTurnScheduler       the AITurnScheduler used to pace the AI, may be null
+     * @see de.uol.swp.server.AI.AITurnScheduler
+     * @since 2026-10-18
+     */
+    public GameService(GameManagement gameManagement, LobbyService lobbyService,
+                       AuthenticationService authenticationService, EventBus eventBus, UserService userService,
+                       AITurnScheduler aiTurnScheduler) {
+        this(gameManagement, lobbyService, authenticationService, eventBus, userService, aiTurnScheduler,
+                new ServerTimer());
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * The countdowns to the start of the games are run by the given ServerTimer.
+     *
+     * @param gameManagement        The management class for creating, storing and deleting games
+     * @param lobbyService          the LobbyService of the server
+     * @param authenticationService the user management
+     * @param eventBus              the server-wide EventBus
+     * @param userService           the UserService of the server
+     * @param aiTurnScheduler       the AITurnScheduler used to pace the AI, may be null
+     * @param serverTimer           the ServerTimer of the server
+     * @see de.uol.swp.server.communication.ServerTimer
+     * @since 2026-10-18
+     */
+    @Inject
+    public GameService(GameManagement gameManagement, LobbyService lobbyService,
+                       AuthenticationService authenticationService, EventBus eventBus, UserService userService,
+                       AITurnScheduler aiTurnScheduler, ServerTimer serverTimer) {
         super(eventBus);
         this.gameManagement = gameManagement;
         this.authenticationService = authenticationService;
         this.lobbyService = lobbyService;
         this.userService = userService;
+        this.aiTurnScheduler = aiTurnScheduler;
+        this.serverTimer = serverTimer;
     }
 
     /**
@@ -100,7 +163,8 @@ public class GameService extends AbstractService {
      * @since 2021-01-24
      */
     @Subscribe
-    public void onGameLeaveUserRequest(GameLeaveUserRequest gameLeaveUserRequest) throws InterruptedException {
+    @AllowConcurrentEvents
+    public void onGameLeaveUserRequest(GameLeaveUserRequest gameLeaveUserRequest) {
         Optional<Game> optionalGame = gameManagement.getGame(gameLeaveUserRequest.getName());
         Optional<Lobby> lobby = lobbyService.getLobby(gameLeaveUserRequest.getName());
         if (optionalGame.isPresent()) {
@@ -112,6 +176,7 @@ public class GameService extends AbstractService {
                         sendToSpecificUser(ctx.get(), new GameLeftSuccessfulResponse(gameLeaveUserRequest.getName(),
                                 gameLeaveUserRequest.getUser()));
                         gameManagement.dropGame(gameLeaveUserRequest.getName());
+                        inventoryBroadcastStats.remove(gameLeaveUserRequest.getName());
                         lobby.ifPresent(value -> value.setGameStarted(false));
                         sendToAll(new GameDroppedMessage(gameLeaveUserRequest.getName()));
                     }
@@ -158,7 +223,8 @@ public class GameService extends AbstractService {
      * @since 2021-06-2021
      */
     @Subscribe
-    public void onGameKickPlayerRequest(KickPlayerRequest kickPlayerRequest) throws InterruptedException {
+    @AllowConcurrentEvents
+    public void onGameKickPlayerRequest(KickPlayerRequest kickPlayerRequest) {
         Optional<Game> optionalGame = gameManagement.getGame(kickPlayerRequest.getName());
         if (optionalGame.isPresent()) {
             Game game = optionalGame.get();
@@ -216,6 +282,7 @@ public class GameService extends AbstractService {
      * @since 2021-01-15
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onRetrieveAllThisGameUsersRequest(RetrieveAllThisGameUsersRequest retrieveAllThisGameUsersRequest) {
         Optional<Game> optionalGame = gameManagement.getGame(retrieveAllThisGameUsersRequest.getName());
         if (optionalGame.isPresent()) {
@@ -238,12 +305,15 @@ public class GameService extends AbstractService {
      * <p>
      * enhanced by Iskander Yusupov, since 06-06-2021
      * enhanced by Philip Nitsche
+     * <p>
+     * enhanced by checking and paying the costs with resource vectors, 2026-10-18
      *
      * @param message Contains the data needed to change the mapGraph
      * @author Pieter Vogt
      * @since 2021-04-15
      */
     @Subscribe
+    @AllowConcurrentEvents
     public boolean onConstructionRequest(ConstructionRequest message) {
         LOG.debug("Received new ConstructionMessage from user " + message.getUser());
         Optional<Game> optionalGame = gameManagement.getGame(message.getName());
@@ -261,132 +331,121 @@ public class GameService extends AbstractService {
                 try {
                     if (message.getTypeOfNode()
                             .equals("BuildingNode")) { //If the node from the message is a building node...
-                        for (MapGraph.BuildingNode buildingNode : game.getMapGraph().getBuildingNodeHashSet()) {
-                            if (message.getUuid().equals(buildingNode
-                                    .getUuid())) { // ... and if the node in the message is a node in the MapGraph BuildingNodeSet...
-                                if (game.isStartingTurns() || ((buildingNode
-                                        .getSizeOfSettlement() == 0 && inventory.lumber
-                                        .getNumber() > 0 && inventory.brick.getNumber() > 0
-                                        && inventory.wool.getNumber() > 0 && inventory.grain.getNumber() > 0) ||
-                                        (buildingNode.getSizeOfSettlement() == 1 && inventory.ore
-                                                .getNumber() > 2 && inventory.grain.getNumber() > 1))) {
-                                    if (buildingNode
-                                            .tryBuildOrDevelopSettlement(playerIndex, game.getStartingPhase())) {
-                                        buildingNode.buildOrDevelopSettlement(playerIndex);
-                                        game.getMapGraph().addBuiltBuilding(buildingNode);
-                                        sendToAllInGame(game.getName(),
-                                                new SuccessfulConstructionMessage(game.getName(),
-                                                        message.getUser().getWithoutPassword(), playerIndex,
-                                                        message.getUuid(), "BuildingNode"));
-                                        if (buildingNode.getSizeOfSettlement() == 1) {
-                                            if (!game.isStartingTurns()) {
-                                                if (inventory.settlement.getNumber() > 0) {
-                                                    takeResource(game, message.getUser(), "Lumber", 1);
-                                                    takeResource(game, message.getUser(), "Brick", 1);
-                                                    takeResource(game, message.getUser(), "Wool", 1);
-                                                    takeResource(game, message.getUser(), "Grain", 1);
-                                                } else {
-                                                    sendToSpecificUserInGame(game,
-                                                            new NotEnoughResourcesMessage(message.getName(),
-                                                                    message.getUser()), message.getUser());
-
-                                                }
-                                            }
-                                            inventory.settlement.decNumber();
-                                            inventory.setVictoryPoints(inventory.getVictoryPoints() + 1);
-                                        } else if (buildingNode.getSizeOfSettlement() == 2) {
-                                            if (inventory.city.getNumber() > 0) {
-                                                takeResource(game, message.getUser(), "Ore", 3);
-                                                takeResource(game, message.getUser(), "Grain", 2);
-                                                inventory.settlement.incNumber();
-                                                inventory.city.decNumber();
+                        MapGraph.BuildingNode buildingNode = game.getMapGraph().getBuildingNode(message.getUuid());
+                        if (buildingNode != null) { // ... and if the node in the message is a node in the MapGraph
+                            if (game.isStartingTurns() || (buildingNode.getSizeOfSettlement() == 0 && inventory
+                                    .canAfford(Inventory.SETTLEMENT_COST)) || (buildingNode.getSizeOfSettlement() == 1
+                                    && inventory.canAfford(Inventory.CITY_COST))) {
+                                if (buildingNode
+                                        .tryBuildOrDevelopSettlement(playerIndex, game.getStartingPhase())) {
+                                    buildingNode.buildOrDevelopSettlement(playerIndex);
+                                    game.getMapGraph().addBuiltBuilding(buildingNode);
+                                    sendToAllInGame(game.getName(),
+                                            new SuccessfulConstructionMessage(game.getName(),
+                                                    message.getUser().getWithoutPassword(), playerIndex,
+                                                    message.getUuid(), "BuildingNode"));
+                                    if (buildingNode.getSizeOfSettlement() == 1) {
+                                        if (!game.isStartingTurns()) {
+                                            if (inventory.settlement.getNumber() > 0) {
+                                                payToBank(game, message.getUser(), Inventory.SETTLEMENT_COST);
                                             } else {
                                                 sendToSpecificUserInGame(game,
                                                         new NotEnoughResourcesMessage(message.getName(),
                                                                 message.getUser()), message.getUser());
 
                                             }
-                                            inventory.setVictoryPoints(inventory.getVictoryPoints() + 1);
-                                            updateInventory(game);
                                         }
-                                        if (!game.isStartingTurns()) {
-                                            for (int i = 0; i < game.getUsersList().size(); i++) {
-                                                if (i != game.getTurn()) {
-                                                    int continuousRoad = game.getMapGraph()
-                                                            .getLongestStreetPathCalculator().getLongestPath(i);
-                                                    game.getInventory(game.getUsersList().get(i)).setContinuousRoad(
-                                                            continuousRoad == 0 ? 1 : continuousRoad);
-                                                }
-                                            }
+                                        inventory.settlement.decNumber();
+                                        inventory.setVictoryPoints(inventory.getVictoryPoints() + 1);
+                                    } else if (buildingNode.getSizeOfSettlement() == 2) {
+                                        if (inventory.city.getNumber() > 0) {
+                                            payToBank(game, message.getUser(), Inventory.CITY_COST);
+                                            inventory.settlement.incNumber();
+                                            inventory.city.decNumber();
+                                        } else {
+                                            sendToSpecificUserInGame(game,
+                                                    new NotEnoughResourcesMessage(message.getName(),
+                                                            message.getUser()), message.getUser());
+
                                         }
-                                        checkForLongestRoad(game);
+                                        inventory.setVictoryPoints(inventory.getVictoryPoints() + 1);
                                         updateInventory(game);
-                                        if (game.isStartingTurns() && game.getMapGraph()
-                                                .getNumOfRoads()[playerIndex] == game.getStartingPhase()
-                                                && game.getMapGraph().getNumOfRoads()[playerIndex] == game.getMapGraph()
-                                                .getNumOfBuildings()[playerIndex]) {
-                                            endTurn(game, message.getUser());
+                                    }
+                                    if (!game.isStartingTurns()) {
+                                        for (int i = 0; i < game.getUsersList().size(); i++) {
+                                            if (i != game.getTurn()) {
+                                                int continuousRoad = game.getMapGraph()
+                                                        .getLongestStreetPathCalculator().getLongestPath(i);
+                                                game.getInventory(game.getUsersList().get(i)).setContinuousRoad(
+                                                        continuousRoad == 0 ? 1 : continuousRoad);
+                                            }
                                         }
-                                        return true;
                                     }
-                                } else {
-                                    if (buildingNode.getSizeOfSettlement() == 2) {
-                                        SettlementFullyDevelopedMessage sfdm = new SettlementFullyDevelopedMessage(
-                                                game.getName(), message.getUser());
-                                        sendToSpecificUserInGame(game, sfdm, message.getUser());
-                                    } else {
-                                        sendToAllInGame(game.getName(),
-                                                new NotSuccessfulConstructionMessage(message.getUser(),
-                                                        "BuildingNode"));
-                                        NotEnoughResourcesMessage nerm = new NotEnoughResourcesMessage(game.getName(),
-                                                message.getUser());
-                                        sendToSpecificUserInGame(game, nerm, message.getUser());
+                                    checkForLongestRoad(game);
+                                    updateInventory(game);
+                                    if (game.isStartingTurns() && game.getMapGraph()
+                                            .getNumOfRoads()[playerIndex] == game.getStartingPhase()
+                                            && game.getMapGraph().getNumOfRoads()[playerIndex] == game.getMapGraph()
+                                            .getNumOfBuildings()[playerIndex]) {
+                                        endTurn(game, message.getUser());
                                     }
+                                    return true;
+                                }
+                            } else {
+                                if (buildingNode.getSizeOfSettlement() == 2) {
+                                    SettlementFullyDevelopedMessage sfdm = new SettlementFullyDevelopedMessage(
+                                            game.getName(), message.getUser());
+                                    sendToSpecificUserInGame(game, sfdm, message.getUser());
+                                } else {
+                                    sendToAllInGame(game.getName(),
+                                            new NotSuccessfulConstructionMessage(message.getUser(),
+                                                    "BuildingNode"));
+                                    NotEnoughResourcesMessage nerm = new NotEnoughResourcesMessage(game.getName(),
+                                            message.getUser());
+                                    sendToSpecificUserInGame(game, nerm, message.getUser());
                                 }
                             }
                         }
                     } else {
-                        for (MapGraph.StreetNode streetNode : game.getMapGraph().getStreetNodeHashSet()) {
-                            if (message.getUuid().equals(streetNode.getUuid())) {
-                                if (inventory.road.getNumber() > 0) {
-                                    if (game.isStartingTurns() || (inventory.lumber.getNumber() > 0 && inventory.brick
-                                            .getNumber() > 0) || game.getCurrentCard().equals("Road Building")) {
-                                        if (streetNode.tryBuildRoad(playerIndex, game.getStartingPhase())) {
-                                            streetNode.buildRoad(playerIndex);
-                                            if (!game.isStartingTurns() && !game.getCurrentCard()
-                                                    .equals("Road Building")) {
-                                                takeResource(game, message.getUser(), "Lumber", 1);
-                                                takeResource(game, message.getUser(), "Brick", 1);
-                                            }
-                                            sendToAllInGame(game.getName(),
-                                                    new SuccessfulConstructionMessage(game.getName(),
-                                                            message.getUser().getWithoutPassword(), playerIndex,
-                                                            message.getUuid(), "StreetNode"));
-                                            int continuousRoad = game.getMapGraph().getLongestStreetPathCalculator()
-                                                    .getLongestPath(game.getTurn());
-                                            inventory.setContinuousRoad(continuousRoad == 0 ? 1 : continuousRoad);
-                                            inventory.road.decNumber();
-                                            checkForLongestRoad(game);
-                                            updateInventory(game);
-                                            if (game.isStartingTurns() && game.getMapGraph()
-                                                    .getNumOfRoads()[playerIndex] == game.getStartingPhase()
-                                                    && game.getMapGraph().getNumOfRoads()[playerIndex] == game
-                                                    .getMapGraph().getNumOfBuildings()[playerIndex]) {
-                                                endTurn(game, message.getUser());
-                                            }
-                                            return true;
+                        MapGraph.StreetNode streetNode = game.getMapGraph().getStreetNode(message.getUuid());
+                        if (streetNode != null) {
+                            if (inventory.road.getNumber() > 0) {
+                                if (game.isStartingTurns() || inventory.canAfford(Inventory.ROAD_COST) || game
+                                        .getCurrentCard().equals("Road Building")) {
+                                    if (streetNode.tryBuildRoad(playerIndex, game.getStartingPhase())) {
+                                        streetNode.buildRoad(playerIndex);
+                                        if (!game.isStartingTurns() && !game.getCurrentCard()
+                                                .equals("Road Building")) {
+                                            payToBank(game, message.getUser(), Inventory.ROAD_COST);
+                                        }
+                                        sendToAllInGame(game.getName(),
+                                                new SuccessfulConstructionMessage(game.getName(),
+                                                        message.getUser().getWithoutPassword(), playerIndex,
+                                                        message.getUuid(), "StreetNode"));
+                                        int continuousRoad = game.getMapGraph().getLongestStreetPathCalculator()
+                                                .getLongestPath(game.getTurn());
+                                        inventory.setContinuousRoad(continuousRoad == 0 ? 1 : continuousRoad);
+                                        inventory.road.decNumber();
+                                        checkForLongestRoad(game);
+                                        updateInventory(game);
+                                        if (game.isStartingTurns() && game.getMapGraph()
+                                                .getNumOfRoads()[playerIndex] == game.getStartingPhase()
+                                                && game.getMapGraph().getNumOfRoads()[playerIndex] == game
+                                                .getMapGraph().getNumOfBuildings()[playerIndex]) {
+                                            endTurn(game, message.getUser());
                                         }
-                                    } else {
-                                        NotEnoughResourcesMessage nerm = new NotEnoughResourcesMessage();
-                                        nerm.setName(game.getName());
-                                        sendToSpecificUserInGame(game, nerm, message.getUser());
+                                        return true;
                                     }
                                 } else {
-                                    if (game.getUsers().contains(message.getUser())) {
-                                        sendToSpecificUserInGame(game,
-                                                new NotEnoughResourcesMessage(message.getName(), message.getUser()),
-                                                message.getUser());
-                                    }
+                                    NotEnoughResourcesMessage nerm = new NotEnoughResourcesMessage();
+                                    nerm.setName(game.getName());
+                                    sendToSpecificUserInGame(game, nerm, message.getUser());
+                                }
+                            } else {
+                                if (game.getUsers().contains(message.getUser())) {
+                                    sendToSpecificUserInGame(game,
+                                            new NotEnoughResourcesMessage(message.getName(), message.getUser()),
+                                            message.getUser());
                                 }
                             }
                         }
@@ -504,6 +563,7 @@ public class GameService extends AbstractService {
      * @since 2021-05-03
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onResourcesToDiscard(ResourcesToDiscardRequest resourcesToDiscardRequest) {
         Optional<Game> optionalGame = gameManagement.getGame(resourcesToDiscardRequest.getName());
         if (optionalGame.isPresent()) {
@@ -573,6 +633,7 @@ public class GameService extends AbstractService {
      * @since 2021-4-06
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onRollDiceRequest(RollDiceRequest rollDiceRequest) {
         LOG.debug("Got new RollDiceRequest from user: " + rollDiceRequest.getUser());
         Optional<Game> optionalGame = gameManagement.getGame(rollDiceRequest.getName());
@@ -657,11 +718,15 @@ public class GameService extends AbstractService {
     /**
      * Handles the distribution of resources to the users
      * <p>
-     * This method handles the distribution of the resources to the users. First the method gets the game and gets the
-     * corresponding hexagons. After that the method checks if the diceToken on the field is equal to the
-     * rolled amount of eyes and increases the resource of the user by one(village), two(city).
+     * This method handles the distribution of the resources to the users. First the method gets the game and looks up
+     * the production of the rolled amount of eyes in the ProductionTable of the MapGraph, which contains one(village)
+     * or two(city) resources for every building at a field with the rolled diceToken. Then every resource is moved
+     * from the bank to the inventories in one step. If the bank does not have enough of a resource, the players get
+     * what is left in the order of their index.
      * <p>
      * enhanced by Anton Nikiforov
+     * <p>
+     * enhanced by using the ProductionTable instead of walking all hexagons, 2026-10-18
      *
      * @param eyes     Number of eyes rolled with dice
      * @param gameName Name of the Game
@@ -673,38 +738,30 @@ public class GameService extends AbstractService {
         Optional<Game> optionalGame = gameManagement.getGame(gameName);
         if (optionalGame.isPresent()) {
             Game game = optionalGame.get();
-            for (MapGraph.Hexagon hexagon : game.getMapGraph().getHexagonHashSet()) {
-                if (hexagon.getDiceToken() == eyes) {
-                    for (MapGraph.BuildingNode buildingNode : hexagon.getBuildingNodes()) {
-                        if (buildingNode.getOccupiedByPlayer() != 666 && !hexagon.isOccupiedByRobber()) {
-                            //"Ocean" = 0; "Forest" = 1; "Farmland" = 2; "Grassland" = 3; "Hillside" = 4; "Mountain" = 5; "Desert" = 6;
-                            switch (hexagon.getTerrainType()) {
-                                case 1:
-                                    giveResource(game, game.getUser(buildingNode.getOccupiedByPlayer()), "Lumber",
-                                            buildingNode.getSizeOfSettlement());
-                                    break;
-                                case 2:
-                                    giveResource(game, game.getUser(buildingNode.getOccupiedByPlayer()), "Grain",
-                                            buildingNode.getSizeOfSettlement());
-                                    break;
-                                case 3:
-                                    giveResource(game, game.getUser(buildingNode.getOccupiedByPlayer()), "Wool",
-                                            buildingNode.getSizeOfSettlement());
-                                    break;
-                                case 4:
-                                    giveResource(game, game.getUser(buildingNode.getOccupiedByPlayer()), "Brick",
-                                            buildingNode.getSizeOfSettlement());
-                                    break;
-                                case 5:
-                                    giveResource(game, game.getUser(buildingNode.getOccupiedByPlayer()), "Ore",
-                                            buildingNode.getSizeOfSettlement());
-                                    break;
-                                default:
-                                    break;
-                            }
-                        }
+            int[][] production = game.getMapGraph().getProductionTable().getProduction(eyes);
+            Inventory bank = game.getBankInventory();
+            for (int i = 0; i < Resource.COUNT; i++) {
+                Resource resource = Resource.of(i);
+                int demand = 0;
+                for (int[] productionOfPlayer : production) {
+                    demand += productionOfPlayer[i];
+                }
+                int stock = bank.getResource(resource);
+                if (demand == 0 || stock == 0) {
+                    continue;
+                }
+                int left = stock;
+                for (int player = 0; player < production.length && left > 0; player++) {
+                    int amount = Math.min(production[player][i], left);
+                    if (amount > 0) {
+                        game.getInventory(game.getUser(player)).incResource(resource, amount);
+                        left -= amount;
                     }
                 }
+                bank.decResource(resource, stock - left);
+                if (stock <= demand) {
+                    sendStorageEmptyMessage(game, resource.getName());
+                }
             }
             updateInventory(game);
         }
@@ -713,10 +770,12 @@ public class GameService extends AbstractService {
     /**
      * Gives the given User the entered resource from the bank
      * <p>
-     * It takes the resource from the bank and gives them to the user one by one until
+     * It takes the resource from the bank and gives them to the user until
      * the amount is reached or the bank is empty.
      * Than if it's the first time where the bank gos empty for this resourceTyp,
      * it posts a chat message in the game.
+     * <p>
+     * enhanced by moving the cards in one step with the Resource of the name, 2026-10-18
      *
      * @param game        where we are
      * @param user        who wants the resource
@@ -727,35 +786,43 @@ public class GameService extends AbstractService {
      * @since 2012-05-19
      */
     public boolean giveResource(Game game, User user, String resourceTyp, int amount) {
-        if (resourceTyp.equals("")) { return false; } else {
+        Resource resource = Resource.fromName(resourceTyp);
+        if (resource == null) { return false; } else {
             Inventory bank = game.getBankInventory();
-            boolean success = bank.getSpecificResourceAmount(resourceTyp) >= amount;
-            boolean firstTime = bank.getSpecificResourceAmount(resourceTyp) != 0 && bank
-                    .getSpecificResourceAmount(resourceTyp) <= amount;
-            for (int i = amount; i > 0; i--) {
-                if (bank.getSpecificResourceAmount(resourceTyp) > 0) {
-                    bank.decCardStack(resourceTyp, 1);
-                    game.getInventory(user).incCardStack(resourceTyp, 1);
-                } else { break; }
+            int stock = bank.getResource(resource);
+            int given = Math.max(0, Math.min(amount, stock));
+            bank.decResource(resource, given);
+            game.getInventory(user).incResource(resource, given);
+            if (stock != 0 && stock <= amount) {
+                sendStorageEmptyMessage(game, resourceTyp);
             }
-            if (firstTime) {
-                String chatMessage = resourceTyp + " storage is empty now";
-                String chatId = "game_" + game.getName();
-                ResponseChatMessage msg = new ResponseChatMessage(chatMessage, chatId, "Bank",
-                        System.currentTimeMillis());
-                post(msg);
-            }
-            return success;
+            return stock >= amount;
         }
     }
 
+    /**
+     * Posts a chat message in the game that the bank has run out of a resource
+     *
+     * @param game        where we are
+     * @param resourceTyp the resource the bank has run out of
+     * @since 2026-10-18
+     */
+    private void sendStorageEmptyMessage(Game game, String resourceTyp) {
+        String chatMessage = resourceTyp + " storage is empty now";
+        String chatId = "game_" + game.getName();
+        ResponseChatMessage msg = new ResponseChatMessage(chatMessage, chatId, "Bank", System.currentTimeMillis());
+        post(msg);
+    }
+
     /**
      * Takes the entered Resource from given User
      * <p>
-     * It takes the resource from the user and gives them to the bank one by one until
+     * It takes the resource from the user and gives them to the bank until
      * the amount is reached or the inventory form user is empty.
      * Than if the bank was empty for this resourceTyp, it posts a chat message in the game
      * that the resource storage is now filled.
+     * <p>
+     * enhanced by moving the cards in one step with the Resource of the name, 2026-10-18
      *
      * @param game        where we are
      * @param user        who wants to give the resource
@@ -766,25 +833,56 @@ public class GameService extends AbstractService {
      * @since 2012-04-09
      */
     public boolean takeResource(Game game, User user, String resourceTyp, int amount) {
-        if (resourceTyp.equals("")) { return false; } else {
+        Resource resource = Resource.fromName(resourceTyp);
+        if (resource == null) { return false; } else {
+            Inventory inventory = game.getInventory(user);
             Inventory bank = game.getBankInventory();
-            boolean success = game.getInventory(user).getSpecificResourceAmount(resourceTyp) >= amount;
-            boolean wasEmpty = bank.getSpecificResourceAmount(resourceTyp) == 0 && amount > 0;
-            for (int i = amount; i > 0; i--) {
-                if (game.getInventory(user).getSpecificResourceAmount(resourceTyp) > 0) {
-                    game.getInventory(user).decCardStack(resourceTyp, 1);
-                    bank.incCardStack(resourceTyp, 1);
-                } else { break; }
-            }
+            int stock = inventory.getResource(resource);
+            int taken = Math.max(0, Math.min(amount, stock));
+            boolean wasEmpty = bank.getResource(resource) == 0 && amount > 0;
+            inventory.decResource(resource, taken);
+            bank.incResource(resource, taken);
             if (wasEmpty) {
-                String chatMessage = resourceTyp + " storage is now filled";
-                String chatId = "game_" + game.getName();
-                ResponseChatMessage msg = new ResponseChatMessage(chatMessage, chatId, "Bank",
-                        System.currentTimeMillis());
-                post(msg);
+                sendStorageFilledMessage(game, resourceTyp);
+            }
+            return stock >= amount;
+        }
+    }
+
+    /**
+     * Moves the cost of a construction from the inventory of a user to the bank
+     * <p>
+     * Posts a chat message in the game for every resource the bank had run out of. The caller has to check with
+     * {@link Inventory#canAfford(int[])} that the user has the resources.
+     *
+     * @param game where we are
+     * @param user who pays
+     * @param cost the cost vector, e.g. {@link Inventory#ROAD_COST}
+     * @since 2026-10-18
+     */
+    private void payToBank(Game game, User user, int[] cost) {
+        Inventory bank = game.getBankInventory();
+        for (int i = 0; i < Resource.COUNT; i++) {
+            if (cost[i] > 0 && bank.getResource(Resource.of(i)) == 0) {
+                sendStorageFilledMessage(game, Resource.of(i).getName());
             }
-            return success;
         }
+        game.getInventory(user).subtractResources(cost);
+        bank.addResources(cost);
+    }
+
+    /**
+     * Posts a chat message in the game that the bank has a resource again
+     *
+     * @param game        where we are
+     * @param resourceTyp the resource the bank has again
+     * @since 2026-10-18
+     */
+    private void sendStorageFilledMessage(Game game, String resourceTyp) {
+        String chatMessage = resourceTyp + " storage is now filled";
+        String chatId = "game_" + game.getName();
+        ResponseChatMessage msg = new ResponseChatMessage(chatMessage, chatId, "Bank", System.currentTimeMillis());
+        post(msg);
     }
 
     /**
@@ -804,33 +902,28 @@ public class GameService extends AbstractService {
      * @since 2021-04-25
      */
     @Subscribe
-    public void onRobbersNewFieldRequest(RobbersNewFieldRequest robbersNewFieldRequest) throws InterruptedException {
+    @AllowConcurrentEvents
+    public void onRobbersNewFieldRequest(RobbersNewFieldRequest robbersNewFieldRequest) {
         Optional<Game> optionalGame = gameManagement.getGame(robbersNewFieldRequest.getName());
         if (optionalGame.isPresent()) {
             Game game = optionalGame.get();
             List<String> userList = new ArrayList<>();
-            //Indicate the old robbers place and "deactivate" the occupiedByRobber option.
-            for (MapGraph.Hexagon hexagon : game.getMapGraph().getHexagonHashSet()) {
-                if (hexagon.isOccupiedByRobber()) {
-                    hexagon.setOccupiedByRobber(false);
-                }
-                if (hexagon.getUuid().equals(robbersNewFieldRequest.getNewField())) {
-                    //If the UUIDs match, the new field is set to occupied
-                    hexagon.setOccupiedByRobber(true);
-                    for (MapGraph.BuildingNode node : hexagon.getBuildingNodes()) {
-                        if (node.getOccupiedByPlayer() != 666) {
-                            if (!userList.contains(
-                                    game.getUser(node.getOccupiedByPlayer()).getUsername()) && !robbersNewFieldRequest
-                                    .getUser().equals(game.getUser(node.getOccupiedByPlayer()))) {
-                                if (game.getInventory(game.getUser(node.getOccupiedByPlayer())).sumResource() > 0) {
-                                    userList.add(game.getUser(node.getOccupiedByPlayer()).getUsername());
-                                }
+            //Move the robber from its old place to the new field, if the UUID belongs to a field of the MapGraph
+            MapGraph.Hexagon hexagon = game.getMapGraph().moveRobber(robbersNewFieldRequest.getNewField());
+            if (hexagon != null) {
+                for (MapGraph.BuildingNode node : hexagon.getBuildingNodes()) {
+                    if (node.getOccupiedByPlayer() != 666) {
+                        if (!userList.contains(
+                                game.getUser(node.getOccupiedByPlayer()).getUsername()) && !robbersNewFieldRequest
+                                .getUser().equals(game.getUser(node.getOccupiedByPlayer()))) {
+                            if (game.getInventory(game.getUser(node.getOccupiedByPlayer())).sumResource() > 0) {
+                                userList.add(game.getUser(node.getOccupiedByPlayer()).getUsername());
                             }
                         }
                     }
-                    sendToAllInGame(robbersNewFieldRequest.getName(),
-                            new SuccessfulMovedRobberMessage(hexagon.getUuid()));
                 }
+                sendToAllInGame(robbersNewFieldRequest.getName(),
+                        new SuccessfulMovedRobberMessage(hexagon.getUuid()));
             }
             // If the robber wasn't moved because of the Knight DevelopmentCard do this
             if (!game.getCurrentCard().equals("Knight")) {
@@ -854,6 +947,9 @@ public class GameService extends AbstractService {
      * sent the initial request.
      * <p>
      * enhanced by Alexander Losse, Ricardo Mook 2021-03-05 enhanced by Marc Hermes 2021-03-25
+     * <p>
+     * enhanced by the ServerTimer, 2026-10-18: the countdown is run in the mailbox of the lobby by the ServerTimer,
+     * a new request replaces a running countdown
      *
      * @param startGameRequest the StartGameRequest found on the EventBus
      * @author Kirstin Beyer, Iskander Yusupov
@@ -861,6 +957,7 @@ public class GameService extends AbstractService {
      * @since 2021-01-24
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onStartGameRequest(StartGameRequest startGameRequest) {
         Optional<Lobby> optionalLobby = lobbyService.getLobby(startGameRequest.getName());
         if (optionalLobby.isPresent()) {
@@ -874,36 +971,26 @@ public class GameService extends AbstractService {
                 lobby.setMinimumAmountOfPlayers(startGameRequest.getMinimumAmountOfPlayers());
                 sendToAllInLobby(startGameRequest.getName(),
                         new StartGameMessage(startGameRequest.getName(), startGameRequest.getUser()));
-                Timer gameStartTimer = lobby.startTimerForGameStart();
                 int seconds = 60;
                 if (lobby.isUsedForTest()) {
                     seconds = 1;
                 }
-                try {
-                    class RemindTask extends TimerTask {
-
-                        public void run() {
-                            Set<User> users = new TreeSet<>(usersInLobby);
-                            if (lobby.getPlayersReady().size() != 0) {
-                                users.removeAll(lobby.getPlayersReady());
-                            }
-                            if (lobby.getPlayersReady().size() > 0 && gameManagement.getGame(lobby.getName())
-                                    .isEmpty()) {
-                                try {
-                                    startGame(lobby, lobby.getGameFieldVariant());
-                                } catch (InterruptedException e) {
-                                    e.printStackTrace();
-                                }
-                            } else if (lobby.getPlayersReady().size() < 1) {
-                                sendToListOfUsers(users, new NotEnoughPlayersMessage(lobby.getName()));
-                            }
-                        }
+                Timeout[] countdown = new Timeout[1];
+                countdown[0] = serverTimer.schedule(lobby.getName(), () -> {
+                    if (!gameStartCountdowns.remove(lobby.getName(), countdown[0])) {
+                        return;
                     }
-                    gameStartTimer.schedule(new RemindTask(), seconds * 1000);
-
-                } catch (Exception e) {
-                    LOG.debug(e);
-                }
+                    Set<User> users = new TreeSet<>(usersInLobby);
+                    if (lobby.getPlayersReady().size() != 0) {
+                        users.removeAll(lobby.getPlayersReady());
+                    }
+                    if (lobby.getPlayersReady().size() > 0 && gameManagement.getGame(lobby.getName()).isEmpty()) {
+                        startGame(lobby, lobby.getGameFieldVariant());
+                    } else if (lobby.getPlayersReady().size() < 1) {
+                        sendToListOfUsers(users, new NotEnoughPlayersMessage(lobby.getName()));
+                    }
+                }, seconds, TimeUnit.SECONDS);
+                serverTimer.cancel(gameStartCountdowns.put(lobby.getName(), countdown[0]));
 
             } else if (!startGameRequest.getUser().equals(lobby.getOwner())) {
                 if (startGameRequest.getMessageContext().isPresent()) {
@@ -933,7 +1020,7 @@ public class GameService extends AbstractService {
      * @since 2021-01-24
      */
 
-    public void startGame(Lobby lobby, String gameFieldVariant) throws InterruptedException {
+    public void startGame(Lobby lobby, String gameFieldVariant) {
         if (lobby.getPlayersReady().size() > 0) {
             Set<User> newUserList = new TreeSet<>();
             for (User user : lobby.getUsers()) {
@@ -948,7 +1035,7 @@ public class GameService extends AbstractService {
                 }
                 lobby.setPlayersReadyToNull();
                 lobby.setRdyResponsesReceived(0);
-                lobby.stopTimerForGameStart();
+                serverTimer.cancel(gameStartCountdowns.remove(lobby.getName()));
                 lobby.setGameStarted(true);
                 game.setAmountOfPlayers(lobby.getMinimumAmountOfPlayers());
                 game.setUpUserArrayList();
@@ -956,7 +1043,7 @@ public class GameService extends AbstractService {
                 post(new GameStartedMessage(lobby.getName()));
                 for (User user : game.getUsers()) {
                     sendToSpecificUserInGame(game,
-                            new GameCreatedMessage(game.getName(), (UserDTO) user, game.getMapGraph(),
+                            new GameCreatedMessage(game.getName(), (UserDTO) user, game.getBoardDescriptor(),
                                     game.getUsersList(), game.getUsers(), gameFieldVariant, game.getOwner()), user);
                 }
                 updateInventory(game);
@@ -974,7 +1061,7 @@ public class GameService extends AbstractService {
         } else {
             lobby.setPlayersReadyToNull();
             lobby.setRdyResponsesReceived(0);
-            lobby.stopTimerForGameStart();
+            serverTimer.cancel(gameStartCountdowns.remove(lobby.getName()));
             throw new GameManagementException("Not enough Players ready!");
         }
     }
@@ -994,7 +1081,8 @@ public class GameService extends AbstractService {
      * @since 2021-01-24
      */
     @Subscribe
-    public void onPlayerReadyRequest(PlayerReadyRequest playerReadyRequest) throws InterruptedException {
+    @AllowConcurrentEvents
+    public void onPlayerReadyRequest(PlayerReadyRequest playerReadyRequest) {
         Optional<Lobby> optionalLobby = lobbyService.getLobby(playerReadyRequest.getName());
         if (optionalLobby.isPresent()) {
             Lobby lobby = optionalLobby.get();
@@ -1025,13 +1113,14 @@ public class GameService extends AbstractService {
      * @since 2021-05-27
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onJoinOnGoingGameRequest(JoinOnGoingGameRequest request) {
         Optional<Lobby> optionalLobby = lobbyService.getLobby(request.getName());
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalLobby.isPresent() && request.getMessageContext().isPresent()) {
             Lobby lobby = optionalLobby.get();
             var response = new JoinOnGoingGameResponse(lobby.getName(), request.getUser(), false, null, null, null,
-                    lobby.getGameFieldVariant(), "The game doesn't exist!", null);
+                    null, lobby.getGameFieldVariant(), "The game doesn't exist!", null);
             if (lobby.getGameStarted() && optionalGame.isPresent()) {
                 Game game = optionalGame.get();
                 boolean foundUser = false;
@@ -1048,14 +1137,16 @@ public class GameService extends AbstractService {
                         game.joinUser(user);
                         // send information to user
                         response = new JoinOnGoingGameResponse(game.getName(), request.getUser(), true,
-                                game.getMapGraph(), game.getUsersList(), game.getUsers(), lobby.getGameFieldVariant(),
+                                game.getBoardDescriptor(),
+                                game.getMapGraph().createBoardDelta(game.getBoardDescriptor()), game.getUsersList(),
+                                game.getUsers(), lobby.getGameFieldVariant(),
                                 "", game.getOwner());
                         sendToSpecificUser(request.getMessageContext().get(), response);
                         var gameMessage = new JoinOnGoingGameMessage(game.getName(), request.getUser(),
                                 game.getUsersList(), game.getUsers(), game.getOwner(),
                                 game.getDevelopmentCardDeck().getNumberOfDevCards());
                         sendToAllInGame(game.getName(), gameMessage);
-                        updateInventory(game);
+                        resyncInventory(game, user);
                         var currentTurnMessage = new NextTurnMessage(game.getName(),
                                 game.getUser(game.getTurn()).getUsername(), game.getTurn(), game.isStartingTurns());
                         sendToSpecificUserInGame(game, currentTurnMessage, request.getUser());
@@ -1064,7 +1155,7 @@ public class GameService extends AbstractService {
                     String reason = game.getTradeList().size() != 0 ? "A Trade is currently ongoing." :
                             "You are not registered in this game!";
                     response = new JoinOnGoingGameResponse(game.getName(), request.getUser(), false, null, null, null,
-                            lobby.getGameFieldVariant(), reason, null);
+                            null, lobby.getGameFieldVariant(), reason, null);
                     sendToSpecificUser(request.getMessageContext().get(), response);
 
                 }
@@ -1092,6 +1183,7 @@ public class GameService extends AbstractService {
      * @since 2021-03-26
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onEndTurnRequest(EndTurnRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
@@ -1107,8 +1199,8 @@ public class GameService extends AbstractService {
      * First check if the player for whom the turn should end is the turn player, there is currently no card to be played,
      * there is no trade ongoing, and either it's the starting turns or the dice were rolled this turn.
      * If everything checks out, call nextRound() for the game and distribute resources if the opening turns just ended.
-     * After that check if the current turn player is an AI and if it is roll the dice for it, and start a
-     * new thread for the AI
+     * After that check if the current turn player is an AI and if it is roll the dice for it, and start the turn
+     * of the AI
      *
      * @param game the game for which the turn is to be ended
      * @param user the user who wants to end his turn
@@ -1120,6 +1212,9 @@ public class GameService extends AbstractService {
                 .isEmpty() && (game.rolledDiceThisTurn() || game.isStartingTurns())) {
             try {
                 boolean priorGamePhase = game.isStartingTurns();
+                InventoryBroadcastStats stats = getInventoryBroadcastStats(game.getName());
+                LOG.debug("Inventory updates of game " + game.getName() + " " + stats);
+                stats.nextTurn();
                 game.nextRound();
                 if (priorGamePhase && !game.isStartingTurns()) {
                     distributeResources(game.getName());
@@ -1132,20 +1227,10 @@ public class GameService extends AbstractService {
                         RollDiceRequest rdr = new RollDiceRequest(game.getName(), game.getUser(game.getTurn()));
                         onRollDiceRequest(rdr);
                     }
-                    Thread aiThread = new Thread(() -> {
-                        try {
-                            startTurnForAI((GameDTO) game);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    });
-                    aiThread.start();
-                    if (joiningAIThreadsNeeded) {
-                        aiThread.join();
-                    }
+                    queueTurnForAI((GameDTO) game);
 
                 }
-            } catch (GameManagementException | InterruptedException e) {
+            } catch (GameManagementException e) {
                 LOG.debug(e);
                 LOG.debug("Sender " + user.getUsername() + " was not player with current turn");
             }
@@ -1153,6 +1238,34 @@ public class GameService extends AbstractService {
     }
 
 
+    /**
+     * Starts the turn of the AI once the current turn is completely processed
+     * <p>
+     * The turn of an AI ends inside of the actions of the AI, so starting the next turn right away would nest every
+     * turn of a game played only by AIs in the previous one. Instead the turns are started one after the other by the
+     * outermost call on this thread.
+     *
+     * @param game the game that the AI is supposed to play in
+     * @since 2026-10-18
+     */
+    private void queueTurnForAI(GameDTO game) {
+        Deque<GameDTO> pendingTurns = pendingAITurns.get();
+        if (pendingTurns != null) {
+            pendingTurns.add(game);
+            return;
+        }
+        pendingTurns = new ArrayDeque<>();
+        pendingTurns.add(game);
+        pendingAITurns.set(pendingTurns);
+        try {
+            while (!pendingTurns.isEmpty()) {
+                startTurnForAI(pendingTurns.poll());
+            }
+        } finally {
+            pendingAITurns.remove();
+        }
+    }
+
     /**
      * Method used to call the AI and start it's turn
      * <p>
@@ -1164,7 +1277,7 @@ public class GameService extends AbstractService {
      * @author Marc Hermes
      * @since 2021-05-11
      */
-    public void startTurnForAI(GameDTO game) throws InterruptedException {
+    public void startTurnForAI(GameDTO game) {
         if (game.isUsedForTest()) {
             game.setLastRolledDiceValue(5);
             TestAI testAI = new TestAI(game);
@@ -1195,19 +1308,17 @@ public class GameService extends AbstractService {
      * @since 2021-04-03
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onBuyDevelopmentCardRequest(BuyDevelopmentCardRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
             Game game = optionalGame.get();
             if (request.getUser().equals(game.getUser(game.getTurn())) && optionalGame.get().rolledDiceThisTurn()) {
                 Inventory inventory = game.getInventory(request.getUser());
-                if (inventory.wool.getNumber() >= 1 && inventory.ore.getNumber() >= 1 && inventory.grain
-                        .getNumber() >= 1) {
+                if (inventory.canAfford(Inventory.DEVELOPMENT_CARD_COST)) {
                     String devCard = game.getDevelopmentCardDeck().drawnCard();
                     if (devCard != null) {
-                        takeResource(game, request.getUser(), "Wool", 1);
-                        takeResource(game, request.getUser(), "Ore", 1);
-                        takeResource(game, request.getUser(), "Grain", 1);
+                        payToBank(game, request.getUser(), Inventory.DEVELOPMENT_CARD_COST);
                         inventory.incCardStack(devCard, 1);
                         game.rememberDevCardBoughtThisTurn(devCard, 1);
                         BuyDevelopmentCardMessage response = new BuyDevelopmentCardMessage(
@@ -1244,6 +1355,7 @@ public class GameService extends AbstractService {
      * @since 2021-05-01
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onPlayDevelopmentCardRequest(PlayDevelopmentCardRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
@@ -1361,7 +1473,8 @@ public class GameService extends AbstractService {
      * @since 2021-05-11
      */
     @Subscribe
-    public void onResolveDevelopmentCardRequest(ResolveDevelopmentCardRequest request) throws InterruptedException {
+    @AllowConcurrentEvents
+    public void onResolveDevelopmentCardRequest(ResolveDevelopmentCardRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
 
@@ -1581,20 +1694,42 @@ public class GameService extends AbstractService {
      * @author Iskander Yusupov, Anton Nikiforov
      * @since 2021-05-07
      * enhanced by René Meyer
+     * <p>
+     * enhanced by sending the compact views of the inventories, 2026-10-18
+     * <p>
+     * enhanced by only sending the inventories and fields that changed since the last update, 2026-10-18. The
+     * PrivateInventoryChangeMessage is only sent to players whose inventory changed, the PublicInventoryChangeMessage
+     * only if any inventory changed. What this saves is counted in the InventoryBroadcastStats of the game. Clients
+     * that need the complete inventories use an InventoryResyncRequest.
      * @since 2021-05-07
      * @since 2021-04-08
      */
     public void updateInventory(Game game) {
-        for (User user : game.getUsers()) {
-            HashMap<String, Integer> privateInventory = game.getInventory(user).getPrivateView();
-            PrivateInventoryChangeMessage privateInventoryChangeMessage = new PrivateInventoryChangeMessage(
-                    game.getName(), user, privateInventory);
-            sendToSpecificUserInGame(game, privateInventoryChangeMessage, user);
-        }
-        ArrayList<HashMap<String, Integer>> publicInventories = new ArrayList<>();
-        for (User user : game.getUsersList()) {
-            publicInventories.add(game.getInventory(user).getPublicView());
-            var inventory = game.getInventory(user);
+        ArrayList<User> players = game.getUsersList();
+        int[][] publicInventories = new int[players.size()][];
+        boolean publicInventoriesChanged = false;
+        int messagesSaved = 0;
+        int bytesSaved = 0;
+        for (int i = 0; i < publicInventories.length; i++) {
+            User user = players.get(i);
+            Inventory inventory = game.getInventory(user);
+            int[] privateInventory = inventory.flushPrivateViewDelta();
+            if (game.getUsers().contains(user)) {
+                int completeSize = WireBuffers.intArraySize(Inventory.viewDelta(null,
+                        inventory.getPrivateViewVector()));
+                if (privateInventory == null) {
+                    messagesSaved++;
+                    bytesSaved += completeSize;
+                } else {
+                    bytesSaved += completeSize - WireBuffers.intArraySize(privateInventory);
+                    sendToSpecificUserInGame(game, new PrivateInventoryChangeMessage(game.getName(), user,
+                            privateInventory), user);
+                }
+            }
+            publicInventories[i] = inventory.flushPublicViewDelta();
+            int completeSize = WireBuffers.intArraySize(Inventory.viewDelta(null, inventory.getPublicViewVector()));
+            bytesSaved += completeSize - WireBuffers.intArraySize(publicInventories[i]);
+            publicInventoriesChanged |= publicInventories[i] != null;
             // If user has 10 victory points, he wins and the Summary Screen gets shown for every user in the game.
             if (inventory.getVictoryPoints() >= 10) {
                 //Retrieve all stats
@@ -1609,9 +1744,62 @@ public class GameService extends AbstractService {
                 LOG.debug("User " + user.getUsername() + " has at least 10 victory points and won.");
             }
         }
-        PublicInventoryChangeMessage publicInventoryChangeMessage = new PublicInventoryChangeMessage(game.getName(),
-                publicInventories);
-        sendToAllInGame(game.getName(), publicInventoryChangeMessage);
+        if (publicInventoriesChanged) {
+            sendToAllInGame(game.getName(), new PublicInventoryChangeMessage(game.getName(), publicInventories));
+        } else {
+            messagesSaved++;
+        }
+        getInventoryBroadcastStats(game.getName()).record(messagesSaved, bytesSaved);
+    }
+
+    /**
+     * Sends the complete inventories of a game to a player
+     * <p>
+     * The player receives a complete PrivateInventoryChangeMessage of the own inventory and a complete
+     * PublicInventoryChangeMessage. What the other players were sent last is not changed by this.
+     *
+     * @param game the game
+     * @param user the player who needs the inventories
+     * @since 2026-10-18
+     */
+    public void resyncInventory(Game game, User user) {
+        sendToSpecificUserInGame(game, new PrivateInventoryChangeMessage(game.getName(), user,
+                Inventory.viewDelta(null, game.getInventory(user).getPrivateViewVector())), user);
+        ArrayList<User> players = game.getUsersList();
+        int[][] publicInventories = new int[players.size()][];
+        for (int i = 0; i < publicInventories.length; i++) {
+            publicInventories[i] = Inventory.viewDelta(null, game.getInventory(players.get(i)).getPublicViewVector());
+        }
+        sendToSpecificUserInGame(game, new PublicInventoryChangeMessage(game.getName(), publicInventories), user);
+    }
+
+    /**
+     * Handles InventoryResyncRequests found on the EventBus
+     * <p>
+     * Sends the complete inventories of the game to the player who asked for them.
+     *
+     * @param request the InventoryResyncRequest found on the EventBus
+     * @see #resyncInventory(Game, User)
+     * @since 2026-10-18
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void onInventoryResyncRequest(InventoryResyncRequest request) {
+        Optional<Game> optionalGame = gameManagement.getGame(request.getName());
+        if (optionalGame.isPresent() && optionalGame.get().getUsers().contains(request.getUser())) {
+            resyncInventory(optionalGame.get(), request.getUser());
+        }
+    }
+
+    /**
+     * Returns what sending only the changed inventories saved in a game
+     *
+     * @param gameName the name of the game
+     * @return the InventoryBroadcastStats of the game
+     * @since 2026-10-18
+     */
+    public InventoryBroadcastStats getInventoryBroadcastStats(String gameName) {
+        return inventoryBroadcastStats.computeIfAbsent(gameName, name -> new InventoryBroadcastStats());
     }
 
     /**
@@ -1631,6 +1819,9 @@ public class GameService extends AbstractService {
      * If a LogoutRequest is detected on the EventBus, this method is called. It gets all games from the GameManagement
      * and loops through them. If the user is part of a game, he gets removed from it. If he is the last user in the
      * game, the game gets dropped. Finally we log how many games the user left.
+     * <p>
+     * enhanced by the mailboxes, 2026-10-18: every game is left in its own mailbox, so the game is not changed
+     * concurrently with its requests
      *
      * @param request LogoutRequest found on the eventBus
      * @author René Meyer, Sergej Tulnev
@@ -1640,7 +1831,8 @@ public class GameService extends AbstractService {
      * @since 2021-04-08
      */
     @Subscribe
-    public void onLogoutRequest(LogoutRequest request) throws InterruptedException {
+    @AllowConcurrentEvents
+    public void onLogoutRequest(LogoutRequest request) {
         if (request.getSession().isPresent()) {
             Session session = request.getSession().get();
             var userToLogOut = session.getUser();
@@ -1662,7 +1854,8 @@ public class GameService extends AbstractService {
                         var gameLeaveUserRequest = new GameLeaveUserRequest(game.getName(), (UserDTO) userToLogOut);
                         if (request.getMessageContext().isPresent()) {
                             gameLeaveUserRequest.setMessageContext(request.getMessageContext().get());
-                            this.onGameLeaveUserRequest(gameLeaveUserRequest);
+                            serverTimer.execute(game.getName(),
+                                    () -> onGameLeaveUserRequest(gameLeaveUserRequest));
                         }
                     }
                     i++;
@@ -1683,6 +1876,8 @@ public class GameService extends AbstractService {
      * the method sends TradeOfferInformBiddersMessage to the other users in the game, informing about them new trade
      * if the tradeCOde does exists, the method adds a new bidder to the specified trade
      * if all users, who are not the seller) have send their bid, the method informs the seller about the the offers(TradeInformSellerAboutBidsMessage)
+     * <p>
+     * enhanced by checking the offer as a resource vector, 2026-10-18
      *
      * @param request TradeItemRequest
      * @author Alexander Losse, Ricardo Mook
@@ -1694,23 +1889,16 @@ public class GameService extends AbstractService {
      * @since 2021-04-11
      */
     @Subscribe
-    public void onTradeItemRequest(TradeItemRequest request) throws InterruptedException {
+    @AllowConcurrentEvents
+    public void onTradeItemRequest(TradeItemRequest request) {
         LOG.debug("Got message " + request.getUser().getUsername());
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
 
         if (optionalGame.isPresent()) {
             Game game = optionalGame.get();
 
-            boolean numberOfCardsCorrect = true;
-
-            for (TradeItem tradeItem : request.getTradeItems()) {
-                boolean notEnoughInInventoryCheck = tradeItem.getCount() > game.getInventory(request.getUser())
-                        .getSpecificResourceAmount(tradeItem.getName());
-                if (tradeItem.getCount() < 0 || notEnoughInInventoryCheck) {
-                    numberOfCardsCorrect = false;
-                    break;
-                }
-            }
+            int[] offer = toResourceVector(request.getTradeItems());
+            boolean numberOfCardsCorrect = offer != null && game.getInventory(request.getUser()).canAfford(offer);
 
             if (numberOfCardsCorrect) {
                 String tradeCode = request.getTradeCode();
@@ -1786,12 +1974,16 @@ public class GameService extends AbstractService {
      * TradeEndedMessage is send to all player in game
      * the specified trade is removed from the game
      *
+     * <p>
+     * enhanced by exchanging the items as resource vectors, 2026-10-18
+     *
      * @param request TradeChoiceRequest containing the choice the seller made
      * @author Alexander Losse, Ricardo Mook
      * Enhanced by Philip Nitsche
      * @since 2021-04-13
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onTradeChoiceRequest(TradeChoiceRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
@@ -1803,13 +1995,13 @@ public class GameService extends AbstractService {
                 Inventory inventorySeller = game.getInventory(trade.getSeller());
                 Inventory inventoryBidder = game.getInventory(request.getUser());
 
-                for (TradeItem soldItem : trade.getSellingItems()) {
-                    inventorySeller.decCardStack(soldItem.getName(), soldItem.getCount());
-                    inventoryBidder.incCardStack(soldItem.getName(), soldItem.getCount());
-                }
-                for (TradeItem bidItem : trade.getBids().get(request.getUser())) {
-                    inventorySeller.incCardStack(bidItem.getName(), bidItem.getCount());
-                    inventoryBidder.decCardStack(bidItem.getName(), bidItem.getCount());
+                int[] sold = toResourceVector(trade.getSellingItems());
+                int[] bid = toResourceVector(trade.getBids().get(request.getUser()));
+                if (sold != null && bid != null) {
+                    inventorySeller.subtractResources(sold);
+                    inventoryBidder.addResources(sold);
+                    inventorySeller.addResources(bid);
+                    inventoryBidder.subtractResources(bid);
                 }
             }
             try {
@@ -1825,6 +2017,31 @@ public class GameService extends AbstractService {
         }
     }
 
+    /**
+     * Sums up trade items to a resource vector
+     *
+     * @param tradeItems the items of a trade or a bid
+     * @return the number of cards of every resource, indexed by the Resource ordinals, or null if an item has a
+     * negative count or a count for something that is not a resource
+     * @since 2026-10-18
+     */
+    private int[] toResourceVector(List<TradeItem> tradeItems) {
+        if (tradeItems == null) {
+            return null;
+        }
+        int[] vector = new int[Resource.COUNT];
+        for (TradeItem tradeItem : tradeItems) {
+            if (tradeItem.getCount() != 0) {
+                Resource resource = Resource.fromName(tradeItem.getName());
+                if (tradeItem.getCount() < 0 || resource == null) {
+                    return null;
+                }
+                vector[resource.ordinal()] += tradeItem.getCount();
+            }
+        }
+        return vector;
+    }
+
     /**
      * sends tradeStartedMessage to the seller when his request to start a trade is handled by the server
      *
@@ -1834,6 +2051,7 @@ public class GameService extends AbstractService {
      * @since 2021-04-11
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onTradeStartedRequest(TradeStartRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
@@ -1860,6 +2078,7 @@ public class GameService extends AbstractService {
      * @since 2021-05-29
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onBankRequest(BankRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
@@ -1974,6 +2193,7 @@ public class GameService extends AbstractService {
      * @since 2021-05-29
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onBankBuyRequest(BankBuyRequest request) {
         Optional<Game> optionalGame = gameManagement.getGame(request.getName());
         if (optionalGame.isPresent()) {
@@ -2012,6 +2232,7 @@ public class GameService extends AbstractService {
      * @since 2021-05-01
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onDrawRandomResourceFromPlayerRequest(DrawRandomResourceFromPlayerRequest
                                                               drawRandomResourceFromPlayerRequest) {
         Optional<Game> optionalGame = gameManagement.getGame(drawRandomResourceFromPlayerRequest.getName());
@@ -2057,7 +2278,7 @@ public class GameService extends AbstractService {
      * @author Marius Birk
      * @since 2021-05-13
      */
-    public void tooMuchResources(Game game) throws InterruptedException {
+    public void tooMuchResources(Game game) {
         for (User user : game.getUsersList()) {
             if (game.getInventory(user).sumResource() > 7) {
                 TooMuchResourceCardsMessage tooMuchResourceCardsMessage;
@@ -2122,4 +2343,15 @@ public class GameService extends AbstractService {
     public void setJoiningAIThreadsNeeded(boolean joiningAIThreadsNeeded) {
         this.joiningAIThreadsNeeded = joiningAIThreadsNeeded;
     }
+
+    /**
+     * Getter for the AITurnScheduler pacing the actions of the AI
+     *
+     * @return the AITurnScheduler or null if the actions of the AI are to be run right away
+     * @see de.uol.swp.server.AI.AITurnScheduler
+     * @since 2026-10-18
+     */
+    public AITurnScheduler getAITurnScheduler() {
+        return joiningAIThreadsNeeded ? null : aiTurnScheduler;
+    }
 }
@@ -0,0 +1,90 @@
+package de.uol.swp.server.game;
+
+/**
+ * Counts what sending only the changed inventories saves in a game
+ * <p>
+ * Every time the GameService updates the inventories it records how many inventory messages it did not have to send
+ * and how many bytes of inventory data the deltas saved compared to the complete views. The bytes are the ones of the
+ * compact encoding of the views, the name and user of the messages are not counted. The counters of the current turn
+ * are reset when the turn ends, the totals are kept for the whole game.
+ *
+ * @see GameService#updateInventory(de.uol.swp.common.game.Game)
+ * @since 2026-10-18
+ */
+public class InventoryBroadcastStats {
+
+    private int turnMessagesSaved;
+    private int turnBytesSaved;
+    private long totalMessagesSaved;
+    private long totalBytesSaved;
+
+    /**
+     * Records the savings of an update of the inventories
+     *
+     * @param messagesSaved the number of messages that were not sent
+     * @param bytesSaved    the number of bytes that were not sent
+     * @since 2026-10-18
+     */
+    synchronized void record(int messagesSaved, int bytesSaved) {
+        turnMessagesSaved += messagesSaved;
+        turnBytesSaved += bytesSaved;
+        totalMessagesSaved += messagesSaved;
+        totalBytesSaved += bytesSaved;
+    }
+
+    /**
+     * Resets the counters of the current turn
+     *
+     * @since 2026-10-18
+     */
+    synchronized void nextTurn() {
+        turnMessagesSaved = 0;
+        turnBytesSaved = 0;
+    }
+
+    /**
+     * Getter for the number of messages saved in the current turn
+     *
+     * @return the number of messages
+     * @since 2026-10-18
+     */
+    public synchronized int getTurnMessagesSaved() {
+        return turnMessagesSaved;
+    }
+
+    /**
+     * Getter for the number of bytes saved in the current turn
+     *
+     * @return the number of bytes
+     * @since 2026-10-18
+     */
+    public synchronized int getTurnBytesSaved() {
+        return turnBytesSaved;
+    }
+
+    /**
+     * Getter for the number of messages saved in the whole game
+     *
+     * @return the number of messages
+     * @since 2026-10-18
+     */
+    public synchronized long getTotalMessagesSaved() {
+        return totalMessagesSaved;
+    }
+
+    /**
+     * Getter for the number of bytes saved in the whole game
+     *
+     * @return the number of bytes
+     * @since 2026-10-18
+     */
+    public synchronized long getTotalBytesSaved() {
+        return totalBytesSaved;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "saved " + turnMessagesSaved + " messages and " + turnBytesSaved + " bytes this turn, "
+                + totalMessagesSaved + " messages and " + totalBytesSaved + " bytes in total";
+    }
+}
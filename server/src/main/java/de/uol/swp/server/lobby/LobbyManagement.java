@@ -1,8 +1,8 @@
 package de.uol.swp.server.lobby;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.common.lobby.dto.LobbyDTO;
@@ -11,6 +11,8 @@ import de.uol.swp.common.user.User;
 /**
  * Manages creation, deletion and storing of lobbies
  * <p>
+ * enhanced by the mailboxes, 2026-10-18: the lobbies are stored in a ConcurrentHashMap, since the requests of
+ * different lobbies are processed in parallel
  *
  * @author Marco Grawunder
  * @see de.uol.swp.common.lobby.Lobby
@@ -19,7 +21,7 @@ import de.uol.swp.common.user.User;
  */
 public class LobbyManagement {
 
-    private final Map<String, Lobby> lobbies = new HashMap<>();
+    private final Map<String, Lobby> lobbies = new ConcurrentHashMap<>();
 
     /**
      * Creates a new lobby and adds it to the list
@@ -35,10 +37,9 @@ public class LobbyManagement {
      * @since 2019-10-08
      */
     public void createLobby(String name, User owner) {
-        if (lobbies.containsKey(name)) {
+        if (lobbies.putIfAbsent(name, new LobbyDTO(name, owner)) != null) {
             throw new IllegalArgumentException("Lobby name " + name + " already exists!");
         }
-        lobbies.put(name, new LobbyDTO(name, owner));
     }
 
     /**
@@ -55,12 +56,11 @@ public class LobbyManagement {
      * @since 2021-06-05
      */
     public void createProtectedLobby(String name, User owner, String password) {
-        if (lobbies.containsKey(name)) {
-            throw new IllegalArgumentException("Lobby name " + name + " already exists!");
-        }
         var lobby = new LobbyDTO(name, owner);
         lobby.setPassword(password);
-        lobbies.put(name, lobby);
+        if (lobbies.putIfAbsent(name, lobby) != null) {
+            throw new IllegalArgumentException("Lobby name " + name + " already exists!");
+        }
     }
 
     /**
@@ -74,10 +74,9 @@ public class LobbyManagement {
      * @since 2019-10-08
      */
     public void dropLobby(String name) {
-        if (!lobbies.containsKey(name)) {
+        if (lobbies.remove(name) == null) {
             throw new IllegalArgumentException("Lobby name " + name + " not found!");
         }
-        lobbies.remove(name);
     }
 
     /**
@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import com.google.inject.Inject;
@@ -44,11 +45,14 @@ import de.uol.swp.common.user.response.lobby.LobbyJoinedSuccessfulResponse;
 import de.uol.swp.common.user.response.lobby.LobbyLeftSuccessfulResponse;
 import de.uol.swp.common.user.response.lobby.WrongLobbyPasswordResponse;
 import de.uol.swp.server.AbstractService;
+import de.uol.swp.server.communication.ServerTimer;
 import de.uol.swp.server.usermanagement.AuthenticationService;
 
 /**
  * Handles the lobby requests send by the users
  * <p>
+ * enhanced by the mailboxes, 2026-10-18: the requests of a lobby are processed one after another in the mailbox of
+ * the lobby, so the handlers allow concurrent events and the requests of different lobbies are processed in parallel
  *
  * @author Marco Grawunder
  * @since 2019-10-08
@@ -60,6 +64,7 @@ public class LobbyService extends AbstractService {
     private static final Logger LOG = LogManager.getLogger(LobbyService.class);
     private final LobbyManagement lobbyManagement;
     private final AuthenticationService authenticationService;
+    private final ServerTimer serverTimer;
 
     /**
      * Constructor
@@ -71,12 +76,30 @@ public class LobbyService extends AbstractService {
      * @author Marco Grawunder
      * @since 2019-10-08
      */
-    @Inject
     public LobbyService(LobbyManagement lobbyManagement, AuthenticationService authenticationService,
                         EventBus eventBus) {
+        this(lobbyManagement, authenticationService, eventBus, new ServerTimer());
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * The lobbies left by a logout are left in their mailboxes, handed over by the given ServerTimer.
+     *
+     * @param lobbyManagement       The management class for creating, storing and deleting lobbies
+     * @param authenticationService the user management
+     * @param eventBus              the server-wide EventBus
+     * @param serverTimer           the ServerTimer of the server
+     * @see de.uol.swp.server.communication.ServerTimer#execute(String, Runnable)
+     * @since 2026-10-18
+     */
+    @Inject
+    public LobbyService(LobbyManagement lobbyManagement, AuthenticationService authenticationService,
+                        EventBus eventBus, ServerTimer serverTimer) {
         super(eventBus);
         this.lobbyManagement = lobbyManagement;
         this.authenticationService = authenticationService;
+        this.serverTimer = serverTimer;
     }
 
 
@@ -107,6 +130,7 @@ public class LobbyService extends AbstractService {
      * @since 2019-10-08
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onCreateLobbyRequest(CreateLobbyRequest createLobbyRequest) {
         if (lobbyManagement.getLobby(createLobbyRequest.getName()).isEmpty()) {
             if (createLobbyRequest.getPassword() == null || createLobbyRequest.getPassword().isEmpty()) {
@@ -157,6 +181,7 @@ public class LobbyService extends AbstractService {
      * @since 2021-01-22
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onLobbyJoinUserRequest(LobbyJoinUserRequest lobbyJoinUserRequest) {
         Optional<Lobby> lobby = lobbyManagement.getLobby(lobbyJoinUserRequest.getName());
         if (lobby.isEmpty()) {
@@ -229,6 +254,7 @@ public class LobbyService extends AbstractService {
      * @since 2019-10-08
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onLobbyLeaveUserRequest(LobbyLeaveUserRequest lobbyLeaveUserRequest) {
         Optional<Lobby> lobby = lobbyManagement.getLobby(lobbyLeaveUserRequest.getName());
         if (lobby.isPresent()) {
@@ -271,6 +297,7 @@ public class LobbyService extends AbstractService {
      * @since 2020-12-02
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onRetrieveAllThisLobbyUsersRequest(RetrieveAllThisLobbyUsersRequest retrieveAllThisLobbyUsersRequest) {
         Optional<Lobby> lobby = lobbyManagement.getLobby(retrieveAllThisLobbyUsersRequest.getName());
         if (lobby.isPresent()) {
@@ -333,6 +360,7 @@ public class LobbyService extends AbstractService {
      * @since 2020-04-12
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onRetrieveAllLobbiesRequest(RetrieveAllLobbiesRequest msg) {
         AllCreatedLobbiesResponse response = new AllCreatedLobbiesResponse(
                 this.lobbyManagement.getAllLobbies().values());
@@ -348,6 +376,9 @@ public class LobbyService extends AbstractService {
      * If the user is part of a lobby, he gets removed from it.
      * If he is the last user in the lobby, the lobby gets dropped.
      * Finally we log how many lobbies the user left.
+     * <p>
+     * enhanced by the mailboxes, 2026-10-18: every lobby is left in its own mailbox, so the lobby is not changed
+     * concurrently with the requests of its game
      *
      * @param msg the LogoutRequest
      * @author René Meyer, Sergej Tulnev
@@ -356,6 +387,7 @@ public class LobbyService extends AbstractService {
      * @since 2021-01-22
      */
     @Subscribe
+    @AllowConcurrentEvents
     public void onLogoutRequest(LogoutRequest msg) {
         if (msg.getSession().isPresent()) {
             Session session = msg.getSession().get();
@@ -378,7 +410,7 @@ public class LobbyService extends AbstractService {
                         var lobbyLeaveRequest = new LobbyLeaveUserRequest(lobby.getName(), (UserDTO) userToLogOut);
                         if (msg.getMessageContext().isPresent()) {
                             lobbyLeaveRequest.setMessageContext(msg.getMessageContext().get());
-                            this.onLobbyLeaveUserRequest(lobbyLeaveRequest);
+                            serverTimer.execute(lobby.getName(), () -> onLobbyLeaveUserRequest(lobbyLeaveRequest));
                         }
                     }
                     i++;
@@ -1,5 +1,8 @@
 package de.uol.swp.server.message;
 
+import java.util.Optional;
+
+import de.uol.swp.common.user.Session;
 import de.uol.swp.common.user.User;
 
 /**
@@ -16,6 +19,7 @@ import de.uol.swp.common.user.User;
 public class ClientAuthorizedMessage extends AbstractServerInternalMessage {
 
     private final User user;
+    private Session replacedSession;
 
     /**
      * Constructor
@@ -43,4 +47,27 @@ public class ClientAuthorizedMessage extends AbstractServerInternalMessage {
     public User getUser() {
         return user;
     }
+
+    /**
+     * Setter for the replaced session attribute
+     *
+     * @param replacedSession the session of the user that was replaced by this login, or null
+     * @since 2026-10-18
+     */
+    public void setReplacedSession(Session replacedSession) {
+        this.replacedSession = replacedSession;
+    }
+
+    /**
+     * Getter for the replaced session attribute
+     * <p>
+     * A user whose session waited to be resumed may log in again, the waiting session is replaced then.
+     *
+     * @return Optional containing the session replaced by this login
+     * @see de.uol.swp.server.communication.SessionResumer
+     * @since 2026-10-18
+     */
+    public Optional<Session> getReplacedSession() {
+        return Optional.ofNullable(replacedSession);
+    }
 }
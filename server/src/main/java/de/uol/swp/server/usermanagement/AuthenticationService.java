@@ -2,13 +2,11 @@ package de.uol.swp.server.usermanagement;
 
 import javax.security.auth.login.LoginException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
@@ -31,8 +29,10 @@ import de.uol.swp.common.user.request.RetrieveAllOnlineUsersRequest;
 import de.uol.swp.common.user.response.AllOnlineUsersResponse;
 import de.uol.swp.common.user.response.PingResponse;
 import de.uol.swp.server.AbstractService;
+import de.uol.swp.server.communication.SessionResumer;
 import de.uol.swp.server.communication.UUIDSession;
 import de.uol.swp.server.message.ClientAuthorizedMessage;
+import de.uol.swp.server.message.ClientDisconnectedMessage;
 import de.uol.swp.server.message.ServerExceptionMessage;
 import de.uol.swp.server.message.ServerInternalMessage;
 
@@ -51,10 +51,14 @@ public class AuthenticationService extends AbstractService {
     /**
      * The list of current logged in users
      */
-    final private Map<Session, User> userSessions = new HashMap<>();
+    final private Map<Session, User> userSessions = new ConcurrentHashMap<>();
+
+    /**
+     * Inverse index of userSessions, so the Session of a user is found without a scan
+     */
+    final private Map<User, Session> sessionsByUser = new ConcurrentHashMap<>();
     private final UserManagement userManagement;
-    private final Timer timer = new Timer();
-    private final ActiveUserList activeUserList = new ActiveUserList();
+    private final SessionResumer sessionResumer;
 
     /**
      * Constructor
@@ -65,11 +69,26 @@ public class AuthenticationService extends AbstractService {
      * @see de.uol.swp.server.usermanagement.UserManagement
      * @since 2019-08-30
      */
-    @Inject
     public AuthenticationService(EventBus bus, UserManagement userManagement) {
+        this(bus, userManagement, null);
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * A user whose session waits to be resumed can log in again, ending that session.
+     *
+     * @param bus            The EventBus used throughout the entire server
+     * @param userManagement object of the UserManagement to use
+     * @param sessionResumer the SessionResumer keeping the sessions of lost connections, may be null
+     * @see de.uol.swp.server.communication.SessionResumer
+     * @since 2026-10-18
+     */
+    @Inject
+    public AuthenticationService(EventBus bus, UserManagement userManagement, SessionResumer sessionResumer) {
         super(bus);
         this.userManagement = userManagement;
-        startTimerForActiveUserList();
+        this.sessionResumer = sessionResumer;
     }
 
     /**
@@ -83,9 +102,7 @@ public class AuthenticationService extends AbstractService {
      * @since 2019-09-04
      */
     public Optional<Session> getSession(User user) {
-        Optional<Map.Entry<Session, User>> entry = userSessions.entrySet().stream()
-                .filter(e -> e.getValue().equals(user)).findFirst();
-        return entry.map(Map.Entry::getKey);
+        return user == null ? Optional.empty() : Optional.ofNullable(sessionsByUser.get(user));
     }
 
     /**
@@ -99,11 +116,13 @@ public class AuthenticationService extends AbstractService {
      * @since 2019-10-08
      */
     public List<Session> getSessions(Set<User> users) {
-        List<Session> sessions = new ArrayList<>();
-        users.forEach(u -> {
-            Optional<Session> session = getSession(u);
-            session.ifPresent(sessions::add);
-        });
+        List<Session> sessions = new ArrayList<>(users.size());
+        for (User user : users) {
+            Session session = user == null ? null : sessionsByUser.get(user);
+            if (session != null) {
+                sessions.add(session);
+            }
+        }
         return sessions;
     }
 
@@ -116,6 +135,11 @@ public class AuthenticationService extends AbstractService {
      * is posted on the EventBus otherwise a ServerExceptionMessage gets posted
      * there.
      * If a user is already logged in, a ServerExceptionMessage is posted on the bus. (René, Sergej)
+     * <p>
+     * enhanced by the SessionResumer, 2026-10-18: a user whose session waits to be
+     * resumed may log in again. Only after the password was checked, the waiting
+     * session is ended, so a failed login leaves it resumable. The ended session is
+     * handed over in the ClientAuthorizedMessage.
      *
      * @param msg the LoginRequest
      * @author René Meyer, Sergej Tulnev
@@ -134,13 +158,19 @@ public class AuthenticationService extends AbstractService {
         try {
             // Beim UserDTO Objekt muss nur der Username übergeben werden, da die equals() Methode nur checkt ob der Username übereinstimmt
             var loggedInUser = new UserDTO(msg.getUsername(), "", "");
-            if (!userManagement.isLoggedIn(loggedInUser)) {
+            boolean loggedIn = userManagement.isLoggedIn(loggedInUser);
+            if (!loggedIn || sessionResumer != null && sessionResumer.isWaiting(msg.getUsername())) {
+                // a wrong password fails here, before a waiting session of the user is touched
                 User newUser = userManagement.login(msg.getUsername(), msg.getPassword());
-                returnMessage = new ClientAuthorizedMessage(newUser);
+                ClientAuthorizedMessage authorizedMessage = new ClientAuthorizedMessage(newUser);
+                if (loggedIn) {
+                    authorizedMessage.setReplacedSession(endWaitingSession(newUser));
+                }
                 Session newSession = UUIDSession.create(newUser);
                 userSessions.put(newSession, newUser);
-                activeUserList.addActiveUser(newUser);
-                returnMessage.setSession(newSession);
+                sessionsByUser.put(newUser, newSession);
+                authorizedMessage.setSession(newSession);
+                returnMessage = authorizedMessage;
             } else {
                 LOG.debug("User " + msg.getUsername() + " already logged in!");
                 returnMessage = new ServerExceptionMessage(
@@ -156,6 +186,28 @@ public class AuthenticationService extends AbstractService {
         post(returnMessage);
     }
 
+    /**
+     * Ends the session of a user that waits to be resumed, as the user logged in again
+     * <p>
+     * The other clients are told that the user logged out, as if the session had expired.
+     *
+     * @param user the user logging in again
+     * @return the ended session
+     * @throws LoginException if the session was resumed meanwhile
+     * @since 2026-10-18
+     */
+    private Session endWaitingSession(User user) throws LoginException {
+        Session waiting = sessionResumer.expire(user.getUsername());
+        if (waiting == null) {
+            throw new LoginException("User " + user.getUsername() + " already logged in!");
+        }
+        userSessions.remove(waiting);
+        sessionsByUser.remove(user, waiting);
+        LOG.debug("Ended the waiting session of " + user.getUsername() + " for a new login");
+        post(new UserLoggedOutMessage(user.getUsername()));
+        return waiting;
+    }
+
     /**
      * Handles LogoutRequests found on the EventBus
      * <p>
@@ -184,8 +236,8 @@ public class AuthenticationService extends AbstractService {
                 }
 
                 userManagement.logout(userToLogout);
-                activeUserList.removeActiveUser(userToLogout);
                 userSessions.remove(session);
+                sessionsByUser.remove(userToLogout, session);
 
                 ServerMessage returnMessage = new UserLoggedOutMessage(userToLogout.getUsername());
                 post(returnMessage);
@@ -214,12 +266,35 @@ public class AuthenticationService extends AbstractService {
         post(response);
     }
 
+    /**
+     * Handles ClientDisconnectedMessages found on the EventBus
+     * <p>
+     * If the connection of a logged in client was closed, e.g. because its
+     * heartbeat timed out, its user is logged out like with a LogoutRequest.
+     *
+     * @param msg the ClientDisconnectedMessage found on the EventBus
+     * @see de.uol.swp.server.message.ClientDisconnectedMessage
+     * @see de.uol.swp.common.codec.HeartbeatHandler
+     * @since 2026-10-18
+     */
+    @Subscribe
+    public void onClientDisconnectedMessage(ClientDisconnectedMessage msg) {
+        if (msg.getSession().isPresent()) {
+            LogoutRequest logoutRequest = new LogoutRequest();
+            logoutRequest.setSession(msg.getSession().get());
+            onLogoutRequest(logoutRequest);
+        }
+    }
+
     /**
      * Handles PingRequests found on the EventBus
      * <p>
      * If a PingRequest is detected on the EventBus, this method is called.
      * It sends a PingResponse back to the User.
-     * It tells the ActiveUserList the last send Ping time from this User.
+     * <p>
+     * enhanced by the HeartbeatHandler, 2026-10-18: whether a client is still
+     * connected is decided by the heartbeat of its channel, the request is only
+     * answered
      *
      * @param pingRequest The PingRequest found on the EventBus
      * @author Philip Nitsche
@@ -228,7 +303,6 @@ public class AuthenticationService extends AbstractService {
      */
     @Subscribe
     private void onPingRequest(PingRequest pingRequest) {
-        activeUserList.updateActiveUser(pingRequest.getUser(), pingRequest.getTime());
         ResponseMessage returnMessage;
         returnMessage = new PingResponse(pingRequest.getUser().getUsername(), pingRequest.getTime());
         if (pingRequest.getMessageContext().isPresent()) {
@@ -237,32 +311,4 @@ public class AuthenticationService extends AbstractService {
         }
     }
 
-    /**
-     * Starts a Ping Timer
-     * <p>
-     * Starts a Ping Timer which checks every 60 seconds if the Users
-     * are still Online with a start delay of 30 seconds.
-     *
-     * @author Philip, Marc
-     * @since 2021-01-22
-     */
-    public void startTimerForActiveUserList() {
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                List<User> userToLogout = activeUserList.checkActiveUser();
-                if (userToLogout.size() >= 1) {
-                    for (int i = 0; i < userToLogout.size(); i++) {
-                        Optional<Session> session = getSession(userToLogout.get(i));
-                        if (session.isPresent()) {
-                            LogoutRequest logoutRequest = new LogoutRequest();
-                            logoutRequest.setSession(session.get());
-                            onLogoutRequest(logoutRequest);
-                        }
-                    }
-                }
-            }
-        }, 30000, 60000);
-    }
-
 }
@@ -0,0 +1,356 @@
+package de.uol.swp.server.usermanagement.store;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded pool of database connections, each caching its prepared statements
+ * <p>
+ * At most {@value #SIZE_PROPERTY} connections are open at once. A thread
+ * borrowing a connection while all are in use waits up to
+ * {@value #ACQUIRE_TIMEOUT_PROPERTY} milliseconds for one to be returned.
+ * Returned connections are kept open and handed out again, the most recently
+ * used first, until they were idle for {@value #IDLE_TIMEOUT_PROPERTY}
+ * milliseconds. Every connection keeps up to {@value #STATEMENT_CACHE_PROPERTY}
+ * prepared statements, so a statement used before is neither sent to nor parsed
+ * by the database again.
+ *
+ * @see de.uol.swp.server.usermanagement.store.SQLBasedUserStore
+ * @since 2026-10-18
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * System property with the maximum number of open connections
+     */
+    public static final String SIZE_PROPERTY = "swp.db.poolSize";
+
+    /**
+     * System property with the milliseconds to wait for a free connection
+     */
+    public static final String ACQUIRE_TIMEOUT_PROPERTY = "swp.db.acquireTimeoutMillis";
+
+    /**
+     * System property with the milliseconds after which an unused connection is closed
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = "swp.db.idleTimeoutMillis";
+
+    /**
+     * System property with the number of prepared statements cached per connection
+     */
+    public static final String STATEMENT_CACHE_PROPERTY = "swp.db.statementCacheSize";
+
+    private static final Logger LOG = LogManager.getLogger(ConnectionPool.class);
+
+    /**
+     * Connections idle for longer are checked before they are handed out again
+     */
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 10_000;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Opens a new connection to the database
+     *
+     * @since 2026-10-18
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        /**
+         * Opens a new connection
+         *
+         * @return the connection, ready to prepare statements
+         * @throws SQLException if the database cannot be reached
+         * @since 2026-10-18
+         */
+        Connection connect() throws SQLException;
+    }
+
+    private final ConnectionFactory factory;
+    private final long acquireTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final int statementCacheSize;
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder statementsPrepared = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param factory              the ConnectionFactory opening the connections
+     * @param maxSize              the maximum number of open connections
+     * @param acquireTimeoutMillis the milliseconds to wait for a free connection
+     * @param idleTimeoutMillis    the milliseconds after which an unused connection is closed
+     * @param statementCacheSize   the number of prepared statements cached per connection
+     * @throws IllegalArgumentException if a value is out of range
+     * @since 2026-10-18
+     */
+    public ConnectionPool(ConnectionFactory factory, int maxSize, long acquireTimeoutMillis, long idleTimeoutMillis,
+                          int statementCacheSize) {
+        if (maxSize < 1 || acquireTimeoutMillis < 0 || idleTimeoutMillis < 0 || statementCacheSize < 0) {
+            throw new IllegalArgumentException("invalid connection pool: " + maxSize + " connections, acquire "
+                    + acquireTimeoutMillis + " ms, idle " + idleTimeoutMillis + " ms, " + statementCacheSize
+                    + " statements");
+        }
+        this.factory = factory;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Creates a pool configured by the system properties
+     * <p>
+     * Without them, up to 8 connections are opened, a free one is awaited for 5
+     * seconds, unused ones are closed after 10 minutes and 32 statements are
+     * cached per connection.
+     *
+     * @param factory the ConnectionFactory opening the connections
+     * @return the configured ConnectionPool
+     * @since 2026-10-18
+     */
+    public static ConnectionPool fromSystemProperties(ConnectionFactory factory) {
+        return new ConnectionPool(factory, Integer.getInteger(SIZE_PROPERTY, 8),
+                Long.getLong(ACQUIRE_TIMEOUT_PROPERTY, 5000), Long.getLong(IDLE_TIMEOUT_PROPERTY, 600_000),
+                Integer.getInteger(STATEMENT_CACHE_PROPERTY, 32));
+    }
+
+    /**
+     * Borrows a connection, to be returned by closing it
+     * <p>
+     * Hands out an idle connection if there is one, else opens a new one if the
+     * pool is not full, else waits for one to be returned.
+     *
+     * @return the PooledConnection
+     * @throws SQLTimeoutException if no connection was free within the acquire timeout
+     * @throws SQLException        if the pool is closed, or a new connection cannot be opened
+     * @since 2026-10-18
+     */
+    public PooledConnection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("The connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("No database connection free within " + acquireTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        try {
+            PooledConnection pooled;
+            while ((pooled = pollIdle()) != null) {
+                if (isUsable(pooled)) {
+                    return pooled;
+                }
+                pooled.closeQuietly();
+            }
+            Connection connection = factory.connect();
+            connectionsOpened.increment();
+            LOG.debug("Opened database connection " + connectionsOpened.sum());
+            return new PooledConnection(connection);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private synchronized PooledConnection pollIdle() {
+        return idle.pollFirst();
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pooled.releasedAt);
+        if (idleMillis > idleTimeoutMillis) {
+            return false;
+        }
+        try {
+            return idleMillis <= VALIDATE_AFTER_IDLE_MILLIS || pooled.connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        if (closed || pooled.broken) {
+            pooled.closeQuietly();
+        } else {
+            pooled.releasedAt = System.nanoTime();
+            synchronized (this) {
+                idle.addFirst(pooled);
+            }
+        }
+        permits.release();
+    }
+
+    /**
+     * Closes the connections nobody uses right now
+     * <p>
+     * The pool can still be used, new connections are opened when needed.
+     *
+     * @since 2026-10-18
+     */
+    public void closeIdleConnections() {
+        List<PooledConnection> toClose;
+        synchronized (this) {
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+        }
+        toClose.forEach(PooledConnection::closeQuietly);
+    }
+
+    /**
+     * Closes the pool and its idle connections, borrowed ones are closed when returned
+     *
+     * @since 2026-10-18
+     */
+    @Override
+    public void close() {
+        closed = true;
+        closeIdleConnections();
+    }
+
+    /**
+     * Getter for the number of connections opened so far
+     *
+     * @return the number of opened connections
+     * @since 2026-10-18
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    /**
+     * Getter for the number of statements prepared so far, without the ones taken from a cache
+     *
+     * @return the number of prepared statements
+     * @since 2026-10-18
+     */
+    public long getStatementsPrepared() {
+        return statementsPrepared.sum();
+    }
+
+    /**
+     * A connection borrowed from the pool, returned by closing it
+     * <p>
+     * Used by one thread at a time.
+     *
+     * @since 2026-10-18
+     */
+    public class PooledConnection implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements;
+        private final List<PreparedStatement> uncachedStatements = new ArrayList<>();
+        private long releasedAt;
+        private boolean broken;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= statementCacheSize) {
+                        return false;
+                    }
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Gets the prepared statement of a SQL statement, prepared on first use
+         * <p>
+         * The parameters of a cached statement are cleared. Without a statement
+         * cache, the statement is closed when the connection is returned. If
+         * preparing fails, the connection is marked as broken.
+         *
+         * @param sql the SQL statement
+         * @return the PreparedStatement, to be used until the connection is returned
+         * @throws SQLException if the statement cannot be prepared
+         * @since 2026-10-18
+         */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            try {
+                PreparedStatement statement = statements.get(sql);
+                if (statement != null && !statement.isClosed()) {
+                    statement.clearParameters();
+                    return statement;
+                }
+                statement = connection.prepareStatement(sql);
+                statementsPrepared.increment();
+                if (statementCacheSize > 0) {
+                    statements.put(sql, statement);
+                } else {
+                    uncachedStatements.add(statement);
+                }
+                return statement;
+            } catch (SQLException e) {
+                markBroken();
+                throw e;
+            }
+        }
+
+        /**
+         * Marks the connection as broken, e.g. because a statement failed on it
+         * <p>
+         * A broken connection and its statements are closed when it is returned
+         * instead of being used again.
+         *
+         * @since 2026-10-18
+         */
+        public void markBroken() {
+            broken = true;
+        }
+
+        /**
+         * Returns the connection to the pool
+         *
+         * @since 2026-10-18
+         */
+        @Override
+        public void close() {
+            uncachedStatements.forEach(this::closeQuietly);
+            uncachedStatements.clear();
+            release(this);
+        }
+
+        private void closeQuietly() {
+            statements.values().forEach(this::closeQuietly);
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOG.debug("Could not close a database connection: " + e);
+            }
+        }
+
+        private void closeQuietly(PreparedStatement statement) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOG.debug("Could not close a prepared statement: " + e);
+            }
+        }
+    }
+}
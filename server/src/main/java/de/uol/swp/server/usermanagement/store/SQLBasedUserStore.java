@@ -22,6 +22,10 @@ import de.uol.swp.common.user.UserDTO;
  * <p>
  * UserStoreClass for all database operations, like building and closing the connection,
  * creating, finding, updating or deleting a user.
+ * <p>
+ * enhanced by the ConnectionPool, 2026-10-18: every method borrows a connection of the pool and its cached
+ * prepared statement instead of opening a new connection, so the store can be used by several threads at once.
+ * A connection a statement failed on is not used again.
  *
  * @author Marius Birk
  * @see de.uol.swp.server.usermanagement.store.AbstractUserStore
@@ -31,9 +35,51 @@ import de.uol.swp.common.user.UserDTO;
 public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
 
     private static final Logger LOG = LogManager.getLogger(SQLBasedUserStore.class);
-    private final String CONNECTION = "jdbc:mysql://178.238.232.242:3306?autoReconnect=true";
-    private Connection connection;
-    private Statement statement;
+    private static final String CONNECTION = "jdbc:mysql://178.238.232.242:3306?autoReconnect=true";
+    private final ConnectionPool pool;
+
+    static {
+        try {
+            DriverManager.registerDriver(new com.mysql.cj.jdbc.Driver());
+        } catch (SQLException e) {
+            LOG.error("The MySQL driver could not be registered: " + e);
+        }
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Connects to our database at the University Servers through a ConnectionPool
+     * configured by the system properties.
+     *
+     * @see de.uol.swp.server.usermanagement.store.ConnectionPool#fromSystemProperties(ConnectionPool.ConnectionFactory)
+     * @since 2026-10-18
+     */
+    public SQLBasedUserStore() {
+        this(ConnectionPool.fromSystemProperties(SQLBasedUserStore::connect));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param pool the ConnectionPool lending the connections to the database
+     * @since 2026-10-18
+     */
+    public SQLBasedUserStore(ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    private static Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(CONNECTION, "swpJ", "Uz3FLt2cgMmFCALY");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("use swpJ;");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        LOG.debug("Building connection to database.");
+        return connection;
+    }
 
     /**
      * Build Connection
@@ -41,16 +87,15 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      * This method will build up a connection to our database at the University Servers.
      * It can be used everywhere, where the userManagement is used and needed. But most times
      * the connection is already opened and would only close if the server is going to shut down.
+     * <p>
+     * enhanced by the ConnectionPool, 2026-10-18: opens a connection of the pool in advance instead of the one
+     * connection shared by all methods, which are no longer depending on it
      *
      * @author Marius Birk
      * @since 2021-01-15
      */
     public void buildConnection() throws SQLException {
-        DriverManager.registerDriver(new com.mysql.cj.jdbc.Driver());
-        connection = DriverManager.getConnection(CONNECTION, "swpJ", "Uz3FLt2cgMmFCALY");
-        statement = connection.createStatement();
-        statement.execute("use swpJ;");
-        LOG.debug("Building connection to database.");
+        pool.borrow().close();
     }
 
     /**
@@ -59,14 +104,16 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      * This method will be closing the connection between database and server application.
      * If the server is going to be shut down,
      * it will close the connection to the database.
+     * <p>
+     * enhanced by the ConnectionPool, 2026-10-18: closes the unused connections of the pool, new ones are opened
+     * when needed again
      *
      * @author Marius Birk
      * @since 2021-01-15
      */
 
-    public void closeConnection() throws SQLException {
-        statement.close();
-        connection.close();
+    public void closeConnection() {
+        pool.closeIdleConnections();
         LOG.debug("Connection to the database closed.");
     }
 
@@ -84,27 +131,25 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      */
     @Override
     public Optional<User> findUser(String username, String password) throws Exception {
-        ResultSet resultSet;
-        try {
-            buildConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement(
-                    "select name, password, mail, pictureID from userData where name=? and password=?;");
-            preparedStatement.setString(1, username);
-            preparedStatement.setString(2, password);
-            resultSet = preparedStatement.executeQuery();
-            if (resultSet.next()) {
-                if (password.equals(resultSet.getString("password"))) {
-                    User user = new UserDTO(username, password, resultSet.getString(3), resultSet.getInt(4));
-                    return Optional.of(user.getWithoutPassword());
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement preparedStatement = connection.prepare(
+                        "select name, password, mail, pictureID from userData where name=? and password=?;");
+                preparedStatement.setString(1, username);
+                preparedStatement.setString(2, password);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next() && password.equals(resultSet.getString("password"))) {
+                        User user = new UserDTO(username, password, resultSet.getString(3), resultSet.getInt(4));
+                        return Optional.of(user.getWithoutPassword());
+                    }
                 }
-            } else {
-                return Optional.empty();
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
             }
         } catch (SQLException e) {
             LOG.debug("Fehler bei der Datenbankabfrage!");
             e.printStackTrace();
-        } finally {
-            closeConnection();
         }
         return Optional.empty();
     }
@@ -123,22 +168,24 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      */
     @Override
     public Optional<User> findUser(String username) throws Exception {
-        ResultSet resultSet;
-        try {
-            buildConnection();
-            PreparedStatement preparedStatement = connection
-                    .prepareStatement("select name, mail, pictureID from userData where name=?;");
-            preparedStatement.setString(1, username);
-            resultSet = preparedStatement.executeQuery();
-            if (resultSet.next()) {
-                User user = new UserDTO(username, "", resultSet.getString(2), resultSet.getInt(3));
-                return Optional.of(user);
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement preparedStatement = connection
+                        .prepare("select name, mail, pictureID from userData where name=?;");
+                preparedStatement.setString(1, username);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next()) {
+                        User user = new UserDTO(username, "", resultSet.getString(2), resultSet.getInt(3));
+                        return Optional.of(user);
+                    }
+                }
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
             }
         } catch (SQLException e) {
             LOG.debug("Fehler bei der Datenbankabfrage!");
             e.printStackTrace();
-        } finally {
-            closeConnection();
         }
         return Optional.empty();
     }
@@ -157,19 +204,21 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
 
     @Override
     public User createUser(String username, String password, String eMail) throws Exception {
-        try {
-            buildConnection();
-            PreparedStatement userName = connection
-                    .prepareStatement("insert into userData(name, password, mail) values (?,?,?);");
-            userName.setString(1, username);
-            userName.setString(2, password);
-            userName.setString(3, eMail);
-            userName.executeUpdate();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement userName = connection
+                        .prepare("insert into userData(name, password, mail) values (?,?,?);");
+                userName.setString(1, username);
+                userName.setString(2, password);
+                userName.setString(3, eMail);
+                userName.executeUpdate();
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
         } catch (Exception e) {
             e.printStackTrace();
             throw new SQLException("User could not be created.");
-        } finally {
-            closeConnection();
         }
         return new UserDTO(username, "", eMail);
     }
@@ -186,16 +235,18 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      */
     @Override
     public void removeUser(String username) throws Exception {
-        try {
-            buildConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement("delete from userData where name=?;");
-            preparedStatement.setString(1, username);
-            preparedStatement.executeUpdate();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement preparedStatement = connection.prepare("delete from userData where name=?;");
+                preparedStatement.setString(1, username);
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
         } catch (SQLException e) {
             LOG.debug(e);
             throw new Exception("User could not be dropped!");
-        } finally {
-            closeConnection();
         }
     }
 
@@ -212,17 +263,19 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      */
     @Override
     public User updateUserMail(String username, String eMail) throws Exception {
-        try {
-            buildConnection();
-            PreparedStatement preparedStatement = connection
-                    .prepareStatement("update userData set mail=? where name=?;");
-            preparedStatement.setString(1, eMail);
-            preparedStatement.setString(2, username);
-            preparedStatement.executeUpdate();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement preparedStatement = connection
+                        .prepare("update userData set mail=? where name=?;");
+                preparedStatement.setString(1, eMail);
+                preparedStatement.setString(2, username);
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
         } catch (Exception e) {
             throw new SQLException("EMail could not be updated.");
-        } finally {
-            closeConnection();
         }
         return new UserDTO(username, "", eMail);
     }
@@ -241,17 +294,19 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      */
     @Override
     public User updateUserPassword(String username, String password) throws Exception {
-        try {
-            buildConnection();
-            PreparedStatement preparedStatement = connection
-                    .prepareStatement("update userData set password=? where name=?;");
-            preparedStatement.setString(1, password);
-            preparedStatement.setString(2, username);
-            preparedStatement.executeUpdate();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement preparedStatement = connection
+                        .prepare("update userData set password=? where name=?;");
+                preparedStatement.setString(1, password);
+                preparedStatement.setString(2, username);
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
         } catch (Exception e) {
             throw new SQLException("Password could not be updated.");
-        } finally {
-            closeConnection();
         }
         return new UserDTO(username, "", "");
     }
@@ -271,18 +326,20 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
      */
     @Override
     public User updateUserPicture(String username, int profilePictureID) throws Exception {
-        try {
-            buildConnection();
-            PreparedStatement preparedStatement = connection
-                    .prepareStatement("update userData set pictureID=? where name=?;");
-            preparedStatement.setInt(1, profilePictureID);
-            preparedStatement.setString(2, username);
-            preparedStatement.executeUpdate();
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try {
+                PreparedStatement preparedStatement = connection
+                        .prepare("update userData set pictureID=? where name=?;");
+                preparedStatement.setInt(1, profilePictureID);
+                preparedStatement.setString(2, username);
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
         } catch (SQLException e) {
             LOG.debug(e);
             throw new SQLException("Profile picture could not be updated.");
-        } finally {
-            closeConnection();
         }
         return new UserDTO(username, "", "", profilePictureID);
     }
@@ -301,20 +358,20 @@ public class SQLBasedUserStore extends AbstractUserStore implements UserStore {
     @Override
     public List<User> getAllUsers() throws SQLException {
         List<User> userList = new ArrayList<>();
-        try {
-            buildConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement("select * from userData;");
-            ResultSet resultSet = preparedStatement.executeQuery();
-            while (resultSet.next()) {
-                userList.add(new UserDTO(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3),
-                        resultSet.getInt(4)));
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            try (ResultSet resultSet = connection.prepare("select * from userData;").executeQuery()) {
+                while (resultSet.next()) {
+                    userList.add(new UserDTO(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3),
+                            resultSet.getInt(4)));
+                }
+            } catch (SQLException e) {
+                connection.markBroken();
+                throw e;
             }
             return userList;
         } catch (SQLException e) {
             LOG.debug("");
             throw new SQLException();
-        } finally {
-            closeConnection();
         }
     }
 }
@@ -0,0 +1,103 @@
+package de.uol.swp.server.AI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import de.uol.swp.common.game.MapGraph;
+import de.uol.swp.common.game.dto.GameDTO;
+import de.uol.swp.common.user.User;
+import de.uol.swp.common.user.UserDTO;
+
+/**
+ * Measures the cost of the copy of the game every AISystem works on
+ * <p>
+ * Compares the deep copy by Java serialization the AISystems used before with
+ * {@link GameDTO#createSimulationCopy()} and the creation of a complete RandomAI.
+ * The game has four players and a few buildings and roads on the MapGraph.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl server exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.server.AI.AISnapshotBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+public class AISnapshotBenchmark {
+
+    private static final int ROUNDS = 3;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        GameDTO game = createGame();
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.printf("round %d%n%24s %16s%n", round, "copy", "us per copy");
+            run("serialization", () -> deepCopy(game));
+            run("createSimulationCopy", game::createSimulationCopy);
+            run("new RandomAI", () -> new RandomAI(game));
+        }
+    }
+
+    private static void run(String name, Supplier<Object> copy) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = copy.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = copy.get();
+        }
+        double us = (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+        System.out.printf("%24s %16.2f%n", name, us);
+        if (sink == null) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static GameDTO createGame() {
+        Set<User> users = new TreeSet<>();
+        for (int i = 0; i < 4; i++) {
+            users.add(new UserDTO("player" + i, "", ""));
+        }
+        GameDTO game = new GameDTO("benchmark", users.iterator().next(), "", users);
+        game.setUpUserArrayList();
+        game.setUpInventories();
+        Iterator<MapGraph.BuildingNode> buildings = game.getMapGraph().getBuildingNodeHashSet().iterator();
+        for (int player = 0; player < 4; player++) {
+            for (int i = 0; i < 2; i++) {
+                MapGraph.BuildingNode building = buildings.next();
+                building.buildOrDevelopSettlement(player);
+                game.getMapGraph().addBuiltBuilding(building);
+                for (MapGraph.StreetNode street : building.getConnectedStreetNodes()) {
+                    if (street.getOccupiedByPlayer() == 666) {
+                        street.buildRoad(player);
+                        break;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            game.getInventory(game.getUser(i)).lumber.setNumber(2);
+            game.getInventory(game.getUser(i)).brick.setNumber(2);
+        }
+        return game;
+    }
+
+    private static Object deepCopy(Object object) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+            objectOutputStream.writeObject(object);
+            ObjectInputStream objectInputStream = new ObjectInputStream(
+                    new ByteArrayInputStream(outputStream.toByteArray()));
+            return objectInputStream.readObject();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package de.uol.swp.server.AI;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.server.communication.MailboxExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the AITurnScheduler
+ *
+ * @see de.uol.swp.server.AI.AITurnScheduler
+ * @since 2026-10-18
+ */
+public class AITurnSchedulerTest {
+
+    private final MailboxExecutor mailboxExecutor = new MailboxExecutor(4);
+    private final AITurnScheduler scheduler = new AITurnScheduler(mailboxExecutor, 1, TimeUnit.MILLISECONDS);
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        scheduler.shutdown();
+        mailboxExecutor.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Test that actions scheduled by a running action of the same game run before the remaining actions
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void nestedActionsRunFirstTest() throws InterruptedException {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        List<Runnable> actions = new ArrayList<>();
+        actions.add(() -> {
+            order.add("tradeStart");
+            scheduler.schedule("game", List.of(() -> order.add("bid1"), () -> order.add("bid2")));
+        });
+        actions.add(() -> order.add("endTurn"));
+        actions.add(done::countDown);
+        scheduler.schedule("game", actions);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("tradeStart", "bid1", "bid2", "endTurn"), order);
+        assertEquals(0, scheduler.getQueuedActions());
+        waitForExecutedActions(5);
+    }
+
+    /**
+     * Test that thousands of AI seats are served without a thread per seat
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void manyGamesTest() throws InterruptedException {
+        int games = 2000;
+        int actionsPerGame = 5;
+        CountDownLatch done = new CountDownLatch(games * actionsPerGame);
+        int threadsBefore = Thread.activeCount();
+        for (int game = 0; game < games; game++) {
+            List<Runnable> actions = new ArrayList<>();
+            for (int i = 0; i < actionsPerGame; i++) {
+                actions.add(done::countDown);
+            }
+            scheduler.schedule("game" + game, actions);
+        }
+        assertTrue(Thread.activeCount() - threadsBefore <= 5);
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        waitForExecutedActions((long) games * actionsPerGame);
+        assertTrue(scheduler.getMaxLagNanos() >= scheduler.getAverageLagNanos());
+    }
+
+    /**
+     * Waits until the scheduler counted the given number of executed actions
+     * <p>
+     * An action is counted after it ran, so the count may lag behind the latches of the tests.
+     *
+     * @param expected the expected number of executed actions
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    private void waitForExecutedActions(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (scheduler.getExecutedActions() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, scheduler.getExecutedActions());
+    }
+}
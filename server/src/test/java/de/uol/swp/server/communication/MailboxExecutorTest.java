@@ -0,0 +1,268 @@
+package de.uol.swp.server.communication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.chat.RequestChatMessage;
+import de.uol.swp.common.game.request.EndTurnRequest;
+import de.uol.swp.common.game.request.RollDiceRequest;
+import de.uol.swp.common.lobby.request.JoinOnGoingGameRequest;
+import de.uol.swp.common.lobby.request.RetrieveAllLobbiesRequest;
+import de.uol.swp.common.lobby.request.StartGameRequest;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.LoginRequest;
+import de.uol.swp.common.user.request.LogoutRequest;
+import de.uol.swp.common.user.request.RetrieveAllOnlineUsersRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the MailboxExecutor
+ *
+ * @see de.uol.swp.server.communication.MailboxExecutor
+ * @since 2026-10-18
+ */
+public class MailboxExecutorTest {
+
+    private final MailboxExecutor mailboxExecutor = new MailboxExecutor(4);
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        assertTrue(mailboxExecutor.shutdown(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that the tasks of one key run in order and never concurrently
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void tasksOfOneKeyRunInOrderTest() throws InterruptedException {
+        int taskCount = 1000;
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int number = i;
+            mailboxExecutor.execute("game", () -> {
+                if (running.incrementAndGet() != 1) {
+                    overlaps.incrementAndGet();
+                }
+                order.add(number);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        for (int i = 0; i < taskCount; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    /**
+     * Test that a blocked mailbox does not block the mailboxes of other keys
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void keysRunInParallelTest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        mailboxExecutor.execute("game1", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        mailboxExecutor.execute("game2", otherDone::countDown);
+        assertTrue(otherDone.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    /**
+     * Test that a failing task neither stops its mailbox nor keeps empty mailboxes
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void failingTaskAndCleanupTest() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        mailboxExecutor.execute("game", () -> {
+            throw new IllegalStateException("test");
+        });
+        mailboxExecutor.execute("game", done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (mailboxExecutor.getActiveMailboxCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, mailboxExecutor.getActiveMailboxCount());
+    }
+
+    /**
+     * Test that the tasks of a key run in order in all lanes, while a blocked lane
+     * does not block the mailboxes of other keys in another lane
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void lanesShareMailboxesTest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        CountDownLatch gameDone = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        mailboxExecutor.execute(RequestLane.CHAT, "game", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            order.add("chat");
+        });
+        mailboxExecutor.execute(RequestLane.GAME, "game", () -> {
+            order.add("game");
+            gameDone.countDown();
+        });
+        mailboxExecutor.execute(RequestLane.LOBBY, "game", () -> order.add("lobby"));
+        mailboxExecutor.execute(RequestLane.GAME, "other", otherDone::countDown);
+        assertTrue(otherDone.await(5, TimeUnit.SECONDS));
+        assertFalse(gameDone.await(50, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(gameDone.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && mailboxExecutor.getActiveMailboxCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("chat", "game", "lobby"), order);
+    }
+
+    /**
+     * Test that a full lane rejects offered tasks and counts its queue depth and waits
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void fullLaneRejectsTest() throws InterruptedException {
+        MailboxExecutor limited = new MailboxExecutor(1, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        try {
+            assertTrue(limited.offer(RequestLane.LOBBY, "lobby", () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertTrue(limited.offer(RequestLane.LOBBY, "lobby", done::countDown));
+            assertTrue(limited.offer(RequestLane.LOBBY, "other", done::countDown));
+            assertFalse(limited.offer(RequestLane.LOBBY, "lobby", done::countDown));
+            assertTrue(limited.offer(RequestLane.GAME, "lobby", () -> { }));
+
+            LaneStatistics statistics = limited.getStatistics(RequestLane.LOBBY);
+            assertEquals(2, statistics.getQueueDepth());
+            assertEquals(1, statistics.getRejectedTasks());
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(0, statistics.getQueueDepth());
+            assertEquals(2, statistics.getPeakQueueDepth());
+            assertEquals(3, statistics.getExecutedTasks());
+            assertTrue(statistics.getMaxWaitNanos() > 0);
+        } finally {
+            release.countDown();
+            assertTrue(limited.shutdown(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Test that a LoginRequest is processed while the lane of the lobbies is full of lobby listings
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void fullLobbyLaneDoesNotDelayLoginTest() throws InterruptedException {
+        MailboxExecutor limited = new MailboxExecutor(1, 2);
+        RetrieveAllLobbiesRequest listing = new RetrieveAllLobbiesRequest();
+        LoginRequest login = new LoginRequest("user", "password");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch loggedIn = new CountDownLatch(1);
+        try {
+            assertTrue(limited.offer(RequestLane.of(listing), ServerHandler.getMailboxKey(listing), () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertTrue(limited.offer(RequestLane.of(listing), ServerHandler.getMailboxKey(listing), () -> { }));
+            assertTrue(limited.offer(RequestLane.of(listing), ServerHandler.getMailboxKey(listing), () -> { }));
+            assertFalse(limited.offer(RequestLane.of(listing), ServerHandler.getMailboxKey(listing), () -> { }));
+
+            assertTrue(limited.offer(RequestLane.of(login), ServerHandler.getMailboxKey(login), loggedIn::countDown));
+            assertTrue(loggedIn.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            assertTrue(limited.shutdown(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Test that the requests are sorted into the lanes by their kind
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void requestLaneTest() {
+        UserDTO user = new UserDTO("user", "password", "user@test.de");
+        assertEquals(RequestLane.GAME, RequestLane.of(new RollDiceRequest("game", user)));
+        assertEquals(RequestLane.GAME, RequestLane.of(new EndTurnRequest("game", user)));
+        assertEquals(RequestLane.LOBBY, RequestLane.of(new RetrieveAllLobbiesRequest()));
+        assertEquals(RequestLane.CHAT, RequestLane.of(new RequestChatMessage("hi", "game", "user", 0)));
+        assertEquals(RequestLane.DIRECTORY, RequestLane.of(new RetrieveAllOnlineUsersRequest()));
+    }
+
+    /**
+     * Test that all requests changing a game, also the cheats in its chat, are processed in the mailbox of the game
+     * and its lobby
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void mailboxKeyTest() {
+        UserDTO user = new UserDTO("user", "password", "user@test.de");
+        String gameKey = MailboxExecutor.getNamedKey("game");
+        assertEquals(gameKey, ServerHandler.getMailboxKey(new RollDiceRequest("game", user)));
+        assertEquals(gameKey, ServerHandler.getMailboxKey(new EndTurnRequest("game", user)));
+        assertEquals(gameKey, ServerHandler.getMailboxKey(new StartGameRequest("game", user, "Standard", 2)));
+        assertEquals(gameKey, ServerHandler.getMailboxKey(new JoinOnGoingGameRequest("game", user)));
+        assertEquals(gameKey, ServerHandler.getMailboxKey(new RequestChatMessage("hi", "game", "user", 0)));
+        assertEquals(gameKey, ServerHandler.getMailboxKey(new RequestChatMessage("/rolldice", "game_game", "user", 0)));
+        assertEquals(MailboxExecutor.getServerKey(RequestLane.DIRECTORY),
+                ServerHandler.getMailboxKey(new LogoutRequest()));
+        assertEquals(MailboxExecutor.getServerKey(RequestLane.LOBBY),
+                ServerHandler.getMailboxKey(new RetrieveAllLobbiesRequest()));
+    }
+}
@@ -0,0 +1,84 @@
+package de.uol.swp.server.communication;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.eventbus.EventBus;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import de.uol.swp.common.game.request.EndTurnRequest;
+import de.uol.swp.common.game.request.PlayerReadyRequest;
+import de.uol.swp.common.game.request.RollDiceRequest;
+import de.uol.swp.common.lobby.request.StartGameRequest;
+import de.uol.swp.common.message.RequestMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.server.chat.ChatService;
+import de.uol.swp.server.cheat.CheatService;
+import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameService;
+import de.uol.swp.server.lobby.LobbyManagement;
+import de.uol.swp.server.lobby.LobbyService;
+import de.uol.swp.server.usermanagement.AuthenticationService;
+import de.uol.swp.server.usermanagement.UserManagement;
+import de.uol.swp.server.usermanagement.UserService;
+import de.uol.swp.server.usermanagement.store.MainMemoryBasedUserStore;
+
+/**
+ * Measures the posts per second of the Guava EventBus and the MessageDispatcher
+ * <p>
+ * The services of the server and the ServerHandler are registered on the bus
+ * like in the ServerApp. The requests posted are for a game that does not exist,
+ * so the handlers return right away and the time is spent delivering them.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl server exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.server.communication.MessageDispatcherBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class MessageDispatcherBenchmark {
+
+    private static final int WARMUP = 500_000;
+    private static final int ITERATIONS = 2_000_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        Configurator.setRootLevel(Level.WARN);
+        UserDTO user = new UserDTO("user", "password", "user@test.de");
+        RequestMessage[] requests = {new RollDiceRequest("nogame", user), new EndTurnRequest("nogame", user),
+                new PlayerReadyRequest("nogame", user, true), new StartGameRequest("nogame", user, "Standard", 2)};
+        System.out.printf("%20s %16s %12s%n", "bus", "posts per second", "ns per post");
+        for (int round = 0; round < ROUNDS; round++) {
+            run("Guava EventBus", new EventBus(), requests);
+            run("MessageDispatcher", new MessageDispatcher(), requests);
+        }
+        // the AuthenticationService keeps a non daemon timer running
+        System.exit(0);
+    }
+
+    private static void run(String name, EventBus bus, RequestMessage[] requests) throws Exception {
+        ServerTimer serverTimer = new ServerTimer();
+        UserManagement userManagement = new UserManagement(new MainMemoryBasedUserStore());
+        AuthenticationService authenticationService = new AuthenticationService(bus, userManagement);
+        UserService userService = new UserService(bus, userManagement);
+        LobbyService lobbyService = new LobbyService(new LobbyManagement(), authenticationService, bus);
+        GameService gameService = new GameService(new GameManagement(), lobbyService, authenticationService, bus,
+                userService, null, serverTimer);
+        new ChatService(new CheatService(gameService, bus), bus);
+        new ServerHandler(bus);
+
+        for (int i = 0; i < WARMUP; i++) {
+            bus.post(requests[i & 3]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bus.post(requests[i & 3]);
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%20s %16.0f %12d%n", name, ITERATIONS / (nanos / (double) TimeUnit.SECONDS.toNanos(1)),
+                nanos / ITERATIONS);
+        serverTimer.shutdown();
+    }
+}
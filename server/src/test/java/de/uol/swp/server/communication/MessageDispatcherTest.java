@@ -0,0 +1,157 @@
+package de.uol.swp.server.communication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.message.AbstractRequestMessage;
+import de.uol.swp.common.message.RequestMessage;
+import de.uol.swp.common.user.request.LoginRequest;
+import de.uol.swp.common.user.request.LogoutRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the MessageDispatcher
+ *
+ * @see de.uol.swp.server.communication.MessageDispatcher
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class MessageDispatcherTest {
+
+    private final MessageDispatcher dispatcher = new MessageDispatcher();
+    private final List<String> calls = new ArrayList<>();
+
+    /**
+     * Listener with handlers for a message, its supertypes and a private one
+     */
+    private class Listener {
+
+        private final EventBus bus;
+
+        private Listener(EventBus bus) {
+            this.bus = bus;
+        }
+
+        @Subscribe
+        public void onLogin(LoginRequest request) {
+            calls.add("login");
+            bus.post(new LogoutRequest());
+            calls.add("login done");
+        }
+
+        @Subscribe
+        public void onRequest(RequestMessage request) {
+            calls.add("request " + request.getClass().getSimpleName());
+        }
+
+        @Subscribe
+        private void onAbstractRequest(AbstractRequestMessage request) {
+            calls.add("abstract");
+        }
+
+        @Subscribe
+        public void onDeadEvent(DeadEvent deadEvent) {
+            calls.add("dead " + deadEvent.getEvent());
+        }
+    }
+
+    /**
+     * Test that a message reaches the handlers of its class and supertypes and
+     * that a message posted by a handler is delivered after the current one
+     * <p>
+     * The handlers have to be called in the same order as by the Guava EventBus.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void deliveryOrderTest() {
+        EventBus eventBus = new EventBus();
+        eventBus.register(new Listener(eventBus));
+        eventBus.post(new LoginRequest("user", "password"));
+        List<String> expected = new ArrayList<>(calls);
+        calls.clear();
+
+        dispatcher.register(new Listener(dispatcher));
+        dispatcher.post(new LoginRequest("user", "password"));
+
+        assertEquals(6, expected.size());
+        assertEquals(List.of("login", "login done"), expected.subList(0, 2));
+        assertEquals(expected, calls);
+    }
+
+    /**
+     * Test that a message without handlers is posted as a DeadEvent
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void deadEventTest() {
+        dispatcher.register(new Listener(dispatcher));
+
+        dispatcher.post("nobody listens");
+
+        assertEquals(List.of("dead nobody listens"), calls);
+    }
+
+    /**
+     * Test that an exception of a handler does not stop the other handlers
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void exceptionInHandlerTest() {
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void onRequest(RequestMessage request) {
+                throw new IllegalStateException("expected by the test");
+            }
+        });
+        dispatcher.register(new Listener(dispatcher));
+
+        dispatcher.post(new LogoutRequest());
+
+        assertEquals(2, calls.size());
+        assertTrue(calls.containsAll(List.of("request LogoutRequest", "abstract")));
+    }
+
+    /**
+     * Test that registering twice delivers once and unregistering stops the delivery
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void registerAndUnregisterTest() {
+        Listener listener = new Listener(dispatcher);
+        dispatcher.register(listener);
+        dispatcher.register(listener);
+        dispatcher.post(new LogoutRequest());
+        assertEquals(2, calls.size());
+
+        dispatcher.unregister(listener);
+        calls.clear();
+        dispatcher.post(new LogoutRequest());
+        assertTrue(calls.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.unregister(listener));
+    }
+
+    /**
+     * Test that a handler method needs exactly one parameter
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void invalidHandlerTest() {
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.register(new Object() {
+            @Subscribe
+            public void onTwo(RequestMessage first, RequestMessage second) {
+            }
+        }));
+    }
+}
@@ -0,0 +1,144 @@
+package de.uol.swp.server.communication;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.eventbus.EventBus;
+
+import io.netty.util.Timeout;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.lobby.request.StartGameRequest;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameService;
+import de.uol.swp.server.lobby.LobbyManagement;
+import de.uol.swp.server.lobby.LobbyService;
+import de.uol.swp.server.usermanagement.AuthenticationService;
+import de.uol.swp.server.usermanagement.UserManagement;
+import de.uol.swp.server.usermanagement.UserService;
+import de.uol.swp.server.usermanagement.store.MainMemoryBasedUserStore;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the ServerTimer
+ *
+ * @see de.uol.swp.server.communication.ServerTimer
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ServerTimerTest {
+
+    private final MailboxExecutor mailboxExecutor = new MailboxExecutor(4);
+    private final ServerTimer serverTimer = new ServerTimer(mailboxExecutor, 1, TimeUnit.MILLISECONDS);
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        serverTimer.shutdown();
+        assertTrue(mailboxExecutor.shutdown(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that a cancelled task is not run while the others are
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void scheduleAndCancelTest() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicBoolean cancelledRun = new AtomicBoolean();
+        serverTimer.schedule(done::countDown, 10, TimeUnit.MILLISECONDS);
+        Timeout cancelled = serverTimer.schedule(() -> cancelledRun.set(true), 30, TimeUnit.MILLISECONDS);
+        serverTimer.schedule(done::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(serverTimer.cancel(cancelled));
+        assertFalse(serverTimer.cancel(cancelled));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(cancelledRun.get());
+        assertEquals(3, serverTimer.getScheduledTasks());
+        assertEquals(1, serverTimer.getCancelledTasks());
+    }
+
+    /**
+     * Test that the tasks of a game or lobby are run in its mailbox
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void runInMailboxTest() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        serverTimer.schedule("lobby", () -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        }, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("mailbox-worker-"), threadName.get());
+    }
+
+    /**
+     * Test that a task handed over right away is run in the mailbox, or on the calling thread without a MailboxExecutor
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void executeInMailboxTest() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        serverTimer.execute("game", () -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("mailbox-worker-"), threadName.get());
+
+        new ServerTimer().execute("game", () -> threadName.set(Thread.currentThread().getName()));
+        assertEquals(Thread.currentThread().getName(), threadName.get());
+        assertEquals(0, serverTimer.getScheduledTasks());
+    }
+
+    /**
+     * Test that the number of threads stays the same while lobbies are created and their countdowns started
+     *
+     * @throws SQLException never, the users are kept in memory
+     * @since 2026-10-18
+     */
+    @Test
+    void threadCountConstantWithManyLobbiesTest() throws SQLException {
+        EventBus bus = new EventBus();
+        UserManagement userManagement = new UserManagement(new MainMemoryBasedUserStore());
+        AuthenticationService authenticationService = new AuthenticationService(bus, userManagement);
+        LobbyManagement lobbyManagement = new LobbyManagement();
+        LobbyService lobbyService = new LobbyService(lobbyManagement, authenticationService, bus);
+        GameService gameService = new GameService(new GameManagement(), lobbyService, authenticationService, bus,
+                new UserService(bus, userManagement), null, serverTimer);
+        UserDTO owner = new UserDTO("owner", "password", "owner@test.de");
+
+        // the first countdown starts the timer thread
+        lobbyManagement.createLobby("lobby0", owner);
+        gameService.onStartGameRequest(new StartGameRequest("lobby0", owner, "Standard", 2));
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadCount = threads.getThreadCount();
+
+        for (int i = 1; i < 2000; i++) {
+            lobbyManagement.createLobby("lobby" + i, owner);
+            gameService.onStartGameRequest(new StartGameRequest("lobby" + i, owner, "Standard", 2));
+        }
+
+        assertEquals(2000, serverTimer.getPendingTasks());
+        // no thread per lobby, a few threads may be started by the JVM meanwhile
+        assertTrue(threads.getThreadCount() <= threadCount + 2, threads.getThreadCount() + " > " + threadCount);
+    }
+}
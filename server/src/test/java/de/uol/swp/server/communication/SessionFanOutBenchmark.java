@@ -0,0 +1,108 @@
+package de.uol.swp.server.communication;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.eventbus.EventBus;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import de.uol.swp.common.game.message.NextTurnMessage;
+import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.message.ResponseMessage;
+import de.uol.swp.common.message.ServerMessage;
+import de.uol.swp.common.user.User;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.LoginRequest;
+import de.uol.swp.server.usermanagement.AuthenticationService;
+import de.uol.swp.server.usermanagement.UserManagement;
+import de.uol.swp.server.usermanagement.store.MainMemoryBasedUserStore;
+
+/**
+ * Measures the cost of sending a message to the four players of a game
+ * depending on the number of users online
+ * <p>
+ * Every operation looks up the Sessions of the players in the
+ * AuthenticationService and lets the ServerHandler resolve their
+ * MessageContexts, like GameService.sendToAllInGame does. With the session
+ * indexes the time per operation has to stay flat from 10 to 10,000 users.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl server exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.server.communication.SessionFanOutBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class SessionFanOutBenchmark {
+
+    private static final int[] ONLINE_USERS = {10, 100, 1_000, 10_000};
+    private static final int PLAYERS = 4;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    public static void main(String[] args) throws Exception {
+        Configurator.setRootLevel(Level.WARN);
+        System.out.printf("%12s %16s %12s%n", "online", "ns per fan-out", "writes");
+        for (int online : ONLINE_USERS) {
+            run(online);
+        }
+        // the AuthenticationService keeps a non daemon timer running
+        System.exit(0);
+    }
+
+    private static void run(int online) throws Exception {
+        EventBus bus = new EventBus();
+        MainMemoryBasedUserStore store = new MainMemoryBasedUserStore();
+        AuthenticationService authenticationService = new AuthenticationService(bus, new UserManagement(store));
+        new ServerHandler(bus);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < online; i++) {
+            // logged in users are shared by all UserManagements, so every run needs its own names
+            String username = "user" + online + "_" + i;
+            store.createUser(username, "password", username + "@test.de");
+            LoginRequest login = new LoginRequest(username, "password");
+            login.setMessageContext(new CountingContext());
+            bus.post(login);
+            users.add(new UserDTO(username, "", ""));
+        }
+        // the players of the game are the users logged in last, the worst case for a scan
+        Set<User> players = new HashSet<>(users.subList(online - PLAYERS, online));
+        for (int i = 0; i < WARMUP; i++) {
+            fanOut(bus, authenticationService, players);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            fanOut(bus, authenticationService, players);
+        }
+        long ns = (System.nanoTime() - start) / ITERATIONS;
+        System.out.printf("%12d %16d %12d%n", online, ns, CountingContext.writes / (WARMUP + ITERATIONS));
+        CountingContext.writes = 0;
+    }
+
+    private static void fanOut(EventBus bus, AuthenticationService authenticationService, Set<User> players) {
+        ServerMessage message = new NextTurnMessage("game", "user0", 1, false);
+        message.setReceiver(authenticationService.getSessions(players));
+        bus.post(message);
+    }
+
+    /**
+     * MessageContext only counting the ServerMessages written to it
+     */
+    private static class CountingContext implements MessageContext {
+
+        private static long writes;
+
+        @Override
+        public void writeAndFlush(ResponseMessage message) {
+        }
+
+        @Override
+        public void writeAndFlush(ServerMessage message) {
+            writes++;
+        }
+    }
+}
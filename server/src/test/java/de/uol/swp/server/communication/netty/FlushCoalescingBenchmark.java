@@ -0,0 +1,214 @@
+package de.uol.swp.server.communication.netty;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.PingRequest;
+import de.uol.swp.common.user.response.PingResponse;
+import de.uol.swp.server.communication.MailboxExecutor;
+import de.uol.swp.server.communication.OutboundFlusher;
+import de.uol.swp.server.communication.ServerHandler;
+
+/**
+ * Measures the flushes and the latency of requests answered with several messages
+ * <p>
+ * A loopback server answers every PingRequest with {@value #RESPONSES} PingResponses,
+ * like a game request answered with inventories, a turn message and a chat line.
+ * Each client sends its next request after all responses of the last one arrived.
+ * The run without an OutboundFlusher flushes every response, the run with one
+ * flushes once per request. Every flush is one write syscall of the server, so the
+ * flushes per request show the syscalls saved.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl server exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.server.communication.netty.FlushCoalescingBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class FlushCoalescingBenchmark {
+
+    private static final int RESPONSES = 6;
+    private static final int CLIENTS = 16;
+    private static final int WARMUP = 2_000;
+    private static final int REQUESTS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        Configurator.setRootLevel(Level.WARN);
+        System.out.printf("%10s %18s %10s %10s %12s%n", "flusher", "flushes/request", "p50 us", "p99 us",
+                "requests/s");
+        for (int round = 0; round < 2; round++) {
+            run(false);
+            run(true);
+        }
+        // the mailbox workers are daemon threads, netty is shut down
+        System.exit(0);
+    }
+
+    /**
+     * Counts the flushes of all server channels
+     */
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        private final AtomicLong flushes;
+
+        private FlushCounter(AtomicLong flushes) {
+            this.flushes = flushes;
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes.incrementAndGet();
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Answers every PingRequest with several PingResponses
+     */
+    private static class PingResponder {
+
+        private final EventBus bus;
+
+        private PingResponder(EventBus bus) {
+            this.bus = bus;
+        }
+
+        @Subscribe
+        void onPingRequest(PingRequest request) {
+            for (int i = 0; i < RESPONSES; i++) {
+                PingResponse response = new PingResponse(request.getUser().getUsername(), request.getTime());
+                request.getMessageContext().ifPresent(response::setMessageContext);
+                bus.post(response);
+            }
+        }
+    }
+
+    /**
+     * Releases a permit for every received PingResponse
+     */
+    private static class ResponseCounter extends ChannelInboundHandlerAdapter {
+
+        private final Semaphore received = new Semaphore(0);
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof PingResponse) {
+                received.release();
+            }
+        }
+    }
+
+    private static void run(boolean coalesce) throws Exception {
+        EventBus bus = new EventBus();
+        bus.register(new PingResponder(bus));
+        ServerHandler serverHandler = new ServerHandler(bus, new MailboxExecutor(),
+                coalesce ? new OutboundFlusher(0) : null);
+        NettyServerHandler nettyServerHandler = new NettyServerHandler(serverHandler);
+        WireFormat wireFormat = WireFormat.COMPACT_BINARY;
+        AtomicLong flushes = new AtomicLong();
+
+        EventLoopGroup serverGroup = new NioEventLoopGroup(2);
+        EventLoopGroup clientGroup = new NioEventLoopGroup(2);
+        try {
+            Channel server = new ServerBootstrap().group(serverGroup).channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            ch.attr(NettyMessageContext.WIRE_FORMAT).set(wireFormat);
+                            ch.pipeline().addLast(new FlushCounter(flushes), wireFormat.createEncoder(),
+                                    wireFormat.createDecoder(ClassResolvers.cacheDisabled(null)), nettyServerHandler);
+                        }
+                    }).bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+
+            List<Channel> channels = new ArrayList<>();
+            List<ResponseCounter> counters = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                ResponseCounter counter = new ResponseCounter();
+                counters.add(counter);
+                channels.add(new Bootstrap().group(clientGroup).channel(NioSocketChannel.class)
+                        .handler(new ChannelInitializer<SocketChannel>() {
+                            @Override
+                            protected void initChannel(SocketChannel ch) {
+                                ch.pipeline().addLast(wireFormat.createEncoder(),
+                                        wireFormat.createDecoder(ClassResolvers.cacheDisabled(null)), counter);
+                            }
+                        }).connect(server.localAddress()).sync().channel());
+            }
+
+            long[][] latencies = new long[CLIENTS][];
+            Thread[] threads = new Thread[CLIENTS];
+            long start = System.nanoTime();
+            for (int i = 0; i < CLIENTS; i++) {
+                int client = i;
+                threads[i] = new Thread(() -> latencies[client] = ping(channels.get(client), counters.get(client),
+                        new UserDTO("user" + client, "", "")));
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            System.out.printf("%10s %18.2f %10.1f %10.1f %12.0f%n", coalesce ? "on" : "off",
+                    (double) flushes.get() / (CLIENTS * (WARMUP + REQUESTS)),
+                    all[all.length / 2] / 1000.0, all[(int) (all.length * 0.99)] / 1000.0,
+                    CLIENTS * (WARMUP + REQUESTS) / (elapsed / 1e9));
+            for (Channel channel : channels) {
+                channel.close().sync();
+            }
+            server.close().sync();
+        } finally {
+            clientGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+            serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        }
+    }
+
+    /**
+     * Sends the requests of one client and returns the latencies after the warmup
+     */
+    private static long[] ping(Channel channel, ResponseCounter counter, UserDTO user) {
+        long[] latencies = new long[REQUESTS];
+        try {
+            for (int i = 0; i < WARMUP + REQUESTS; i++) {
+                long start = System.nanoTime();
+                channel.writeAndFlush(new PingRequest(user, start));
+                counter.received.acquire(RESPONSES);
+                if (i >= WARMUP) {
+                    latencies[i - WARMUP] = System.nanoTime() - start;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return latencies;
+    }
+}
@@ -0,0 +1,167 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.lobby.request.RetrieveAllLobbiesRequest;
+import de.uol.swp.common.message.ExceptionMessage;
+import de.uol.swp.common.message.RequestMessage;
+import de.uol.swp.common.user.request.LogoutRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the rate limit of the requests of a client
+ *
+ * @see de.uol.swp.server.communication.netty.RateLimitPolicy
+ * @see de.uol.swp.server.communication.netty.RateLimitHandler
+ * @since 2026-10-18
+ */
+public class RateLimitTest {
+
+    private static final WireFormat WIRE_FORMAT = WireFormat.COMPACT_BINARY;
+
+    private final List<Object> processed = new ArrayList<>();
+
+    private EmbeddedChannel createClient(RateLimitPolicy policy) {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.attr(NettyMessageContext.WIRE_FORMAT).set(WIRE_FORMAT);
+        channel.pipeline().addLast(WIRE_FORMAT.createEncoder(), new RateLimitHandler(policy),
+                new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        processed.add(msg);
+                    }
+                });
+        return channel;
+    }
+
+    private RequestMessage request(RequestMessage request, int correlationId) {
+        request.setCorrelationId(correlationId);
+        return request;
+    }
+
+    /**
+     * Decodes all frames written to a channel
+     */
+    private List<Object> readMessages(EmbeddedChannel channel) {
+        EmbeddedChannel decoder = new EmbeddedChannel(WIRE_FORMAT.createDecoder(ClassResolvers.cacheDisabled(null)));
+        List<Object> messages = new ArrayList<>();
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            decoder.writeInbound(frame);
+            Object message;
+            while ((message = decoder.readInbound()) != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Test that requests over the limit of their type are answered with an
+     * ExceptionMessage, while other types are let through
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void rejectOverTypeLimitTest() {
+        RateLimitPolicy policy = new RateLimitPolicy(null,
+                Map.of("RetrieveAllLobbiesRequest", new RateLimitPolicy.Limit(0.001, 2)), false);
+        EmbeddedChannel channel = createClient(policy);
+
+        for (int i = 1; i <= 3; i++) {
+            channel.writeInbound(request(new RetrieveAllLobbiesRequest(), i));
+        }
+        channel.writeInbound(request(new LogoutRequest(), 4));
+
+        assertEquals(3, processed.size());
+        assertTrue(processed.get(2) instanceof LogoutRequest);
+        List<Object> responses = readMessages(channel);
+        assertEquals(1, responses.size());
+        assertTrue(responses.get(0) instanceof ExceptionMessage);
+        assertEquals(3, ((ExceptionMessage) responses.get(0)).getCorrelationId());
+        assertEquals(1, policy.getThrottledRequests(RetrieveAllLobbiesRequest.class));
+        assertEquals(Map.of("RetrieveAllLobbiesRequest", 1L), policy.getThrottledRequests());
+    }
+
+    /**
+     * Test that the limit of the connection counts the requests of all types
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void sessionLimitTest() {
+        RateLimitPolicy policy = new RateLimitPolicy(new RateLimitPolicy.Limit(0.001, 3), Map.of(), false);
+        EmbeddedChannel channel = createClient(policy);
+
+        channel.writeInbound(new RetrieveAllLobbiesRequest());
+        channel.writeInbound(new LogoutRequest());
+        channel.writeInbound(new RetrieveAllLobbiesRequest());
+        channel.writeInbound(new LogoutRequest());
+
+        assertEquals(3, processed.size());
+        assertEquals(1, policy.getThrottledRequests(LogoutRequest.class));
+    }
+
+    /**
+     * Test that delayed requests stop the reading and are let through in order once the bucket is refilled
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2026-10-18
+     */
+    @Test
+    void delayReadsTest() throws InterruptedException {
+        RateLimitPolicy policy = new RateLimitPolicy(null,
+                Map.of("RetrieveAllLobbiesRequest", new RateLimitPolicy.Limit(100, 1)), true);
+        EmbeddedChannel channel = createClient(policy);
+        List<RequestMessage> requests = List.of(new RetrieveAllLobbiesRequest(), new RetrieveAllLobbiesRequest(),
+                new LogoutRequest(), new RetrieveAllLobbiesRequest());
+
+        requests.forEach(channel::writeInbound);
+        assertEquals(List.of(requests.get(0)), processed);
+        assertFalse(channel.config().isAutoRead());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processed.size() < requests.size() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+            channel.runScheduledPendingTasks();
+        }
+        assertEquals(requests, processed);
+        assertTrue(channel.config().isAutoRead());
+        assertTrue(readMessages(channel).isEmpty());
+        assertEquals(2, policy.getThrottledRequests(RetrieveAllLobbiesRequest.class));
+    }
+
+    /**
+     * Test the notation of the limits
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void parseLimitTest() {
+        RateLimitPolicy.Limit limit = RateLimitPolicy.Limit.parse("2/10");
+        assertEquals(2, limit.getRequestsPerSecond());
+        assertEquals(10, limit.getBurst());
+        assertEquals(5, RateLimitPolicy.Limit.parse(" 5 ").getBurst());
+        assertNull(RateLimitPolicy.Limit.parse("0"));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitPolicy.Limit.parse("fast"));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitPolicy.Limit.parse("2/0"));
+
+        RateLimitPolicy policy = RateLimitPolicy.fromSystemProperties();
+        assertNotNull(policy.getSessionLimit());
+        assertNotNull(policy.getTypeLimit(RetrieveAllLobbiesRequest.class));
+        assertNull(policy.getTypeLimit(LogoutRequest.class));
+        assertFalse(policy.isDelayReads());
+    }
+}
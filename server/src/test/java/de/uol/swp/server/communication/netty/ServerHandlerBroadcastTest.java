@@ -0,0 +1,105 @@
+package de.uol.swp.server.communication.netty;
+
+import java.io.Serializable;
+
+import com.google.common.eventbus.EventBus;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.lobby.message.LobbyCreatedMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.server.communication.ServerHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for sending ServerMessages to many clients
+ *
+ * @see de.uol.swp.server.communication.ServerHandler
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ServerHandlerBroadcastTest {
+
+    private static final int CLIENTS = 5;
+
+    /**
+     * Creates a channel with the pipeline used by the server
+     *
+     * @param wireFormat    the wire format of the channel
+     * @param serverHandler the ServerHandler the NettyServerHandler delegates to
+     * @return the connected channel
+     * @throws Exception if the channel could not be registered
+     * @since 2026-10-18
+     */
+    private EmbeddedChannel createClient(WireFormat wireFormat, ServerHandler serverHandler) throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(false, false);
+        channel.attr(NettyMessageContext.WIRE_FORMAT).set(wireFormat);
+        channel.pipeline().addLast(wireFormat.createEncoder(), new NettyServerHandler(serverHandler));
+        channel.register();
+        return channel;
+    }
+
+    /**
+     * Returns the bytes the encoder of a fresh channel writes for a message
+     *
+     * @param wireFormat the wire format to use
+     * @param msg        the message to encode
+     * @return the encoded frame
+     * @since 2026-10-18
+     */
+    private byte[] encodeAlone(WireFormat wireFormat, Serializable msg) {
+        EmbeddedChannel channel = new EmbeddedChannel(wireFormat.createEncoder());
+        channel.writeOutbound(msg);
+        ByteBuf frame = channel.readOutbound();
+        byte[] bytes = ByteBufUtil.getBytes(frame);
+        frame.release();
+        return bytes;
+    }
+
+    /**
+     * Test for a ServerMessage sent to all connected clients
+     * <p>
+     * For every wire format each client has to receive the frame its encoder
+     * would have written, the message has to be encoded only once and the shared
+     * frame has to be released after all clients released their duplicates.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void broadcastEncodedOnceTest() throws Exception {
+        for (WireFormat wireFormat : WireFormat.values()) {
+            EventBus bus = new EventBus();
+            ServerHandler serverHandler = new ServerHandler(bus);
+            EmbeddedChannel[] clients = new EmbeddedChannel[CLIENTS];
+            for (int i = 0; i < CLIENTS; i++) {
+                clients[i] = createClient(wireFormat, serverHandler);
+            }
+            LobbyCreatedMessage msg = new LobbyCreatedMessage("Lobby", new UserDTO("Marco", "test", "marco@test.de"));
+            byte[] expected = encodeAlone(wireFormat, msg);
+
+            bus.post(msg);
+
+            ByteBuf shared = null;
+            for (EmbeddedChannel client : clients) {
+                ByteBuf frame = client.readOutbound();
+                assertNotNull(frame, wireFormat.toString());
+                assertArrayEquals(expected, ByteBufUtil.getBytes(frame), wireFormat.toString());
+                if (shared == null) {
+                    shared = frame.unwrap();
+                }
+                assertSame(shared, frame.unwrap());
+                assertNull(client.readOutbound());
+                frame.release();
+            }
+            assertEquals(0, shared.refCnt());
+            assertEquals(CLIENTS - 1,
+                    serverHandler.getBroadcastStatistics().getReusedWrites(LobbyCreatedMessage.class));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.message.ExceptionMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.LogoutRequest;
+import de.uol.swp.common.user.request.PingRequest;
+import de.uol.swp.common.user.response.PingResponse;
+import de.uol.swp.server.communication.ServerHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the correlation ids of the responses
+ *
+ * @see de.uol.swp.server.communication.ServerHandler
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ServerHandlerCorrelationTest {
+
+    private static final WireFormat WIRE_FORMAT = WireFormat.COMPACT_BINARY;
+
+    private final UserDTO user = new UserDTO("Marco", "test", "marco@test.de");
+
+    /**
+     * Answers every PingRequest without copying anything from the request but its MessageContext
+     *
+     * @since 2026-10-18
+     */
+    private static class PingResponder {
+
+        private final EventBus bus;
+
+        private PingResponder(EventBus bus) {
+            this.bus = bus;
+        }
+
+        @Subscribe
+        void onPingRequest(PingRequest request) {
+            PingResponse response = new PingResponse(request.getUser().getUsername(), request.getTime());
+            request.getMessageContext().ifPresent(response::setMessageContext);
+            bus.post(response);
+        }
+    }
+
+    private List<Object> process(NettyServerHandler nettyServerHandler, Object request) throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(false, false);
+        channel.attr(NettyMessageContext.WIRE_FORMAT).set(WIRE_FORMAT);
+        channel.pipeline().addLast(WIRE_FORMAT.createEncoder(), nettyServerHandler);
+        channel.register();
+        channel.writeInbound(request);
+
+        EmbeddedChannel decoder = new EmbeddedChannel(WIRE_FORMAT.createDecoder(ClassResolvers.cacheDisabled(null)));
+        List<Object> messages = new ArrayList<>();
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            decoder.writeInbound(frame);
+            Object message;
+            while ((message = decoder.readInbound()) != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Test that responses and ExceptionMessages get the correlation id of the request they answer
+     *
+     * @throws Exception if the channel could not be registered
+     * @since 2026-10-18
+     */
+    @Test
+    void responseCorrelatedTest() throws Exception {
+        EventBus bus = new EventBus();
+        bus.register(new PingResponder(bus));
+        NettyServerHandler nettyServerHandler = new NettyServerHandler(new ServerHandler(bus));
+
+        PingRequest ping = new PingRequest(user, 1L);
+        ping.setCorrelationId(42);
+        List<Object> messages = process(nettyServerHandler, ping);
+        assertEquals(1, messages.size());
+        assertEquals(42, ((PingResponse) messages.get(0)).getCorrelationId());
+
+        List<Object> uncorrelated = process(nettyServerHandler, new PingRequest(user, 2L));
+        assertEquals(0, ((PingResponse) uncorrelated.get(0)).getCorrelationId());
+
+        // needs a logged in client
+        LogoutRequest logout = new LogoutRequest();
+        logout.setCorrelationId(43);
+        List<Object> failed = process(nettyServerHandler, logout);
+        assertEquals(1, failed.size());
+        assertEquals(43, ((ExceptionMessage) failed.get(0)).getCorrelationId());
+    }
+}
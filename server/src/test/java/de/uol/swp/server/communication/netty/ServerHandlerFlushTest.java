@@ -0,0 +1,163 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.lobby.message.LobbyCreatedMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.request.PingRequest;
+import de.uol.swp.common.user.response.PingResponse;
+import de.uol.swp.server.communication.OutboundFlusher;
+import de.uol.swp.server.communication.ServerHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for flushing the messages of a request once
+ *
+ * @see de.uol.swp.server.communication.OutboundFlusher
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ServerHandlerFlushTest {
+
+    private static final int RESPONSES = 4;
+
+    private final UserDTO user = new UserDTO("Marco", "test", "marco@test.de");
+
+    /**
+     * Counts the flushes of a channel
+     *
+     * @since 2026-10-18
+     */
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        private int flushes;
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Answers every PingRequest with several PingResponses
+     *
+     * @since 2026-10-18
+     */
+    private static class PingResponder {
+
+        @Subscribe
+        void onPingRequest(PingRequest request) {
+            for (int i = 0; i < RESPONSES; i++) {
+                PingResponse response = new PingResponse(request.getUser().getUsername(), request.getTime() + i);
+                response.initWithMessage(request);
+                request.getMessageContext().ifPresent(response::setMessageContext);
+                bus.post(response);
+            }
+        }
+
+        private final EventBus bus;
+
+        private PingResponder(EventBus bus) {
+            this.bus = bus;
+        }
+    }
+
+    private EmbeddedChannel createClient(ServerHandler serverHandler, FlushCounter flushCounter) throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(false, false);
+        channel.attr(NettyMessageContext.WIRE_FORMAT).set(WireFormat.COMPACT_BINARY);
+        channel.pipeline().addLast(flushCounter, WireFormat.COMPACT_BINARY.createEncoder(),
+                new NettyServerHandler(serverHandler));
+        channel.register();
+        return channel;
+    }
+
+    private int processPing(ServerHandler serverHandler, EmbeddedChannel channel) {
+        PingRequest request = new PingRequest(user, 1L);
+        request.setMessageContext(new NettyMessageContext(channel.pipeline().context(NettyServerHandler.class)));
+        serverHandler.process(request);
+        int frames = 0;
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            frame.release();
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * Test for the responses of one request
+     * <p>
+     * With an OutboundFlusher all responses have to be sent with one flush,
+     * without one every response is flushed on its own.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void requestFlushedOnceTest() throws Exception {
+        EventBus bus = new EventBus();
+        bus.register(new PingResponder(bus));
+        OutboundFlusher flusher = new OutboundFlusher(0);
+        ServerHandler serverHandler = new ServerHandler(bus, null, flusher);
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = createClient(serverHandler, flushCounter);
+
+        assertEquals(RESPONSES, processPing(serverHandler, channel));
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(RESPONSES, flusher.getWrites());
+        assertEquals(1, flusher.getFlushes());
+
+        EventBus unbufferedBus = new EventBus();
+        unbufferedBus.register(new PingResponder(unbufferedBus));
+        ServerHandler unbuffered = new ServerHandler(unbufferedBus);
+        FlushCounter unbufferedCounter = new FlushCounter();
+        EmbeddedChannel unbufferedChannel = createClient(unbuffered, unbufferedCounter);
+
+        assertEquals(RESPONSES, processPing(unbuffered, unbufferedChannel));
+        assertEquals(RESPONSES, unbufferedCounter.flushes);
+    }
+
+    /**
+     * Test for ServerMessages sent outside of a request with a flush window
+     * <p>
+     * The messages must not be sent before the window is over and then have to be
+     * sent together with one flush.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void flushWindowTest() throws Exception {
+        EventBus bus = new EventBus();
+        OutboundFlusher flusher = new OutboundFlusher(TimeUnit.MILLISECONDS.toNanos(500));
+        ServerHandler serverHandler = new ServerHandler(bus, null, flusher);
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = createClient(serverHandler, flushCounter);
+
+        bus.post(new LobbyCreatedMessage("Lobby1", user));
+        bus.post(new LobbyCreatedMessage("Lobby2", user));
+        assertNull(channel.readOutbound());
+        assertEquals(0, flushCounter.flushes);
+
+        Thread.sleep(600);
+        channel.runScheduledPendingTasks();
+        assertEquals(1, flushCounter.flushes);
+        for (int i = 0; i < 2; i++) {
+            ByteBuf frame = channel.readOutbound();
+            assertNotNull(frame);
+            frame.release();
+        }
+        assertNull(channel.readOutbound());
+    }
+}
@@ -0,0 +1,151 @@
+package de.uol.swp.server.communication.netty;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the transport selection and the socket options of the server
+ *
+ * @see de.uol.swp.server.communication.netty.ServerTransport
+ * @see de.uol.swp.server.communication.netty.ServerOptions
+ * @since 2026-10-18
+ */
+public class ServerTransportTest {
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(ServerTransport.PROPERTY);
+        System.clearProperty(ServerOptions.WORKER_THREADS_PROPERTY);
+        System.clearProperty(ServerOptions.TCP_NO_DELAY_PROPERTY);
+        System.clearProperty(ServerOptions.SEND_BUFFER_PROPERTY);
+        System.clearProperty(ServerOptions.LOW_WATER_MARK_PROPERTY);
+        System.clearProperty(ServerOptions.HIGH_WATER_MARK_PROPERTY);
+        System.clearProperty(ServerOptions.PREFER_DIRECT_PROPERTY);
+    }
+
+    /**
+     * Test for selecting the transport with the system property
+     * <p>
+     * Without the property epoll has to be used whenever it is available, unknown
+     * names have to fall back to NIO.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void fromSystemPropertyTest() {
+        ServerTransport best = ServerTransport.EPOLL.isAvailable() ? ServerTransport.EPOLL : ServerTransport.NIO;
+        assertEquals(best, ServerTransport.fromSystemProperty());
+        System.setProperty(ServerTransport.PROPERTY, "auto");
+        assertEquals(best, ServerTransport.fromSystemProperty());
+        System.setProperty(ServerTransport.PROPERTY, "nio");
+        assertEquals(ServerTransport.NIO, ServerTransport.fromSystemProperty());
+        System.setProperty(ServerTransport.PROPERTY, "epoll");
+        assertEquals(best, ServerTransport.fromSystemProperty());
+        System.setProperty(ServerTransport.PROPERTY, "carrierPigeon");
+        assertEquals(ServerTransport.NIO, ServerTransport.fromSystemProperty());
+    }
+
+    /**
+     * Test for reading the options from the system properties
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void optionsFromSystemPropertiesTest() {
+        ServerOptions defaults = ServerOptions.fromSystemProperties();
+        assertEquals(0, defaults.getWorkerThreads());
+        assertTrue(defaults.isTcpNoDelay());
+        assertEquals(0, defaults.getSendBufferSize());
+
+        System.setProperty(ServerOptions.WORKER_THREADS_PROPERTY, "3");
+        System.setProperty(ServerOptions.TCP_NO_DELAY_PROPERTY, "false");
+        System.setProperty(ServerOptions.SEND_BUFFER_PROPERTY, "65536");
+        System.setProperty(ServerOptions.LOW_WATER_MARK_PROPERTY, "1024");
+        System.setProperty(ServerOptions.HIGH_WATER_MARK_PROPERTY, "4096");
+        System.setProperty(ServerOptions.PREFER_DIRECT_PROPERTY, "false");
+        ServerOptions options = ServerOptions.fromSystemProperties();
+        assertEquals(3, options.getWorkerThreads());
+        assertFalse(options.isTcpNoDelay());
+        assertEquals(65536, options.getSendBufferSize());
+        assertEquals(1024, options.getWriteBufferLowWaterMark());
+        assertEquals(4096, options.getWriteBufferHighWaterMark());
+        assertFalse(options.isPreferDirect());
+        ByteBuf buffer = options.createAllocator().buffer();
+        assertFalse(buffer.isDirect());
+        buffer.release();
+
+        System.setProperty(ServerOptions.HIGH_WATER_MARK_PROPERTY, "512");
+        assertThrows(IllegalArgumentException.class, ServerOptions::fromSystemProperties);
+        assertThrows(IllegalArgumentException.class, () -> options.setWorkerThreads(-1));
+    }
+
+    /**
+     * Test for the options of the accepted channels
+     * <p>
+     * For every transport available on this host a client connects over the
+     * loopback interface, the accepted channel has to use the configured options.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void acceptedChannelOptionsTest() throws Exception {
+        ServerOptions options = new ServerOptions();
+        options.setWorkerThreads(1);
+        options.setTcpNoDelay(false);
+        options.setWriteBufferWaterMarks(1024, 4096);
+        for (ServerTransport transport : ServerTransport.values()) {
+            if (!transport.isAvailable()) {
+                continue;
+            }
+            EventLoopGroup bossGroup = transport.createEventLoopGroup(1);
+            EventLoopGroup workerGroup = transport.createEventLoopGroup(options.getWorkerThreads());
+            EventLoopGroup clientGroup = new NioEventLoopGroup(1);
+            try {
+                CompletableFuture<Channel> accepted = new CompletableFuture<>();
+                ServerBootstrap b = new ServerBootstrap();
+                options.apply(b);
+                Channel server = b.group(bossGroup, workerGroup).channel(transport.getServerChannelClass())
+                        .childHandler(new ChannelInitializer<SocketChannel>() {
+                            @Override
+                            protected void initChannel(SocketChannel ch) {
+                                accepted.complete(ch);
+                            }
+                        }).bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+                Channel client = new Bootstrap().group(clientGroup).channel(NioSocketChannel.class)
+                        .handler(new ChannelInboundHandlerAdapter()).connect(server.localAddress()).sync().channel();
+
+                Channel child = accepted.get(5, TimeUnit.SECONDS);
+                assertFalse(child.config().getOption(ChannelOption.TCP_NODELAY), transport.toString());
+                assertEquals(4096, child.config().getWriteBufferHighWaterMark(), transport.toString());
+                assertEquals(1024, child.config().getWriteBufferLowWaterMark(), transport.toString());
+                assertTrue(child.alloc() instanceof PooledByteBufAllocator, transport.toString());
+
+                client.close().sync();
+                server.close().sync();
+            } finally {
+                clientGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+                workerGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+                bossGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.lobby.message.LobbyCreatedMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.message.UserLoggedInMessage;
+import de.uol.swp.common.user.request.ResumeSessionRequest;
+import de.uol.swp.common.user.response.LoginSuccessfulResponse;
+import de.uol.swp.common.user.response.ResumeSessionResponse;
+import de.uol.swp.server.communication.ServerHandler;
+import de.uol.swp.server.communication.ServerTimer;
+import de.uol.swp.server.communication.SessionResumer;
+import de.uol.swp.server.communication.UUIDSession;
+import de.uol.swp.server.message.ClientAuthorizedMessage;
+import de.uol.swp.server.message.ClientDisconnectedMessage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for resuming a session on a new connection
+ *
+ * @see de.uol.swp.server.communication.SessionResumer
+ * @see de.uol.swp.server.communication.netty.ReplayBuffer
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class SessionResumeTest {
+
+    private static final WireFormat WIRE_FORMAT = WireFormat.COMPACT_BINARY;
+
+    private final UserDTO user = new UserDTO("Marco", "test", "marco@test.de");
+    private final ServerTimer serverTimer = new ServerTimer(null, 1, TimeUnit.MILLISECONDS);
+    private final EventBus bus = new EventBus();
+    private final CountDownLatch disconnected = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        serverTimer.shutdown();
+    }
+
+    private NettyServerHandler createServer(SessionResumer sessionResumer) {
+        bus.register(new Object() {
+            @Subscribe
+            public void onClientDisconnected(ClientDisconnectedMessage msg) {
+                disconnected.countDown();
+            }
+        });
+        return new NettyServerHandler(new ServerHandler(bus, null, null, sessionResumer),
+                new SlowConsumerPolicy(10, 60_000));
+    }
+
+    private EmbeddedChannel createClient(NettyServerHandler nettyServerHandler) throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(false, false);
+        channel.attr(NettyMessageContext.WIRE_FORMAT).set(WIRE_FORMAT);
+        channel.pipeline().addLast(WIRE_FORMAT.createEncoder(), nettyServerHandler);
+        channel.register();
+        return channel;
+    }
+
+    /**
+     * Logs the user in on a channel and returns the resume token
+     */
+    private String login(EmbeddedChannel channel, NettyServerHandler nettyServerHandler) {
+        ClientAuthorizedMessage msg = new ClientAuthorizedMessage(user);
+        msg.setMessageContext(new NettyMessageContext(channel.pipeline().context(nettyServerHandler)));
+        msg.setSession(UUIDSession.create(user));
+        bus.post(msg);
+        List<Object> messages = readMessages(channel);
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(1) instanceof UserLoggedInMessage);
+        String token = ((LoginSuccessfulResponse) messages.get(0)).getResumeToken();
+        assertNotNull(token);
+        return token;
+    }
+
+    /**
+     * Decodes all frames written to a channel
+     */
+    private List<Object> readMessages(EmbeddedChannel channel) {
+        EmbeddedChannel decoder = new EmbeddedChannel(WIRE_FORMAT.createDecoder(ClassResolvers.cacheDisabled(null)));
+        List<Object> messages = new ArrayList<>();
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            decoder.writeInbound(frame);
+            Object message;
+            while ((message = decoder.readInbound()) != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    private String lobbyName(Object message) {
+        return ((LobbyCreatedMessage) message).getName();
+    }
+
+    /**
+     * Test for a client that connects again within the grace period
+     * <p>
+     * The client has seen the UserLoggedInMessage and the first lobby, so it has
+     * to get the second lobby and the ones created while it was disconnected,
+     * followed by everything sent afterwards, without logging in again.
+     *
+     * @throws Exception if the channel could not be registered
+     * @since 2026-10-18
+     */
+    @Test
+    void resumeWithinGraceTest() throws Exception {
+        SessionResumer sessionResumer = new SessionResumer(serverTimer, 60_000, 16);
+        NettyServerHandler nettyServerHandler = createServer(sessionResumer);
+        EmbeddedChannel first = createClient(nettyServerHandler);
+        String token = login(first, nettyServerHandler);
+
+        bus.post(new LobbyCreatedMessage("Lobby1", null));
+        bus.post(new LobbyCreatedMessage("Lobby2", null));
+        assertEquals(2, readMessages(first).size());
+        first.close();
+        bus.post(new LobbyCreatedMessage("Lobby3", null));
+        bus.post(new LobbyCreatedMessage("Lobby4", null));
+
+        EmbeddedChannel second = createClient(nettyServerHandler);
+        second.writeInbound(new ResumeSessionRequest(token, 2));
+        second.runPendingTasks();
+        List<Object> messages = readMessages(second);
+        assertEquals(4, messages.size());
+        ResumeSessionResponse response = (ResumeSessionResponse) messages.get(0);
+        assertTrue(response.isResumed());
+        assertEquals(user, response.getUser());
+        assertEquals("Lobby2", lobbyName(messages.get(1)));
+        assertEquals("Lobby3", lobbyName(messages.get(2)));
+        assertEquals("Lobby4", lobbyName(messages.get(3)));
+
+        bus.post(new LobbyCreatedMessage("Lobby5", null));
+        messages = readMessages(second);
+        assertEquals(1, messages.size());
+        assertEquals("Lobby5", lobbyName(messages.get(0)));
+        assertEquals(1, sessionResumer.getResumedSessions());
+        assertEquals(1, disconnected.getCount());
+    }
+
+    /**
+     * Test for a client that does not come back within the grace period
+     *
+     * @throws Exception if the channel could not be registered
+     * @since 2026-10-18
+     */
+    @Test
+    void expireAfterGraceTest() throws Exception {
+        SessionResumer sessionResumer = new SessionResumer(serverTimer, 50, 16);
+        NettyServerHandler nettyServerHandler = createServer(sessionResumer);
+        EmbeddedChannel first = createClient(nettyServerHandler);
+        String token = login(first, nettyServerHandler);
+        first.close();
+
+        assertTrue(disconnected.await(5, TimeUnit.SECONDS));
+        EmbeddedChannel second = createClient(nettyServerHandler);
+        second.writeInbound(new ResumeSessionRequest(token, 1));
+        second.runPendingTasks();
+        List<Object> messages = readMessages(second);
+        assertEquals(1, messages.size());
+        assertFalse(((ResumeSessionResponse) messages.get(0)).isResumed());
+        assertEquals(1, sessionResumer.getExpiredSessions());
+    }
+
+    /**
+     * Test for a client that missed more messages than are kept
+     * <p>
+     * The session has to be logged out right away, so the user can log in again.
+     *
+     * @throws Exception if the channel could not be registered
+     * @since 2026-10-18
+     */
+    @Test
+    void missedTooMuchTest() throws Exception {
+        SessionResumer sessionResumer = new SessionResumer(serverTimer, 60_000, 2);
+        NettyServerHandler nettyServerHandler = createServer(sessionResumer);
+        EmbeddedChannel first = createClient(nettyServerHandler);
+        String token = login(first, nettyServerHandler);
+        first.close();
+        for (int i = 0; i < 3; i++) {
+            bus.post(new LobbyCreatedMessage("Lobby" + i, null));
+        }
+
+        EmbeddedChannel second = createClient(nettyServerHandler);
+        second.writeInbound(new ResumeSessionRequest(token, 1));
+        second.runPendingTasks();
+        List<Object> messages = readMessages(second);
+        assertEquals(1, messages.size());
+        assertFalse(((ResumeSessionResponse) messages.get(0)).isResumed());
+        assertEquals(0, disconnected.getCount());
+    }
+}
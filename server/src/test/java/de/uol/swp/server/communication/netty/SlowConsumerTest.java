@@ -0,0 +1,193 @@
+package de.uol.swp.server.communication.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.eventbus.EventBus;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.codec.WireFormat;
+import de.uol.swp.common.game.Inventory;
+import de.uol.swp.common.game.message.PublicInventoryChangeMessage;
+import de.uol.swp.common.lobby.message.LobbyCreatedMessage;
+import de.uol.swp.common.lobby.message.LobbySizeChangedMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.server.communication.ServerHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the messages of clients that cannot keep up
+ *
+ * @see de.uol.swp.server.communication.netty.SlowConsumerPolicy
+ * @see de.uol.swp.server.communication.netty.OutboundBuffer
+ * @since 2026-10-18
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class SlowConsumerTest {
+
+    private static final WireFormat WIRE_FORMAT = WireFormat.COMPACT_BINARY;
+
+    private final UserDTO user = new UserDTO("Marco", "test", "marco@test.de");
+
+    private EmbeddedChannel createClient(NettyServerHandler nettyServerHandler) throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(false, false);
+        channel.attr(NettyMessageContext.WIRE_FORMAT).set(WIRE_FORMAT);
+        channel.pipeline().addLast(WIRE_FORMAT.createEncoder(), nettyServerHandler);
+        channel.register();
+        return channel;
+    }
+
+    private void setWritable(EmbeddedChannel channel, boolean writable) {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+        // the change of the writability is fired later on the event loop
+        channel.runPendingTasks();
+    }
+
+    /**
+     * Decodes all frames written to a channel
+     */
+    private List<Object> readMessages(EmbeddedChannel channel) {
+        EmbeddedChannel decoder = new EmbeddedChannel(WIRE_FORMAT.createDecoder(ClassResolvers.cacheDisabled(null)));
+        List<Object> messages = new ArrayList<>();
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            decoder.writeInbound(frame);
+            Object message;
+            while ((message = decoder.readInbound()) != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    private int[][] publicViews(int seed) {
+        int[][] views = new int[2][Inventory.PUBLIC_VIEW_SIZE];
+        for (int player = 0; player < views.length; player++) {
+            for (int i = 0; i < Inventory.PUBLIC_VIEW_SIZE; i++) {
+                views[player][i] = (seed * (player + 1) + i) % 3;
+            }
+        }
+        return views;
+    }
+
+    private PublicInventoryChangeMessage publicInventoryChange(int[][] previous, int[][] views) {
+        int[][] deltas = new int[views.length][];
+        for (int player = 0; player < views.length; player++) {
+            deltas[player] = Inventory.viewDelta(previous == null ? null : previous[player], views[player]);
+        }
+        return new PublicInventoryChangeMessage("game", deltas);
+    }
+
+    /**
+     * Test for a client that cannot take messages for a while
+     * <p>
+     * The other client has to receive every message right away. The slow client
+     * has to receive the held back messages when it is writable again, with the
+     * inventories and the lobby size combined to one message each and the events
+     * in the order they were sent.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void coalesceWhileUnwritableTest() throws Exception {
+        EventBus bus = new EventBus();
+        NettyServerHandler nettyServerHandler = new NettyServerHandler(new ServerHandler(bus),
+                new SlowConsumerPolicy(10, 60_000));
+        EmbeddedChannel slow = createClient(nettyServerHandler);
+        EmbeddedChannel fast = createClient(nettyServerHandler);
+        setWritable(slow, false);
+
+        int[][] first = publicViews(1);
+        int[][] second = publicViews(2);
+        int[][] third = publicViews(3);
+        bus.post(publicInventoryChange(null, first));
+        bus.post(new LobbyCreatedMessage("Lobby1", user));
+        bus.post(publicInventoryChange(first, second));
+        bus.post(new LobbySizeChangedMessage("Lobby1"));
+        bus.post(new LobbySizeChangedMessage("Lobby1"));
+        bus.post(new LobbyCreatedMessage("Lobby2", user));
+        bus.post(publicInventoryChange(second, third));
+
+        assertEquals(7, readMessages(fast).size());
+        assertNull(slow.readOutbound());
+
+        setWritable(slow, true);
+        List<Object> messages = readMessages(slow);
+        assertEquals(4, messages.size());
+        assertEquals("Lobby1", ((LobbyCreatedMessage) messages.get(0)).getName());
+        assertTrue(messages.get(1) instanceof LobbySizeChangedMessage);
+        assertEquals("Lobby2", ((LobbyCreatedMessage) messages.get(2)).getName());
+        PublicInventoryChangeMessage merged = (PublicInventoryChangeMessage) messages.get(3);
+        assertArrayEquals(third, merged.applyTo(null));
+
+        OutboundStatistics statistics = nettyServerHandler.getSlowConsumerPolicy().getStatistics();
+        assertEquals(3, statistics.getCoalescedMessages());
+        assertEquals(4, statistics.getQueuedMessages());
+        assertEquals(0, statistics.getDroppedMessages());
+        assertTrue(statistics.getUnwritableNanos() > 0);
+        assertTrue(slow.isActive());
+    }
+
+    /**
+     * Test for a client that stays over budget
+     * <p>
+     * Events over the cap have to be dropped and the connection has to be closed
+     * after the grace period.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void disconnectOverBudgetTest() throws Exception {
+        EventBus bus = new EventBus();
+        NettyServerHandler nettyServerHandler = new NettyServerHandler(new ServerHandler(bus),
+                new SlowConsumerPolicy(2, 200));
+        EmbeddedChannel slow = createClient(nettyServerHandler);
+        setWritable(slow, false);
+
+        for (int i = 0; i < 4; i++) {
+            bus.post(new LobbyCreatedMessage("Lobby" + i, user));
+        }
+        OutboundStatistics statistics = nettyServerHandler.getSlowConsumerPolicy().getStatistics();
+        assertEquals(2, statistics.getQueuedMessages());
+        assertEquals(2, statistics.getDroppedMessages());
+
+        assertTrue(slow.isOpen());
+        Thread.sleep(300);
+        slow.runScheduledPendingTasks();
+        assertFalse(slow.isOpen());
+        assertEquals(1, statistics.getDisconnects());
+        assertNull(slow.readOutbound());
+    }
+
+    /**
+     * Test for a client that catches up within the grace period
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void recoverWithinGraceTest() throws Exception {
+        EventBus bus = new EventBus();
+        NettyServerHandler nettyServerHandler = new NettyServerHandler(new ServerHandler(bus),
+                new SlowConsumerPolicy(1, 200));
+        EmbeddedChannel slow = createClient(nettyServerHandler);
+        setWritable(slow, false);
+
+        bus.post(new LobbyCreatedMessage("Lobby1", user));
+        bus.post(new LobbyCreatedMessage("Lobby2", user));
+        setWritable(slow, true);
+        Thread.sleep(300);
+        slow.runScheduledPendingTasks();
+
+        assertTrue(slow.isOpen());
+        List<Object> messages = readMessages(slow);
+        assertEquals(1, messages.size());
+        assertEquals("Lobby1", ((LobbyCreatedMessage) messages.get(0)).getName());
+        assertEquals(0, nettyServerHandler.getSlowConsumerPolicy().getStatistics().getDisconnects());
+    }
+}
@@ -3,6 +3,7 @@ package de.uol.swp.server.game;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +24,7 @@ import de.uol.swp.common.game.MapGraph;
 import de.uol.swp.common.game.dto.GameDTO;
 import de.uol.swp.common.game.message.BankResponseMessage;
 import de.uol.swp.common.game.message.NextTurnMessage;
+import de.uol.swp.common.game.message.PrivateInventoryChangeMessage;
 import de.uol.swp.common.game.message.PublicInventoryChangeMessage;
 import de.uol.swp.common.game.message.ResolveDevelopmentCardMessage;
 import de.uol.swp.common.game.message.TradeCardErrorMessage;
@@ -37,6 +39,7 @@ import de.uol.swp.common.game.request.ConstructionRequest;
 import de.uol.swp.common.game.request.DrawRandomResourceFromPlayerRequest;
 import de.uol.swp.common.game.request.EndTurnRequest;
 import de.uol.swp.common.game.request.GameLeaveUserRequest;
+import de.uol.swp.common.game.request.InventoryResyncRequest;
 import de.uol.swp.common.game.request.KickPlayerRequest;
 import de.uol.swp.common.game.request.PlayDevelopmentCardRequest;
 import de.uol.swp.common.game.request.PlayerReadyRequest;
@@ -69,6 +72,8 @@ import de.uol.swp.common.user.request.LogoutRequest;
 import de.uol.swp.common.user.request.RegisterUserRequest;
 import de.uol.swp.server.AI.AIToServerTranslator;
 import de.uol.swp.server.AI.TestAI;
+import de.uol.swp.server.communication.MailboxExecutor;
+import de.uol.swp.server.communication.MessageDispatcher;
 import de.uol.swp.server.lobby.LobbyManagement;
 import de.uol.swp.server.lobby.LobbyService;
 import de.uol.swp.server.message.ClientAuthorizedMessage;
@@ -584,6 +589,146 @@ public class GameServiceTest {
         gameService.distributeResources(12, "test");
     }
 
+    /**
+     * Test for the inventory updates only sending what changed
+     * <p>
+     * An update without changes sends no messages, an update after a change sends the changed fields to the owner of
+     * the inventory and the changed public view to all. A resync sends the complete inventories.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void updateInventoryDeltaTest() throws InterruptedException {
+        loginUsers();
+        lobbyManagement.createLobby("test", userDTO);
+        Optional<Lobby> optionalLobby = lobbyManagement.getLobby("test");
+        assertTrue(optionalLobby.isPresent());
+        Lobby lobby = optionalLobby.get();
+        lobby.joinUser(userDTO1);
+        lobby.joinUser(userDTO2);
+        lobby.joinUser(userDTO3);
+        lobby.joinPlayerReady(userDTO);
+        lobby.joinPlayerReady(userDTO1);
+        lobby.joinPlayerReady(userDTO2);
+        lobby.joinPlayerReady(userDTO3);
+        gameService.startGame(lobby, "Standard");
+        Optional<Game> optionalGame = gameManagement.getGame("test");
+        assertTrue(optionalGame.isPresent());
+        Game game = optionalGame.get();
+
+        List<Object> events = new ArrayList<>();
+        Object collector = new Object() {
+            @Subscribe
+            void handle(DeadEvent e) {
+                events.add(e.getEvent());
+            }
+        };
+        bus.register(collector);
+        try {
+            gameService.updateInventory(game);
+            events.clear();
+            InventoryBroadcastStats stats = gameService.getInventoryBroadcastStats("test");
+            long messagesSaved = stats.getTotalMessagesSaved();
+            long bytesSaved = stats.getTotalBytesSaved();
+
+            gameService.updateInventory(game);
+            assertTrue(events.isEmpty());
+            assertEquals(messagesSaved + game.getUsers().size() + 1, stats.getTotalMessagesSaved());
+            assertTrue(stats.getTotalBytesSaved() > bytesSaved);
+
+            User user = game.getUser(1);
+            game.getInventory(user).lumber.incNumber(3);
+            gameService.updateInventory(game);
+            assertEquals(2, events.size());
+            PrivateInventoryChangeMessage privateMessage = (PrivateInventoryChangeMessage) events.get(0);
+            assertEquals(user, privateMessage.getUser());
+            assertFalse(privateMessage.isComplete());
+            assertEquals(Map.of("Lumber", game.getInventory(user).lumber.getNumber()),
+                    privateMessage.getPrivateInventory());
+            PublicInventoryChangeMessage publicMessage = (PublicInventoryChangeMessage) events.get(1);
+            assertNull(publicMessage.getPublicInventoryDeltas()[0]);
+            assertNotNull(publicMessage.getPublicInventoryDeltas()[1]);
+            assertEquals(game.getInventory(user).sumResource(),
+                    publicMessage.getPublicInventories().get(1).get("Resource"));
+
+            events.clear();
+            gameService.onInventoryResyncRequest(new InventoryResyncRequest("test", (UserDTO) user));
+            assertEquals(2, events.size());
+            privateMessage = (PrivateInventoryChangeMessage) events.get(0);
+            assertTrue(privateMessage.isComplete());
+            assertEquals(game.getInventory(user).getPrivateView(), privateMessage.getPrivateInventory());
+            publicMessage = (PublicInventoryChangeMessage) events.get(1);
+            assertTrue(publicMessage.isComplete());
+            assertEquals(game.getInventory(game.getUser(2)).getPublicView(),
+                    publicMessage.getPublicInventories().get(2));
+        } finally {
+            bus.unregister(collector);
+        }
+    }
+
+    /**
+     * Tests the distribution of resources if the bank does not have enough of them
+     * <p>
+     * Player 1 owns all buildingSpots and the bank only has 4 lumber and no grain left. After a 5 is rolled, player 1
+     * gets the 4 lumber and no grain. Then a settlement is developed to a city and the robber is moved, which have to
+     * be taken into account by the next roll.
+     *
+     * @since 2026-10-18
+     */
+    @Test
+    void distributeResourcesEmptyBankTest() throws InterruptedException {
+        loginUsers();
+        lobbyManagement.createLobby("test", userDTO);
+        Optional<Lobby> optionalLobby = lobbyManagement.getLobby("test");
+        assertTrue(optionalLobby.isPresent());
+        Lobby lobby = optionalLobby.get();
+        lobby.joinUser(userDTO1);
+        lobby.joinUser(userDTO2);
+        lobby.joinUser(userDTO3);
+        lobby.joinPlayerReady(userDTO);
+        lobby.joinPlayerReady(userDTO1);
+        lobby.joinPlayerReady(userDTO2);
+        lobby.joinPlayerReady(userDTO3);
+        gameService.startGame(lobby, "Standard");
+        Optional<Game> optionalGame = gameManagement.getGame("test");
+        assertTrue(optionalGame.isPresent());
+        Game game = optionalGame.get();
+
+        for (MapGraph.BuildingNode b : game.getMapGraph().getBuildingNodeHashSet()) {
+            b.buildOrDevelopSettlement(1);
+        }
+        game.getBankInventory().lumber.setNumber(4);
+        game.getBankInventory().grain.setNumber(0);
+
+        gameService.distributeResources(5, "test");
+        Inventory inventory = game.getInventory(game.getUser(1));
+        assertEquals(4, inventory.lumber.getNumber());
+        assertEquals(0, inventory.grain.getNumber());
+        assertEquals(0, game.getBankInventory().lumber.getNumber());
+        assertEquals(0, game.getBankInventory().grain.getNumber());
+
+        int ore = inventory.ore.getNumber();
+        int bankOre = game.getBankInventory().ore.getNumber();
+        MapGraph.Hexagon hexagon = null;
+        for (MapGraph.Hexagon h : game.getMapGraph().getHexagonHashSet()) {
+            if (h.getTerrainType() == 5) {
+                hexagon = h;
+                break;
+            }
+        }
+        assertNotNull(hexagon);
+        hexagon.getBuildingNodes().iterator().next().buildOrDevelopSettlement(1);
+        gameService.distributeResources(hexagon.getDiceToken(), "test");
+        int produced = inventory.ore.getNumber() - ore;
+        assertTrue(produced >= 7);
+        assertEquals(bankOre - produced, game.getBankInventory().ore.getNumber());
+
+        ore = inventory.ore.getNumber();
+        game.getMapGraph().moveRobber(hexagon.getUuid());
+        gameService.distributeResources(hexagon.getDiceToken(), "test");
+        assertEquals(produced - 7, inventory.ore.getNumber() - ore);
+    }
+
     /**
      * Tests the playing and resolution of the developmentCards.
      * <p>
@@ -760,7 +905,8 @@ public class GameServiceTest {
         rdcrbr = new ResolveDevelopmentCardRoadBuildingRequest("Road Building", (UserDTO) userThatPlaysTheCard,
                 game.getName(), street1.getUuid(), street2.getUuid());
         gameService.onResolveDevelopmentCardRequest(rdcrbr);
-        assertTrue(event instanceof PublicInventoryChangeMessage);
+        // the inventories were already sent after building the streets, so nothing changed since then
+        assertTrue(event instanceof ResolveDevelopmentCardMessage);
 
         // check if player 3 (index 2) is the occupier of the streets that were built with the Road Building decCardStack
         assertEquals(street1.getOccupiedByPlayer(), 2);
@@ -797,7 +943,8 @@ public class GameServiceTest {
         rdckr = new ResolveDevelopmentCardKnightRequest("Knight", (UserDTO) userThatPlaysTheCard, game.getName(),
                 hexagon);
         gameService.onResolveDevelopmentCardRequest(rdckr);
-        assertTrue(event instanceof PublicInventoryChangeMessage);
+        // moving the robber does not change any inventory, so no inventory message follows
+        assertTrue(event instanceof ResolveDevelopmentCardMessage);
 
 
         // From here on ignore rules and test for coverage
@@ -845,7 +992,7 @@ public class GameServiceTest {
         rdckr = new ResolveDevelopmentCardKnightRequest("Knight", (UserDTO) userThatPlaysTheCard, game.getName(),
                 hexagon);
         gameService.onResolveDevelopmentCardRequest(rdckr);
-        assertTrue(event instanceof PublicInventoryChangeMessage);
+        assertTrue(event instanceof ResolveDevelopmentCardMessage);
 
         // monopoly
         pdcr = new PlayDevelopmentCardRequest("Monopoly", game.getName(), (UserDTO) userThatPlaysTheCard);
@@ -857,6 +1004,9 @@ public class GameServiceTest {
         gameService.onResolveDevelopmentCardRequest(rdcyopr);
         assertTrue(event instanceof ResolveDevelopmentCardNotSuccessfulResponse);
 
+        // another player needs the monopolized resources, otherwise no inventory changes and no inventory message
+        // is sent
+        game.getInventory(game.getUser(0)).addResources(new int[]{0, 1, 1, 1, 1});
         rdcMr = new ResolveDevelopmentCardMonopolyRequest("Monopoly", (UserDTO) userThatPlaysTheCard, game.getName(),
                 "Grain");
         gameService.onResolveDevelopmentCardRequest(rdcMr);
@@ -2134,4 +2284,51 @@ public class GameServiceTest {
         assertTrue(game1.hasConcluded());
 
     }
+
+    /**
+     * Test for the parallel processing of the requests of different games
+     * <p>
+     * The RollDiceRequest of the first game is held in the GameService until the RollDiceRequest of the second game,
+     * posted from the mailbox of the second game, reached the GameService as well.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting for the requests
+     * @since 2026-10-18
+     */
+    @Test
+    void requestsOfDifferentGamesOverlapTest() throws InterruptedException {
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch secondEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GameManagement blockingGameManagement = new GameManagement() {
+            @Override
+            public Optional<Game> getGame(String name) {
+                if (name.equals("first")) {
+                    firstEntered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else {
+                    secondEntered.countDown();
+                }
+                return super.getGame(name);
+            }
+        };
+        MessageDispatcher dispatcher = new MessageDispatcher();
+        new GameService(blockingGameManagement, lobbyService, authenticationService, dispatcher, userService);
+        MailboxExecutor mailboxExecutor = new MailboxExecutor(2);
+        try {
+            mailboxExecutor.execute(MailboxExecutor.getNamedKey("first"),
+                    () -> dispatcher.post(new RollDiceRequest("first", userDTO)));
+            assertTrue(firstEntered.await(2, TimeUnit.SECONDS));
+            mailboxExecutor.execute(MailboxExecutor.getNamedKey("second"),
+                    () -> dispatcher.post(new RollDiceRequest("second", userDTO1)));
+
+            assertTrue(secondEntered.await(2, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            mailboxExecutor.shutdown(2, TimeUnit.SECONDS);
+        }
+    }
 }
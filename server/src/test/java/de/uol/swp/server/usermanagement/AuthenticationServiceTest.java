@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.eventbus.DeadEvent;
 import com.google.common.eventbus.EventBus;
@@ -29,11 +30,14 @@ import de.uol.swp.common.user.request.LoginRequest;
 import de.uol.swp.common.user.request.LogoutRequest;
 import de.uol.swp.common.user.request.RetrieveAllOnlineUsersRequest;
 import de.uol.swp.common.user.response.AllOnlineUsersResponse;
+import de.uol.swp.server.communication.ServerTimer;
+import de.uol.swp.server.communication.SessionResumer;
 import de.uol.swp.server.game.GameManagement;
 import de.uol.swp.server.game.GameService;
 import de.uol.swp.server.lobby.LobbyManagement;
 import de.uol.swp.server.lobby.LobbyService;
 import de.uol.swp.server.message.ClientAuthorizedMessage;
+import de.uol.swp.server.message.ClientDisconnectedMessage;
 import de.uol.swp.server.message.ServerExceptionMessage;
 import de.uol.swp.server.usermanagement.store.MainMemoryBasedUserStore;
 
@@ -139,6 +143,28 @@ class AuthenticationServiceTest {
         userManagement.dropUser(user2);
     }
 
+    /**
+     * Test that the user of a closed connection is logged out
+     *
+     * @see de.uol.swp.server.message.ClientDisconnectedMessage
+     * @since 2026-10-18
+     */
+    @Test
+    void clientDisconnectedTest() throws Exception {
+        loginUser(user2);
+        Optional<Session> session = authService.getSession(user2);
+        assertTrue(session.isPresent());
+
+        ClientDisconnectedMessage message = new ClientDisconnectedMessage();
+        message.setSession(session.get());
+        bus.post(message);
+
+        assertFalse(userManagement.isLoggedIn(user2));
+        assertFalse(authService.getSession(user2).isPresent());
+        assertTrue(event instanceof UserLoggedOutMessage);
+        userManagement.dropUser(user2);
+    }
+
     private void loginUser(User userToLogin) throws Exception {
         userManagement.createUser(userToLogin);
         final LoginRequest loginRequest = new LoginRequest(userToLogin.getUsername(), userToLogin.getPassword());
@@ -358,4 +384,59 @@ class AuthenticationServiceTest {
         userManagement.dropUser(user3);
     }
 
-}
\ No newline at end of file
+
+    /**
+     * This test makes sure that only an authenticated login ends the grace period of a lost session
+     * <p>
+     * The connection of a logged in user is lost. A login with a wrong password
+     * is refused and the session can still be resumed. A login with the right
+     * password replaces the session, which can no longer be resumed and is handed
+     * over in the ClientAuthorizedMessage.
+     *
+     * @see de.uol.swp.server.communication.SessionResumer
+     * @since 2026-10-18
+     */
+    @Test
+    void loginWhileSessionWaitsTest() throws Exception {
+        ServerTimer serverTimer = new ServerTimer(null, 1, TimeUnit.MILLISECONDS);
+        EventBus resumeBus = new EventBus();
+        SessionResumer sessionResumer = new SessionResumer(serverTimer, 60_000, 10);
+        new AuthenticationService(resumeBus, userManagement, sessionResumer);
+        List<Object> posted = new ArrayList<>();
+        resumeBus.register(new Object() {
+            @Subscribe
+            public void onDeadEvent(DeadEvent e) {
+                posted.add(e.getEvent());
+            }
+        });
+        List<Boolean> expired = new ArrayList<>();
+        try {
+            userManagement.createUser(user);
+            resumeBus.post(new LoginRequest(user.getUsername(), user.getPassword()));
+            Session session = ((ClientAuthorizedMessage) posted.get(0)).getSession().orElseThrow();
+            assertTrue(((ClientAuthorizedMessage) posted.get(0)).getReplacedSession().isEmpty());
+            String token = sessionResumer.register(session);
+            assertTrue(sessionResumer.disconnected(session, () -> expired.add(true)));
+
+            resumeBus.post(new LoginRequest(user.getUsername(), user.getPassword() + "äüö"));
+            assertTrue(posted.get(1) instanceof ServerExceptionMessage);
+            assertTrue(sessionResumer.isWaiting(user.getUsername()));
+            assertEquals(session, sessionResumer.resume(token));
+
+            assertTrue(sessionResumer.disconnected(session, () -> expired.add(true)));
+            resumeBus.post(new LoginRequest(user.getUsername(), user.getPassword()));
+            ClientAuthorizedMessage authorized = (ClientAuthorizedMessage) posted.get(posted.size() - 1);
+            Session newSession = authorized.getSession().orElseThrow();
+            assertNotEquals(session, newSession);
+            assertEquals(session, authorized.getReplacedSession().orElseThrow());
+            assertTrue(posted.stream().anyMatch(UserLoggedOutMessage.class::isInstance));
+            assertNull(sessionResumer.resume(token));
+            assertTrue(userManagement.isLoggedIn(user));
+            assertTrue(expired.isEmpty());
+        } finally {
+            serverTimer.shutdown();
+            userManagement.logout(user);
+            userManagement.dropUser(user);
+        }
+    }
+}
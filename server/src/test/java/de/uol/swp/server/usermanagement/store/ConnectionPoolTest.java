@@ -0,0 +1,206 @@
+package de.uol.swp.server.usermanagement.store;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import de.uol.swp.common.user.User;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the ConnectionPool and the SQLBasedUserStore using it
+ *
+ * @see de.uol.swp.server.usermanagement.store.ConnectionPool
+ * @see de.uol.swp.server.usermanagement.store.InMemoryUserDatabase
+ * @since 2026-10-18
+ */
+public class ConnectionPoolTest {
+
+    private final InMemoryUserDatabase database = new InMemoryUserDatabase();
+
+    private ConnectionPool createPool(int maxSize, long idleTimeoutMillis, int statementCacheSize) {
+        return new ConnectionPool(database::connect, maxSize, 50, idleTimeoutMillis, statementCacheSize);
+    }
+
+    /**
+     * Test that all methods of the SQLBasedUserStore work on the pooled connections, preparing each statement once
+     *
+     * @throws Exception if the store fails
+     * @since 2026-10-18
+     */
+    @Test
+    void userStoreRoundTripTest() throws Exception {
+        ConnectionPool pool = createPool(4, 60_000, 32);
+        SQLBasedUserStore userStore = new SQLBasedUserStore(pool);
+
+        userStore.createUser("Marco", "test", "marco@test.de");
+        userStore.createUser("Anna", "anna", "anna@test.de");
+        assertThrows(SQLException.class, () -> userStore.createUser("Marco", "other", "other@test.de"));
+        assertEquals("marco@test.de", userStore.findUser("Marco", "test").orElseThrow().getEMail());
+        assertTrue(userStore.findUser("Marco", "wrong").isEmpty());
+        userStore.updateUserMail("Marco", "marco@uol.de");
+        userStore.updateUserPassword("Marco", "secret");
+        userStore.updateUserPicture("Marco", 3);
+        Optional<User> marco = userStore.findUser("Marco", "secret");
+        assertEquals("marco@uol.de", marco.orElseThrow().getEMail());
+        assertEquals(3, marco.get().getProfilePictureID());
+        assertTrue(marco.get().getPassword().isEmpty());
+        assertEquals(2, userStore.getAllUsers().size());
+        userStore.removeUser("Anna");
+        assertTrue(userStore.findUser("Anna").isEmpty());
+
+        // the failed insert of the second Marco closed the first connection
+        assertEquals(2, database.getConnectionsOpened());
+        assertEquals(8, database.getStatementsPrepared());
+        assertEquals(8, pool.getStatementsPrepared());
+
+        userStore.closeConnection();
+        assertEquals(0, database.getConnectionsOpen());
+        userStore.buildConnection();
+        assertTrue(userStore.findUser("Marco").isPresent());
+        assertEquals(3, database.getConnectionsOpened());
+    }
+
+    /**
+     * Test that no more connections are opened than allowed and a thread waits
+     * only up to the acquire timeout for one, and that a closed pool closes its connections
+     *
+     * @throws Exception if the pool fails
+     * @since 2026-10-18
+     */
+    @Test
+    void boundedSizeTest() throws Exception {
+        ConnectionPool pool = createPool(2, 60_000, 32);
+        ConnectionPool.PooledConnection first = pool.borrow();
+        ConnectionPool.PooledConnection second = pool.borrow();
+        assertThrows(SQLTimeoutException.class, pool::borrow);
+
+        second.close();
+        pool.borrow().close();
+        assertEquals(2, database.getConnectionsOpened());
+        first.close();
+        pool.close();
+        assertEquals(0, database.getConnectionsOpen());
+        assertThrows(SQLException.class, pool::borrow);
+    }
+
+    /**
+     * Test that the logins of many threads share the few connections of the pool
+     *
+     * @throws Exception if the store fails
+     * @since 2026-10-18
+     */
+    @Test
+    void concurrentLoginsTest() throws Exception {
+        ConnectionPool pool = new ConnectionPool(database::connect, 2, 10_000, 60_000, 32);
+        SQLBasedUserStore userStore = new SQLBasedUserStore(pool);
+        userStore.createUser("Marco", "test", "marco@test.de");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<User>>> logins = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                logins.add(executor.submit(() -> userStore.findUser("Marco", "test")));
+            }
+            for (Future<Optional<User>> login : logins) {
+                assertTrue(login.get().isPresent());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(database.getConnectionsOpened() <= 2);
+        assertEquals(database.getConnectionsOpened(), database.getConnectionsOpen());
+    }
+
+    /**
+     * Test that connections idle for too long are closed and replaced
+     *
+     * @throws Exception if the pool fails
+     * @since 2026-10-18
+     */
+    @Test
+    void idleTimeoutTest() throws Exception {
+        ConnectionPool pool = createPool(2, 0, 32);
+        pool.borrow().close();
+        Thread.sleep(5);
+        pool.borrow().close();
+
+        assertEquals(2, database.getConnectionsOpened());
+        assertEquals(1, database.getConnectionsOpen());
+    }
+
+    /**
+     * Test that cached statements are reused with cleared parameters, the least recently used ones are closed
+     * and uncached ones are closed with the return of their connection
+     *
+     * @throws Exception if the pool fails
+     * @since 2026-10-18
+     */
+    @Test
+    void statementCacheTest() throws Exception {
+        ConnectionPool pool = createPool(1, 60_000, 2);
+        String find = "select name, mail, pictureID from userData where name=?;";
+        String all = "select * from userData;";
+        String delete = "delete from userData where name=?;";
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            PreparedStatement statement = connection.prepare(find);
+            statement.setString(1, "Marco");
+            assertSame(statement, connection.prepare(find));
+            assertThrows(SQLException.class, statement::executeQuery);
+
+            PreparedStatement allStatement = connection.prepare(all);
+            connection.prepare(find);
+            connection.prepare(delete);
+            assertTrue(allStatement.isClosed());
+            assertFalse(statement.isClosed());
+            assertSame(statement, connection.prepare(find));
+        }
+        assertEquals(3, pool.getStatementsPrepared());
+
+        ConnectionPool uncachedPool = createPool(1, 60_000, 0);
+        PreparedStatement uncached;
+        try (ConnectionPool.PooledConnection connection = uncachedPool.borrow()) {
+            uncached = connection.prepare(all);
+            assertFalse(uncached.isClosed());
+        }
+        assertTrue(uncached.isClosed());
+    }
+
+    /**
+     * Test that a connection a statement failed on is closed instead of being used again
+     *
+     * @throws Exception if the store fails
+     * @since 2026-10-18
+     */
+    @Test
+    void failedStatementTest() throws Exception {
+        ConnectionPool pool = createPool(2, 60_000, 32);
+        SQLBasedUserStore userStore = new SQLBasedUserStore(pool);
+        userStore.createUser("Marco", "test", "marco@test.de");
+
+        database.setReachable(false);
+        assertTrue(userStore.findUser("Marco", "test").isEmpty());
+        assertThrows(SQLException.class, () -> userStore.updateUserMail("Marco", "marco@uol.de"));
+        assertEquals(0, database.getConnectionsOpen());
+
+        database.setReachable(true);
+        assertTrue(userStore.findUser("Marco", "test").isPresent());
+        assertEquals(3, database.getConnectionsOpened());
+        assertEquals(1, database.getConnectionsOpen());
+
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            database.setReachable(false);
+            assertThrows(SQLException.class, connection.prepare("select * from userData;")::executeQuery);
+            connection.markBroken();
+        }
+        assertEquals(0, database.getConnectionsOpen());
+    }
+}
@@ -0,0 +1,353 @@
+package de.uol.swp.server.usermanagement.store;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An in-process stand-in of the userData table of the database of the SQLBasedUserStore
+ * <p>
+ * Opens JDBC connections that understand exactly the statements of the
+ * SQLBasedUserStore. Opening a connection and executing a statement can be
+ * delayed, to stand in for the round trips to a remote database.
+ *
+ * @see de.uol.swp.server.usermanagement.store.SQLBasedUserStore
+ * @since 2026-10-18
+ */
+public class InMemoryUserDatabase {
+
+    private final Map<String, Object[]> rows = new ConcurrentHashMap<>();
+    private final long connectNanos;
+    private final long statementNanos;
+    private final AtomicInteger connectionsOpened = new AtomicInteger();
+    private final AtomicInteger connectionsOpen = new AtomicInteger();
+    private final AtomicInteger statementsPrepared = new AtomicInteger();
+    private volatile boolean valid = true;
+    private volatile boolean reachable = true;
+
+    /**
+     * Constructor of a database answering right away
+     *
+     * @since 2026-10-18
+     */
+    public InMemoryUserDatabase() {
+        this(0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param connectMicros   the microseconds it takes to open a connection
+     * @param statementMicros the microseconds it takes to prepare or execute a statement
+     * @since 2026-10-18
+     */
+    public InMemoryUserDatabase(long connectMicros, long statementMicros) {
+        this.connectNanos = TimeUnit.MICROSECONDS.toNanos(connectMicros);
+        this.statementNanos = TimeUnit.MICROSECONDS.toNanos(statementMicros);
+    }
+
+    /**
+     * Opens a new connection, usable as ConnectionFactory
+     *
+     * @return the Connection
+     * @since 2026-10-18
+     */
+    public Connection connect() {
+        pause(connectNanos);
+        connectionsOpened.incrementAndGet();
+        connectionsOpen.incrementAndGet();
+        return proxy(Connection.class, new ConnectionHandler());
+    }
+
+    /**
+     * Makes all connections fail their validation, as if the database was restarted
+     *
+     * @param valid false to let the validation fail
+     * @since 2026-10-18
+     */
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+
+    /**
+     * Makes the statements of all connections fail, as if the connections to the database were lost
+     *
+     * @param reachable false to let the statements fail
+     * @since 2026-10-18
+     */
+    public void setReachable(boolean reachable) {
+        this.reachable = reachable;
+    }
+
+    /**
+     * Getter for the number of connections opened so far
+     *
+     * @return the number of opened connections
+     * @since 2026-10-18
+     */
+    public int getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    /**
+     * Getter for the number of connections not closed yet
+     *
+     * @return the number of open connections
+     * @since 2026-10-18
+     */
+    public int getConnectionsOpen() {
+        return connectionsOpen.get();
+    }
+
+    /**
+     * Getter for the number of statements prepared so far
+     *
+     * @return the number of prepared statements
+     * @since 2026-10-18
+     */
+    public int getStatementsPrepared() {
+        return statementsPrepared.get();
+    }
+
+    private static void pause(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        while (nanos > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(deadline - System.nanoTime());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InMemoryUserDatabase.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        return null;
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    checkOpen();
+                    pause(statementNanos);
+                    statementsPrepared.incrementAndGet();
+                    return proxy(PreparedStatement.class, new StatementHandler((String) args[0]));
+                case "createStatement":
+                    checkOpen();
+                    return proxy(Statement.class, new StatementHandler(null));
+                case "isValid":
+                    return !closed && valid;
+                case "isClosed":
+                    return closed;
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        connectionsOpen.decrementAndGet();
+                    }
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "InMemoryUserDatabase connection";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+
+        private void checkOpen() throws SQLException {
+            if (closed) {
+                throw new SQLException("connection closed");
+            }
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final String sql;
+        private final Map<Integer, Object> parameters = new HashMap<>();
+        private boolean closed;
+
+        private StatementHandler(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            switch (method.getName()) {
+                case "setString":
+                case "setInt":
+                    parameters.put((Integer) args[0], args[1]);
+                    return null;
+                case "clearParameters":
+                    parameters.clear();
+                    return null;
+                case "executeQuery":
+                    checkOpen();
+                    pause(statementNanos);
+                    return proxy(ResultSet.class, new ResultSetHandler(query()));
+                case "executeUpdate":
+                    checkOpen();
+                    pause(statementNanos);
+                    return update();
+                case "execute":
+                    checkOpen();
+                    if (!"use swpJ;".equals(args[0])) {
+                        throw new SQLSyntaxErrorException("unknown statement: " + args[0]);
+                    }
+                    return false;
+                case "isClosed":
+                    return closed;
+                case "close":
+                    closed = true;
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+
+        private void checkOpen() throws SQLException {
+            if (closed) {
+                throw new SQLException("statement closed");
+            }
+            if (!reachable) {
+                throw new SQLException("communications link failure");
+            }
+        }
+
+        private Object parameter(int index) throws SQLException {
+            if (!parameters.containsKey(index)) {
+                throw new SQLException("parameter " + index + " not set");
+            }
+            return parameters.get(index);
+        }
+
+        private List<Object[]> query() throws SQLException {
+            List<Object[]> result = new ArrayList<>();
+            switch (sql) {
+                case "select name, password, mail, pictureID from userData where name=? and password=?;": {
+                    Object[] row = rows.get((String) parameter(1));
+                    if (row != null && row[1].equals(parameter(2))) {
+                        result.add(row.clone());
+                    }
+                    return result;
+                }
+                case "select name, mail, pictureID from userData where name=?;": {
+                    Object[] row = rows.get((String) parameter(1));
+                    if (row != null) {
+                        result.add(new Object[]{row[0], row[2], row[3]});
+                    }
+                    return result;
+                }
+                case "select * from userData;":
+                    rows.values().forEach(row -> result.add(row.clone()));
+                    return result;
+                default:
+                    throw new SQLSyntaxErrorException("unknown query: " + sql);
+            }
+        }
+
+        private int update() throws SQLException {
+            switch (sql) {
+                case "insert into userData(name, password, mail) values (?,?,?);": {
+                    Object[] row = {parameter(1), parameter(2), parameter(3), 0};
+                    if (rows.putIfAbsent((String) row[0], row) != null) {
+                        throw new SQLIntegrityConstraintViolationException("Duplicate entry " + row[0]);
+                    }
+                    return 1;
+                }
+                case "delete from userData where name=?;":
+                    return rows.remove((String) parameter(1)) == null ? 0 : 1;
+                case "update userData set mail=? where name=?;":
+                    return updateColumn(2);
+                case "update userData set password=? where name=?;":
+                    return updateColumn(1);
+                case "update userData set pictureID=? where name=?;":
+                    return updateColumn(3);
+                default:
+                    throw new SQLSyntaxErrorException("unknown update: " + sql);
+            }
+        }
+
+        private int updateColumn(int column) throws SQLException {
+            Object value = parameter(1);
+            return rows.computeIfPresent((String) parameter(2), (name, row) -> {
+                Object[] updated = row.clone();
+                updated[column] = value;
+                return updated;
+            }) == null ? 0 : 1;
+        }
+    }
+
+    private static class ResultSetHandler implements InvocationHandler {
+
+        private static final List<String> COLUMNS = List.of("name", "password", "mail", "pictureID");
+
+        private final Iterator<Object[]> rows;
+        private Object[] row;
+
+        private ResultSetHandler(List<Object[]> rows) {
+            this.rows = rows.iterator();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            switch (method.getName()) {
+                case "next":
+                    row = rows.hasNext() ? rows.next() : null;
+                    return row != null;
+                case "getString":
+                    return (String) column(args[0]);
+                case "getInt":
+                    return (Integer) column(args[0]);
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+
+        private Object column(Object indexOrLabel) throws SQLException {
+            if (row == null) {
+                throw new SQLException("no current row");
+            }
+            // the labels are only used with the rows of all four columns
+            int index = indexOrLabel instanceof Integer ? (Integer) indexOrLabel
+                    : COLUMNS.indexOf(indexOrLabel) + 1;
+            if (index < 1 || index > row.length) {
+                throw new SQLException("no column " + indexOrLabel);
+            }
+            return row[index - 1];
+        }
+    }
+}
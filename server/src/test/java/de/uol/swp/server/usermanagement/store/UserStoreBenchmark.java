@@ -0,0 +1,97 @@
+package de.uol.swp.server.usermanagement.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+/**
+ * Compares the logins per second of the SQLBasedUserStore with and without the ConnectionPool
+ * <p>
+ * The store runs against the InMemoryUserDatabase, which takes 2 ms to open a
+ * connection and 0.2 ms to prepare or execute a statement, about the round
+ * trips to the database at the University Servers. Without pooling, every
+ * login opens a new connection as the store did before. With pooling, the
+ * connections are kept, with and without cached prepared statements. The
+ * logins are done by 4 threads, like the lanes of the server.
+ * <p>
+ * Not run by surefire, start the main method from the IDE or with
+ * {@code mvn -pl server exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=de.uol.swp.server.usermanagement.store.UserStoreBenchmark}.
+ *
+ * @since 2026-10-18
+ */
+public class UserStoreBenchmark {
+
+    private static final int THREADS = 4;
+    private static final long CONNECT_MICROS = 2_000;
+    private static final long STATEMENT_MICROS = 200;
+    private static final int WARMUP = 200;
+    private static final int LOGINS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        Configurator.setRootLevel(Level.WARN);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            System.out.printf("%-24s %14s %14s %12s %12s%n", "store", "logins per s", "us per login", "connections",
+                    "statements");
+            run(executor, "new connection", 0, true);
+            run(executor, "pool, no statement cache", 0, false);
+            run(executor, "pool", 32, false);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void run(ExecutorService executor, String name, int statementCacheSize, boolean closeAfterLogin)
+            throws Exception {
+        InMemoryUserDatabase database = new InMemoryUserDatabase(CONNECT_MICROS, STATEMENT_MICROS);
+        ConnectionPool pool = new ConnectionPool(database::connect, THREADS, 5000, 600_000, statementCacheSize);
+        SQLBasedUserStore userStore = new SQLBasedUserStore(pool);
+        for (int i = 0; i < THREADS; i++) {
+            userStore.createUser("user" + i, "password" + i, "user" + i + "@test.de");
+        }
+
+        login(executor, userStore, WARMUP, closeAfterLogin);
+        int connections = database.getConnectionsOpened();
+        int statements = database.getStatementsPrepared();
+        long start = System.nanoTime();
+        login(executor, userStore, LOGINS, closeAfterLogin);
+        long nanos = System.nanoTime() - start;
+        pool.close();
+
+        System.out.printf("%-24s %14.0f %14d %12d %12d%n", name,
+                LOGINS / (nanos / (double) TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS.toMicros(nanos) / LOGINS,
+                database.getConnectionsOpened() - connections, database.getStatementsPrepared() - statements);
+    }
+
+    private static void login(ExecutorService executor, SQLBasedUserStore userStore, int logins,
+                              boolean closeAfterLogin) throws Exception {
+        List<Future<?>> results = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            String username = "user" + thread;
+            String password = "password" + thread;
+            Callable<Void> task = () -> {
+                for (int i = 0; i < logins / THREADS; i++) {
+                    if (userStore.findUser(username, password).isEmpty()) {
+                        throw new IllegalStateException(username + " could not log in");
+                    }
+                    if (closeAfterLogin) {
+                        userStore.closeConnection();
+                    }
+                }
+                return null;
+            };
+            results.add(executor.submit(task));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+    }
+}